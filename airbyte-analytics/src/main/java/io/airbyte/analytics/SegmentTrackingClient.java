@@ -6,6 +6,11 @@ package io.airbyte.analytics;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.segment.analytics.Analytics;
 import com.segment.analytics.messages.AliasMessage;
 import com.segment.analytics.messages.IdentifyMessage;
@@ -13,12 +18,19 @@ import com.segment.analytics.messages.TrackMessage;
 import io.airbyte.config.StandardWorkspace;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.context.ServerRequestContext;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -59,32 +71,67 @@ public class SegmentTrackingClient implements TrackingClient {
   protected static final String AIRBYTE_DEPLOYMENT_ID = "deployment_id";
   protected static final String AIRBYTE_DEPLOYMENT_MODE = "deployment_mode";
 
+  // identities only change when a workspace is updated, which re-identifies it. the ttl bounds how
+  // long other instances keep tracking with a stale identity.
+  private static final int IDENTITY_CACHE_SIZE = 10_000;
+  private static final Duration IDENTITY_CACHE_TTL = Duration.ofMinutes(10);
+  // events past this are dropped rather than blocking the caller
+  private static final int MAX_PENDING_EVENTS = 10_000;
+  private static final int DISPATCH_BATCH_SIZE = 100;
+
   // Analytics is threadsafe.
   private final Analytics analytics;
-  private final Function<UUID, TrackingIdentity> identityFetcher;
+  private final LoadingCache<UUID, TrackingIdentity> identityCache;
   private final Deployment deployment;
   private final String airbyteRole;
+  // null when events are dispatched on the caller thread
+  private final BlockingQueue<Runnable> pendingEvents;
 
   @VisibleForTesting
   SegmentTrackingClient(final Function<UUID, TrackingIdentity> identityFetcher,
                         final Deployment deployment,
                         final String airbyteRole,
                         final Analytics analytics) {
-    this.identityFetcher = identityFetcher;
+    this(identityFetcher, deployment, airbyteRole, analytics, false);
+  }
+
+  @VisibleForTesting
+  SegmentTrackingClient(final Function<UUID, TrackingIdentity> identityFetcher,
+                        final Deployment deployment,
+                        final String airbyteRole,
+                        final Analytics analytics,
+                        final boolean asyncDispatch) {
+    this.identityCache = CacheBuilder.newBuilder()
+        .maximumSize(IDENTITY_CACHE_SIZE)
+        .expireAfterWrite(IDENTITY_CACHE_TTL)
+        .build(CacheLoader.from(identityFetcher::apply));
     this.deployment = deployment;
     this.analytics = analytics;
     this.airbyteRole = airbyteRole;
+    if (asyncDispatch) {
+      this.pendingEvents = new LinkedBlockingQueue<>(MAX_PENDING_EVENTS);
+      final Thread dispatcher = new Thread(this::dispatchEvents, "segment-tracking-dispatcher");
+      dispatcher.setDaemon(true);
+      dispatcher.start();
+    } else {
+      this.pendingEvents = null;
+    }
   }
 
   public SegmentTrackingClient(final Function<UUID, TrackingIdentity> identityFetcher,
                                final Deployment deployment,
                                final String airbyteRole) {
-    this(identityFetcher, deployment, airbyteRole, Analytics.builder(SEGMENT_WRITE_KEY).build());
+    this(identityFetcher, deployment, airbyteRole, Analytics.builder(SEGMENT_WRITE_KEY).build(), true);
   }
 
+  /**
+   * Identify the workspace with its current identity. Workspace updates call this, so the cached
+   * identity is refreshed first.
+   */
   @Override
   public void identify(final UUID workspaceId) {
-    final TrackingIdentity trackingIdentity = identityFetcher.apply(workspaceId);
+    identityCache.invalidate(workspaceId);
+    final TrackingIdentity trackingIdentity = getIdentity(workspaceId);
     final Map<String, Object> identityMetadata = new HashMap<>();
 
     // deployment
@@ -113,7 +160,7 @@ public class SegmentTrackingClient implements TrackingClient {
 
   @Override
   public void alias(final UUID workspaceId, final String previousCustomerId) {
-    final var joinKey = identityFetcher.apply(workspaceId).getCustomerId().toString();
+    final var joinKey = getIdentity(workspaceId).getCustomerId().toString();
     analytics.enqueue(AliasMessage.builder(previousCustomerId).userId(joinKey));
   }
 
@@ -129,26 +176,84 @@ public class SegmentTrackingClient implements TrackingClient {
       return;
     }
 
+    // the request context and the time are only available on the caller thread
     final Map<String, Object> mapCopy = new HashMap<>(metadata);
-    final TrackingIdentity trackingIdentity = identityFetcher.apply(workspaceId);
+    mapCopy.put(AIRBYTE_SOURCE, getAirbyteSource().orElse(UNKNOWN));
+    mapCopy.put(AIRBYTE_TRACKED_AT, Instant.now().toString());
+    dispatch(() -> enqueueTrack(workspaceId, action, mapCopy, !metadata.isEmpty()));
+  }
 
-    final Optional<String> airbyteSource = getAirbyteSource();
-    mapCopy.put(AIRBYTE_SOURCE, airbyteSource.orElse(UNKNOWN));
+  /**
+   * Wait for the events tracked so far to be handed to Segment.
+   *
+   * @param timeout how long to wait
+   * @return whether all events were handed over in time
+   */
+  @VisibleForTesting
+  boolean flush(final Duration timeout) throws InterruptedException {
+    final CountDownLatch flushed = new CountDownLatch(1);
+    dispatch(flushed::countDown);
+    return flushed.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void enqueueTrack(final UUID workspaceId, final String action, final Map<String, Object> properties, final boolean withEmail) {
+    final TrackingIdentity trackingIdentity = getIdentity(workspaceId);
 
     // Always add these traits.
-    mapCopy.put(AIRBYTE_VERSION_KEY, trackingIdentity.getAirbyteVersion().serialize());
-    mapCopy.put(CUSTOMER_ID_KEY, trackingIdentity.getCustomerId());
-    mapCopy.put(AIRBYTE_DEPLOYMENT_ID, deployment.getDeploymentId());
-    mapCopy.put(AIRBYTE_DEPLOYMENT_MODE, deployment.getDeploymentMode());
-    mapCopy.put(AIRBYTE_TRACKED_AT, Instant.now().toString());
-    if (!metadata.isEmpty()) {
-      trackingIdentity.getEmail().ifPresent(email -> mapCopy.put("email", email));
+    properties.put(AIRBYTE_VERSION_KEY, trackingIdentity.getAirbyteVersion().serialize());
+    properties.put(CUSTOMER_ID_KEY, trackingIdentity.getCustomerId());
+    properties.put(AIRBYTE_DEPLOYMENT_ID, deployment.getDeploymentId());
+    properties.put(AIRBYTE_DEPLOYMENT_MODE, deployment.getDeploymentMode());
+    if (withEmail) {
+      trackingIdentity.getEmail().ifPresent(email -> properties.put("email", email));
     }
 
     final var joinKey = trackingIdentity.getCustomerId().toString();
     analytics.enqueue(TrackMessage.builder(action)
         .userId(joinKey)
-        .properties(mapCopy));
+        .properties(properties));
+  }
+
+  private TrackingIdentity getIdentity(final UUID workspaceId) {
+    try {
+      return identityCache.getUnchecked(workspaceId);
+    } catch (final UncheckedExecutionException e) {
+      // rethrow what the identity fetcher threw
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  private void dispatch(final Runnable event) {
+    if (pendingEvents == null) {
+      event.run();
+    } else if (!pendingEvents.offer(event)) {
+      LOGGER.warn("Dropping tracking event, {} events are already waiting to be sent", MAX_PENDING_EVENTS);
+    }
+  }
+
+  /**
+   * Hand events to Segment in batches, off the threads that track them.
+   */
+  private void dispatchEvents() {
+    final List<Runnable> batch = new ArrayList<>(DISPATCH_BATCH_SIZE);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(pendingEvents.take());
+        pendingEvents.drainTo(batch, DISPATCH_BATCH_SIZE - 1);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      for (final Runnable event : batch) {
+        try {
+          event.run();
+        } catch (final RuntimeException e) {
+          LOGGER.error("Failed to send tracking event", e);
+        }
+      }
+      batch.clear();
+    }
   }
 
   private Optional<String> getAirbyteSource() {
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,9 +30,17 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.context.ServerRequestContext;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -185,6 +194,67 @@ class SegmentTrackingClientTest {
     assertEquals(analyticSource, actual.properties().get(AIRBYTE_SOURCE));
   }
 
+  @Test
+  void testIdentityIsFetchedOncePerWorkspaceUnderBurst() throws InterruptedException {
+    final Map<UUID, AtomicInteger> fetches = new ConcurrentHashMap<>();
+    segmentTrackingClient = new SegmentTrackingClient(workspaceId -> {
+      fetches.computeIfAbsent(workspaceId, id -> new AtomicInteger()).incrementAndGet();
+      return IDENTITY;
+    }, DEPLOYMENT, null, analytics, true);
+    final List<UUID> workspaceIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    final int eventsPerWorkspace = 500;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < eventsPerWorkspace; i++) {
+      workspaceIds.forEach(workspaceId -> executor.submit(() -> segmentTrackingClient.track(workspaceId, JUMP)));
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    assertTrue(segmentTrackingClient.flush(Duration.ofSeconds(30)));
+
+    verify(analytics, times(workspaceIds.size() * eventsPerWorkspace)).enqueue(any());
+    assertEquals(workspaceIds.size(), fetches.size());
+    fetches.values().forEach(count -> assertEquals(1, count.get()));
+  }
+
+  @Test
+  void testIdentifyRefreshesTheCachedIdentity() {
+    final AtomicInteger fetches = new AtomicInteger();
+    segmentTrackingClient = new SegmentTrackingClient(workspaceId -> {
+      fetches.incrementAndGet();
+      return IDENTITY;
+    }, DEPLOYMENT, null, analytics);
+
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    assertEquals(1, fetches.get());
+
+    segmentTrackingClient.identify(WORKSPACE_ID);
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    assertEquals(2, fetches.get());
+  }
+
+  @Test
+  void testTrackDoesNotWaitForTheIdentity() throws InterruptedException {
+    final CountDownLatch identityReleased = new CountDownLatch(1);
+    segmentTrackingClient = new SegmentTrackingClient(workspaceId -> {
+      try {
+        identityReleased.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return IDENTITY;
+    }, DEPLOYMENT, null, analytics, true);
+
+    // would hang if track looked up the identity on this thread
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    verify(analytics, never()).enqueue(any());
+
+    identityReleased.countDown();
+    assertTrue(segmentTrackingClient.flush(Duration.ofSeconds(30)));
+    verify(analytics).enqueue(any());
+  }
+
   private static ImmutableMap<String, Object> filterTrackedAtProperty(final Map<String, ?> properties) {
     final String trackedAtKey = "tracked_at";
     assertTrue(properties.containsKey(trackedAtKey));
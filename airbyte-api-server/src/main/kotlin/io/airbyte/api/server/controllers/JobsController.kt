@@ -191,10 +191,14 @@ open class JobsController(
     updatedAtStart: OffsetDateTime?,
     updatedAtEnd: OffsetDateTime?,
     orderBy: String?,
+    beforeJobId: Long?,
     userInfo: String?,
   ): Response {
     val userId: UUID = userService.getUserIdFromUserInfoString(userInfo)
     val jobsResponse: Any
+    if (beforeJobId != null && connectionId == null) {
+      throw BadRequestProblem("beforeJobId is only supported when listing the jobs of a connection")
+    }
     val filter =
       JobsFilter(
         createdAtStart,
@@ -205,6 +209,7 @@ open class JobsController(
         offset,
         jobType,
         status,
+        beforeJobId,
       )
 
     val (orderByField, orderByMethod) = orderByToFieldAndMethod(orderBy)
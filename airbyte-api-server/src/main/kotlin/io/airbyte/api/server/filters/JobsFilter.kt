@@ -22,14 +22,21 @@ class JobsFilter(
   offset: Int? = 0,
   jobType: JobTypeEnum?,
   status: JobStatusEnum?,
+  beforeJobId: Long? = null,
 ) :
   BaseFilter(createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd, limit, offset) {
   val jobType: JobTypeEnum?
   private val status: JobStatusEnum?
 
+  /**
+   * Keyset pagination cursor. When set, jobs are paged by (createdAt, id) instead of by offset.
+   */
+  val beforeJobId: Long?
+
   init {
     this.jobType = jobType
     this.status = status
+    this.beforeJobId = beforeJobId
   }
 
   /**
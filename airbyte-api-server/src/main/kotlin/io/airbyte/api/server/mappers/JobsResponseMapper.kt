@@ -19,6 +19,7 @@ import java.util.function.Function
  */
 object JobsResponseMapper {
   val ALLOWED_CONFIG_TYPES = java.util.List.of(JobConfigType.SYNC, JobConfigType.RESET_CONNECTION)
+  const val BEFORE_JOB_ID = "beforeJobId"
 
   /**
    * Converts a JobReadList object from the config api to a JobsResponse object.
@@ -29,6 +30,7 @@ object JobsResponseMapper {
    * @param limit Number of JobResponses to be outputted
    * @param offset Offset of the pagination
    * @param apiHost Host url e.g. api.airbyte.com
+   * @param beforeJobId keyset cursor the page was read with, null when paging by offset
    * @return JobsResponse List of JobResponse along with a next and previous https requests
    */
   fun from(
@@ -38,6 +40,7 @@ object JobsResponseMapper {
     limit: Int,
     offset: Int,
     apiHost: String,
+    beforeJobId: Long? = null,
   ): JobsResponse {
     val jobs: List<JobResponse> =
       jobsList.jobs.stream().filter { j: JobWithAttemptsRead ->
@@ -52,8 +55,21 @@ object JobsResponseMapper {
         .queryParam("jobType", jobType)
         .queryParam("connectionId", connectionId)
     val jobsResponse = JobsResponse()
-    jobsResponse.setNext(PaginationMapper.getNextUrl(jobs, limit, offset, uriBuilder))
-    jobsResponse.setPrevious(PaginationMapper.getPreviousUrl(limit, offset, uriBuilder))
+    if (beforeJobId != null) {
+      // keyset pages only link forward: the cursor for the next page is the last job of this one
+      val next =
+        if (jobsList.jobs.size < limit) {
+          ""
+        } else {
+          uriBuilder.queryParam(PaginationMapper.LIMIT, limit)
+            .queryParam(BEFORE_JOB_ID, jobsList.jobs.last().job!!.id).toString()
+        }
+      jobsResponse.setNext(next)
+      jobsResponse.setPrevious("")
+    } else {
+      jobsResponse.setNext(PaginationMapper.getNextUrl(jobs, limit, offset, uriBuilder))
+      jobsResponse.setPrevious(PaginationMapper.getPreviousUrl(limit, offset, uriBuilder))
+    }
     jobsResponse.setData(jobs)
     return jobsResponse
   }
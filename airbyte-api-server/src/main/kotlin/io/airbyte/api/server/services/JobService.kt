@@ -205,6 +205,10 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
         .orderByMethod(
           JobListRequestBody.OrderByMethodEnum.valueOf(orderByMethod.name),
         )
+        // the public job response is built from job status and stats only, so when paging by cursor the
+        // job configs and attempt outputs do not need to be loaded
+        .beforeJobId(jobsFilter.beforeJobId)
+        .light(jobsFilter.beforeJobId != null)
 
     val response =
       try {
@@ -222,6 +226,7 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
       jobsFilter.limit!!,
       jobsFilter.offset!!,
       publicApiHost!!,
+      jobsFilter.beforeJobId,
     )
   }
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.micronaut.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.airbyte.metrics.lib.HikariPoolMetrics;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import jakarta.inject.Singleton;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes the metrics of the connection pools of the data sources created by Micronaut, e.g. the
+ * config and jobs databases, through {@link HikariPoolMetrics}. The data source may already be
+ * wrapped by micronaut-data, in which case the metrics are set on the pool that it wraps.
+ */
+@Singleton
+@Requires(beans = HikariPoolMetrics.class)
+@Slf4j
+public class DataSourceMetricsListener implements BeanCreatedEventListener<DataSource> {
+
+  private final HikariPoolMetrics hikariPoolMetrics;
+
+  public DataSourceMetricsListener(final HikariPoolMetrics hikariPoolMetrics) {
+    this.hikariPoolMetrics = hikariPoolMetrics;
+  }
+
+  @Override
+  public DataSource onCreated(final BeanCreatedEvent<DataSource> event) {
+    final DataSource dataSource = event.getBean();
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        final HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        // a running pool only accepts its metrics tracker factory once
+        if (pool.getMetricsTrackerFactory() == null) {
+          pool.setMetricsTrackerFactory(hikariPoolMetrics);
+        }
+      }
+    } catch (final SQLException e) {
+      log.warn("Could not publish the metrics of the connection pool of {}", dataSource, e);
+    }
+    return dataSource;
+  }
+
+}
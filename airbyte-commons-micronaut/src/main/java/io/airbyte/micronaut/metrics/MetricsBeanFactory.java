@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.micronaut.metrics;
+
+import io.airbyte.metrics.lib.HikariPoolMetrics;
+import io.airbyte.metrics.lib.MetricClient;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+/**
+ * Bean Factory for the metrics shared by the Airbyte applications which publish metrics.
+ */
+@Factory
+public class MetricsBeanFactory {
+
+  @Singleton
+  @Requires(beans = MetricClient.class)
+  public HikariPoolMetrics hikariPoolMetrics(final MetricClient metricClient) {
+    return new HikariPoolMetrics(metricClient);
+  }
+
+}
@@ -6,6 +6,7 @@ package io.airbyte.commons.server.converters;
 
 import io.airbyte.api.model.generated.AttemptFailureSummary;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogPageRead;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusRead;
 import io.airbyte.api.model.generated.AttemptRead;
 import io.airbyte.api.model.generated.AttemptStats;
@@ -43,6 +44,7 @@ import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.Job;
@@ -132,7 +134,7 @@ public class JobConverter {
    * @return api representation of reset config
    */
   private static Optional<ResetConfig> extractResetConfigIfReset(final Job job) {
-    if (job.getConfigType() == ConfigType.RESET_CONNECTION) {
+    if (job.getConfigType() == ConfigType.RESET_CONNECTION && job.getConfig() != null) {
       final ResetSourceConfiguration resetSourceConfiguration = job.getConfig().getResetConnection().getResetSourceConfiguration();
       if (resetSourceConfiguration == null) {
         return Optional.empty();
@@ -240,6 +242,19 @@ public class JobConverter {
     }
   }
 
+  public AttemptLogPageRead getAttemptLogPageRead(final Path logPath, final long cursor, final int pageSize, final LogPage.Direction direction) {
+    try {
+      final LogPage page = LogClientSingleton.getInstance().getJobLogPage(workerEnvironment, logConfigs, logPath, cursor, pageSize, direction);
+      return new AttemptLogPageRead()
+          .logLines(page.lines())
+          .startLine(page.startLine())
+          .endLine(page.endLine())
+          .totalLines(page.totalLines());
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static FailureReason getFailureReason(final @Nullable io.airbyte.config.FailureReason failureReason) {
     if (failureReason == null) {
       return null;
@@ -283,7 +298,7 @@ public class JobConverter {
   }
 
   private static List<StreamDescriptor> extractEnabledStreams(final Job job) {
-    return job.getConfig().getSync() != null
+    return job.getConfig() != null && job.getConfig().getSync() != null
         ? job.getConfig().getSync().getConfiguredAirbyteCatalog().getStreams().stream()
             .map(s -> new StreamDescriptor().name(s.getStream().getName()).namespace(s.getStream().getNamespace())).collect(Collectors.toList())
         : List.of();
@@ -18,6 +18,7 @@ import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.JobOutput;
@@ -49,15 +50,18 @@ public class AttemptHandler {
 
   private final JobConverter jobConverter;
   private final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper;
+  private final StatsWriteCoalescer statsWriteCoalescer;
   private final Path workspaceRoot;
 
   public AttemptHandler(final JobPersistence jobPersistence,
                         final JobConverter jobConverter,
                         final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper,
+                        final StatsWriteCoalescer statsWriteCoalescer,
                         @Named("workspaceRoot") final Path workspaceRoot) {
     this.jobPersistence = jobPersistence;
     this.jobConverter = jobConverter;
     this.jobCreationAndStatusUpdateHelper = jobCreationAndStatusUpdateHelper;
+    this.statsWriteCoalescer = statsWriteCoalescer;
     this.workspaceRoot = workspaceRoot;
   }
 
@@ -136,11 +140,13 @@ public class AttemptHandler {
                   .withEstimatedRecords(s.getStats().getEstimatedRecords())))
           .collect(Collectors.toList());
 
-      jobPersistence.writeStats(requestBody.getJobId(), requestBody.getAttemptNumber(),
-          stats.getEstimatedRecords(), stats.getEstimatedBytes(),
-          stats.getRecordsEmitted(), stats.getBytesEmitted(),
-          stats.getRecordsCommitted(), stats.getBytesCommitted(),
-          streamStats);
+      // stats are cumulative, updates of the same attempt that arrive close together collapse into one write
+      statsWriteCoalescer.submit(requestBody.getJobId(), requestBody.getAttemptNumber(),
+          () -> jobPersistence.writeStats(requestBody.getJobId(), requestBody.getAttemptNumber(),
+              stats.getEstimatedRecords(), stats.getEstimatedBytes(),
+              stats.getRecordsEmitted(), stats.getBytesEmitted(),
+              stats.getRecordsCommitted(), stats.getBytesCommitted(),
+              streamStats));
 
     } catch (final IOException ioe) {
       LOGGER.error("IOException when setting temporal workflow in attempt;", ioe);
@@ -190,6 +196,8 @@ public class AttemptHandler {
 
     if (output != null) {
       final JobOutput jobOutput = new JobOutput().withSync(output);
+      // the output holds the final stats, deferred stats would overwrite them with older ones
+      statsWriteCoalescer.discard(jobId, attemptNumber);
       jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
     }
 
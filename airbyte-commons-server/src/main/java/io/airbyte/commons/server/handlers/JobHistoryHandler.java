@@ -6,6 +6,8 @@ package io.airbyte.commons.server.handlers;
 
 import com.google.common.base.Preconditions;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogPageRead;
+import io.airbyte.api.model.generated.AttemptLogPageRequestBody;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusReadList;
 import io.airbyte.api.model.generated.AttemptRead;
 import io.airbyte.api.model.generated.AttemptStats;
@@ -27,6 +29,7 @@ import io.airbyte.api.model.generated.JobOptionalRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobReadList;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogPageDirection;
 import io.airbyte.api.model.generated.SourceDefinitionIdRequestBody;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
@@ -34,15 +37,18 @@ import io.airbyte.api.model.generated.SourceRead;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.converters.WorkflowStateConverter;
+import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.validation.json.JsonValidationException;
@@ -70,6 +76,9 @@ public class JobHistoryHandler {
   private final SourceDefinitionsHandler sourceDefinitionsHandler;
   private final DestinationDefinitionsHandler destinationDefinitionsHandler;
   public static final int DEFAULT_PAGE_SIZE = 200;
+  private static final int DEFAULT_LOG_PAGE_SIZE = 1000;
+  // bounds the lines held in memory for one request
+  private static final int MAX_LOG_PAGE_SIZE = 10_000;
   private final JobPersistence jobPersistence;
   private final JobConverter jobConverter;
   private final WorkflowStateConverter workflowStateConverter;
@@ -133,6 +142,8 @@ public class JobHistoryHandler {
           configId,
           request.getIncludingJobId(),
           pageSize);
+    } else if (request.getBeforeJobId() != null || Boolean.TRUE.equals(request.getLight())) {
+      jobs = listJobsBefore(request, configTypes, configId, pageSize);
     } else {
       jobs = jobPersistence.listJobs(configTypes, configId, pageSize,
           (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0,
@@ -164,6 +175,17 @@ public class JobHistoryHandler {
     return new JobReadList().jobs(jobReads).totalJobCount(totalJobCount);
   }
 
+  private List<Job> listJobsBefore(final JobListRequestBody request, final Set<ConfigType> configTypes, final String configId, final int pageSize)
+      throws IOException {
+    final JobStatus status = request.getStatus() == null ? null : JobStatus.valueOf(request.getStatus().toString().toUpperCase());
+    if (Boolean.TRUE.equals(request.getLight())) {
+      return jobPersistence.listJobsLightBefore(configTypes, configId, request.getBeforeJobId(), pageSize, status,
+          request.getCreatedAtStart(), request.getCreatedAtEnd(), request.getUpdatedAtStart(), request.getUpdatedAtEnd());
+    }
+    return jobPersistence.listJobsBefore(configTypes, configId, request.getBeforeJobId(), pageSize, status,
+        request.getCreatedAtStart(), request.getCreatedAtEnd(), request.getUpdatedAtStart(), request.getUpdatedAtEnd());
+  }
+
   @SuppressWarnings("UnstableApiUsage")
   public JobReadList listJobsForWorkspaces(final JobListForWorkspacesRequestBody request) throws IOException {
     Preconditions.checkNotNull(request.getConfigTypes(), "configType cannot be null.");
@@ -273,6 +295,29 @@ public class JobHistoryHandler {
 
   }
 
+  /**
+   * Read one page of the logs of an attempt. Unlike the logs returned with the job info, which are
+   * the tail of the log, the page can start anywhere in the log and only its lines are read.
+   */
+  public AttemptLogPageRead getAttemptLogPage(final AttemptLogPageRequestBody request) throws IOException {
+    final Job job = jobPersistence.getJob(request.getJobId());
+    final Attempt attempt = job.getAttempts().stream()
+        .filter(a -> a.getAttemptNumber() == request.getAttemptNumber())
+        .findFirst()
+        .orElseThrow(() -> new IdNotFoundKnownException("Could not find attempt " + request.getAttemptNumber() + " of job " + job.getId(),
+            String.valueOf(request.getJobId())));
+
+    final LogPage.Direction direction = request.getDirection() == LogPageDirection.FORWARD ? LogPage.Direction.FORWARD : LogPage.Direction.BACKWARD;
+    final long cursor;
+    if (request.getCursor() != null) {
+      cursor = request.getCursor();
+    } else {
+      cursor = direction == LogPage.Direction.FORWARD ? 0 : LogPage.END_OF_LOG;
+    }
+    final int pageSize = Math.min(request.getPageSize() == null ? DEFAULT_LOG_PAGE_SIZE : request.getPageSize(), MAX_LOG_PAGE_SIZE);
+    return jobConverter.getAttemptLogPageRead(attempt.getLogPath(), cursor, pageSize, direction);
+  }
+
   public JobDebugInfoRead getJobDebugInfo(final JobIdRequestBody jobIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
@@ -14,6 +14,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.JobStatus;
 import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobResetConnectionConfig;
@@ -45,15 +46,18 @@ public class JobsHandler {
   private final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper;
   private final JobNotifier jobNotifier;
   private final JobErrorReporter jobErrorReporter;
+  private final StatsWriteCoalescer statsWriteCoalescer;
 
   public JobsHandler(final JobPersistence jobPersistence,
                      final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper,
                      final JobNotifier jobNotifier,
-                     final JobErrorReporter jobErrorReporter) {
+                     final JobErrorReporter jobErrorReporter,
+                     final StatsWriteCoalescer statsWriteCoalescer) {
     this.jobPersistence = jobPersistence;
     this.jobCreationAndStatusUpdateHelper = jobCreationAndStatusUpdateHelper;
     this.jobNotifier = jobNotifier;
     this.jobErrorReporter = jobErrorReporter;
+    this.statsWriteCoalescer = statsWriteCoalescer;
   }
 
   /**
@@ -111,6 +115,8 @@ public class JobsHandler {
 
       if (input.getStandardSyncOutput() != null) {
         final JobOutput jobOutput = new JobOutput().withSync(Jsons.convertValue(input.getStandardSyncOutput(), StandardSyncOutput.class));
+        // the output holds the final stats, deferred stats would overwrite them with older ones
+        statsWriteCoalescer.discard(jobId, attemptNumber);
         jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
       } else {
         log.warn("The job {} doesn't have any output for the attempt {}", jobId, attemptNumber);
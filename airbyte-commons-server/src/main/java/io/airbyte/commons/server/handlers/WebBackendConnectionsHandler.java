@@ -39,6 +39,7 @@ import io.airbyte.api.model.generated.StreamTransform.TransformTypeEnum;
 import io.airbyte.api.model.generated.WebBackendConnectionCreate;
 import io.airbyte.api.model.generated.WebBackendConnectionListItem;
 import io.airbyte.api.model.generated.WebBackendConnectionListRequestBody;
+import io.airbyte.api.model.generated.WebBackendConnectionListRequestBody.OrderByMethodEnum;
 import io.airbyte.api.model.generated.WebBackendConnectionRead;
 import io.airbyte.api.model.generated.WebBackendConnectionReadList;
 import io.airbyte.api.model.generated.WebBackendConnectionRequestBody;
@@ -61,7 +62,7 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
-import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncListQuery;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Singleton;
@@ -142,14 +143,19 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody)
       throws IOException {
 
-    final StandardSyncQuery query = new StandardSyncQuery(
+    // the list view never shows catalogs, so only the requested page is read and catalogs are skipped
+    final StandardSyncListQuery query = new StandardSyncListQuery(
         webBackendConnectionListRequestBody.getWorkspaceId(),
         webBackendConnectionListRequestBody.getSourceId(),
         webBackendConnectionListRequestBody.getDestinationId(),
+        webBackendConnectionListRequestBody.getNameContains(),
         // passing 'false' so that deleted connections are not included
-        false);
+        false,
+        webBackendConnectionListRequestBody.getAfterConnectionId(),
+        webBackendConnectionListRequestBody.getOrderByMethod() == OrderByMethodEnum.DESC,
+        webBackendConnectionListRequestBody.getPageSize());
 
-    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncs(query);
+    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncsLight(query);
     final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
     final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
     final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
@@ -245,8 +251,12 @@ public class WebBackendConnectionsHandler {
     final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
     final Optional<JobRead> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
     final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
-    final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-    final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
+    // listed syncs carry no catalog, so only the fields needed to detect a schema change are converted
+    final ConnectionRead connectionRead = new ConnectionRead()
+        .connectionId(standardSync.getConnectionId())
+        .sourceCatalogId(standardSync.getSourceCatalogId())
+        .breakingChange(standardSync.getBreakingChange());
+    final Optional<UUID> currentCatalogId = Optional.ofNullable(connectionRead.getSourceCatalogId());
 
     final SchemaChange schemaChange = getSchemaChange(connectionRead, currentCatalogId, latestFetchEvent);
 
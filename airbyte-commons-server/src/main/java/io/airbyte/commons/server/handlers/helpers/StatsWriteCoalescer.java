@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collapses the stats updates of an attempt that arrive within a short window into a single write.
+ *
+ * Stats are cumulative snapshots, so only the latest one needs to be persisted. The first update of
+ * an attempt is written right away. Updates arriving within `window` of the previous write replace
+ * each other, and the latest one is written once the window has elapsed.
+ */
+@Slf4j
+@Singleton
+@Bean(preDestroy = "close")
+public class StatsWriteCoalescer implements AutoCloseable {
+
+  /**
+   * A stats write for a single attempt.
+   */
+  @FunctionalInterface
+  public interface StatsWrite {
+
+    void write() throws IOException;
+
+  }
+
+  private record AttemptKey(long jobId, int attemptNumber) {}
+
+  private static final class AttemptState {
+
+    private StatsWrite pending;
+    private ScheduledFuture<?> windowEnd;
+    // writes that were handed off and run outside the monitor, discard waits for them
+    private int writesInFlight;
+
+  }
+
+  private final long windowNanos;
+  private final ScheduledExecutorService scheduler;
+  // guarded by `this`
+  private final Map<AttemptKey, AttemptState> states = new HashMap<>();
+
+  public StatsWriteCoalescer(@Value("${airbyte.server.stats.write-coalescing-window:5s}") final Duration window) {
+    this.windowNanos = window.toNanos();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "stats-write-coalescer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Write the stats of an attempt, or defer the write if stats were written for the same attempt
+   * within the window.
+   *
+   * @param jobId job id
+   * @param attemptNumber attempt number
+   * @param write writes the stats
+   * @throws IOException if the stats were written right away and the write failed. Deferred writes
+   *         that fail are logged.
+   */
+  public void submit(final long jobId, final int attemptNumber, final StatsWrite write) throws IOException {
+    if (windowNanos <= 0) {
+      write.write();
+      return;
+    }
+
+    final AttemptKey key = new AttemptKey(jobId, attemptNumber);
+    final AttemptState newState;
+    synchronized (this) {
+      final AttemptState state = states.get(key);
+      if (state != null) {
+        state.pending = write;
+        return;
+      }
+      newState = new AttemptState();
+      newState.windowEnd = scheduleWindowEnd(key);
+      newState.writesInFlight = 1;
+      states.put(key, newState);
+    }
+    try {
+      write.write();
+    } finally {
+      finishWrite(newState);
+    }
+  }
+
+  /**
+   * Drop the deferred stats of an attempt, e.g. because its final stats are about to be written. A
+   * write of the attempt that already started is waited for, so that it cannot land after the final
+   * stats.
+   *
+   * @param jobId job id
+   * @param attemptNumber attempt number
+   */
+  public synchronized void discard(final long jobId, final int attemptNumber) {
+    final AttemptState state = states.remove(new AttemptKey(jobId, attemptNumber));
+    if (state == null) {
+      return;
+    }
+    state.windowEnd.cancel(false);
+    boolean interrupted = false;
+    while (state.writesInFlight > 0) {
+      try {
+        wait();
+      } catch (final InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Write all the deferred stats.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    final Map<AttemptKey, AttemptState> remaining;
+    synchronized (this) {
+      remaining = new HashMap<>(states);
+      states.clear();
+    }
+    remaining.forEach((key, state) -> {
+      if (state.pending != null) {
+        writeDeferred(key, state.pending);
+      }
+    });
+  }
+
+  @VisibleForTesting
+  synchronized int trackedAttempts() {
+    return states.size();
+  }
+
+  private ScheduledFuture<?> scheduleWindowEnd(final AttemptKey key) {
+    return scheduler.schedule(() -> onWindowEnd(key), windowNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Write the latest deferred stats and start a new window, or forget the attempt if nothing was
+   * deferred.
+   */
+  private void onWindowEnd(final AttemptKey key) {
+    final AttemptState state;
+    final StatsWrite pending;
+    synchronized (this) {
+      state = states.get(key);
+      if (state == null) {
+        return;
+      }
+      pending = state.pending;
+      if (pending == null) {
+        if (state.writesInFlight == 0) {
+          states.remove(key);
+        } else {
+          // keep tracking the attempt until its first write is done, so that discard still waits for it
+          state.windowEnd = scheduleWindowEnd(key);
+        }
+        return;
+      }
+      state.pending = null;
+      state.windowEnd = scheduleWindowEnd(key);
+      state.writesInFlight++;
+    }
+    try {
+      writeDeferred(key, pending);
+    } finally {
+      finishWrite(state);
+    }
+  }
+
+  private synchronized void finishWrite(final AttemptState state) {
+    state.writesInFlight--;
+    notifyAll();
+  }
+
+  private static void writeDeferred(final AttemptKey key, final StatsWrite write) {
+    try {
+      write.write();
+    } catch (final IOException | RuntimeException e) {
+      log.error("Failed to write the deferred stats of job {} attempt {}", key.jobId(), key.attemptNumber(), e);
+    }
+  }
+
+}
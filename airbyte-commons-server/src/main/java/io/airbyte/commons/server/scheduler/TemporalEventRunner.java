@@ -6,19 +6,24 @@ package io.airbyte.commons.server.scheduler;
 
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.commons.temporal.TemporalClient.ManualOperationResult;
+import io.airbyte.commons.temporal.TemporalClient.MigrationResult;
 import io.airbyte.protocol.models.StreamDescriptor;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Temporal event client. For triggering events on connections.
  */
 @AllArgsConstructor
+@Slf4j
 public class TemporalEventRunner implements EventRunner {
 
   private final TemporalClient temporalClient;
+  private final int migrationParallelism;
+  private final double migrationStartsPerSecond;
 
   @Override
   public void createConnectionManagerWorkflow(final UUID connectionId) {
@@ -49,7 +54,11 @@ public class TemporalEventRunner implements EventRunner {
 
   @Override
   public void migrateSyncIfNeeded(final Set<UUID> connectionIds) {
-    temporalClient.migrateSyncIfNeeded(connectionIds);
+    final MigrationResult result = temporalClient.migrateSyncIfNeeded(connectionIds, migrationParallelism, migrationStartsPerSecond);
+    if (!result.failures().isEmpty()) {
+      log.warn("Failed to start the connection manager workflow of {} of {} connections: {}", result.failures().size(), connectionIds.size(),
+          result.failures().keySet());
+    }
   }
 
   @Override
@@ -34,6 +34,7 @@ import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.FailureReason;
@@ -51,6 +52,7 @@ import io.airbyte.persistence.job.models.AttemptStatus;
 import io.airbyte.persistence.job.models.Job;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -100,7 +102,7 @@ class AttemptHandlerTest {
     jobConverter = Mockito.mock(JobConverter.class);
     path = Mockito.mock(Path.class);
     helper = Mockito.mock(JobCreationAndStatusUpdateHelper.class);
-    handler = new AttemptHandler(jobPersistence, jobConverter, helper, path);
+    handler = new AttemptHandler(jobPersistence, jobConverter, helper, new StatsWriteCoalescer(Duration.ZERO), path);
   }
 
   @Test
@@ -5,14 +5,21 @@
 package io.airbyte.commons.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogPageRead;
+import io.airbyte.api.model.generated.AttemptLogPageRequestBody;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusRead;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusReadList;
 import io.airbyte.api.model.generated.AttemptRead;
@@ -30,6 +37,7 @@ import io.airbyte.api.model.generated.JobListRequestBody;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobReadList;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogPageDirection;
 import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
@@ -37,6 +45,7 @@ import io.airbyte.api.model.generated.SourceRead;
 import io.airbyte.api.model.generated.StreamDescriptor;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.server.converters.JobConverter;
+import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.helpers.ConnectionHelpers;
 import io.airbyte.commons.server.helpers.DestinationHelpers;
 import io.airbyte.commons.server.helpers.SourceHelpers;
@@ -68,6 +77,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -78,10 +88,12 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @DisplayName("Job History Handler")
 class JobHistoryHandlerTest {
@@ -330,6 +342,39 @@ class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should return light jobs after the keyset cursor")
+    void testListJobsLightBefore() throws IOException {
+      final int pagesize = 25;
+      final var lightJob = new Job(JOB_ID, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, null, Collections.emptyList(), JobStatus.SUCCEEDED,
+          null, CREATED_AT, CREATED_AT);
+
+      when(jobPersistence.listJobsLightBefore(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, JOB_ID + 1, pagesize,
+          null, null, null, null, null))
+              .thenReturn(List.of(lightJob));
+      when(jobPersistence.getJobCount(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID)).thenReturn(2L);
+      when(jobPersistence.getAttemptStats(List.of(JOB_ID))).thenReturn(Map.of());
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .beforeJobId(JOB_ID + 1)
+          .light(true)
+          .pagination(new Pagination().pageSize(pagesize));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final var expectedJobRead = new JobRead().id(JOB_ID)
+          .configId(JOB_CONFIG_ID)
+          .enabledStreams(List.of())
+          .status(io.airbyte.api.model.generated.JobStatus.SUCCEEDED)
+          .configType(CONFIG_TYPE_FOR_API)
+          .createdAt(CREATED_AT)
+          .updatedAt(CREATED_AT);
+      assertEquals(new JobReadList().jobs(List.of(new JobWithAttemptsRead().job(expectedJobRead).attempts(List.of()))).totalJobCount(2L),
+          jobReadList);
+      verify(jobPersistence, never()).listJobs(any(), anyString(), anyInt(), anyInt(), any(), any(), any(), any(), any(), any(), any());
+    }
+
   }
 
   @Test
@@ -396,6 +441,41 @@ class JobHistoryHandlerTest {
     assertEquals(exp, jobDebugInfoActual);
   }
 
+  @Test
+  @DisplayName("Should return a page of the logs of an attempt")
+  void testGetAttemptLogPage(@TempDir final Path tempDir) throws IOException {
+    final Path logPath = tempDir.resolve("logs.log");
+    Files.write(logPath, IntStream.range(0, 30).mapToObj(i -> "line " + i).collect(Collectors.toList()));
+    final Attempt attempt = new Attempt(ATTEMPT_NUMBER, JOB_ID, logPath, null, null, AttemptStatus.SUCCEEDED, null, null, CREATED_AT, CREATED_AT,
+        CREATED_AT);
+    final Job job = new Job(JOB_ID, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, ImmutableList.of(attempt), JOB_STATUS, null, CREATED_AT,
+        CREATED_AT);
+    when(jobPersistence.getJob(JOB_ID)).thenReturn(job);
+
+    final AttemptLogPageRead tail = jobHistoryHandler.getAttemptLogPage(new AttemptLogPageRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER)
+        .pageSize(10));
+    assertEquals(new AttemptLogPageRead()
+        .logLines(IntStream.range(20, 30).mapToObj(i -> "line " + i).collect(Collectors.toList()))
+        .startLine(20L)
+        .endLine(30L)
+        .totalLines(30L), tail);
+
+    final AttemptLogPageRead forward = jobHistoryHandler.getAttemptLogPage(new AttemptLogPageRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER)
+        .cursor(5L)
+        .pageSize(3)
+        .direction(LogPageDirection.FORWARD));
+    assertEquals(List.of("line 5", "line 6", "line 7"), forward.getLogLines());
+    assertEquals(8L, forward.getEndLine());
+
+    assertThrows(IdNotFoundKnownException.class, () -> jobHistoryHandler.getAttemptLogPage(new AttemptLogPageRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER + 1)));
+  }
+
   @Test
   @DisplayName("Should return the latest running sync job")
   void testGetLatestRunningSyncJob() throws IOException {
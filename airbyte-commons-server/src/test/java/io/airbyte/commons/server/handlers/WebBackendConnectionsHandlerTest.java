@@ -67,6 +67,7 @@ import io.airbyte.api.model.generated.SynchronousJobRead;
 import io.airbyte.api.model.generated.WebBackendConnectionCreate;
 import io.airbyte.api.model.generated.WebBackendConnectionListItem;
 import io.airbyte.api.model.generated.WebBackendConnectionListRequestBody;
+import io.airbyte.api.model.generated.WebBackendConnectionListRequestBody.OrderByMethodEnum;
 import io.airbyte.api.model.generated.WebBackendConnectionRead;
 import io.airbyte.api.model.generated.WebBackendConnectionReadList;
 import io.airbyte.api.model.generated.WebBackendConnectionRequestBody;
@@ -94,7 +95,7 @@ import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
 import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
-import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncListQuery;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.Field;
@@ -192,7 +193,8 @@ class WebBackendConnectionsHandlerTest {
     final StandardSync brokenStandardSync =
         ConnectionHelpers.generateSyncWithSourceAndDestinationId(source.getSourceId(), destination.getDestinationId(), true, Status.INACTIVE);
 
-    when(configRepository.listWorkspaceStandardSyncs(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false)))
+    when(configRepository.listWorkspaceStandardSyncsLight(
+        new StandardSyncListQuery(sourceRead.getWorkspaceId(), null, null, null, false, null, false, null)))
         .thenReturn(Collections.singletonList(standardSync));
     when(configRepository.getSourceAndDefinitionsFromSourceIds(Collections.singletonList(source.getSourceId())))
         .thenReturn(Collections.singletonList(new SourceAndDefinition(source, sourceDefinition)));
@@ -388,6 +390,27 @@ class WebBackendConnectionsHandlerTest {
     assertTrue(expectedListItem.getDestination().getIcon().startsWith(SVG));
   }
 
+  @Test
+  void testWebBackendListConnectionsForWorkspacePage() throws IOException {
+    final UUID afterConnectionId = UUID.randomUUID();
+    final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody = new WebBackendConnectionListRequestBody()
+        .workspaceId(sourceRead.getWorkspaceId())
+        .nameContains("sync")
+        .pageSize(1)
+        .afterConnectionId(afterConnectionId)
+        .orderByMethod(OrderByMethodEnum.DESC);
+    when(configRepository.listWorkspaceStandardSyncsLight(
+        new StandardSyncListQuery(sourceRead.getWorkspaceId(), null, null, "sync", false, afterConnectionId, true, 1)))
+            .thenReturn(Collections.emptyList());
+
+    final WebBackendConnectionReadList webBackendConnectionReadList =
+        wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody);
+
+    assertTrue(webBackendConnectionReadList.getConnections().isEmpty());
+    verify(configRepository).listWorkspaceStandardSyncsLight(
+        new StandardSyncListQuery(sourceRead.getWorkspaceId(), null, null, "sync", false, afterConnectionId, true, 1));
+  }
+
   @Test
   void testWebBackendGetConnection() throws ConfigNotFoundException, IOException, JsonValidationException {
     final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StatsWriteCoalescerTest {
+
+  private static final long JOB_ID = 1L;
+  private static final int ATTEMPT_NUMBER = 0;
+  private static final Duration WINDOW = Duration.ofMillis(200);
+
+  private final List<Integer> written = new CopyOnWriteArrayList<>();
+  private StatsWriteCoalescer coalescer;
+
+  @AfterEach
+  void tearDown() {
+    if (coalescer != null) {
+      coalescer.close();
+    }
+  }
+
+  @Test
+  void testWritesRightAwayWithoutWindow() throws IOException {
+    coalescer = new StatsWriteCoalescer(Duration.ZERO);
+
+    for (int i = 0; i < 5; i++) {
+      submit(JOB_ID, i);
+    }
+
+    assertEquals(List.of(0, 1, 2, 3, 4), written);
+    assertEquals(0, coalescer.trackedAttempts());
+  }
+
+  @Test
+  void testUpdatesWithinTheWindowCollapse() throws IOException, InterruptedException {
+    coalescer = new StatsWriteCoalescer(WINDOW);
+
+    for (int i = 0; i < 5; i++) {
+      submit(JOB_ID, i);
+    }
+    // the first update is written right away
+    assertEquals(List.of(0), written);
+
+    waitForWindows(1);
+    // only the latest deferred update is written
+    assertEquals(List.of(0, 4), written);
+
+    waitForWindows(2);
+    // nothing was deferred in the last window, the attempt is forgotten
+    assertEquals(List.of(0, 4), written);
+    assertEquals(0, coalescer.trackedAttempts());
+  }
+
+  @Test
+  void testAttemptsAreCoalescedSeparately() throws IOException {
+    coalescer = new StatsWriteCoalescer(WINDOW);
+
+    submit(JOB_ID, 0);
+    submit(JOB_ID + 1, 1);
+
+    assertEquals(List.of(0, 1), written);
+  }
+
+  @Test
+  void testDiscardDropsDeferredUpdates() throws IOException, InterruptedException {
+    coalescer = new StatsWriteCoalescer(WINDOW);
+
+    submit(JOB_ID, 0);
+    submit(JOB_ID, 1);
+    coalescer.discard(JOB_ID, ATTEMPT_NUMBER);
+
+    waitForWindows(2);
+    assertEquals(List.of(0), written);
+    assertEquals(0, coalescer.trackedAttempts());
+  }
+
+  @Test
+  void testDiscardWaitsForADeferredWriteInProgress() throws IOException, InterruptedException {
+    coalescer = new StatsWriteCoalescer(WINDOW);
+    final CountDownLatch deferredWriteStarted = new CountDownLatch(1);
+    final CountDownLatch releaseDeferredWrite = new CountDownLatch(1);
+
+    submit(JOB_ID, 0);
+    coalescer.submit(JOB_ID, ATTEMPT_NUMBER, () -> {
+      deferredWriteStarted.countDown();
+      Uninterruptibles.awaitUninterruptibly(releaseDeferredWrite);
+      written.add(1);
+    });
+    assertTrue(deferredWriteStarted.await(5, TimeUnit.SECONDS));
+
+    // the final stats are written once the deferred ones are discarded, as the attempt handler does
+    final Thread finalWrite = new Thread(() -> {
+      coalescer.discard(JOB_ID, ATTEMPT_NUMBER);
+      written.add(2);
+    });
+    finalWrite.start();
+    finalWrite.join(WINDOW.toMillis());
+    // discard waits for the deferred write that already started
+    assertTrue(finalWrite.isAlive());
+
+    releaseDeferredWrite.countDown();
+    finalWrite.join(TimeUnit.SECONDS.toMillis(5));
+    assertFalse(finalWrite.isAlive());
+    assertEquals(List.of(0, 1, 2), written);
+    assertEquals(0, coalescer.trackedAttempts());
+  }
+
+  @Test
+  void testCloseWritesDeferredUpdates() throws IOException {
+    coalescer = new StatsWriteCoalescer(Duration.ofMinutes(1));
+
+    submit(JOB_ID, 0);
+    submit(JOB_ID, 1);
+    coalescer.close();
+
+    assertEquals(List.of(0, 1), written);
+  }
+
+  private void submit(final long jobId, final int value) throws IOException {
+    coalescer.submit(jobId, ATTEMPT_NUMBER, () -> written.add(value));
+  }
+
+  private static void waitForWindows(final int windows) throws InterruptedException {
+    Thread.sleep(WINDOW.multipliedBy(windows).plusMillis(100).toMillis());
+  }
+
+}
@@ -8,6 +8,8 @@ import static io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow.N
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import dev.failsafe.RateLimiter;
 import io.airbyte.commons.temporal.exception.DeletedWorkflowException;
 import io.airbyte.commons.temporal.exception.UnreachableWorkflowException;
 import io.airbyte.commons.temporal.scheduling.CheckConnectionWorkflow;
@@ -30,8 +32,9 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.protocol.models.StreamDescriptor;
-import io.temporal.api.common.v1.WorkflowType;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
+import io.temporal.api.filter.v1.StartTimeFilter;
+import io.temporal.api.filter.v1.StatusFilter;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
@@ -40,15 +43,21 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -72,6 +81,24 @@ public class TemporalClient {
    */
   private static final int DELAY_BETWEEN_QUERY_MS = 10;
 
+  /**
+   * Upper bound of the close time filter when listing workflows closed after a given time.
+   */
+  private static final Instant LATEST_CLOSE_TIME = Instant.parse("9999-12-31T23:59:59Z");
+
+  static final int DEFAULT_MIGRATION_PARALLELISM = 16;
+  static final double DEFAULT_MIGRATION_STARTS_PER_SECOND = 50;
+  private static final int MIGRATION_PROGRESS_LOG_INTERVAL = 100;
+
+  /**
+   * Outcome of starting connection manager workflows for a set of connections.
+   *
+   * @param started number of connections whose workflow was started
+   * @param alreadyRunning number of connections whose workflow was already running
+   * @param failures connections whose workflow couldn't be started, with the reason
+   */
+  public record MigrationResult(int started, int alreadyRunning, Map<UUID, Exception> failures) {}
+
   private final Path workspaceRoot;
   private final WorkflowClientWrapped workflowClientWrapped;
   private final WorkflowServiceStubsWrapped serviceStubsWrapped;
@@ -99,16 +126,22 @@ public class TemporalClient {
     this.metricClient = metricClient;
   }
 
-  private final Set<String> workflowNames = new HashSet<>();
+  @VisibleForTesting
+  Duration workflowReachableTimeout = Duration.ofSeconds(60);
+
+  // read by the threads migrating connections, a refresh swaps in a complete set
+  private volatile Set<String> workflowNames = Set.of();
 
   /**
-   * Restart workflows stuck in a certain status.
+   * Restart workflows stuck in a certain status that closed after a given time.
    *
    * @param executionStatus execution status
-   * @return set of connection ids that were restarted, primarily used for tracking purposes
+   * @param closedAfter only consider workflows that closed after this time, null to consider every
+   *        closed workflow
+   * @return number of connections that were restarted, primarily used for tracking purposes
    */
-  public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus) {
-    final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus);
+  public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus, @Nullable final Instant closedAfter) {
+    final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus, closedAfter);
 
     final Set<UUID> nonRunningWorkflow = filterOutRunningWorkspaceId(workflowExecutionInfos);
     nonRunningWorkflow.forEach(connectionId -> {
@@ -120,36 +153,58 @@ public class TemporalClient {
     return nonRunningWorkflow.size();
   }
 
-  Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus) {
-    ByteString token;
-    ListClosedWorkflowExecutionsRequest workflowExecutionsRequest =
-        ListClosedWorkflowExecutionsRequest.newBuilder()
-            .setNamespace(workflowClientWrapped.getNamespace())
-            .build();
+  /**
+   * List the connections whose connection manager workflow closed with a certain status. When
+   * closedAfter is set, visibility is only asked for executions closed since then, which keeps the
+   * listing proportional to recent activity rather than to the whole history of the namespace.
+   *
+   * @param executionStatus execution status
+   * @param closedAfter only list workflows that closed after this time, null to list every closed
+   *        workflow
+   * @return ids of the connections
+   */
+  Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus, @Nullable final Instant closedAfter) {
+    final ListClosedWorkflowExecutionsRequest.Builder requestBuilder = ListClosedWorkflowExecutionsRequest.newBuilder()
+        .setNamespace(workflowClientWrapped.getNamespace())
+        .setStatusFilter(StatusFilter.newBuilder().setStatus(executionStatus).build());
+    if (closedAfter != null) {
+      // the start time filter applies to the close time when listing closed executions
+      requestBuilder.setStartTimeFilter(StartTimeFilter.newBuilder()
+          .setEarliestTime(toTimestamp(closedAfter))
+          .setLatestTime(toTimestamp(LATEST_CLOSE_TIME))
+          .build());
+    }
 
+    ByteString token;
+    long scanned = 0;
     final Set<UUID> workflowExecutionInfos = new HashSet<>();
     do {
-      final ListClosedWorkflowExecutionsResponse listOpenWorkflowExecutionsRequest =
-          serviceStubsWrapped.blockingStubListClosedWorkflowExecutions(workflowExecutionsRequest);
-      final WorkflowType connectionManagerWorkflowType = WorkflowType.newBuilder().setName(ConnectionManagerWorkflow.class.getSimpleName()).build();
-      workflowExecutionInfos.addAll(listOpenWorkflowExecutionsRequest.getExecutionsList().stream()
-          .filter(workflowExecutionInfo -> workflowExecutionInfo.getType() == connectionManagerWorkflowType
-              || workflowExecutionInfo.getStatus() == executionStatus)
+      final ListClosedWorkflowExecutionsResponse listClosedWorkflowExecutionsResponse =
+          serviceStubsWrapped.blockingStubListClosedWorkflowExecutions(requestBuilder.build());
+      scanned += listClosedWorkflowExecutionsResponse.getExecutionsCount();
+      workflowExecutionInfos.addAll(listClosedWorkflowExecutionsResponse.getExecutionsList().stream()
+          .filter(workflowExecutionInfo -> workflowExecutionInfo.getStatus() == executionStatus)
+          .filter(workflowExecutionInfo -> closedAfter == null
+              || toInstant(workflowExecutionInfo.getCloseTime()).isAfter(closedAfter))
           .flatMap((workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId()).stream()))
           .collect(Collectors.toSet()));
-      token = listOpenWorkflowExecutionsRequest.getNextPageToken();
-
-      workflowExecutionsRequest =
-          ListClosedWorkflowExecutionsRequest.newBuilder()
-              .setNamespace(workflowClientWrapped.getNamespace())
-              .setNextPageToken(token)
-              .build();
-
+      token = listClosedWorkflowExecutionsResponse.getNextPageToken();
+      requestBuilder.setNextPageToken(token);
     } while (token != null && token.size() > 0);
 
+    metricClient.count(OssMetricsRegistry.CLOSED_WORKFLOWS_SCANNED, scanned,
+        new MetricAttribute(MetricTags.SCAN_TYPE, closedAfter == null ? "full" : "incremental"));
     return workflowExecutionInfos;
   }
 
+  private static Timestamp toTimestamp(final Instant instant) {
+    return Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
+  }
+
+  private static Instant toInstant(final Timestamp timestamp) {
+    return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+  }
+
   @VisibleForTesting
   Set<UUID> filterOutRunningWorkspaceId(final Set<UUID> workflowIds) {
     refreshRunningWorkflow();
@@ -162,7 +217,7 @@ public class TemporalClient {
 
   @VisibleForTesting
   void refreshRunningWorkflow() {
-    workflowNames.clear();
+    final Set<String> runningWorkflowNames = new HashSet<>();
     ByteString token;
     ListOpenWorkflowExecutionsRequest openWorkflowExecutionsRequest =
         ListOpenWorkflowExecutionsRequest.newBuilder()
@@ -174,7 +229,7 @@ public class TemporalClient {
       final Set<String> workflowExecutionInfos = listOpenWorkflowExecutionsRequest.getExecutionsList().stream()
           .map((workflowExecutionInfo -> workflowExecutionInfo.getExecution().getWorkflowId()))
           .collect(Collectors.toSet());
-      workflowNames.addAll(workflowExecutionInfos);
+      runningWorkflowNames.addAll(workflowExecutionInfos);
       token = listOpenWorkflowExecutionsRequest.getNextPageToken();
 
       openWorkflowExecutionsRequest =
@@ -184,6 +239,7 @@ public class TemporalClient {
               .build();
 
     } while (token != null && token.size() > 0);
+    workflowNames = Set.copyOf(runningWorkflowNames);
   }
 
   Optional<UUID> extractConnectionIdFromWorkflowId(final String workflowId) {
@@ -455,35 +511,106 @@ public class TemporalClient {
   }
 
   /**
-   * Run update to start connection manager workflows for connection ids.
+   * Run update to start connection manager workflows for connection ids, with the default
+   * parallelism and rate of workflow starts.
    *
    * @param connectionIds connection ids
+   * @return outcome of the migration
    */
-  // todo (cgardens) - i dunno what this is
-  public void migrateSyncIfNeeded(final Set<UUID> connectionIds) {
+  public MigrationResult migrateSyncIfNeeded(final Set<UUID> connectionIds) {
+    return migrateSyncIfNeeded(connectionIds, DEFAULT_MIGRATION_PARALLELISM, DEFAULT_MIGRATION_STARTS_PER_SECOND);
+  }
+
+  /**
+   * Run update to start connection manager workflows for connection ids. Connections are migrated
+   * by a bounded pool of threads and workflow starts are rate limited so that Temporal isn't flooded
+   * after a namespace reset. A connection that fails to migrate is reported in the result and
+   * doesn't stop the others.
+   *
+   * @param connectionIds connection ids
+   * @param parallelism maximum number of connections migrated at the same time
+   * @param maxStartsPerSecond maximum number of workflows started per second
+   * @return outcome of the migration
+   */
+  public MigrationResult migrateSyncIfNeeded(final Set<UUID> connectionIds, final int parallelism, final double maxStartsPerSecond) {
     final StopWatch globalMigrationWatch = new StopWatch();
     globalMigrationWatch.start();
     refreshRunningWorkflow();
 
-    connectionIds.forEach((connectionId) -> {
-      final StopWatch singleSyncMigrationWatch = new StopWatch();
-      singleSyncMigrationWatch.start();
-      if (!isInRunningWorkflowCache(connectionManagerUtils.getConnectionManagerName(connectionId))) {
-        log.info("Migrating: " + connectionId);
-        try {
-          submitConnectionUpdaterAsync(connectionId);
-        } catch (final Exception e) {
-          log.error("New workflow submission failed, retrying", e);
-          refreshRunningWorkflow();
-          submitConnectionUpdaterAsync(connectionId);
-        }
+    final RateLimiter<Object> startRateLimiter =
+        RateLimiter.smoothBuilder(Duration.ofNanos(Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / maxStartsPerSecond)))).build();
+    final AtomicInteger started = new AtomicInteger();
+    final AtomicInteger alreadyRunning = new AtomicInteger();
+    final Map<UUID, Exception> failures = new ConcurrentHashMap<>();
+    final AtomicInteger processed = new AtomicInteger();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, connectionIds.size())));
+    try {
+      final List<Future<?>> futures = connectionIds.stream()
+          .<Future<?>>map(connectionId -> executor.submit(() -> {
+            final String outcome = migrateSync(connectionId, startRateLimiter, started, alreadyRunning, failures);
+            metricClient.count(OssMetricsRegistry.CONNECTION_MANAGER_MIGRATIONS, 1, new MetricAttribute(MetricTags.MIGRATION_OUTCOME, outcome));
+            final int done = processed.incrementAndGet();
+            if (done % MIGRATION_PROGRESS_LOG_INTERVAL == 0) {
+              log.info("Migrated {} of {} connections", done, connectionIds.size());
+            }
+          }))
+          .toList();
+      for (final Future<?> future : futures) {
+        future.get();
       }
-      singleSyncMigrationWatch.stop();
-      log.info("Sync migration took: " + singleSyncMigrationWatch.formatTime());
-    });
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while migrating connections", e);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Unexpected failure while migrating connections", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
     globalMigrationWatch.stop();
 
-    log.info("The migration to the new scheduler took: " + globalMigrationWatch.formatTime());
+    final MigrationResult result = new MigrationResult(started.get(), alreadyRunning.get(), Map.copyOf(failures));
+    log.info("The migration to the new scheduler took: {}. Started: {}, already running: {}, failed: {}", globalMigrationWatch.formatTime(),
+        result.started(), result.alreadyRunning(), result.failures().size());
+    return result;
+  }
+
+  private String migrateSync(final UUID connectionId,
+                             final RateLimiter<Object> startRateLimiter,
+                             final AtomicInteger started,
+                             final AtomicInteger alreadyRunning,
+                             final Map<UUID, Exception> failures) {
+    final StopWatch singleSyncMigrationWatch = new StopWatch();
+    singleSyncMigrationWatch.start();
+    try {
+      if (isInRunningWorkflowCache(connectionManagerUtils.getConnectionManagerName(connectionId))) {
+        alreadyRunning.incrementAndGet();
+        return "already_running";
+      }
+      log.info("Migrating: " + connectionId);
+      try {
+        startRateLimiter.acquirePermit();
+        startReachableConnectionManager(connectionId);
+      } catch (final RuntimeException e) {
+        log.error("New workflow submission failed for connection {}, retrying", connectionId, e);
+        refreshRunningWorkflow();
+        startRateLimiter.acquirePermit();
+        startReachableConnectionManager(connectionId);
+      }
+      started.incrementAndGet();
+      return "started";
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failures.put(connectionId, e);
+      return "failed";
+    } catch (final RuntimeException e) {
+      log.error("New workflow submission failed for connection {}", connectionId, e);
+      failures.put(connectionId, e);
+      return "failed";
+    } finally {
+      singleSyncMigrationWatch.stop();
+      log.info("Sync migration took: " + singleSyncMigrationWatch.formatTime());
+    }
   }
 
   @VisibleForTesting
@@ -527,24 +654,49 @@ public class TemporalClient {
     log.info("Starting the scheduler temporal wf");
     final ConnectionManagerWorkflow connectionManagerWorkflow =
         connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
+    if (!awaitWorkflowReachable(connectionId)) {
+      log.error("Can't create a new connection manager workflow due to timeout");
+    }
+    return connectionManagerWorkflow;
+  }
+
+  /**
+   * Start the connection manager workflow of a connection and wait for it to become reachable.
+   *
+   * @param connectionId connection id
+   * @throws IllegalStateException if the workflow isn't reachable in time
+   */
+  @VisibleForTesting
+  void startReachableConnectionManager(final UUID connectionId) {
+    log.info("Starting the scheduler temporal wf");
+    connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
+    if (!awaitWorkflowReachable(connectionId)) {
+      throw new IllegalStateException("The connection manager workflow of connection " + connectionId + " isn't reachable after "
+          + workflowReachableTimeout.toSeconds() + " seconds");
+    }
+  }
+
+  /**
+   * Wait on the calling thread, rather than on the common pool which would cap how many connections
+   * can be migrated in parallel, for the connection manager workflow to become reachable.
+   *
+   * @return false if the workflow isn't reachable in time or the thread was interrupted
+   */
+  private boolean awaitWorkflowReachable(final UUID connectionId) {
+    final long deadline = System.nanoTime() + workflowReachableTimeout.toNanos();
     try {
-      CompletableFuture.supplyAsync(() -> {
-        try {
-          do {
-            Thread.sleep(DELAY_BETWEEN_QUERY_MS);
-          } while (!isWorkflowReachable(connectionId));
-        } catch (final InterruptedException e) {
-          // no op
+      do {
+        Thread.sleep(DELAY_BETWEEN_QUERY_MS);
+        if (System.nanoTime() > deadline) {
+          return false;
         }
-        return null;
-      }).get(60, TimeUnit.SECONDS);
-    } catch (final InterruptedException | ExecutionException e) {
+      } while (!isWorkflowReachable(connectionId));
+      return true;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
       log.error("Failed to create a new connection manager workflow", e);
-    } catch (final TimeoutException e) {
-      log.error("Can't create a new connection manager workflow due to timeout", e);
+      return false;
     }
-
-    return connectionManagerWorkflow;
   }
 
   /**
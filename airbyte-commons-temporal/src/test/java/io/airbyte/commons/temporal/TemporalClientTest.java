@@ -8,12 +8,15 @@ import static io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow.N
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -24,6 +27,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.Sets;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.TemporalClient.ManualOperationResult;
+import io.airbyte.commons.temporal.TemporalClient.MigrationResult;
 import io.airbyte.commons.temporal.scheduling.CheckConnectionWorkflow;
 import io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow;
 import io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow.JobInformation;
@@ -51,17 +55,29 @@ import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc.WorkflowServiceBlo
 import io.temporal.client.BatchRequest;
 import io.temporal.client.WorkflowClient;
 import io.temporal.client.WorkflowClientOptions;
+import io.temporal.client.WorkflowFailedException;
 import io.temporal.client.WorkflowOptions;
 import io.temporal.client.WorkflowStub;
+import io.temporal.failure.ApplicationFailure;
 import io.temporal.serviceclient.WorkflowServiceStubs;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.worker.Worker;
 import io.temporal.workflow.Functions.Proc;
+import io.temporal.workflow.WorkflowInterface;
+import io.temporal.workflow.WorkflowMethod;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -83,6 +99,7 @@ public class TemporalClientTest {
 
   private static final String CHECK_TASK_QUEUE = "CHECK_CONNECTION";
   private static final String DISCOVER_TASK_QUEUE = "DISCOVER_SCHEMA";
+  private static final String CLOSING_WORKFLOW_TASK_QUEUE = "CLOSING_WORKFLOW";
   private static final JobRunConfig JOB_RUN_CONFIG = new JobRunConfig()
       .withJobId(String.valueOf(JOB_ID))
       .withAttemptId((long) ATTEMPT_ID);
@@ -162,17 +179,77 @@ public class TemporalClientTest {
       final Set<UUID> workflowIds = Set.of(connectionId);
 
       doReturn(workflowIds)
-          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null);
       doReturn(workflowIds)
           .when(temporalClient).filterOutRunningWorkspaceId(workflowIds);
       mockWorkflowStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
-      temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+      temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null);
       verify(mConnectionManagerUtils).safeTerminateWorkflow(eq(connectionId), anyString());
       verify(mConnectionManagerUtils).startConnectionManagerNoSignal(eq(connectionId));
     }
 
   }
 
+  @Nested
+  @DisplayName("Test listing closed workflows against the temporal test server.")
+  class FetchClosedWorkflows {
+
+    private TestWorkflowEnvironment testEnv;
+    private TemporalClient testEnvTemporalClient;
+
+    @BeforeEach
+    void init() {
+      testEnv = TestWorkflowEnvironment.newInstance();
+      final Worker worker = testEnv.newWorker(CLOSING_WORKFLOW_TASK_QUEUE);
+      worker.registerWorkflowImplementationTypes(ClosingConnectionManagerWorkflow.WorkflowImpl.class);
+      testEnv.start();
+
+      final var metricClient = mock(MetricClient.class);
+      testEnvTemporalClient = new TemporalClient(workspaceRoot, new WorkflowClientWrapped(testEnv.getWorkflowClient(), metricClient),
+          new WorkflowServiceStubsWrapped(testEnv.getWorkflowServiceStubs(), metricClient), streamResetPersistence,
+          connectionManagerUtils, notificationClient, streamResetRecordsHelper, metricClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+      testEnv.close();
+    }
+
+    @Test
+    void testOnlyWorkflowsClosedAfterTheWatermarkAreListed() {
+      final UUID failedBeforeWatermark = UUID.randomUUID();
+      final UUID failedAfterWatermark = UUID.randomUUID();
+      final UUID completedAfterWatermark = UUID.randomUUID();
+
+      runConnectionManagerWorkflow(failedBeforeWatermark, true);
+      testEnv.sleep(Duration.ofMinutes(5));
+      final Instant watermark = Instant.ofEpochMilli(testEnv.currentTimeMillis());
+      testEnv.sleep(Duration.ofMinutes(5));
+      runConnectionManagerWorkflow(failedAfterWatermark, true);
+      runConnectionManagerWorkflow(completedAfterWatermark, false);
+
+      assertEquals(Set.of(failedAfterWatermark),
+          testEnvTemporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, watermark));
+      // a full scan still finds every failed workflow
+      assertEquals(Set.of(failedBeforeWatermark, failedAfterWatermark),
+          testEnvTemporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, null));
+    }
+
+    private void runConnectionManagerWorkflow(final UUID connectionId, final boolean fail) {
+      final ClosingConnectionManagerWorkflow workflow = testEnv.getWorkflowClient().newWorkflowStub(ClosingConnectionManagerWorkflow.class,
+          WorkflowOptions.newBuilder()
+              .setTaskQueue(CLOSING_WORKFLOW_TASK_QUEUE)
+              .setWorkflowId("connection_manager_" + connectionId)
+              .build());
+      if (fail) {
+        assertThrows(WorkflowFailedException.class, () -> workflow.run(true));
+      } else {
+        workflow.run(false);
+      }
+    }
+
+  }
+
   @Nested
   @DisplayName("Test execute method.")
   class ExecuteJob {
@@ -293,14 +370,86 @@ public class TemporalClientTest {
 
       doNothing()
           .when(temporalClient).refreshRunningWorkflow();
-      final ConnectionManagerWorkflow mConnectionManagerWorkflow = mock(ConnectionManagerWorkflow.class);
-      doReturn(mConnectionManagerWorkflow)
-          .when(temporalClient).submitConnectionUpdaterAsync(nonMigratedId);
+      doNothing()
+          .when(temporalClient).startReachableConnectionManager(nonMigratedId);
 
       temporalClient.migrateSyncIfNeeded(Sets.newHashSet(nonMigratedId, migratedId));
 
-      verify(temporalClient, times(1)).submitConnectionUpdaterAsync(nonMigratedId);
-      verify(temporalClient, times(0)).submitConnectionUpdaterAsync(migratedId);
+      verify(temporalClient, times(1)).startReachableConnectionManager(nonMigratedId);
+      verify(temporalClient, times(0)).startReachableConnectionManager(migratedId);
+    }
+
+    @DisplayName("Test that a connection that fails to migrate doesn't stop the others")
+    @Test
+    void migrateReportsFailures() {
+      final UUID failingId = UUID.randomUUID();
+      final UUID migratedId = UUID.randomUUID();
+
+      doNothing()
+          .when(temporalClient).refreshRunningWorkflow();
+      final RuntimeException failure = new RuntimeException("temporal is unavailable");
+      doThrow(failure)
+          .when(temporalClient).startReachableConnectionManager(failingId);
+      doNothing()
+          .when(temporalClient).startReachableConnectionManager(migratedId);
+
+      final MigrationResult result = temporalClient.migrateSyncIfNeeded(Sets.newHashSet(failingId, migratedId));
+
+      assertEquals(1, result.started());
+      assertEquals(0, result.alreadyRunning());
+      assertEquals(Map.of(failingId, failure), result.failures());
+      // the failing connection is retried once, with a fresh view of the running workflows
+      verify(temporalClient, times(2)).startReachableConnectionManager(failingId);
+      verify(temporalClient, times(2)).refreshRunningWorkflow();
+      verify(temporalClient, times(1)).startReachableConnectionManager(migratedId);
+    }
+
+    @DisplayName("Test that a workflow that doesn't become reachable is a failure")
+    @Test
+    void migrateReportsUnreachableWorkflows() {
+      final UUID unreachableId = UUID.randomUUID();
+
+      doNothing()
+          .when(temporalClient).refreshRunningWorkflow();
+      doReturn(mock(ConnectionManagerWorkflow.class))
+          .when(connectionManagerUtils).startConnectionManagerNoSignal(unreachableId);
+      doReturn(false)
+          .when(temporalClient).isWorkflowReachable(unreachableId);
+      temporalClient.workflowReachableTimeout = Duration.ofMillis(50);
+
+      final MigrationResult result = temporalClient.migrateSyncIfNeeded(Sets.newHashSet(unreachableId));
+
+      assertEquals(0, result.started());
+      assertTrue(result.failures().get(unreachableId) instanceof IllegalStateException);
+      verify(connectionManagerUtils, times(2)).startConnectionManagerNoSignal(unreachableId);
+    }
+
+    @DisplayName("Test that connections are migrated in parallel")
+    @Test
+    void migrateInParallel() {
+      final int connectionCount = 32;
+      final long submissionMillis = 100;
+      final Set<UUID> connectionIds = new HashSet<>();
+      for (int i = 0; i < connectionCount; i++) {
+        connectionIds.add(UUID.randomUUID());
+      }
+
+      doNothing()
+          .when(temporalClient).refreshRunningWorkflow();
+      doAnswer(invocation -> {
+        Thread.sleep(submissionMillis);
+        return null;
+      }).when(temporalClient).startReachableConnectionManager(any());
+
+      final long start = System.nanoTime();
+      final MigrationResult result = temporalClient.migrateSyncIfNeeded(connectionIds, 8, 1000);
+      final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      assertEquals(connectionCount, result.started());
+      assertTrue(result.failures().isEmpty());
+      connectionIds.forEach(connectionId -> verify(temporalClient).startReachableConnectionManager(connectionId));
+      // migrating one connection after the other would take connectionCount * submissionMillis
+      assertTrue(elapsedMillis < connectionCount * submissionMillis / 2, "migration took " + elapsedMillis + "ms");
     }
 
   }
@@ -743,6 +892,29 @@ public class TemporalClientTest {
     verify(mNewConnectionManagerWorkflow).submitManualSync();
   }
 
+  /**
+   * Stands in for the connection manager workflow, which it shares its workflow type with, and
+   * closes right away.
+   */
+  @WorkflowInterface
+  public interface ClosingConnectionManagerWorkflow {
+
+    @WorkflowMethod(name = "ConnectionManagerWorkflow")
+    void run(boolean fail);
+
+    class WorkflowImpl implements ClosingConnectionManagerWorkflow {
+
+      @Override
+      public void run(final boolean fail) {
+        if (fail) {
+          throw ApplicationFailure.newNonRetryableFailure("connection manager failed", "test");
+        }
+      }
+
+    }
+
+  }
+
   private void mockWorkflowStatus(final WorkflowExecutionStatus status) {
     when(workflowServiceBlockingStub.describeWorkflowExecution(any())).thenReturn(
         DescribeWorkflowExecutionResponse.newBuilder().setWorkflowExecutionInfo(
@@ -15,6 +15,7 @@ import io.airbyte.config.StandardSyncSummary.ReplicationStatus
 import io.airbyte.config.SyncStats
 import io.airbyte.config.WorkerDestinationConfig
 import io.airbyte.metrics.lib.ApmTraceUtils
+import io.airbyte.metrics.lib.BoundMetric
 import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.metrics.lib.MetricClientFactory
 import io.airbyte.metrics.lib.MetricTags
@@ -64,7 +65,8 @@ class ReplicationWorkerHelper(
   private val onReplicationRunning: VoidCallable,
 ) {
   private val metricClient = MetricClientFactory.getMetricClient()
-  private val metricAttrs: MutableList<MetricAttribute> = mutableListOf()
+  private var stateFromSourceMetric: BoundMetric = metricClient.bind(OssMetricsRegistry.STATE_PROCESSED_FROM_SOURCE)
+  private var stateFromDestinationMetric: BoundMetric = metricClient.bind(OssMetricsRegistry.STATE_PROCESSED_FROM_DESTINATION)
   private val replicationFailures: MutableList<FailureReason> = Collections.synchronizedList(mutableListOf())
   private val cancelled = AtomicBoolean()
   private val hasFailed = AtomicBoolean()
@@ -93,10 +95,10 @@ class ReplicationWorkerHelper(
     this.ctx = ctx
     this.replicationFeatureFlags = replicationFeatureFlags
 
-    with(metricAttrs) {
-      clear()
-      addAll(toConnectionAttrs(ctx))
-    }
+    // bound once per sync, these are recorded for every state message
+    val metricAttrs = toConnectionAttrs(ctx).toTypedArray()
+    stateFromSourceMetric = metricClient.bind(OssMetricsRegistry.STATE_PROCESSED_FROM_SOURCE, *metricAttrs)
+    stateFromDestinationMetric = metricClient.bind(OssMetricsRegistry.STATE_PROCESSED_FROM_DESTINATION, *metricAttrs)
 
     ApmTraceUtils.addTagsToTrace(ctx.connectionId, ctx.attempt.toLong(), ctx.jobId.toString(), jobRoot)
   }
@@ -270,7 +272,7 @@ class ReplicationWorkerHelper(
     }
 
     if (sourceRawMessage.type == Type.STATE) {
-      metricClient.count(OssMetricsRegistry.STATE_PROCESSED_FROM_SOURCE, 1, *metricAttrs.toTypedArray())
+      stateFromSourceMetric.count(1)
     }
 
     return sourceRawMessage
@@ -303,7 +305,7 @@ class ReplicationWorkerHelper(
     if (destinationRawMessage.type == Type.STATE) {
       syncPersistence.persist(context.connectionId, destinationRawMessage.state)
 
-      metricClient.count(OssMetricsRegistry.STATE_PROCESSED_FROM_DESTINATION, 1, *metricAttrs.toTypedArray())
+      stateFromDestinationMetric.count(1)
     }
 
     if (shouldPublishMessage(destinationRawMessage)) {
@@ -6,10 +6,19 @@ package io.airbyte.commons.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.api.client.util.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.ParseContext;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
 import com.jayway.jsonpath.spi.json.JsonProvider;
@@ -17,12 +26,14 @@ import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
 import io.airbyte.commons.json.JsonSchemas.FieldNameOrList;
 import io.airbyte.commons.util.MoreIterators;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +54,10 @@ import org.slf4j.LoggerFactory;
  * returning a list for query results. In addition, we provide helper functions that will just
  * return a single value (see: {@link JsonPaths#getSingleValue(JsonNode, String)}). These should
  * only be used if it is not possible for a query to return more than one value.
+ * <p>
+ * Paths are compiled once and cached. Definite paths made of plain fields and array indexes, e.g.
+ * "$.alpha[0]" or "$['alpha'][0]", which are most of the paths we query, are evaluated directly on
+ * the json object with the same results as JSONPath.
  */
 public class JsonPaths {
 
@@ -109,11 +124,33 @@ public class JsonPaths {
     return jsonPath;
   }
 
+  private static final Configuration GET_VALUES_CONFIGURATION = Configuration.defaultConfiguration();
   /*
    * This version of the JsonPath Configuration object allows queries to return to the path of values
    * instead of the values that were found.
    */
-  private static final Configuration GET_PATHS_CONFIGURATION = Configuration.defaultConfiguration().addOptions(Option.AS_PATH_LIST);
+  private static final Configuration GET_PATHS_CONFIGURATION = GET_VALUES_CONFIGURATION.addOptions(Option.AS_PATH_LIST);
+  private static final ParseContext GET_VALUES_CONTEXT = JsonPath.using(GET_VALUES_CONFIGURATION);
+  private static final ParseContext GET_PATHS_CONTEXT = JsonPath.using(GET_PATHS_CONFIGURATION);
+
+  private static final int MAX_CACHED_PATHS = 10_000;
+  private static final LoadingCache<String, CompiledPath> COMPILED_PATHS = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_PATHS)
+      .build(CacheLoader.from(JsonPaths::compilePath));
+
+  private static final Pattern DOT_NOTATION_FIELD = Pattern.compile("[A-Za-z0-9_\\-]+");
+  private static final Pattern BRACKET_NOTATION_FIELD = Pattern.compile("[^'\"\\\\,*\\[\\]]+");
+  private static final Pattern ARRAY_INDEX = Pattern.compile("[0-9]{1,9}");
+
+  // returned when a simple path cannot be evaluated directly, and is left to JSONPath
+  private static final JsonNode NOT_RESOLVED = MissingNode.getInstance();
+
+  /**
+   * A compiled JSONPath. For a definite path made of plain fields and array indexes, also the fields
+   * (as strings) and indexes (as integers) it is made of, and the path as JSONPath writes the paths it
+   * finds.
+   */
+  private record CompiledPath(JsonPath jsonPath, Object[] segments, String normalizedPath) {}
 
   /**
    * Attempt to validate if a string is a valid JSONPath string. This assertion does NOT handle all
@@ -132,7 +169,8 @@ public class JsonPaths {
    * @param jsonPath - path to validate
    */
   private static void assertIsSingleReturnQuery(final String jsonPath) {
-    Preconditions.checkArgument(JsonPath.isPathDefinite(jsonPath), "Cannot accept paths with wildcards because they may return more than one item.");
+    Preconditions.checkArgument(compile(jsonPath).jsonPath().isDefinite(),
+        "Cannot accept paths with wildcards because they may return more than one item.");
   }
 
   /**
@@ -146,7 +184,15 @@ public class JsonPaths {
    * @return all values that match the input query
    */
   private static List<JsonNode> getValues(final JsonNode json, final String jsonPath) {
-    return getInternal(Configuration.defaultConfiguration(), json, jsonPath);
+    assertIsJsonPath(jsonPath);
+    final CompiledPath path = compile(jsonPath);
+    if (path.segments() != null && json != null) {
+      final JsonNode node = resolve(json, path.segments(), path.segments().length);
+      if (node != NOT_RESOLVED) {
+        return node == null ? Collections.emptyList() : List.of(node);
+      }
+    }
+    return getInternal(GET_VALUES_CONTEXT, json, path);
   }
 
   /**
@@ -166,7 +212,15 @@ public class JsonPaths {
    *         list.
    */
   private static List<String> getPaths(final JsonNode json, final String jsonPath) {
-    return getInternal(GET_PATHS_CONFIGURATION, json, jsonPath)
+    assertIsJsonPath(jsonPath);
+    final CompiledPath path = compile(jsonPath);
+    if (path.segments() != null && json != null) {
+      final JsonNode node = resolve(json, path.segments(), path.segments().length);
+      if (node != NOT_RESOLVED) {
+        return node == null ? Collections.emptyList() : List.of(path.normalizedPath());
+      }
+    }
+    return getInternal(GET_PATHS_CONTEXT, json, path)
         .stream()
         .map(JsonNode::asText)
         .collect(Collectors.toList());
@@ -214,7 +268,7 @@ public class JsonPaths {
    */
   public static JsonNode replaceAtJsonNodeLoud(final JsonNode json, final String jsonPath, final JsonNode replacement) {
     assertIsJsonPath(jsonPath);
-    return JsonPath.parse(Jsons.clone(json)).set(jsonPath, replacement).json();
+    return setInPlace(Jsons.clone(json), compile(jsonPath), replacement);
   }
 
   /**
@@ -251,7 +305,12 @@ public class JsonPaths {
       final Optional<JsonNode> singleValue = getSingleValue(clone, foundPath);
       if (singleValue.isPresent()) {
         final JsonNode replacement = replacementFunction.apply(singleValue.get(), foundPath);
-        clone = replaceAtJsonNode(clone, foundPath, replacement);
+        // the clone is ours, so it is not copied again for every replacement
+        try {
+          clone = setInPlace(clone, compile(foundPath), replacement);
+        } catch (final PathNotFoundException e) {
+          LOGGER.debug("Path not found", e);
+        }
       }
     }
     return clone;
@@ -260,20 +319,148 @@ public class JsonPaths {
   /**
    * Get values at a JSONPath.
    *
-   * @param conf - JsonPath configuration. Primarily used to reuse code to allow fetching values or
+   * @param context - JsonPath parse context. Primarily used to reuse code to allow fetching values or
    *        paths from a json object
    * @param json - json object
-   * @param jsonPath - path into the json object. must be in the format of JSONPath.
+   * @param jsonPath - compiled path into the json object.
    * @return all values that match the input query (whether the values are paths or actual values in
-   *         the json object is determined by the conf)
+   *         the json object is determined by the context)
    */
-  private static List<JsonNode> getInternal(final Configuration conf, final JsonNode json, final String jsonPath) {
-    assertIsJsonPath(jsonPath);
+  private static List<JsonNode> getInternal(final ParseContext context, final JsonNode json, final CompiledPath jsonPath) {
     try {
-      return MoreIterators.toList(JsonPath.using(conf).parse(json).read(jsonPath, ArrayNode.class).iterator());
+      return MoreIterators.toList(context.parse(json).read(jsonPath.jsonPath(), ArrayNode.class).iterator());
     } catch (final PathNotFoundException e) {
       return Collections.emptyList();
     }
   }
 
+  /**
+   * Replace the values that match a path in the json object itself.
+   *
+   * @param json - json object, modified in place
+   * @param jsonPath - compiled path into the json object
+   * @param replacement - a json node to replace the current value at the jsonPath
+   * @return the json object
+   * @throws PathNotFoundException if no value matches the path
+   */
+  private static JsonNode setInPlace(final JsonNode json, final CompiledPath jsonPath, final JsonNode replacement) {
+    final Object[] segments = jsonPath.segments();
+    if (segments != null && json != null) {
+      final JsonNode parent = resolve(json, segments, segments.length - 1);
+      if (parent != NOT_RESOLVED) {
+        final Object last = segments[segments.length - 1];
+        // JSONPath sets a copy of the replacement
+        final JsonNode value = replacement == null ? NullNode.getInstance() : replacement.deepCopy();
+        if (last instanceof String) {
+          if (!(parent instanceof ObjectNode) || !parent.has((String) last)) {
+            throw new PathNotFoundException("No results for path: " + jsonPath.normalizedPath());
+          }
+          ((ObjectNode) parent).set((String) last, value);
+          return json;
+        }
+        if (!(parent instanceof ArrayNode)) {
+          throw new PathNotFoundException("No results for path: " + jsonPath.normalizedPath());
+        }
+        if ((Integer) last < parent.size()) {
+          ((ArrayNode) parent).set((Integer) last, value);
+          return json;
+        }
+        // an index out of the bounds of the array is left to JSONPath
+      }
+    }
+    return GET_VALUES_CONTEXT.parse(json).set(jsonPath.jsonPath(), replacement).json();
+  }
+
+  /**
+   * Walk down the first segments of a simple path.
+   *
+   * @param json - json object
+   * @param segments - fields and indexes of the path
+   * @param depth - number of segments to walk down
+   * @return the node found, null if there is none, or {@link #NOT_RESOLVED} if the path goes through
+   *         an index out of the bounds of its array, which is left to JSONPath
+   */
+  private static JsonNode resolve(final JsonNode json, final Object[] segments, final int depth) {
+    JsonNode node = json;
+    for (int i = 0; i < depth; i++) {
+      final Object segment = segments[i];
+      if (segment instanceof String) {
+        if (!(node instanceof ObjectNode) || !node.has((String) segment)) {
+          return null;
+        }
+        node = node.get((String) segment);
+      } else {
+        if (!(node instanceof ArrayNode)) {
+          return null;
+        }
+        final int index = (Integer) segment;
+        if (index >= node.size()) {
+          return NOT_RESOLVED;
+        }
+        node = node.get(index);
+      }
+    }
+    return node;
+  }
+
+  private static CompiledPath compile(final String jsonPath) {
+    try {
+      return COMPILED_PATHS.getUnchecked(jsonPath);
+    } catch (final UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  /**
+   * Compile a JSONPath, and split it into fields and indexes if it only has plain fields, in dot or
+   * bracket notation, and non-negative array indexes. Anything else is only evaluated by JSONPath.
+   */
+  private static CompiledPath compilePath(final String jsonPath) {
+    final JsonPath compiled = JsonPath.compile(jsonPath);
+    final CompiledPath notSimple = new CompiledPath(compiled, null, null);
+    if (!jsonPath.startsWith(JSON_PATH_START_CHARACTER)) {
+      return notSimple;
+    }
+    final List<Object> segments = new ArrayList<>();
+    final StringBuilder normalizedPath = new StringBuilder(JSON_PATH_START_CHARACTER);
+    int position = JSON_PATH_START_CHARACTER.length();
+    while (position < jsonPath.length()) {
+      if (jsonPath.charAt(position) == '.') {
+        int end = position + 1;
+        while (end < jsonPath.length() && jsonPath.charAt(end) != '.' && jsonPath.charAt(end) != '[') {
+          end++;
+        }
+        final String field = jsonPath.substring(position + 1, end);
+        if (!DOT_NOTATION_FIELD.matcher(field).matches()) {
+          return notSimple;
+        }
+        segments.add(field);
+        normalizedPath.append("['").append(field).append("']");
+        position = end;
+      } else if (jsonPath.startsWith("['", position)) {
+        final int end = jsonPath.indexOf("']", position);
+        if (end < 0 || !BRACKET_NOTATION_FIELD.matcher(jsonPath.substring(position + 2, end)).matches()) {
+          return notSimple;
+        }
+        final String field = jsonPath.substring(position + 2, end);
+        segments.add(field);
+        normalizedPath.append("['").append(field).append("']");
+        position = end + 2;
+      } else if (jsonPath.charAt(position) == '[') {
+        final int end = jsonPath.indexOf(']', position);
+        if (end < 0 || !ARRAY_INDEX.matcher(jsonPath.substring(position + 1, end)).matches()) {
+          return notSimple;
+        }
+        final int index = Integer.parseInt(jsonPath.substring(position + 1, end));
+        segments.add(index);
+        normalizedPath.append('[').append(index).append(']');
+        position = end + 1;
+      } else {
+        return notSimple;
+      }
+    }
+    return segments.isEmpty() ? notSimple : new CompiledPath(compiled, segments.toArray(), normalizedPath.toString());
+  }
+
 }
@@ -4,30 +4,37 @@
 
 package io.airbyte.commons.json;
 
-import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.Separators;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -58,6 +65,9 @@ public class Jsons {
 
   private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer(new JsonPrettyPrinter());
 
+  // a default mapper, unlike OBJECT_MAPPER, which is what canonical JSON has always been written with
+  private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper();
+
   /**
    * Serialize an object to a JSON string.
    *
@@ -316,11 +326,14 @@ public class Jsons {
    * Get top-level keys of a {@link JsonNode}.
    *
    * @param jsonNode whose keys to extract
-   * @return top-level keys of the object
+   * @return top-level keys of the object, in the order of the object
    */
   public static Set<String> keys(final JsonNode jsonNode) {
     if (jsonNode.isObject()) {
-      return Jsons.object(jsonNode, new TypeReference<Map<String, Object>>() {}).keySet();
+      // read from the node itself rather than converting the whole object to a map
+      final Set<String> keys = new LinkedHashSet<>();
+      jsonNode.fieldNames().forEachRemaining(keys::add);
+      return keys;
     } else {
       return new HashSet<>();
     }
@@ -472,8 +485,8 @@ public class Jsons {
    *         empty optional.
    */
   public static String getStringOrNull(final JsonNode json, final List<String> keys) {
-    final Optional<JsonNode> optional = getOptional(json, keys);
-    return optional.map(JsonNode::asText).orElse(null);
+    final JsonNode node = navigateTo(json, keys);
+    return node == null ? null : node.asText();
   }
 
   /**
@@ -499,8 +512,8 @@ public class Jsons {
    *         not an int, returns 0.
    */
   public static int getIntOrZero(final JsonNode json, final List<String> keys) {
-    final Optional<JsonNode> optional = getOptional(json, keys);
-    return optional.map(JsonNode::asInt).orElse(0);
+    final JsonNode node = navigateTo(json, keys);
+    return node == null ? 0 : node.asInt();
   }
 
   /**
@@ -509,26 +522,35 @@ public class Jsons {
    * This behavior is used in the Redshift SUPER type. When it is false, the whole array will be one
    * entry. This is used in the JobTracker.
    */
-  @SuppressWarnings("PMD.ForLoopCanBeForeach")
   public static Map<String, Object> flatten(final JsonNode node, final Boolean applyFlattenToArray) {
+    final Map<String, Object> output = new HashMap<>();
+    flattenInto(output, null, node, applyFlattenToArray);
+    return output;
+  }
+
+  /**
+   * Flatten a node into the output map, with its keys prefixed by the path of the node. Each value is
+   * put in the output directly, instead of flattening every nested object into a map of its own and
+   * merging it into its parent's.
+   *
+   * @param output flattened values
+   * @param prefix path of the node, null for the root node
+   * @param node node to flatten
+   * @param applyFlattenToArray whether each element of an array is flattened
+   */
+  @SuppressWarnings("PMD.ForLoopCanBeForeach")
+  private static void flattenInto(final Map<String, Object> output, final String prefix, final JsonNode node, final Boolean applyFlattenToArray) {
     if (node.isObject()) {
-      final Map<String, Object> output = new HashMap<>();
       for (final Iterator<Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
         final Entry<String, JsonNode> entry = it.next();
-        final String field = entry.getKey();
-        final JsonNode value = entry.getValue();
-        mergeMaps(output, field, flatten(value, applyFlattenToArray));
+        flattenInto(output, prefix == null ? entry.getKey() : prefix + "." + entry.getKey(), entry.getValue(), applyFlattenToArray);
       }
-      return output;
     } else if (node.isArray() && applyFlattenToArray) {
-      final Map<String, Object> output = new HashMap<>();
       final int arrayLen = node.size();
       for (int i = 0; i < arrayLen; i++) {
         final String field = String.format("[%d]", i);
-        final JsonNode value = node.get(i);
-        mergeMaps(output, field, flatten(value, applyFlattenToArray));
+        flattenInto(output, prefix == null ? field : prefix + "." + field, node.get(i), applyFlattenToArray);
       }
-      return output;
     } else {
       final Object value;
       if (node.isBoolean()) {
@@ -545,7 +567,7 @@ public class Jsons {
         // Fallback handling for e.g. arrays
         value = node.toString();
       }
-      return singletonMap(null, value);
+      output.put(prefix, value);
     }
   }
 
@@ -616,19 +638,18 @@ public class Jsons {
    */
   public static JsonNode mergeNodes(final JsonNode mainNode, final JsonNode updateNode) {
 
-    final Iterator<String> fieldNames = updateNode.fieldNames();
-    while (fieldNames.hasNext()) {
+    final Iterator<Entry<String, JsonNode>> fields = updateNode.fields();
+    while (fields.hasNext()) {
 
-      final String fieldName = fieldNames.next();
-      final JsonNode jsonNode = mainNode.get(fieldName);
+      final Entry<String, JsonNode> field = fields.next();
+      final JsonNode jsonNode = mainNode.get(field.getKey());
       // if field exists and is an embedded object
       if (jsonNode != null && jsonNode.isObject()) {
-        mergeNodes(jsonNode, updateNode.get(fieldName));
+        mergeNodes(jsonNode, field.getValue());
       } else {
         if (mainNode instanceof ObjectNode) {
           // Overwrite field
-          final JsonNode value = updateNode.get(fieldName);
-          ((ObjectNode) mainNode).replace(fieldName, value);
+          ((ObjectNode) mainNode).replace(field.getKey(), field.getValue());
         }
       }
 
@@ -680,30 +701,74 @@ public class Jsons {
    * @throws IOException if there is an error serializing the object
    */
   public static String canonicalJsonSerialize(final Object object) throws IOException {
-    final ObjectMapper mapper = new ObjectMapper();
-    final ObjectNode objectNode = mapper.valueToTree(object);
-    final ObjectNode sortedObjectNode = (ObjectNode) sortProperties(objectNode);
-    return mapper.writer().writeValueAsString(sortedObjectNode);
+    final StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = CANONICAL_MAPPER.getFactory().createGenerator(writer)) {
+      writeCanonical(generator, CANONICAL_MAPPER.valueToTree(object));
+    }
+    return writer.toString();
   }
 
-  private static JsonNode sortProperties(final JsonNode jsonNode) {
-    if (jsonNode.isObject()) {
-      final ObjectNode objectNode = (ObjectNode) jsonNode;
-      final ObjectNode sortedObjectNode = JsonNodeFactory.instance.objectNode();
+  /**
+   * Hashes the canonical JSON of an object, i.e. the UTF-8 bytes of
+   * {@link #canonicalJsonSerialize(Object)}, without building the JSON string.
+   *
+   * @param object the object to hash
+   * @param hashFunctions the hash functions to apply
+   * @return one hash per hash function, in the same order
+   * @throws IOException if there is an error serializing the object
+   */
+  public static List<HashCode> canonicalJsonHash(final Object object, final HashFunction... hashFunctions) throws IOException {
+    final Hasher[] hashers = Arrays.stream(hashFunctions).map(HashFunction::newHasher).toArray(Hasher[]::new);
+    final OutputStream hashStream = new OutputStream() {
+
+      @Override
+      public void write(final int b) {
+        for (final Hasher hasher : hashers) {
+          hasher.putByte((byte) b);
+        }
+      }
 
-      StreamSupport.stream(Spliterators.spliteratorUnknownSize(objectNode.fields(), Spliterator.ORDERED), false)
-          .sorted(Map.Entry.comparingByKey())
-          .forEachOrdered(entry -> sortedObjectNode.set(entry.getKey(), sortProperties(entry.getValue())));
+      @Override
+      public void write(final byte[] bytes, final int offset, final int length) {
+        for (final Hasher hasher : hashers) {
+          hasher.putBytes(bytes, offset, length);
+        }
+      }
 
-      return sortedObjectNode;
-    } else if (jsonNode.isArray()) {
-      final ArrayNode arrayNode = (ArrayNode) jsonNode;
-      final ArrayNode sortedArrayNode = JsonNodeFactory.instance.arrayNode();
-      arrayNode.forEach(node -> sortedArrayNode.add(sortProperties(node)));
+    };
+    try (JsonGenerator generator = CANONICAL_MAPPER.getFactory().createGenerator(hashStream, JsonEncoding.UTF8)) {
+      writeCanonical(generator, CANONICAL_MAPPER.valueToTree(object));
+    }
+    return Arrays.stream(hashers).map(Hasher::hash).toList();
+  }
 
-      return sortedArrayNode;
+  /**
+   * Writes a JSON tree with the keys of each object in alphabetical order. Values other than objects
+   * and arrays are written by their own serializer, as in a regular serialization of the tree.
+   */
+  private static void writeCanonical(final JsonGenerator generator, final JsonNode jsonNode) throws IOException {
+    if (jsonNode.isObject()) {
+      final String[] fieldNames = new String[jsonNode.size()];
+      final Iterator<String> fieldNamesIterator = jsonNode.fieldNames();
+      for (int i = 0; i < fieldNames.length; i++) {
+        fieldNames[i] = fieldNamesIterator.next();
+      }
+      Arrays.sort(fieldNames);
+
+      generator.writeStartObject();
+      for (final String fieldName : fieldNames) {
+        generator.writeFieldName(fieldName);
+        writeCanonical(generator, jsonNode.get(fieldName));
+      }
+      generator.writeEndObject();
+    } else if (jsonNode.isArray()) {
+      generator.writeStartArray();
+      for (final JsonNode element : jsonNode) {
+        writeCanonical(generator, element);
+      }
+      generator.writeEndArray();
     } else {
-      return jsonNode;
+      ((JsonSerializable) jsonNode).serialize(generator, CANONICAL_MAPPER.getSerializerProviderInstance());
     }
   }
 
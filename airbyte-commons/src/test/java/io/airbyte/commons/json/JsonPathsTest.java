@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.jayway.jsonpath.PathNotFoundException;
+import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 class JsonPathsTest {
@@ -29,6 +31,23 @@ class JsonPathsTest {
   private static final String REPLACEMENT_STRING = "replaced";
   private static final JsonNode REPLACEMENT_JSON = Jsons.deserialize("{ \"replacement\": \"replaced\" }");
   private static final String ONE = "one";
+  private static final String NESTED_JSON = """
+                                            {
+                                              "one": [0, 1, 2],
+                                              "two": { "nested": 10, "nothing": null },
+                                              "nullable": null,
+                                              "with space": { "value": "spaced" },
+                                              "hyphen-ated": "hyphenated",
+                                              "objects": [{ "secret": "a" }, { "secret": null }, { "other": "c" }],
+                                              "matrix": [[1, 2], [3]]
+                                            }""";
+  // simple paths evaluated directly, and paths left to JSONPath
+  private static final List<String> PATHS = List.of(
+      "$", "$.one", "$.one[0]", "$.one[2]", "$.one[5]", "$.one[-1]", "$.one.field", "$.one[*]",
+      "$.two", "$.two.nested", "$['two']['nested']", "$.two.nothing", "$.two.nothing.deeper", "$.two.missing", "$.two.nested.deeper",
+      "$.two[0]", "$.nullable", "$.nullable.deeper", "$.missing.deeper", "$['with space']", "$['with space'].value",
+      "$.hyphen-ated", "$.objects[0].secret", "$.objects[1].secret", "$.objects[2].secret", "$['objects'][1]['secret']",
+      "$.objects[*].secret", "$..secret", "$.objects[0,1].secret", "$.matrix[1][0]", "$.matrix[1][1]", "$.matrix[0][*]");
 
   @Test
   void testGetSingleValue() {
@@ -140,6 +159,31 @@ class JsonPathsTest {
     });
   }
 
+  @Test
+  void testMatchesLegacyImplementation() {
+    final JsonNode json = Jsons.deserialize(NESTED_JSON);
+    for (final String path : PATHS) {
+      assertOriginalObjectNotModified(json, () -> {
+        assertEquals(outcome(() -> LegacyJsonPaths.getSingleValue(json, path)), outcome(() -> JsonPaths.getSingleValue(json, path)), path);
+        assertEquals(outcome(() -> LegacyJsonPaths.replaceAtJsonNodeLoud(json, path, REPLACEMENT_JSON)),
+            outcome(() -> JsonPaths.replaceAtJsonNodeLoud(json, path, REPLACEMENT_JSON)), path);
+        assertEquals(outcome(() -> LegacyJsonPaths.replaceAt(json, path, (node, nodePath) -> Jsons.jsonNode(node + "-" + nodePath))),
+            outcome(() -> JsonPaths.replaceAt(json, path, (node, nodePath) -> Jsons.jsonNode(node + "-" + nodePath))), path);
+      });
+    }
+  }
+
+  /**
+   * The result of a call, or the type of exception it threw.
+   */
+  private static Object outcome(final Supplier<Object> call) {
+    try {
+      return call.get();
+    } catch (final RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
   /**
    * For all replacement functions, they should NOT mutate in place. Helper assertion to verify that
    * invariant.
@@ -12,24 +12,32 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -430,4 +438,110 @@ class JsonsTest {
     assertEquals(expectedJson, actualJson);
   }
 
+  /**
+   * Property test: for random JSON documents, {@link Jsons#canonicalJsonSerialize(Object)} and
+   * {@link Jsons#canonicalJsonHash(Object, HashFunction...)} match the tree copying implementation
+   * they replaced.
+   */
+  @Test
+  void testCanonicalJsonMatchesLegacyImplementation() throws IOException {
+    final Random random = new Random(7);
+    for (int i = 0; i < 500; i++) {
+      final ObjectNode document = randomObject(random, 0);
+      final String expected = LegacyCanonicalJson.serialize(document);
+
+      assertEquals(expected, Jsons.canonicalJsonSerialize(document));
+      assertEquals(List.of(
+          Hashing.sha256().hashString(expected, StandardCharsets.UTF_8),
+          Hashing.murmur3_32_fixed().hashString(expected, StandardCharsets.UTF_8)),
+          Jsons.canonicalJsonHash(document, Hashing.sha256(), Hashing.murmur3_32_fixed()));
+    }
+
+    final AirbyteCatalog catalog = CatalogHelpers.createAirbyteCatalog("clothes",
+        Field.of("name", JsonSchemaType.STRING), Field.of("size", JsonSchemaType.NUMBER));
+    assertEquals(LegacyCanonicalJson.serialize(catalog), Jsons.canonicalJsonSerialize(catalog));
+    assertEquals(Hashing.sha256().hashString(LegacyCanonicalJson.serialize(catalog), StandardCharsets.UTF_8),
+        Jsons.canonicalJsonHash(catalog, Hashing.sha256()).get(0));
+  }
+
+  /**
+   * Property test: for random JSON documents, the tree utilities that read the nodes directly match
+   * the implementations that converted or copied parts of the tree.
+   */
+  @Test
+  void testTreeUtilitiesMatchLegacyImplementation() {
+    final Random random = new Random(11);
+    for (int i = 0; i < 500; i++) {
+      final ObjectNode document = randomObject(random, 0);
+
+      assertEquals(List.copyOf(LegacyJsonTrees.keys(document)), List.copyOf(Jsons.keys(document)));
+      assertEquals(LegacyJsonTrees.flatten(document, false), Jsons.flatten(document, false));
+      assertEquals(LegacyJsonTrees.flatten(document, true), Jsons.flatten(document, true));
+      document.fields().forEachRemaining(field -> {
+        assertEquals(LegacyJsonTrees.keys(field.getValue()), Jsons.keys(field.getValue()));
+        assertEquals(LegacyJsonTrees.flatten(field.getValue(), true), Jsons.flatten(field.getValue(), true));
+        assertEquals(LegacyJsonTrees.getStringOrNull(document, List.of(field.getKey())), Jsons.getStringOrNull(document, field.getKey()));
+        field.getValue().fieldNames().forEachRemaining(nested -> assertEquals(
+            LegacyJsonTrees.getStringOrNull(document, List.of(field.getKey(), nested, ABC)),
+            Jsons.getStringOrNull(document, field.getKey(), nested, ABC)));
+      });
+
+      final ObjectNode update = randomObject(random, 0);
+      document.fieldNames().forEachRemaining(name -> {
+        if (random.nextBoolean()) {
+          update.set(name, randomValue(random, 1));
+        }
+      });
+      assertEquals(LegacyJsonTrees.mergeNodes(document.deepCopy(), update), Jsons.mergeNodes(document.deepCopy(), update));
+    }
+  }
+
+  private static ObjectNode randomObject(final Random random, final int depth) {
+    final ObjectNode node = JsonNodeFactory.instance.objectNode();
+    final int size = random.nextInt(depth == 0 ? 8 : 5);
+    for (int i = 0; i < size; i++) {
+      node.set(randomString(random), randomValue(random, depth + 1));
+    }
+    return node;
+  }
+
+  private static JsonNode randomValue(final Random random, final int depth) {
+    final int kind = random.nextInt(depth < 4 ? 11 : 9);
+    return switch (kind) {
+      case 0 -> JsonNodeFactory.instance.nullNode();
+      case 1 -> JsonNodeFactory.instance.booleanNode(random.nextBoolean());
+      case 2 -> JsonNodeFactory.instance.numberNode(random.nextInt());
+      case 3 -> JsonNodeFactory.instance.numberNode(random.nextLong());
+      case 4 -> JsonNodeFactory.instance.numberNode(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+      case 5 -> JsonNodeFactory.instance.numberNode(new BigDecimal(BigInteger.valueOf(random.nextLong()), random.nextInt(20) - 10));
+      case 6 -> JsonNodeFactory.instance.numberNode(BigInteger.valueOf(random.nextLong()).multiply(BigInteger.valueOf(random.nextLong())));
+      case 7, 8 -> JsonNodeFactory.instance.textNode(randomString(random));
+      case 9 -> randomObject(random, depth);
+      default -> {
+        final ArrayNode array = JsonNodeFactory.instance.arrayNode();
+        final int size = random.nextInt(5);
+        for (int i = 0; i < size; i++) {
+          array.add(randomValue(random, depth + 1));
+        }
+        yield array;
+      }
+    };
+  }
+
+  private static String randomString(final Random random) {
+    // ascii, characters that must be escaped, and non-ascii characters including surrogate pairs
+    final String alphabet = "abcXYZ019 _-\"\\/\n\t\u0001é漢字\uD83D\uDE00";
+    final StringBuilder builder = new StringBuilder();
+    final int length = random.nextInt(8);
+    for (int i = 0; i < length; i++) {
+      final int index = random.nextInt(alphabet.length());
+      if (Character.isSurrogate(alphabet.charAt(index))) {
+        builder.append("\uD83D\uDE00");
+      } else {
+        builder.append(alphabet.charAt(index));
+      }
+    }
+    return builder.toString();
+  }
+
 }
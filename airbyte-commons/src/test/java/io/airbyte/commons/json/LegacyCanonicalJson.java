@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+/**
+ * The tree copying implementation of {@link Jsons#canonicalJsonSerialize(Object)}, before it
+ * streamed the sorted fields. The tests compare the output of both.
+ */
+public final class LegacyCanonicalJson {
+
+  private LegacyCanonicalJson() {}
+
+  public static String serialize(final Object object) throws IOException {
+    final ObjectMapper mapper = new ObjectMapper();
+    final ObjectNode objectNode = mapper.valueToTree(object);
+    final ObjectNode sortedObjectNode = (ObjectNode) sortProperties(objectNode);
+    return mapper.writer().writeValueAsString(sortedObjectNode);
+  }
+
+  private static JsonNode sortProperties(final JsonNode jsonNode) {
+    if (jsonNode.isObject()) {
+      final ObjectNode objectNode = (ObjectNode) jsonNode;
+      final ObjectNode sortedObjectNode = JsonNodeFactory.instance.objectNode();
+
+      StreamSupport.stream(Spliterators.spliteratorUnknownSize(objectNode.fields(), Spliterator.ORDERED), false)
+          .sorted(Map.Entry.comparingByKey())
+          .forEachOrdered(entry -> sortedObjectNode.set(entry.getKey(), sortProperties(entry.getValue())));
+
+      return sortedObjectNode;
+    } else if (jsonNode.isArray()) {
+      final ArrayNode arrayNode = (ArrayNode) jsonNode;
+      final ArrayNode sortedArrayNode = JsonNodeFactory.instance.arrayNode();
+      arrayNode.forEach(node -> sortedArrayNode.add(sortProperties(node)));
+
+      return sortedArrayNode;
+    } else {
+      return jsonNode;
+    }
+  }
+
+}
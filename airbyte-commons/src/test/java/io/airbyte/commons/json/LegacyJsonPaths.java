@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.google.common.base.Preconditions;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import io.airbyte.commons.util.MoreIterators;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * {@link JsonPaths} as it was when every path was compiled and evaluated with JSONPath. The cached
+ * and direct evaluation must return the same results.
+ */
+public final class LegacyJsonPaths {
+
+  private static final Configuration GET_VALUES_CONFIGURATION = Configuration.builder()
+      .jsonProvider(new JacksonJsonNodeJsonProvider())
+      .mappingProvider(new JacksonMappingProvider())
+      .options(Option.ALWAYS_RETURN_LIST)
+      .build();
+  private static final Configuration GET_PATHS_CONFIGURATION = GET_VALUES_CONFIGURATION.addOptions(Option.AS_PATH_LIST);
+
+  private LegacyJsonPaths() {}
+
+  public static Optional<JsonNode> getSingleValue(final JsonNode json, final String jsonPath) {
+    Preconditions.checkArgument(JsonPath.isPathDefinite(jsonPath), "Cannot accept paths with wildcards because they may return more than one item.");
+    final List<JsonNode> jsonNodes = getInternal(GET_VALUES_CONFIGURATION, json, jsonPath);
+    Preconditions.checkState(jsonNodes.size() <= 1, "Path returned more than one item. path: %s items: %s", jsonPath, jsonNodes);
+    return jsonNodes.isEmpty() ? Optional.empty() : Optional.of(jsonNodes.get(0));
+  }
+
+  static JsonNode replaceAtJsonNodeLoud(final JsonNode json, final String jsonPath, final JsonNode replacement) {
+    Preconditions.checkArgument(jsonPath.startsWith("$"));
+    return JsonPath.using(GET_VALUES_CONFIGURATION).parse(Jsons.clone(json)).set(jsonPath, replacement).json();
+  }
+
+  public static JsonNode replaceAt(final JsonNode json, final String jsonPath, final BiFunction<JsonNode, String, JsonNode> replacementFunction) {
+    JsonNode clone = Jsons.clone(json);
+    Preconditions.checkArgument(jsonPath.startsWith("$"));
+    final List<String> foundPaths = getInternal(GET_PATHS_CONFIGURATION, clone, jsonPath).stream()
+        .map(JsonNode::asText)
+        .collect(Collectors.toList());
+    for (final String foundPath : foundPaths) {
+      final Optional<JsonNode> singleValue = getSingleValue(clone, foundPath);
+      if (singleValue.isPresent()) {
+        final JsonNode replacement = replacementFunction.apply(singleValue.get(), foundPath);
+        try {
+          clone = replaceAtJsonNodeLoud(clone, foundPath, replacement);
+        } catch (final PathNotFoundException e) {
+          clone = Jsons.clone(clone);
+        }
+      }
+    }
+    return clone;
+  }
+
+  private static List<JsonNode> getInternal(final Configuration conf, final JsonNode json, final String jsonPath) {
+    Preconditions.checkArgument(jsonPath.startsWith("$"));
+    try {
+      return MoreIterators.toList(JsonPath.using(conf).parse(json).read(jsonPath, ArrayNode.class).iterator());
+    } catch (final PathNotFoundException e) {
+      return Collections.emptyList();
+    }
+  }
+
+}
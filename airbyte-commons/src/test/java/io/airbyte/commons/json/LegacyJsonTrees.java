@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import static java.util.Collections.singletonMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The implementations of {@link Jsons#keys(JsonNode)}, {@link Jsons#flatten(JsonNode, Boolean)},
+ * {@link Jsons#getStringOrNull(JsonNode, List)} and {@link Jsons#mergeNodes(JsonNode, JsonNode)}
+ * that converted or copied parts of the tree. JsonsTest checks that the current ones agree with
+ * them.
+ */
+public final class LegacyJsonTrees {
+
+  private LegacyJsonTrees() {}
+
+  public static Set<String> keys(final JsonNode jsonNode) {
+    if (jsonNode.isObject()) {
+      return Jsons.object(jsonNode, new TypeReference<Map<String, Object>>() {}).keySet();
+    } else {
+      return new HashSet<>();
+    }
+  }
+
+  public static String getStringOrNull(final JsonNode json, final List<String> keys) {
+    final Optional<JsonNode> optional = Jsons.getOptional(json, keys);
+    return optional.map(JsonNode::asText).orElse(null);
+  }
+
+  @SuppressWarnings("PMD.ForLoopCanBeForeach")
+  public static Map<String, Object> flatten(final JsonNode node, final Boolean applyFlattenToArray) {
+    if (node.isObject()) {
+      final Map<String, Object> output = new HashMap<>();
+      for (final Iterator<Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+        final Entry<String, JsonNode> entry = it.next();
+        Jsons.mergeMaps(output, entry.getKey(), flatten(entry.getValue(), applyFlattenToArray));
+      }
+      return output;
+    } else if (node.isArray() && applyFlattenToArray) {
+      final Map<String, Object> output = new HashMap<>();
+      for (int i = 0; i < node.size(); i++) {
+        Jsons.mergeMaps(output, String.format("[%d]", i), flatten(node.get(i), applyFlattenToArray));
+      }
+      return output;
+    } else {
+      final Object value;
+      if (node.isBoolean()) {
+        value = node.asBoolean();
+      } else if (node.isLong()) {
+        value = node.asLong();
+      } else if (node.isInt()) {
+        value = node.asInt();
+      } else if (node.isDouble()) {
+        value = node.asDouble();
+      } else if (node.isValueNode() && !node.isNull()) {
+        value = node.asText();
+      } else {
+        value = node.toString();
+      }
+      return singletonMap(null, value);
+    }
+  }
+
+  public static JsonNode mergeNodes(final JsonNode mainNode, final JsonNode updateNode) {
+    final Iterator<String> fieldNames = updateNode.fieldNames();
+    while (fieldNames.hasNext()) {
+      final String fieldName = fieldNames.next();
+      final JsonNode jsonNode = mainNode.get(fieldName);
+      if (jsonNode != null && jsonNode.isObject()) {
+        mergeNodes(jsonNode, updateNode.get(fieldName));
+      } else if (mainNode instanceof ObjectNode) {
+        ((ObjectNode) mainNode).replace(fieldName, updateNode.get(fieldName));
+      }
+    }
+    return mainNode;
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json.performance;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.LegacyCanonicalJson;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PerformanceTest for the hash of the canonical JSON of a catalog, which the catalog service
+ * computes on every write: the legacy implementation serializes a sorted copy of the tree, the
+ * streaming {@link Jsons#canonicalJsonHash(Object, com.google.common.hash.HashFunction...)} does
+ * not, which mostly shows in the allocation reported by the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CanonicalJsonPerformanceTest {
+
+  @Param({"10", "200"})
+  public int streams;
+
+  private AirbyteCatalog catalog;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final List<AirbyteStream> catalogStreams = new ArrayList<>();
+    for (int i = 0; i < streams; i++) {
+      final List<Field> fields = new ArrayList<>();
+      for (int j = 0; j < 50; j++) {
+        fields.add(Field.of("column_" + j, j % 3 == 0 ? JsonSchemaType.NUMBER : JsonSchemaType.STRING));
+      }
+      catalogStreams.add(CatalogHelpers.createAirbyteStream("stream_" + i, "public", fields));
+    }
+    catalog = new AirbyteCatalog().withStreams(catalogStreams);
+  }
+
+  @Benchmark
+  public HashCode legacySerializeAndHash() throws IOException {
+    return Hashing.sha256().hashString(LegacyCanonicalJson.serialize(catalog), StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public HashCode streamingHash() throws IOException {
+    return Jsons.canonicalJsonHash(catalog, Hashing.sha256()).get(0);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(CanonicalJsonPerformanceTest.class.getName())
+        .addProfiler(GCProfiler.class)
+        .build())
+        .run();
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.JsonPaths;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.LegacyJsonPaths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PerformanceTest for masking and reading the secrets of a connector config at the paths of its
+ * spec, as the secrets processor does. {@link LegacyJsonPaths} compiles every path and evaluates it
+ * with JSONPath, {@link JsonPaths} caches the compiled paths and walks the definite ones directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class JsonPathsPerformanceTest {
+
+  private static final JsonNode CONFIG = Jsons.deserialize("""
+                                       {
+                                         "host": "localhost",
+                                         "port": 5432,
+                                         "database": "postgres",
+                                         "username": "airbyte",
+                                         "password": "secret",
+                                         "ssl_mode": { "mode": "verify-ca", "ca_certificate": "cert", "client_key_password": "secret" },
+                                         "replication_method": { "method": "CDC", "replication_slot": "slot", "publication": "pub" },
+                                         "tunnel_method": {
+                                           "tunnel_method": "SSH_PASSWORD_AUTH",
+                                           "tunnel_host": "bastion",
+                                           "tunnel_port": 22,
+                                           "tunnel_user": "airbyte",
+                                           "tunnel_user_password": "secret"
+                                         },
+                                         "credentials": { "auth_type": "oauth2.0", "client_secret": "secret", "refresh_token": "token" },
+                                         "api_keys": [{ "name": "first", "key": "secret" }, { "name": "second", "key": "secret" }]
+                                       }""");
+  // the secret paths of the spec, and the definite paths that are read back
+  private static final List<String> SECRET_PATHS = List.of(
+      "$.password",
+      "$.ssl_mode.ca_certificate",
+      "$.ssl_mode.client_key_password",
+      "$.tunnel_method.ssh_key",
+      "$.tunnel_method.tunnel_user_password",
+      "$.credentials.client_secret",
+      "$.credentials.refresh_token",
+      "$.api_keys[*].key");
+  private static final List<String> VALUE_PATHS = List.of(
+      "$.password",
+      "$.tunnel_method.tunnel_user_password",
+      "$['credentials']['client_secret']",
+      "$['api_keys'][1]['key']",
+      "$.tunnel_method.ssh_key");
+  private static final JsonNode MASK = Jsons.jsonNode("**********");
+
+  @Benchmark
+  public JsonNode legacyMaskSecrets() {
+    JsonNode config = CONFIG;
+    for (final String path : SECRET_PATHS) {
+      config = LegacyJsonPaths.replaceAt(config, path, (node, nodePath) -> MASK);
+    }
+    return config;
+  }
+
+  @Benchmark
+  public JsonNode maskSecrets() {
+    JsonNode config = CONFIG;
+    for (final String path : SECRET_PATHS) {
+      config = JsonPaths.replaceAt(config, path, (node, nodePath) -> MASK);
+    }
+    return config;
+  }
+
+  @Benchmark
+  public void legacyGetSingleValues(final Blackhole blackhole) {
+    for (final String path : VALUE_PATHS) {
+      final Optional<JsonNode> value = LegacyJsonPaths.getSingleValue(CONFIG, path);
+      blackhole.consume(value);
+    }
+  }
+
+  @Benchmark
+  public void getSingleValues(final Blackhole blackhole) {
+    for (final String path : VALUE_PATHS) {
+      final Optional<JsonNode> value = JsonPaths.getSingleValue(CONFIG, path);
+      blackhole.consume(value);
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JsonPathsPerformanceTest.class.getName()).build()).run();
+  }
+
+}
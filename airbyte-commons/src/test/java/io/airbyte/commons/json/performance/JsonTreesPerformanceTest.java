@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.LegacyJsonTrees;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PerformanceTest for the {@link Jsons} tree utilities on catalogs of 10 and 200 streams, each
+ * paired with its {@link LegacyJsonTrees} counterpart: the field names of every stream schema, as
+ * the catalog diff reads them, flattening the catalog, reading a value of every stream and merging
+ * an update into the catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class JsonTreesPerformanceTest {
+
+  private static final String PROPERTIES = "properties";
+
+  @Param({"10", "200"})
+  public int streams;
+
+  private JsonNode catalog;
+  private List<JsonNode> streamNodes;
+  private JsonNode update;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final List<AirbyteStream> catalogStreams = new ArrayList<>();
+    for (int i = 0; i < streams; i++) {
+      final List<Field> fields = new ArrayList<>();
+      for (int j = 0; j < 50; j++) {
+        fields.add(Field.of("column_" + j, j % 3 == 0 ? JsonSchemaType.NUMBER : JsonSchemaType.STRING));
+      }
+      catalogStreams.add(CatalogHelpers.createAirbyteStream("stream_" + i, "public", fields));
+    }
+    catalog = Jsons.jsonNode(new AirbyteCatalog().withStreams(catalogStreams));
+    streamNodes = Jsons.children(catalog.get("streams"));
+    update = Jsons.jsonNode(Map.of("streams", Jsons.arrayNode(), "cursor", Map.of("name", "updated_at")));
+  }
+
+  @Benchmark
+  public void legacyKeys(final Blackhole blackhole) {
+    for (final JsonNode stream : streamNodes) {
+      blackhole.consume(LegacyJsonTrees.keys(stream.get("json_schema").get(PROPERTIES)));
+    }
+  }
+
+  @Benchmark
+  public void keys(final Blackhole blackhole) {
+    for (final JsonNode stream : streamNodes) {
+      blackhole.consume(Jsons.keys(stream.get("json_schema").get(PROPERTIES)));
+    }
+  }
+
+  @Benchmark
+  public Map<String, Object> legacyFlatten() {
+    return LegacyJsonTrees.flatten(catalog, true);
+  }
+
+  @Benchmark
+  public Map<String, Object> flatten() {
+    return Jsons.flatten(catalog, true);
+  }
+
+  @Benchmark
+  public void legacyGetStringOrNull(final Blackhole blackhole) {
+    for (final JsonNode stream : streamNodes) {
+      blackhole.consume(LegacyJsonTrees.getStringOrNull(stream, List.of("json_schema", PROPERTIES, "column_1", "type")));
+    }
+  }
+
+  @Benchmark
+  public void getStringOrNull(final Blackhole blackhole) {
+    for (final JsonNode stream : streamNodes) {
+      blackhole.consume(Jsons.getStringOrNull(stream, "json_schema", PROPERTIES, "column_1", "type"));
+    }
+  }
+
+  @Benchmark
+  public JsonNode legacyMergeNodes() {
+    return LegacyJsonTrees.mergeNodes(catalog.deepCopy(), update);
+  }
+
+  @Benchmark
+  public JsonNode mergeNodes() {
+    return Jsons.mergeNodes(catalog.deepCopy(), update);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JsonTreesPerformanceTest.class.getName()).build()).run();
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pages through a log stored as a lexicographically ordered sequence of cloud objects.
+ * <p>
+ * Uploaded log chunks are never rewritten, so the number of lines in each object is computed once
+ * (by streaming the object) and remembered in a bounded index keyed by object name. A page read
+ * then only opens the objects that overlap the requested window, and streams them line by line
+ * instead of downloading the log into a temporary file.
+ */
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+final class CloudLogPager {
+
+  private static final long MAX_INDEXED_OBJECTS = 500_000;
+
+  private static final Cache<String, Long> LINE_COUNTS = CacheBuilder.newBuilder()
+      .maximumSize(MAX_INDEXED_OBJECTS)
+      .build();
+
+  /**
+   * Opens the contents of a cloud object.
+   */
+  @FunctionalInterface
+  interface ObjectOpener {
+
+    InputStream open(String key) throws IOException;
+
+  }
+
+  private CloudLogPager() {}
+
+  /**
+   * Read one page from the log made up of the given objects.
+   *
+   * @param indexNamespace prefix (e.g. bucket) that makes object keys globally unique
+   * @param ascendingKeys object keys in lexicographical order
+   * @param opener opens an object for reading
+   * @param cursor line cursor, see {@link LogPage}
+   * @param pageSize maximum number of lines to return
+   * @param direction read direction
+   * @return page of lines
+   * @throws IOException exception while reading objects
+   */
+  static LogPage readPage(final String indexNamespace,
+                          final List<String> ascendingKeys,
+                          final ObjectOpener opener,
+                          final long cursor,
+                          final int pageSize,
+                          final LogPage.Direction direction)
+      throws IOException {
+    final long[] lineCounts = new long[ascendingKeys.size()];
+    long totalLines = 0;
+    for (int i = 0; i < ascendingKeys.size(); i++) {
+      lineCounts[i] = getLineCount(indexNamespace, ascendingKeys.get(i), opener);
+      totalLines += lineCounts[i];
+    }
+
+    final long start = LogPage.pageStart(cursor, pageSize, direction, totalLines);
+    final long end = LogPage.pageEnd(cursor, pageSize, direction, totalLines);
+    final List<String> lines = new ArrayList<>((int) (end - start));
+
+    long objectStart = 0;
+    for (int i = 0; i < ascendingKeys.size() && objectStart < end; i++) {
+      final long objectEnd = objectStart + lineCounts[i];
+      if (objectEnd > start) {
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(opener.open(ascendingKeys.get(i)), StandardCharsets.UTF_8))) {
+          long lineNumber = objectStart;
+          String line = reader.readLine();
+          while (line != null && lineNumber < end) {
+            if (lineNumber >= start) {
+              lines.add(line);
+            }
+            lineNumber++;
+            line = reader.readLine();
+          }
+        }
+      }
+      objectStart = objectEnd;
+    }
+
+    return new LogPage(lines, start, start + lines.size(), totalLines);
+  }
+
+  private static long getLineCount(final String indexNamespace, final String key, final ObjectOpener opener) throws IOException {
+    final String cacheKey = indexNamespace + "/" + key;
+    final Long cached = LINE_COUNTS.getIfPresent(cacheKey);
+    if (cached != null) {
+      return cached;
+    }
+    final long count;
+    try (final InputStream is = opener.open(key)) {
+      count = countLines(is);
+    }
+    LINE_COUNTS.put(cacheKey, count);
+    return count;
+  }
+
+  /**
+   * Count lines the same way {@link BufferedReader#readLine()} would split them on '\n'.
+   */
+  @VisibleForTesting
+  static long countLines(final InputStream is) throws IOException {
+    final byte[] buffer = new byte[64 * 1024];
+    long lines = 0;
+    int last = '\n';
+    try (final InputStream in = new BufferedInputStream(is)) {
+      int read = in.read(buffer);
+      while (read > 0) {
+        for (int i = 0; i < read; i++) {
+          if (buffer[i] == '\n') {
+            lines++;
+          }
+        }
+        last = buffer[read - 1];
+        read = in.read(buffer);
+      }
+    }
+    return last == '\n' ? lines : lines + 1;
+  }
+
+  @VisibleForTesting
+  static void resetIndex() {
+    LINE_COUNTS.invalidateAll();
+  }
+
+}
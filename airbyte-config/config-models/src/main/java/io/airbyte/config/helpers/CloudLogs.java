@@ -37,6 +37,13 @@ public interface CloudLogs {
    */
   List<String> tailCloudLog(LogConfigs configs, String logPath, int numLines) throws IOException;
 
+  /**
+   * Assume all the lexicographically ordered objects at the given path form one giant log file,
+   * return one page of its lines starting (or ending) at the given line cursor. Only the objects that
+   * overlap the page are downloaded, and they are streamed rather than written to disk.
+   */
+  LogPage readCloudLogPage(LogConfigs configs, String logPath, long cursor, int pageSize, LogPage.Direction direction) throws IOException;
+
   void deleteLogs(LogConfigs configs, String logPath);
 
   /**
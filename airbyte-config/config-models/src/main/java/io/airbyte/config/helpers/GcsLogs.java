@@ -7,6 +7,7 @@ package io.airbyte.config.helpers;
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -15,6 +16,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -112,6 +114,27 @@ public class GcsLogs implements CloudLogs {
     return Lists.reverse(lines);
   }
 
+  @Override
+  public LogPage readCloudLogPage(final LogConfigs configs,
+                                  final String logPath,
+                                  final long cursor,
+                                  final int pageSize,
+                                  final LogPage.Direction direction)
+      throws IOException {
+    LOGGER.debug("Reading log page from GCS path: {}", logPath);
+    final Storage gcsClient = getOrCreateGcsClient();
+
+    final String bucketName = configs.getStorageConfigs().getGcsConfig().getBucketName();
+    final var ascendingTimestampKeys = new ArrayList<String>();
+    gcsClient.list(bucketName, Storage.BlobListOption.prefix(logPath))
+        .iterateAll()
+        .forEach(blob -> ascendingTimestampKeys.add(blob.getName()));
+
+    return CloudLogPager.readPage(bucketName, ascendingTimestampKeys,
+        key -> Channels.newInputStream(gcsClient.reader(BlobId.of(bucketName, key))),
+        cursor, pageSize, direction);
+  }
+
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
     LOGGER.debug("Retrieving logs from GCS path: {}", logPath);
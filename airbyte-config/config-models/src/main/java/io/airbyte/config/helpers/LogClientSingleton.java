@@ -161,6 +161,44 @@ public class LogClientSingleton {
     return logClient.tailCloudLog(logConfigs, cloudLogPath, LOG_TAIL_SIZE);
   }
 
+  /**
+   * Read one page of a job log. Unlike {@link #getJobLogFile}, any part of the log can be reached
+   * and only the requested lines are held in memory. Local logs are read through a
+   * {@link LogLineIndex} sidecar; cloud logs only fetch the objects that overlap the page.
+   *
+   * @param workerEnvironment environment of worker.
+   * @param logConfigs configuration for logs
+   * @param logPath log path
+   * @param cursor line cursor, use 0 to read from the start and {@link LogPage#END_OF_LOG} to read
+   *        backward from the end
+   * @param pageSize maximum number of lines to return
+   * @param direction whether to read the lines after or before the cursor
+   * @return page of lines
+   * @throws IOException exception while accessing logs
+   */
+  public LogPage getJobLogPage(final WorkerEnvironment workerEnvironment,
+                               final LogConfigs logConfigs,
+                               final Path logPath,
+                               final long cursor,
+                               final int pageSize,
+                               final LogPage.Direction direction)
+      throws IOException {
+    if (logPath == null || logPath.equals(Path.of("")) || pageSize <= 0) {
+      return LogPage.EMPTY;
+    }
+
+    if (shouldUseLocalLogs(workerEnvironment)) {
+      if (!logPath.toFile().exists()) {
+        return LogPage.EMPTY;
+      }
+      return LogLineIndex.open(logPath).readPage(cursor, pageSize, direction);
+    }
+
+    final var cloudLogPath = sanitisePath(JOB_LOGGING_CLOUD_PREFIX, logPath);
+    createCloudClientIfNull(logConfigs);
+    return logClient.readCloudLogPage(logConfigs, cloudLogPath, cursor, pageSize, direction);
+  }
+
   /**
    * Primarily to clean up logs after testing. Only valid for Kube logs.
    */
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Sparse line-offset index kept in a sidecar file next to a local job log (logs.log.idx).
+ * <p>
+ * The sidecar starts with a header holding the number of log bytes and complete lines that have
+ * been indexed, followed by the byte offset of every {@link #STRIDE}th line. Job logs are append
+ * only, so bringing the index up to date only scans the bytes written since the previous update.
+ * Reading any page then costs one checkpoint lookup plus at most {@link #STRIDE} skipped lines,
+ * regardless of how large the log is.
+ */
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+public class LogLineIndex {
+
+  public static final String INDEX_SUFFIX = ".idx";
+
+  @VisibleForTesting
+  static final int STRIDE = 1000;
+
+  private static final int HEADER_BYTES = 2 * Long.BYTES;
+  private static final int SCAN_BUFFER_BYTES = 64 * 1024;
+
+  /**
+   * A file lock is held by the whole JVM, so a second thread asking for it gets an
+   * OverlappingFileLockException instead of waiting. Updates of the same index within this JVM are
+   * serialized by these locks first, and the file lock only guards against other processes.
+   */
+  private static final Striped<Lock> UPDATE_LOCKS = Striped.lock(64);
+
+  private final Path logPath;
+  private final Path indexPath;
+  private long indexedBytes;
+  private long indexedLines;
+  private long logSize;
+
+  private LogLineIndex(final Path logPath) {
+    this.logPath = logPath;
+    this.indexPath = indexPathFor(logPath);
+  }
+
+  /**
+   * Open the index for a log, creating or extending the sidecar file so it covers everything
+   * currently in the log.
+   *
+   * @param logPath path of the log file
+   * @return up-to-date index
+   * @throws IOException exception while reading the log or writing the index
+   */
+  public static LogLineIndex open(final Path logPath) throws IOException {
+    final LogLineIndex index = new LogLineIndex(logPath);
+    index.update();
+    return index;
+  }
+
+  /**
+   * Get the sidecar path for a log.
+   *
+   * @param logPath path of the log file
+   * @return path of the index file
+   */
+  public static Path indexPathFor(final Path logPath) {
+    return logPath.resolveSibling(logPath.getFileName() + INDEX_SUFFIX);
+  }
+
+  /**
+   * Number of lines in the log, counting a trailing line that has not been terminated yet.
+   */
+  public long getLineCount() {
+    return indexedLines + (logSize > indexedBytes ? 1 : 0);
+  }
+
+  /**
+   * Read one page of the log.
+   *
+   * @param cursor line cursor, see {@link LogPage}
+   * @param pageSize maximum number of lines to return
+   * @param direction read direction
+   * @return page of lines
+   * @throws IOException exception while reading the log
+   */
+  public LogPage readPage(final long cursor, final int pageSize, final LogPage.Direction direction) throws IOException {
+    final long totalLines = getLineCount();
+    final long start = LogPage.pageStart(cursor, pageSize, direction, totalLines);
+    final long end = LogPage.pageEnd(cursor, pageSize, direction, totalLines);
+    return new LogPage(readLines(start, (int) (end - start)), start, end, totalLines);
+  }
+
+  @VisibleForTesting
+  List<String> readLines(final long fromLine, final int numLines) throws IOException {
+    if (numLines <= 0) {
+      return Collections.emptyList();
+    }
+
+    final long checkpoint = fromLine / STRIDE;
+    final long offset = readCheckpoint(checkpoint);
+    final List<String> lines = new ArrayList<>(numLines);
+    try (final FileChannel logChannel = FileChannel.open(logPath, StandardOpenOption.READ);
+        final BufferedReader reader = new BufferedReader(Channels.newReader(logChannel.position(offset), StandardCharsets.UTF_8))) {
+      for (long skip = fromLine - checkpoint * STRIDE; skip > 0; skip--) {
+        if (reader.readLine() == null) {
+          return lines;
+        }
+      }
+      String line = reader.readLine();
+      while (line != null && lines.size() < numLines) {
+        lines.add(line);
+        line = reader.readLine();
+      }
+    }
+    return lines;
+  }
+
+  private long readCheckpoint(final long checkpoint) throws IOException {
+    if (checkpoint == 0) {
+      return 0;
+    }
+    try (final FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+      final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+      indexChannel.read(buffer, HEADER_BYTES + checkpoint * Long.BYTES);
+      return buffer.flip().getLong();
+    }
+  }
+
+  /**
+   * Scan the bytes appended since the last update and append their checkpoints to the sidecar. If
+   * the log shrank (e.g. it was replaced), the index is rebuilt from scratch.
+   */
+  private void update() throws IOException {
+    final Lock updateLock = UPDATE_LOCKS.get(indexPath.toAbsolutePath().normalize());
+    updateLock.lock();
+    try {
+      updateWithFileLock();
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  private void updateWithFileLock() throws IOException {
+    try (final FileChannel indexChannel = FileChannel.open(indexPath,
+        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final FileLock ignored = indexChannel.lock();
+        final FileChannel logChannel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+      logSize = logChannel.size();
+      readHeader(indexChannel);
+      if (indexedBytes > logSize) {
+        indexedBytes = 0;
+        indexedLines = 0;
+        indexChannel.truncate(0);
+      }
+      if (indexedBytes == logSize) {
+        return;
+      }
+
+      final ByteBuffer checkpoints = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+      long checkpointPosition = HEADER_BYTES + (indexedLines / STRIDE + 1) * Long.BYTES;
+      final ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+      long position = indexedBytes;
+      while (position < logSize) {
+        scanBuffer.clear();
+        final int read = logChannel.read(scanBuffer, position);
+        if (read <= 0) {
+          break;
+        }
+        for (int i = 0; i < read; i++) {
+          if (scanBuffer.get(i) == '\n') {
+            indexedLines++;
+            indexedBytes = position + i + 1;
+            if (indexedLines % STRIDE == 0) {
+              if (!checkpoints.hasRemaining()) {
+                checkpointPosition += flush(indexChannel, checkpoints, checkpointPosition);
+              }
+              checkpoints.putLong(indexedBytes);
+            }
+          }
+        }
+        position += read;
+      }
+      flush(indexChannel, checkpoints, checkpointPosition);
+      writeHeader(indexChannel);
+    }
+  }
+
+  private void readHeader(final FileChannel indexChannel) throws IOException {
+    if (indexChannel.size() < HEADER_BYTES + Long.BYTES) {
+      indexedBytes = 0;
+      indexedLines = 0;
+      return;
+    }
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    indexChannel.read(header, 0);
+    header.flip();
+    indexedBytes = header.getLong();
+    indexedLines = header.getLong();
+  }
+
+  private void writeHeader(final FileChannel indexChannel) throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + Long.BYTES);
+    header.putLong(indexedBytes).putLong(indexedLines);
+    // checkpoint 0 is always the start of the file
+    header.putLong(0L);
+    indexChannel.write(header.flip(), 0);
+  }
+
+  private static int flush(final FileChannel indexChannel, final ByteBuffer checkpoints, final long position) throws IOException {
+    checkpoints.flip();
+    final int written = checkpoints.remaining();
+    while (checkpoints.hasRemaining()) {
+      indexChannel.write(checkpoints, position + written - checkpoints.remaining());
+    }
+    checkpoints.clear();
+    return written;
+  }
+
+}
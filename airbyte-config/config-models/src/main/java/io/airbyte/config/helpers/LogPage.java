@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A contiguous window of lines read from a job log. Lines are numbered from 0. The window covers
+ * [startLine, endLine), so a caller paging forward passes endLine as the next cursor and a caller
+ * paging backward passes startLine.
+ *
+ * @param lines lines in the window, in file order
+ * @param startLine line number of the first line in the window
+ * @param endLine line number after the last line in the window
+ * @param totalLines number of lines in the log at the time it was read
+ */
+public record LogPage(List<String> lines, long startLine, long endLine, long totalLines) {
+
+  public static final LogPage EMPTY = new LogPage(Collections.emptyList(), 0, 0, 0);
+
+  /**
+   * Cursor value that points past the last line of a log. Paging backward from it returns the tail.
+   */
+  public static final long END_OF_LOG = Long.MAX_VALUE;
+
+  /**
+   * Direction to read in from the cursor.
+   */
+  public enum Direction {
+    /**
+     * Read the lines starting at the cursor.
+     */
+    FORWARD,
+    /**
+     * Read the lines ending just before the cursor.
+     */
+    BACKWARD
+  }
+
+  public boolean hasPrevious() {
+    return startLine > 0;
+  }
+
+  public boolean hasNext() {
+    return endLine < totalLines;
+  }
+
+  /**
+   * Resolve the first line of a page.
+   *
+   * @param cursor line cursor supplied by the caller
+   * @param pageSize maximum number of lines in the page
+   * @param direction read direction
+   * @param totalLines number of lines in the log
+   * @return first line of the page, clamped to the log
+   */
+  static long pageStart(final long cursor, final int pageSize, final Direction direction, final long totalLines) {
+    if (direction == Direction.FORWARD) {
+      return Math.min(Math.max(cursor, 0), totalLines);
+    }
+    return Math.max(pageEnd(cursor, pageSize, direction, totalLines) - pageSize, 0);
+  }
+
+  /**
+   * Resolve the line after the last line of a page.
+   *
+   * @param cursor line cursor supplied by the caller
+   * @param pageSize maximum number of lines in the page
+   * @param direction read direction
+   * @param totalLines number of lines in the log
+   * @return line after the last line of the page, clamped to the log
+   */
+  static long pageEnd(final long cursor, final int pageSize, final Direction direction, final long totalLines) {
+    if (direction == Direction.FORWARD) {
+      final long start = pageStart(cursor, pageSize, direction, totalLines);
+      return Math.min(start + pageSize, totalLines);
+    }
+    return Math.min(Math.max(cursor, 0), totalLines);
+  }
+
+}
@@ -127,6 +127,23 @@ public class S3Logs implements CloudLogs {
     return lines;
   }
 
+  @Override
+  public LogPage readCloudLogPage(final LogConfigs configs,
+                                  final String logPath,
+                                  final long cursor,
+                                  final int pageSize,
+                                  final LogPage.Direction direction)
+      throws IOException {
+    LOGGER.debug("Reading log page from S3 path: {}", logPath);
+    final S3Client s3Client = getOrCreateS3Client();
+
+    final var s3Bucket = getBucketName(configs.getStorageConfigs());
+    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
+    return CloudLogPager.readPage(s3Bucket, ascendingTimestampKeys,
+        key -> s3Client.getObject(GetObjectRequest.builder().key(key).bucket(s3Bucket).build()),
+        cursor, pageSize, direction);
+  }
+
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
     LOGGER.debug("Deleting logs from S3 path: {}", logPath);
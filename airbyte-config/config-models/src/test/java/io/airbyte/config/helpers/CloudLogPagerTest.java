@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CloudLogPagerTest {
+
+  private static final String BUCKET = "bucket";
+  private static final Map<String, String> OBJECTS = Map.of(
+      "first-file", "Line 0\nLine 1\nLine 2\n",
+      "second-file", "Line 3\nLine 4\n",
+      "third-file", "Line 5\nLine 6\nLine 7");
+  private static final List<String> KEYS = List.of("first-file", "second-file", "third-file");
+
+  private List<String> opened;
+
+  @BeforeEach
+  void setup() {
+    CloudLogPager.resetIndex();
+    opened = new ArrayList<>();
+  }
+
+  @Test
+  void testForwardPageOnlyOpensOverlappingObjects() throws IOException {
+    // warm the line count index
+    CloudLogPager.readPage(BUCKET, KEYS, this::open, 0, 1, LogPage.Direction.FORWARD);
+    opened.clear();
+
+    final LogPage page = CloudLogPager.readPage(BUCKET, KEYS, this::open, 3, 3, LogPage.Direction.FORWARD);
+    assertEquals(List.of("Line 3", "Line 4", "Line 5"), page.lines());
+    assertEquals(3, page.startLine());
+    assertEquals(6, page.endLine());
+    assertEquals(8, page.totalLines());
+    assertEquals(List.of("second-file", "third-file"), opened);
+  }
+
+  @Test
+  void testBackwardPageFromEnd() throws IOException {
+    final LogPage page = CloudLogPager.readPage(BUCKET, KEYS, this::open, LogPage.END_OF_LOG, 4, LogPage.Direction.BACKWARD);
+    assertEquals(List.of("Line 4", "Line 5", "Line 6", "Line 7"), page.lines());
+    assertEquals(4, page.startLine());
+  }
+
+  @Test
+  void testPagePastEndIsEmpty() throws IOException {
+    final LogPage page = CloudLogPager.readPage(BUCKET, KEYS, this::open, 100, 4, LogPage.Direction.FORWARD);
+    assertEquals(List.of(), page.lines());
+    assertEquals(8, page.startLine());
+  }
+
+  @Test
+  void testCountLines() throws IOException {
+    assertEquals(0, CloudLogPager.countLines(stream("")));
+    assertEquals(1, CloudLogPager.countLines(stream("a")));
+    assertEquals(1, CloudLogPager.countLines(stream("a\n")));
+    assertEquals(2, CloudLogPager.countLines(stream("a\n\n")));
+  }
+
+  private ByteArrayInputStream open(final String key) {
+    opened.add(key);
+    return stream(OBJECTS.get(key));
+  }
+
+  private static ByteArrayInputStream stream(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -6,6 +6,8 @@ package io.airbyte.config.helpers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -40,6 +42,22 @@ class LogClientSingletonTest {
     verify(mockLogClient).tailCloudLog(any(), eq("job-logging/job/1"), eq(LogClientSingleton.LOG_TAIL_SIZE));
   }
 
+  @Test
+  void testGetJobLogPageK8s() throws IOException {
+    when(configs.getWorkerEnvironment()).thenReturn(WorkerEnvironment.KUBERNETES);
+    when(mockLogClient.readCloudLogPage(any(), any(), anyLong(), anyInt(), any())).thenReturn(LogPage.EMPTY);
+    assertEquals(LogPage.EMPTY, LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(),
+        Path.of("/job/1"), LogPage.END_OF_LOG, 100, LogPage.Direction.BACKWARD));
+    verify(mockLogClient).readCloudLogPage(any(), eq("job-logging/job/1"), eq(LogPage.END_OF_LOG), eq(100), eq(LogPage.Direction.BACKWARD));
+  }
+
+  @Test
+  void testGetJobLogPageNullPath() throws IOException {
+    assertEquals(LogPage.EMPTY, LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(),
+        null, 0, 100, LogPage.Direction.FORWARD));
+    verifyNoInteractions(mockLogClient);
+  }
+
   @Test
   void testGetJobLogFileNullPath() throws IOException {
     assertEquals(Collections.emptyList(),
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogLineIndexTest {
+
+  private static final int NUM_LINES = LogLineIndex.STRIDE * 3 + 17;
+
+  @TempDir
+  Path tempDir;
+
+  private Path logPath;
+
+  @BeforeEach
+  void setup() throws IOException {
+    logPath = tempDir.resolve(LogClientSingleton.LOG_FILENAME);
+    append(0, NUM_LINES);
+  }
+
+  @Test
+  void testForwardPages() throws IOException {
+    final LogLineIndex index = LogLineIndex.open(logPath);
+    assertEquals(NUM_LINES, index.getLineCount());
+    assertTrue(Files.exists(LogLineIndex.indexPathFor(logPath)));
+
+    final LogPage first = index.readPage(0, 10, LogPage.Direction.FORWARD);
+    assertEquals(expected(0, 10), first.lines());
+    assertFalse(first.hasPrevious());
+    assertTrue(first.hasNext());
+
+    final LogPage acrossCheckpoint = index.readPage(LogLineIndex.STRIDE * 2L - 5, 10, LogPage.Direction.FORWARD);
+    assertEquals(expected(LogLineIndex.STRIDE * 2L - 5, 10), acrossCheckpoint.lines());
+    assertEquals(LogLineIndex.STRIDE * 2L + 5, acrossCheckpoint.endLine());
+  }
+
+  @Test
+  void testBackwardPages() throws IOException {
+    final LogLineIndex index = LogLineIndex.open(logPath);
+
+    final LogPage tail = index.readPage(LogPage.END_OF_LOG, 20, LogPage.Direction.BACKWARD);
+    assertEquals(expected(NUM_LINES - 20, 20), tail.lines());
+    assertFalse(tail.hasNext());
+
+    final LogPage previous = index.readPage(tail.startLine(), 20, LogPage.Direction.BACKWARD);
+    assertEquals(expected(NUM_LINES - 40, 20), previous.lines());
+
+    final LogPage head = index.readPage(5, 20, LogPage.Direction.BACKWARD);
+    assertEquals(expected(0, 5), head.lines());
+    assertFalse(head.hasPrevious());
+  }
+
+  @Test
+  void testIndexIsExtendedAfterAppend() throws IOException {
+    LogLineIndex.open(logPath);
+    final long sizeBefore = Files.size(LogLineIndex.indexPathFor(logPath));
+
+    append(NUM_LINES, LogLineIndex.STRIDE * 2);
+    final LogLineIndex index = LogLineIndex.open(logPath);
+
+    assertEquals(NUM_LINES + LogLineIndex.STRIDE * 2L, index.getLineCount());
+    assertEquals((long) Long.BYTES * 2, Files.size(LogLineIndex.indexPathFor(logPath)) - sizeBefore);
+    assertEquals(expected(NUM_LINES + LogLineIndex.STRIDE, 3), index.readPage(NUM_LINES + LogLineIndex.STRIDE, 3, LogPage.Direction.FORWARD).lines());
+  }
+
+  @Test
+  void testUnterminatedLastLine() throws IOException {
+    Files.writeString(logPath, "partial", StandardOpenOption.APPEND);
+    final LogLineIndex index = LogLineIndex.open(logPath);
+
+    assertEquals(NUM_LINES + 1, index.getLineCount());
+    assertEquals(List.of("partial"), index.readPage(LogPage.END_OF_LOG, 1, LogPage.Direction.BACKWARD).lines());
+  }
+
+  @Test
+  void testIndexIsRebuiltWhenLogIsReplaced() throws IOException {
+    LogLineIndex.open(logPath);
+    Files.writeString(logPath, "a\nb\n");
+
+    final LogLineIndex index = LogLineIndex.open(logPath);
+    assertEquals(2, index.getLineCount());
+    assertEquals(List.of("a", "b"), index.readPage(0, 10, LogPage.Direction.FORWARD).lines());
+  }
+
+  @Test
+  void testConcurrentReadersOfTheSameLog() throws Exception {
+    final int readers = 4;
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(readers);
+    try {
+      final List<Future<LogPage>> pages = new ArrayList<>();
+      for (int i = 0; i < readers; i++) {
+        pages.add(executor.submit(() -> {
+          start.await();
+          // every open updates the index under its lock, repeat to make the readers overlap
+          LogPage page = null;
+          for (int attempt = 0; attempt < 100; attempt++) {
+            page = LogLineIndex.open(logPath).readPage(LogPage.END_OF_LOG, 10, LogPage.Direction.BACKWARD);
+          }
+          return page;
+        }));
+      }
+      start.countDown();
+      for (final Future<LogPage> page : pages) {
+        assertEquals(expected(NUM_LINES - 10, 10), page.get().lines());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void append(final long from, final long count) throws IOException {
+    final String content = LongStream.range(from, from + count).mapToObj(i -> "line " + i + "\n").collect(Collectors.joining());
+    Files.writeString(logPath, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  private static List<String> expected(final long from, final long count) {
+    return LongStream.range(from, from + count).mapToObj(i -> "line " + i).collect(Collectors.toList());
+  }
+
+}
@@ -75,6 +75,45 @@ public class ConfigRepository {
 
   }
 
+  /**
+   * Query object for listing the connections of a workspace one page at a time. Connections are
+   * ordered by name then id, so the id of the last connection of a page is enough to resume from.
+   *
+   * @param workspaceId workspace to fetch connections for
+   * @param sourceId fetch connections with this source id
+   * @param destinationId fetch connections with this destination id
+   * @param nameContains only fetch connections whose name contains this string, ignoring case
+   * @param includeDeleted include tombstoned connections
+   * @param afterConnectionId keyset cursor, i.e. the id of the last connection of the previous page
+   * @param descending order by name descending instead of ascending
+   * @param pageSize limit, null to fetch every matching connection
+   */
+  public record StandardSyncListQuery(@Nonnull UUID workspaceId,
+                                      List<UUID> sourceId,
+                                      List<UUID> destinationId,
+                                      String nameContains,
+                                      boolean includeDeleted,
+                                      UUID afterConnectionId,
+                                      boolean descending,
+                                      Integer pageSize) {
+
+  }
+
+  /**
+   * Metadata of one connector, i.e. its definition, the version to set as its default and its
+   * breaking changes. Used to write the metadata of several connectors at once.
+   *
+   * @param definition standard source or destination definition
+   * @param actorDefinitionVersion actor definition version to set as default
+   * @param breakingChangesForDefinition breaking changes for the definition
+   * @param <T> type of definition
+   */
+  public record ConnectorMetadata<T>(T definition,
+                                     ActorDefinitionVersion actorDefinitionVersion,
+                                     List<ActorDefinitionBreakingChange> breakingChangesForDefinition) {
+
+  }
+
   /**
    * Query object for paginated querying of connections in multiple workspaces.
    *
@@ -702,6 +741,29 @@ public class ConfigRepository {
     destinationService.writeConnectorMetadata(destinationDefinition, actorDefinitionVersion, List.of());
   }
 
+  /**
+   * Write metadata for several destination connectors in one transaction. Connectors in
+   * connectorMetadata get their definition, breaking changes and default version written as in
+   * {@link #writeConnectorMetadata(StandardDestinationDefinition, ActorDefinitionVersion, List)}.
+   * Definitions in updatedDefinitions must already exist and only have their global metadata
+   * written.
+   *
+   * @param connectorMetadata connectors to write the definition and default version of
+   * @param updatedDefinitions existing definitions to update, keeping their default version
+   * @throws IOException - you never know when you IO
+   */
+  @Deprecated
+  public void writeDestinationConnectorMetadata(final List<ConnectorMetadata<StandardDestinationDefinition>> connectorMetadata,
+                                                final List<StandardDestinationDefinition> updatedDefinitions)
+      throws IOException {
+    destinationService.writeConnectorMetadata(connectorMetadata.stream()
+        .map(metadata -> new io.airbyte.data.services.shared.ConnectorMetadata<>(
+            metadata.definition(),
+            metadata.actorDefinitionVersion(),
+            metadata.breakingChangesForDefinition()))
+        .toList(), updatedDefinitions);
+  }
+
   /**
    * Write metadata for a source connector. Writes global metadata (source definition, breaking
    * changes) and versioned metadata (info for actor definition version to set as default). Sets the
@@ -739,6 +801,29 @@ public class ConfigRepository {
     sourceService.writeConnectorMetadata(sourceDefinition, actorDefinitionVersion, List.of());
   }
 
+  /**
+   * Write metadata for several source connectors in one transaction. Connectors in
+   * connectorMetadata get their definition, breaking changes and default version written as in
+   * {@link #writeConnectorMetadata(StandardSourceDefinition, ActorDefinitionVersion, List)}.
+   * Definitions in updatedDefinitions must already exist and only have their global metadata
+   * written.
+   *
+   * @param connectorMetadata connectors to write the definition and default version of
+   * @param updatedDefinitions existing definitions to update, keeping their default version
+   * @throws IOException - you never know when you IO
+   */
+  @Deprecated
+  public void writeSourceConnectorMetadata(final List<ConnectorMetadata<StandardSourceDefinition>> connectorMetadata,
+                                           final List<StandardSourceDefinition> updatedDefinitions)
+      throws IOException {
+    sourceService.writeConnectorMetadata(connectorMetadata.stream()
+        .map(metadata -> new io.airbyte.data.services.shared.ConnectorMetadata<>(
+            metadata.definition(),
+            metadata.actorDefinitionVersion(),
+            metadata.breakingChangesForDefinition()))
+        .toList(), updatedDefinitions);
+  }
+
   /**
    * Write metadata for a custom destination: global metadata (destination definition) and versioned
    * metadata (actor definition version for the version to use).
@@ -1184,6 +1269,26 @@ public class ConfigRepository {
     return connectionService.listWorkspaceStandardSyncs(query);
   }
 
+  /**
+   * List connections for workspace without their catalogs, one page at a time.
+   *
+   * @param standardSyncListQuery query
+   * @return page of connections ordered by name then id
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public List<StandardSync> listWorkspaceStandardSyncsLight(final StandardSyncListQuery standardSyncListQuery) throws IOException {
+    return connectionService.listWorkspaceStandardSyncsLight(new io.airbyte.data.services.shared.StandardSyncListQuery(
+        standardSyncListQuery.workspaceId(),
+        standardSyncListQuery.sourceId(),
+        standardSyncListQuery.destinationId(),
+        standardSyncListQuery.nameContains(),
+        standardSyncListQuery.includeDeleted(),
+        standardSyncListQuery.afterConnectionId(),
+        standardSyncListQuery.descending(),
+        standardSyncListQuery.pageSize()));
+  }
+
   /**
    * List connection IDs for active syncs based on the given query.
    *
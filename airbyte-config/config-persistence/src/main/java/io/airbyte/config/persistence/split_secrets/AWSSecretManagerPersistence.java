@@ -17,6 +17,8 @@ import com.amazonaws.services.secretsmanager.model.DeleteSecretRequest;
 import com.amazonaws.services.secretsmanager.model.ResourceNotFoundException;
 import com.amazonaws.services.secretsmanager.model.UpdateSecretRequest;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,6 +39,8 @@ public class AWSSecretManagerPersistence implements SecretPersistence {
   @VisibleForTesting
   protected final SecretCache cache;
 
+  private final ParallelSecretReader parallelReader = new ParallelSecretReader("aws", ParallelSecretReader.DEFAULT_PARALLELISM);
+
   /**
    * Creates a AWSSecretManagerPersistence using the default client and region from the current AWS
    * credentials. Recommended way based on
@@ -105,6 +109,15 @@ public class AWSSecretManagerPersistence implements SecretPersistence {
     return Optional.ofNullable(secretString);
   }
 
+  /**
+   * Read the secrets concurrently through the {@link SecretCache}, the version of the SDK used here
+   * has no batch read.
+   */
+  @Override
+  public Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+    return parallelReader.readAll(coordinates, this::read);
+  }
+
   @Override
   public void write(final SecretCoordinate coordinate, final String payload) {
     checkNotNull(coordinate, "SecretCoordinate cannot be null");
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wraps a {@link SecretPersistence} with a short lived in-memory cache of secret payloads, so that
+ * hydrating the same configs over and over does not go to the backing store every time.
+ * <p>
+ * This is safe because a {@link SecretCoordinate} includes a version: updating a secret writes a new
+ * version instead of changing the payload stored at an existing coordinate. The TTL bounds how long
+ * a payload stays in memory. Secrets that were not found are never cached.
+ */
+public class CachingSecretPersistence implements SecretPersistence {
+
+  private static final long MAX_ENTRIES = 10_000;
+
+  private final SecretPersistence secretPersistence;
+  private final Cache<SecretCoordinate, String> secrets;
+
+  public CachingSecretPersistence(final SecretPersistence secretPersistence, final Duration ttl) {
+    this.secretPersistence = secretPersistence;
+    this.secrets = CacheBuilder.newBuilder()
+        .maximumSize(MAX_ENTRIES)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public void initialize() throws Exception {
+    secretPersistence.initialize();
+  }
+
+  @Override
+  public Optional<String> read(final SecretCoordinate coordinate) {
+    final String cached = secrets.getIfPresent(coordinate);
+    if (cached != null) {
+      count(OssMetricsRegistry.SECRETS_CACHE_HIT, 1);
+      return Optional.of(cached);
+    }
+    count(OssMetricsRegistry.SECRETS_CACHE_MISS, 1);
+    final Optional<String> secret = secretPersistence.read(coordinate);
+    secret.ifPresent(payload -> secrets.put(coordinate, payload));
+    return secret;
+  }
+
+  @Override
+  public Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+    final Map<SecretCoordinate, String> found = new HashMap<>();
+    final List<SecretCoordinate> missing = new ArrayList<>();
+    for (final SecretCoordinate coordinate : coordinates) {
+      final String cached = secrets.getIfPresent(coordinate);
+      if (cached != null) {
+        found.put(coordinate, cached);
+      } else {
+        missing.add(coordinate);
+      }
+    }
+    count(OssMetricsRegistry.SECRETS_CACHE_HIT, found.size());
+    count(OssMetricsRegistry.SECRETS_CACHE_MISS, missing.size());
+
+    if (!missing.isEmpty()) {
+      final Map<SecretCoordinate, String> loaded = secretPersistence.readAll(missing);
+      secrets.putAll(loaded);
+      found.putAll(loaded);
+    }
+    return found;
+  }
+
+  @Override
+  public void write(final SecretCoordinate coordinate, final String payload) {
+    secretPersistence.write(coordinate, payload);
+    secrets.put(coordinate, payload);
+  }
+
+  private void count(final OssMetricsRegistry metric, final long amount) {
+    if (amount > 0) {
+      MetricClientFactory.getMetricClient().count(metric, amount);
+    }
+  }
+
+}
@@ -21,6 +21,8 @@ import io.airbyte.commons.lang.Exceptions;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -55,6 +57,7 @@ public final class GoogleSecretManagerPersistence implements SecretPersistence {
 
   private final String gcpProjectId;
   private final Supplier<SecretManagerServiceClient> clientSupplier;
+  private final ParallelSecretReader parallelReader = new ParallelSecretReader("gsm", ParallelSecretReader.DEFAULT_PARALLELISM);
 
   private final @Nullable Duration ttl;
 
@@ -84,6 +87,22 @@ public final class GoogleSecretManagerPersistence implements SecretPersistence {
   @Override
   public Optional<String> read(final SecretCoordinate coordinate) {
     try (final var client = clientSupplier.get()) {
+      return read(client, coordinate);
+    }
+  }
+
+  /**
+   * Secret Manager has no batch read, so the secrets are read concurrently through a single client.
+   */
+  @Override
+  public Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+    try (final var client = clientSupplier.get()) {
+      return parallelReader.readAll(coordinates, coordinate -> read(client, coordinate));
+    }
+  }
+
+  private Optional<String> read(final SecretManagerServiceClient client, final SecretCoordinate coordinate) {
+    try {
       final var secretVersionName = SecretVersionName.of(gcpProjectId, coordinate.getFullCoordinate(), LATEST);
       final var response = client.accessSecretVersion(secretVersionName);
       return Optional.of(response.getPayload().getData().toStringUtf8());
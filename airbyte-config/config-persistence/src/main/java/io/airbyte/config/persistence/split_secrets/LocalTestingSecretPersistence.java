@@ -7,6 +7,10 @@ package io.airbyte.config.persistence.split_secrets;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.db.Database;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,6 +50,25 @@ public class LocalTestingSecretPersistence implements SecretPersistence {
     }));
   }
 
+  @Override
+  public Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+    if (coordinates.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final Map<String, SecretCoordinate> coordinatesByFullCoordinate = new HashMap<>();
+    coordinates.forEach(coordinate -> coordinatesByFullCoordinate.put(coordinate.getFullCoordinate(), coordinate));
+    final String placeholders = String.join(",", Collections.nCopies(coordinatesByFullCoordinate.size(), "?"));
+
+    return Exceptions.toRuntime(() -> this.configDatabase.query(ctx -> {
+      initialize();
+      final var result = ctx.fetch("SELECT coordinate, payload FROM secrets WHERE coordinate IN (" + placeholders + ");",
+          coordinatesByFullCoordinate.keySet().toArray());
+      final Map<SecretCoordinate, String> secrets = new HashMap<>();
+      result.forEach(row -> secrets.put(coordinatesByFullCoordinate.get(row.getValue(0, String.class)), row.getValue(1, String.class)));
+      return secrets;
+    }));
+  }
+
   @Override
   public void write(final SecretCoordinate coordinate, final String payload) {
     Exceptions.toRuntime(() -> this.configDatabase.query(ctx -> {
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reads several secrets concurrently for the persistences whose store has no batch read, so that
+ * hydrating a config with many secrets costs about one round trip instead of one per secret. The
+ * reads run on a bounded pool of daemon threads, idle threads are released after a minute.
+ */
+final class ParallelSecretReader {
+
+  static final int DEFAULT_PARALLELISM = 8;
+
+  private final ThreadPoolExecutor executor;
+
+  ParallelSecretReader(final String name, final int parallelism) {
+    executor = new ThreadPoolExecutor(parallelism, parallelism, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder().setNameFormat(name + "-secret-reader-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Read the secrets with at most parallelism reads in flight.
+   *
+   * @param coordinates references to secrets in the persistence
+   * @param read reads a single secret
+   * @return secret values by coordinate, coordinates that were not found are left out
+   */
+  Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates, final Function<SecretCoordinate, Optional<String>> read) {
+    final Map<SecretCoordinate, String> secrets = new HashMap<>();
+    if (coordinates.size() <= 1) {
+      coordinates.forEach(coordinate -> read.apply(coordinate).ifPresent(secret -> secrets.put(coordinate, secret)));
+      return secrets;
+    }
+
+    final Map<SecretCoordinate, Future<Optional<String>>> reads = new LinkedHashMap<>();
+    coordinates.forEach(coordinate -> reads.put(coordinate, executor.submit(() -> read.apply(coordinate))));
+    try {
+      for (final Map.Entry<SecretCoordinate, Future<Optional<String>>> entry : reads.entrySet()) {
+        entry.getValue().get().ifPresent(secret -> secrets.put(entry.getKey(), secret));
+      }
+      return secrets;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while reading secrets", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    } finally {
+      reads.values().forEach(future -> future.cancel(true));
+    }
+  }
+
+}
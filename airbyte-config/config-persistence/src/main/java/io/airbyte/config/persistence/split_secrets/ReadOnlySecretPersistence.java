@@ -4,6 +4,9 @@
 
 package io.airbyte.config.persistence.split_secrets;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -15,4 +18,19 @@ public interface ReadOnlySecretPersistence {
 
   Optional<String> read(SecretCoordinate coordinate);
 
+  /**
+   * Read several secrets at once. The default implementation reads them one at a time; persistences
+   * that can fetch many secrets in one round trip should override it.
+   *
+   * @param coordinates references to secrets in the persistence
+   * @return secret values by coordinate, coordinates that were not found are left out
+   */
+  default Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+    final Map<SecretCoordinate, String> secrets = new HashMap<>();
+    for (final SecretCoordinate coordinate : coordinates) {
+      read(coordinate).ifPresent(secret -> secrets.put(coordinate, secret));
+    }
+    return secrets;
+  }
+
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.JsonPaths;
+import io.airbyte.commons.json.Jsons;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+/**
+ * The secret paths of a connector spec, compiled once so that splitting a config does not go back
+ * to the spec and to JSONPath every time.
+ * <p>
+ * A plan holds the paths returned by {@link SecretsHelpers#getSortedSecretPaths(JsonNode)}, in the
+ * same order, each compiled into the field names and list splats it is made of. Applying a plan
+ * walks the config along those segments directly, with the matching node of the previous partial
+ * config at hand. Paths with field names that JSONPath would not read as plain dot notation are
+ * kept as JSONPath and applied with {@link JsonPaths#replaceAt}, as before.
+ * <p>
+ * Plans are cached by spec. Specs usually come from cached definition versions, so the same
+ * instance is looked up first; otherwise a spec with the same content shares the plan. Specs can be
+ * large, so plans are shared by the hash of the canonical JSON of their spec rather than by a copy
+ * of it.
+ */
+final class SecretPlan {
+
+  private static final int MAX_CACHED_PLANS = 1000;
+  private static final Pattern PLAIN_FIELD_NAME = Pattern.compile("[A-Za-z0-9_\\-]+");
+
+  // weak keys are compared by identity
+  private static final Cache<JsonNode, SecretPlan> PLANS_BY_INSTANCE = CacheBuilder.newBuilder()
+      .weakKeys()
+      .maximumSize(MAX_CACHED_PLANS)
+      .build();
+  private static final Cache<HashCode, SecretPlan> PLANS_BY_CONTENT = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_PLANS)
+      .build();
+
+  /**
+   * Replaces the secret found at a path of the config.
+   */
+  @FunctionalInterface
+  interface SecretReplacement {
+
+    /**
+     * Replacement of a secret.
+     *
+     * @param secret secret value in the full config
+     * @param persisted node at the same path in the previous partial config, null if there is none
+     * @return node that replaces the secret in the partial config
+     */
+    JsonNode replace(JsonNode secret, JsonNode persisted);
+
+  }
+
+  /**
+   * A compiled path. The segments are field names, with null standing for a list splat.
+   */
+  private record CompiledPath(String jsonPath, String[] segments) {}
+
+  private final List<String> paths;
+  private final List<CompiledPath> compiledPaths;
+
+  private SecretPlan(final List<String> paths) {
+    this.paths = paths;
+    this.compiledPaths = paths.stream().map(SecretPlan::compilePath).toList();
+  }
+
+  /**
+   * Get the plan of a spec.
+   *
+   * @param spec connector spec
+   * @return plan, compiled on the first call for a spec
+   */
+  static SecretPlan forSpec(final JsonNode spec) {
+    try {
+      return PLANS_BY_INSTANCE.get(spec, () -> PLANS_BY_CONTENT.get(contentHash(spec), () -> compile(spec)));
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed to compile the secret paths of the spec", e.getCause());
+    }
+  }
+
+  private static HashCode contentHash(final JsonNode spec) throws IOException {
+    return Jsons.canonicalJsonHash(spec, Hashing.sha256()).get(0);
+  }
+
+  @VisibleForTesting
+  static SecretPlan compile(final JsonNode spec) {
+    return new SecretPlan(SecretsHelpers.getSortedSecretPaths(spec));
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    PLANS_BY_INSTANCE.invalidateAll();
+    PLANS_BY_CONTENT.invalidateAll();
+  }
+
+  /**
+   * Secret paths of the spec, as JSONPath.
+   */
+  List<String> paths() {
+    return paths;
+  }
+
+  /**
+   * Replace every secret of a config, path after path.
+   *
+   * @param config full config, modified in place
+   * @param persistedPartialConfig previous partial config
+   * @param replacement replacement of each secret
+   * @return the config with its secrets replaced
+   */
+  JsonNode apply(final JsonNode config, final JsonNode persistedPartialConfig, final SecretReplacement replacement) {
+    JsonNode result = config;
+    for (final CompiledPath path : compiledPaths) {
+      if (path.segments() == null) {
+        result = JsonPaths.replaceAt(result, path.jsonPath(), (json, pathOfNode) -> replacement.replace(json,
+            JsonPaths.getSingleValue(persistedPartialConfig, pathOfNode).orElse(null)));
+      } else if (path.segments().length == 0) {
+        result = replacement.replace(result, persistedPartialConfig);
+      } else {
+        replaceAt(result, persistedPartialConfig, path.segments(), 0, replacement);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Walk down the remaining segments of a path, and replace the nodes found at the end of it.
+   */
+  private static void replaceAt(final JsonNode node,
+                                final JsonNode persisted,
+                                final String[] segments,
+                                final int index,
+                                final SecretReplacement replacement) {
+    final boolean last = index == segments.length - 1;
+    final String field = segments[index];
+    if (field != null) {
+      if (node instanceof ObjectNode && node.has(field)) {
+        visit((ObjectNode) node, field, childOf(persisted, field), segments, index, last, replacement);
+      }
+    } else if (node instanceof ArrayNode) {
+      for (int i = 0; i < node.size(); i++) {
+        final JsonNode persistedElement = persisted instanceof ArrayNode && i < persisted.size() ? persisted.get(i) : null;
+        if (last) {
+          ((ArrayNode) node).set(i, replacement.replace(node.get(i), persistedElement));
+        } else {
+          replaceAt(node.get(i), persistedElement, segments, index + 1, replacement);
+        }
+      }
+    } else if (node instanceof ObjectNode) {
+      // like JSONPath, a splat on an object goes through its fields
+      final List<String> fieldNames = new ArrayList<>(node.size());
+      node.fieldNames().forEachRemaining(fieldNames::add);
+      for (final String fieldName : fieldNames) {
+        visit((ObjectNode) node, fieldName, childOf(persisted, fieldName), segments, index, last, replacement);
+      }
+    }
+  }
+
+  private static void visit(final ObjectNode node,
+                            final String field,
+                            final JsonNode persisted,
+                            final String[] segments,
+                            final int index,
+                            final boolean last,
+                            final SecretReplacement replacement) {
+    if (last) {
+      node.set(field, replacement.replace(node.get(field), persisted));
+    } else {
+      replaceAt(node.get(field), persisted, segments, index + 1, replacement);
+    }
+  }
+
+  private static JsonNode childOf(final JsonNode persisted, final String field) {
+    return persisted instanceof ObjectNode ? persisted.get(field) : null;
+  }
+
+  /**
+   * Split a JSONPath made of dot notation fields and list splats, e.g. $.tunnel.keys[*].secret.
+   * Anything else is left to JSONPath.
+   */
+  private static CompiledPath compilePath(final String jsonPath) {
+    final List<String> segments = new ArrayList<>();
+    int position = 1;
+    while (position < jsonPath.length()) {
+      if (jsonPath.startsWith("[*]", position)) {
+        segments.add(null);
+        position += 3;
+      } else if (jsonPath.charAt(position) == '.') {
+        int end = position + 1;
+        while (end < jsonPath.length() && jsonPath.charAt(end) != '.' && jsonPath.charAt(end) != '[') {
+          end++;
+        }
+        final String field = jsonPath.substring(position + 1, end);
+        if (!PLAIN_FIELD_NAME.matcher(field).matches()) {
+          return new CompiledPath(jsonPath, null);
+        }
+        segments.add(field);
+        position = end;
+      } else {
+        return new CompiledPath(jsonPath, null);
+      }
+    }
+    return new CompiledPath(jsonPath, segments.toArray(new String[0]));
+  }
+
+}
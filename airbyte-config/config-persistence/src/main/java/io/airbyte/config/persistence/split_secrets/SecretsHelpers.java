@@ -15,9 +15,11 @@ import io.airbyte.commons.json.JsonSchemas;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.MoreIterators;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -152,7 +154,8 @@ public class SecretsHelpers {
 
   /**
    * Replaces {"_secret": "full_coordinate"} objects in the partial config with the string secret
-   * payloads loaded from the secret persistence at those coordinates.
+   * payloads loaded from the secret persistence at those coordinates. All the coordinates are
+   * collected first and read with a single {@link ReadOnlySecretPersistence#readAll} call.
    *
    * @param partialConfig configuration containing secret coordinates (references to secrets)
    * @param secretPersistence secret storage mechanism
@@ -160,35 +163,60 @@ public class SecretsHelpers {
    */
   public static JsonNode combineConfig(final JsonNode partialConfig, final ReadOnlySecretPersistence secretPersistence) {
     if (partialConfig != null) {
-      final var config = partialConfig.deepCopy();
-
-      // if the entire config is a secret coordinate object
-      if (config.has(COORDINATE_FIELD)) {
-        final var coordinateNode = config.get(COORDINATE_FIELD);
-        final var coordinate = getCoordinateFromTextNode(coordinateNode);
-        return new TextNode(getOrThrowSecretValue(secretPersistence, coordinate));
+      final Set<SecretCoordinate> coordinates = new HashSet<>();
+      collectCoordinates(partialConfig, coordinates);
+      if (coordinates.isEmpty()) {
+        return partialConfig.deepCopy();
       }
 
-      // otherwise iterate through all object fields
-      config.fields().forEachRemaining(field -> {
-        final var fieldName = field.getKey();
-        final var fieldNode = field.getValue();
-
-        if (fieldNode instanceof ArrayNode) {
-          for (int i = 0; i < fieldNode.size(); i++) {
-            ((ArrayNode) fieldNode).set(i, combineConfig(fieldNode.get(i), secretPersistence));
-          }
-        } else if (fieldNode instanceof ObjectNode) {
-          ((ObjectNode) config).replace(fieldName, combineConfig(fieldNode, secretPersistence));
-        }
-      });
-
-      return config;
+      final Map<SecretCoordinate, String> secrets = secretPersistence.readAll(coordinates);
+      return replaceCoordinates(partialConfig.deepCopy(), coordinate -> Optional.ofNullable(secrets.get(coordinate)));
     } else {
       return partialConfig;
     }
   }
 
+  private static void collectCoordinates(final JsonNode config, final Set<SecretCoordinate> coordinates) {
+    if (config.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(config.get(COORDINATE_FIELD)));
+      return;
+    }
+    config.fields().forEachRemaining(field -> {
+      final var fieldNode = field.getValue();
+
+      if (fieldNode instanceof ArrayNode) {
+        fieldNode.forEach(element -> collectCoordinates(element, coordinates));
+      } else if (fieldNode instanceof ObjectNode) {
+        collectCoordinates(fieldNode, coordinates);
+      }
+    });
+  }
+
+  private static JsonNode replaceCoordinates(final JsonNode config, final ReadOnlySecretPersistence secrets) {
+    // if the entire config is a secret coordinate object
+    if (config.has(COORDINATE_FIELD)) {
+      final var coordinateNode = config.get(COORDINATE_FIELD);
+      final var coordinate = getCoordinateFromTextNode(coordinateNode);
+      return new TextNode(getOrThrowSecretValue(secrets, coordinate));
+    }
+
+    // otherwise iterate through all object fields
+    config.fields().forEachRemaining(field -> {
+      final var fieldName = field.getKey();
+      final var fieldNode = field.getValue();
+
+      if (fieldNode instanceof ArrayNode) {
+        for (int i = 0; i < fieldNode.size(); i++) {
+          ((ArrayNode) fieldNode).set(i, replaceCoordinates(fieldNode.get(i), secrets));
+        }
+      } else if (fieldNode instanceof ObjectNode) {
+        ((ObjectNode) config).replace(fieldName, replaceCoordinates(fieldNode, secrets));
+      }
+    });
+
+    return config;
+  }
+
   /**
    * This returns all the unique path to the airbyte secrets based on a schema spec. The path will be
    * return in an ascending alphabetical order.
@@ -231,8 +259,7 @@ public class SecretsHelpers {
    * source or destination for the first time), the secret reader and old partial config can be set to
    * empty (see {@link SecretsHelpers#splitConfig(UUID, JsonNode, JsonNode)}).
    *
-   * IMPORTANT: This is used recursively. In the process, the partial config, full config, and spec
-   * inputs will represent internal json structures, not the entire configs/specs.
+   * The secret paths of the spec are compiled into a {@link SecretPlan} once per spec.
    *
    * @param uuidSupplier provided to allow a test case to produce known UUIDs in order for easy
    *        fixture creation
@@ -252,29 +279,25 @@ public class SecretsHelpers {
                                                         final JsonNode persistedPartialConfig,
                                                         final JsonNode newFullConfig,
                                                         final JsonNode spec) {
-    var fullConfigCopy = newFullConfig.deepCopy();
     final var secretMap = new HashMap<SecretCoordinate, String>();
 
-    final List<String> paths = getSortedSecretPaths(spec);
-    log.debug("SortedSecretPaths: {}", paths);
+    final SecretPlan plan = SecretPlan.forSpec(spec);
+    log.debug("SortedSecretPaths: {}", plan.paths());
 
-    for (final String path : paths) {
-      fullConfigCopy = JsonPaths.replaceAt(fullConfigCopy, path, (json, pathOfNode) -> {
-        final Optional<JsonNode> persistedNode = JsonPaths.getSingleValue(persistedPartialConfig, pathOfNode);
-        final SecretCoordinate coordinate = getOrCreateCoordinate(
-            secretReader,
-            workspaceId,
-            uuidSupplier,
-            json,
-            persistedNode.orElse(null));
+    final JsonNode partialConfig = plan.apply(newFullConfig.deepCopy(), persistedPartialConfig, (json, persistedNode) -> {
+      final SecretCoordinate coordinate = getOrCreateCoordinate(
+          secretReader,
+          workspaceId,
+          uuidSupplier,
+          json,
+          persistedNode);
 
-        secretMap.put(coordinate, json.asText());
+      secretMap.put(coordinate, json.asText());
 
-        return Jsons.jsonNode(Map.of(COORDINATE_FIELD, coordinate.getFullCoordinate()));
-      });
-    }
+      return Jsons.jsonNode(Map.of(COORDINATE_FIELD, coordinate.getFullCoordinate()));
+    });
 
-    return new SplitSecretConfig(fullConfigCopy, secretMap);
+    return new SplitSecretConfig(partialConfig, secretMap);
   }
 
   /**
@@ -8,7 +8,9 @@ import com.bettercloud.vault.Vault;
 import com.bettercloud.vault.VaultConfig;
 import com.bettercloud.vault.VaultException;
 import io.airbyte.commons.lang.Exceptions;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -22,6 +24,7 @@ public final class VaultSecretPersistence implements SecretPersistence {
   private static final String SECRET_KEY = "value";
   private final Vault vault;
   private final String pathPrefix;
+  private final ParallelSecretReader parallelReader = new ParallelSecretReader("vault", ParallelSecretReader.DEFAULT_PARALLELISM);
 
   public VaultSecretPersistence(final String address, final String prefix, final String token) {
     this.vault = Exceptions.toRuntime(() -> getVaultClient(address, token));
@@ -47,6 +50,14 @@ public final class VaultSecretPersistence implements SecretPersistence {
     }
   }
 
+  /**
+   * The KV engine has no batch read, so the secrets are read concurrently.
+   */
+  @Override
+  public Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+    return parallelReader.readAll(coordinates, this::read);
+  }
+
   @Override
   public void write(final SecretCoordinate coordinate, final String payload) {
     try {
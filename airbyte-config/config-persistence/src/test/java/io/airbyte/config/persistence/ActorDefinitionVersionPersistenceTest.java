@@ -290,4 +290,30 @@ class ActorDefinitionVersionPersistenceTest extends BaseConfigDatabaseTest {
     }
   }
 
+  @Test
+  void testGetActorDefinitionVersionByIdSeesSupportStateUpdate() throws IOException, ConfigNotFoundException {
+    final UUID defId = sourceDefinition.getSourceDefinitionId();
+    final UUID id = configRepository.writeActorDefinitionVersion(baseActorDefinitionVersion(defId).withSupportState(SupportState.SUPPORTED))
+        .getVersionId();
+
+    // the first read populates the cache, the update has to invalidate it
+    assertEquals(SupportState.SUPPORTED, configRepository.getActorDefinitionVersion(id).getSupportState());
+    configRepository.setActorDefinitionVersionSupportStates(List.of(id), SupportState.DEPRECATED);
+
+    assertEquals(SupportState.DEPRECATED, configRepository.getActorDefinitionVersion(id).getSupportState());
+  }
+
+  @Test
+  void testGetActorDefinitionVersionReturnsCopies() throws IOException, ConfigNotFoundException {
+    final UUID defId = sourceDefinition.getSourceDefinitionId();
+    final ActorDefinitionVersion adv = baseActorDefinitionVersion(defId);
+    final UUID id = configRepository.writeActorDefinitionVersion(adv).getVersionId();
+
+    configRepository.getActorDefinitionVersion(id).setDockerRepository("mutated by caller");
+    configRepository.getActorDefinitionVersion(defId, DOCKER_IMAGE_TAG).orElseThrow().setDockerRepository("mutated by caller");
+
+    assertEquals(adv.withVersionId(id), configRepository.getActorDefinitionVersion(id));
+    assertEquals(adv.withVersionId(id), configRepository.getActorDefinitionVersion(defId, DOCKER_IMAGE_TAG).orElseThrow());
+  }
+
 }
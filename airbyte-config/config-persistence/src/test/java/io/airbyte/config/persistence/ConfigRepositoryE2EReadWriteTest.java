@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 
+import com.google.common.hash.Hashing;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
@@ -53,6 +54,7 @@ import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.Collections;
@@ -328,6 +330,10 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
 
     final int catalogDbEntry = database.query(ctx -> ctx.selectCount().from(ACTOR_CATALOG)).fetchOne().into(int.class);
     assertEquals(1, catalogDbEntry);
+    // new catalogs are only stored compressed
+    assertEquals(1, database.query(ctx -> ctx.selectCount().from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.CATALOG.isNull())
+        .and(ACTOR_CATALOG.CATALOG_ZSTD.isNotNull())).fetchOne().into(int.class));
 
     // Writing the previous catalog with v1 data types
     configRepository.writeActorCatalogFetchEvent(expectedActorCatalog, source.getSourceId(), "1.2.0", otherConfigHash);
@@ -347,6 +353,59 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertEquals(1, catalogDbEntry2);
   }
 
+  @Test
+  void testActorCatalogLookupByDigest() throws IOException, JsonValidationException, SQLException {
+    final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
+
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withSourceType(SourceType.DATABASE)
+        .withName("sourceDefinition");
+    final ActorDefinitionVersion actorDefinitionVersion = MockData.actorDefinitionVersion()
+        .withActorDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withVersionId(sourceDefinition.getDefaultVersionId());
+    configRepository.writeConnectorMetadata(sourceDefinition, actorDefinitionVersion);
+
+    final SourceConnection source = new SourceConnection()
+        .withSourceDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withSourceId(UUID.randomUUID())
+        .withName("SomeConnector")
+        .withWorkspaceId(workspace.getWorkspaceId())
+        .withConfiguration(Jsons.deserialize("{}"));
+    configRepository.writeSourceConnectionNoSecrets(source);
+
+    final AirbyteCatalog catalog = CatalogHelpers.createAirbyteCatalog("product",
+        Field.of("label", JsonSchemaType.STRING), Field.of("size", JsonSchemaType.NUMBER),
+        Field.of("color", JsonSchemaType.STRING), Field.of("price", JsonSchemaType.NUMBER));
+
+    // a catalog stored before digests existed
+    final UUID legacyCatalogId = UUID.randomUUID();
+    database.query(ctx -> ctx.insertInto(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.ID, legacyCatalogId)
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(catalog)))
+        .set(ACTOR_CATALOG.CATALOG_HASH, "8ad32981")
+        .set(ACTOR_CATALOG.CREATED_AT, OffsetDateTime.now())
+        .set(ACTOR_CATALOG.MODIFIED_AT, OffsetDateTime.now())
+        .execute());
+
+    configRepository.writeActorCatalogFetchEvent(catalog, source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH);
+    assertEquals(legacyCatalogId, configRepository.getActorCatalog(source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH).get().getId());
+
+    final String expectedDigest = Hashing.sha256().hashString(Jsons.canonicalJsonSerialize(catalog), StandardCharsets.UTF_8).toString();
+    assertEquals(expectedDigest, database.query(ctx -> ctx.select(ACTOR_CATALOG.CATALOG_DIGEST)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.ID.eq(legacyCatalogId))
+        .fetchOne(ACTOR_CATALOG.CATALOG_DIGEST)));
+
+    // repeated discovers of the same catalog are served by the digest and never add a row
+    for (int i = 0; i < 20; i++) {
+      final String configHash = "configHash" + i;
+      configRepository.writeActorCatalogFetchEvent(catalog, source.getSourceId(), DOCKER_IMAGE_TAG, configHash);
+      assertEquals(legacyCatalogId, configRepository.getActorCatalog(source.getSourceId(), DOCKER_IMAGE_TAG, configHash).get().getId());
+    }
+    assertEquals(1, database.query(ctx -> ctx.selectCount().from(ACTOR_CATALOG)).fetchOne().into(int.class));
+  }
+
   @Test
   void testListWorkspaceStandardSyncAll() throws IOException {
     final List<StandardSync> expectedSyncs = copyWithV1Types(MockData.standardSyncs().subList(0, 4));
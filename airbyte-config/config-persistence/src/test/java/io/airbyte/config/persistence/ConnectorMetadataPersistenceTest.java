@@ -497,6 +497,45 @@ class ConnectorMetadataPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(actorDefinitionVersion1, defaultActorDefinitionVersionAfterFailedUpgrade);
   }
 
+  @Test
+  void testWriteConnectorMetadataBatchForSources() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final StandardSourceDefinition existingDefinition = createBaseSourceDef();
+    final ActorDefinitionVersion existingVersion = createBaseActorDefVersion(existingDefinition.getSourceDefinitionId());
+    configRepository.writeConnectorMetadata(existingDefinition, existingVersion);
+    final UUID existingVersionId = configRepository.getStandardSourceDefinition(existingDefinition.getSourceDefinitionId()).getDefaultVersionId();
+
+    final StandardSourceDefinition newDefinition = createBaseSourceDef();
+    final ActorDefinitionVersion newVersion = createBaseActorDefVersion(newDefinition.getSourceDefinitionId());
+    final StandardSourceDefinition updatedDefinition = Jsons.clone(existingDefinition).withName("updated name");
+
+    configRepository.writeSourceConnectorMetadata(
+        List.of(new ConfigRepository.ConnectorMetadata<>(newDefinition, newVersion, List.of())),
+        List.of(updatedDefinition));
+
+    final StandardSourceDefinition newDefinitionFromDb = configRepository.getStandardSourceDefinition(newDefinition.getSourceDefinitionId());
+    assertEquals(newVersion.getDockerImageTag(), configRepository.getActorDefinitionVersion(newDefinitionFromDb.getDefaultVersionId())
+        .getDockerImageTag());
+    final StandardSourceDefinition updatedDefinitionFromDb = configRepository.getStandardSourceDefinition(existingDefinition.getSourceDefinitionId());
+    assertEquals("updated name", updatedDefinitionFromDb.getName());
+    assertEquals(existingVersionId, updatedDefinitionFromDb.getDefaultVersionId());
+
+    // a failure anywhere in the batch rolls back the whole batch
+    final StandardSourceDefinition anotherNewDefinition = createBaseSourceDef();
+    final ActorDefinitionVersion invalidVersion = createBaseActorDefVersion(existingDefinition.getSourceDefinitionId()).withDockerImageTag("1.0");
+    final List<ActorDefinitionBreakingChange> breakingChanges =
+        List.of(MockData.actorDefinitionBreakingChange("1.0.0").withActorDefinitionId(existingDefinition.getSourceDefinitionId()));
+    assertThrows(IllegalArgumentException.class, () -> configRepository.writeSourceConnectorMetadata(
+        List.of(
+            new ConfigRepository.ConnectorMetadata<>(anotherNewDefinition,
+                createBaseActorDefVersion(anotherNewDefinition.getSourceDefinitionId()), List.of()),
+            new ConfigRepository.ConnectorMetadata<>(updatedDefinition, invalidVersion, breakingChanges)),
+        List.of()));
+
+    assertThrows(ConfigNotFoundException.class, () -> configRepository.getStandardSourceDefinition(anotherNewDefinition.getSourceDefinitionId()));
+    assertEquals(existingVersionId,
+        configRepository.getStandardSourceDefinition(existingDefinition.getSourceDefinitionId()).getDefaultVersionId());
+  }
+
   private static StandardSourceDefinition createBaseSourceDef() {
     final UUID id = UUID.randomUUID();
 
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -358,6 +359,41 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(activeSyncsForDestination1.get(0), sync1.getConnectionId());
   }
 
+  @Test
+  void testListWorkspaceStandardSyncsLight() throws JsonValidationException, IOException {
+    createBaseObjects();
+
+    final StandardSync syncA = createStandardSync(source1, destination1).withName("a-sync");
+    standardSyncPersistence.writeStandardSync(syncA);
+    final StandardSync syncB = createStandardSync(source1, destination2).withName("b-sync");
+    standardSyncPersistence.writeStandardSync(syncB);
+    final StandardSync syncC = createStandardSync(source2, destination2).withName("c-other");
+    standardSyncPersistence.writeStandardSync(syncC);
+    final StandardSync syncDeprecated = createStandardSync(source1, destination1).withName("d-sync");
+    standardSyncPersistence.writeStandardSync(syncDeprecated.withStatus(Status.DEPRECATED));
+
+    final List<StandardSync> firstPage = configRepository.listWorkspaceStandardSyncsLight(
+        new ConfigRepository.StandardSyncListQuery(workspaceId, null, null, null, false, null, false, 2));
+    assertEquals(List.of(syncA.getConnectionId(), syncB.getConnectionId()), firstPage.stream().map(StandardSync::getConnectionId).toList());
+    assertEquals("a-sync", firstPage.get(0).getName());
+    assertEquals(Status.ACTIVE, firstPage.get(0).getStatus());
+    assertEquals(source1.getSourceId(), firstPage.get(0).getSourceId());
+    assertNull(firstPage.get(0).getCatalog());
+
+    final List<StandardSync> secondPage = configRepository.listWorkspaceStandardSyncsLight(
+        new ConfigRepository.StandardSyncListQuery(workspaceId, null, null, null, false, syncB.getConnectionId(), false, 2));
+    assertEquals(List.of(syncC.getConnectionId()), secondPage.stream().map(StandardSync::getConnectionId).toList());
+
+    final List<StandardSync> descendingPage = configRepository.listWorkspaceStandardSyncsLight(
+        new ConfigRepository.StandardSyncListQuery(workspaceId, null, null, null, true, syncC.getConnectionId(), true, null));
+    assertEquals(List.of(syncB.getConnectionId(), syncA.getConnectionId()), descendingPage.stream().map(StandardSync::getConnectionId).toList());
+
+    final List<StandardSync> filtered = configRepository.listWorkspaceStandardSyncsLight(
+        new ConfigRepository.StandardSyncListQuery(workspaceId, List.of(source1.getSourceId()), null, "SYNC", true, null, false, null));
+    assertEquals(List.of(syncA.getConnectionId(), syncB.getConnectionId(), syncDeprecated.getConnectionId()),
+        filtered.stream().map(StandardSync::getConnectionId).toList());
+  }
+
   @Test
   void testDisableConnectionsById() throws IOException, JsonValidationException, ConfigNotFoundException {
     createBaseObjects();
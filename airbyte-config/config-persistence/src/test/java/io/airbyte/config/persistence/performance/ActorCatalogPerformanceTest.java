@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.performance;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG;
+
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.ActorDefinitionVersion;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSourceDefinition.SourceType;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.persistence.MockData;
+import io.airbyte.data.services.impls.jooq.CatalogServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.SourceServiceJooqImpl;
+import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
+import io.airbyte.db.Database;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.test.utils.Databases;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.jooq.JSONB;
+import org.jooq.SQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PerformanceTest for a source discovering the same catalog over and over, against a Postgres test
+ * container. A catalog stored before digests existed is found through its murmur3 hash, which reads
+ * and deserializes the stored catalog to compare it, while every other catalog is found by the
+ * digest of its canonical JSON without reading the stored catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActorCatalogPerformanceTest {
+
+  private static final String CONNECTOR_VERSION = "1.0.0";
+  private static final String CONFIG_HASH = "configHash";
+
+  @Param({"10", "200"})
+  public int streams;
+
+  private PostgreSQLContainer<?> container;
+  private DataSource dataSource;
+  private Database database;
+  private CatalogServiceJooqImpl catalogService;
+  private UUID sourceId;
+  private AirbyteCatalog catalog;
+  private AirbyteCatalog legacyCatalog;
+  private UUID legacyCatalogId;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    container = new PostgreSQLContainer<>("postgres:13-alpine")
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker");
+    container.start();
+    dataSource = Databases.createDataSource(container);
+    database = new TestDatabaseProviders(dataSource, DSLContextFactory.create(dataSource, SQLDialect.POSTGRES)).createNewConfigsDatabase();
+    catalogService = new CatalogServiceJooqImpl(database);
+
+    final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
+    new WorkspaceServiceJooqImpl(database).writeStandardWorkspaceNoSecrets(workspace);
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withSourceType(SourceType.DATABASE)
+        .withName("sourceDefinition");
+    final ActorDefinitionVersion actorDefinitionVersion = MockData.actorDefinitionVersion()
+        .withActorDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withVersionId(sourceDefinition.getDefaultVersionId());
+    final SourceServiceJooqImpl sourceService = new SourceServiceJooqImpl(database);
+    sourceService.writeConnectorMetadata(sourceDefinition, actorDefinitionVersion, Collections.emptyList());
+    sourceId = UUID.randomUUID();
+    sourceService.writeSourceConnectionNoSecrets(new SourceConnection()
+        .withSourceDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withSourceId(sourceId)
+        .withName("source")
+        .withWorkspaceId(workspace.getWorkspaceId())
+        .withConfiguration(Jsons.emptyObject()));
+
+    catalog = catalog("stream_");
+    catalogService.writeActorCatalogFetchEvent(catalog, sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+
+    // stored the way catalogs were stored before digests existed
+    legacyCatalog = catalog("legacy_stream_");
+    legacyCatalogId = UUID.randomUUID();
+    final String legacyCatalogJson = Jsons.serialize(legacyCatalog);
+    database.query(ctx -> ctx.insertInto(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.ID, legacyCatalogId)
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(legacyCatalogJson))
+        .set(ACTOR_CATALOG.CATALOG_HASH, Hashing.murmur3_32_fixed().hashString(legacyCatalogJson, StandardCharsets.UTF_8).toString())
+        .set(ACTOR_CATALOG.CREATED_AT, OffsetDateTime.now())
+        .set(ACTOR_CATALOG.MODIFIED_AT, OffsetDateTime.now())
+        .execute());
+  }
+
+  private AirbyteCatalog catalog(final String streamPrefix) {
+    return new AirbyteCatalog().withStreams(IntStream.range(0, streams)
+        .mapToObj(i -> CatalogHelpers.createAirbyteStream(streamPrefix + i,
+            Field.of("id", JsonSchemaType.INTEGER),
+            Field.of("name", JsonSchemaType.STRING),
+            Field.of("price", JsonSchemaType.NUMBER)))
+        .toList());
+  }
+
+  /**
+   * The lookup backfills the digest of the legacy catalog, so it is cleared again before every
+   * lookup.
+   */
+  @Setup(Level.Invocation)
+  public void clearLegacyDigest() throws Exception {
+    database.query(ctx -> ctx.update(ACTOR_CATALOG)
+        .setNull(ACTOR_CATALOG.CATALOG_DIGEST)
+        .where(ACTOR_CATALOG.ID.eq(legacyCatalogId))
+        .execute());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    DataSourceFactory.close(dataSource);
+    container.close();
+  }
+
+  @Benchmark
+  public UUID digestLookup() throws Exception {
+    return catalogService.writeActorCatalogFetchEvent(catalog, sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+  }
+
+  @Benchmark
+  public UUID murmur3Lookup() throws Exception {
+    return catalogService.writeActorCatalogFetchEvent(legacyCatalog, sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ActorCatalogPerformanceTest.class.getName()).build()).run();
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingSecretPersistenceTest {
+
+  private static final SecretCoordinate COORDINATE_V1 = new SecretCoordinate("airbyte_workspace_123_secret_abc", 1);
+  private static final SecretCoordinate COORDINATE_V2 = new SecretCoordinate("airbyte_workspace_123_secret_abc", 2);
+  private static final SecretCoordinate MISSING_COORDINATE = new SecretCoordinate("airbyte_workspace_123_secret_def", 1);
+
+  private CountingSecretPersistence backingPersistence;
+  private CachingSecretPersistence cachingPersistence;
+
+  @BeforeEach
+  void setup() {
+    backingPersistence = new CountingSecretPersistence();
+    backingPersistence.write(COORDINATE_V1, "first");
+    backingPersistence.write(COORDINATE_V2, "second");
+    cachingPersistence = new CachingSecretPersistence(backingPersistence, Duration.ofMinutes(1));
+  }
+
+  @Test
+  void testReadIsServedFromCache() {
+    assertEquals(Optional.of("first"), cachingPersistence.read(COORDINATE_V1));
+    assertEquals(Optional.of("first"), cachingPersistence.read(COORDINATE_V1));
+    assertEquals(List.of(COORDINATE_V1), backingPersistence.reads);
+
+    // a new version is a different coordinate, so it is never served a stale payload
+    assertEquals(Optional.of("second"), cachingPersistence.read(COORDINATE_V2));
+    assertEquals(List.of(COORDINATE_V1, COORDINATE_V2), backingPersistence.reads);
+  }
+
+  @Test
+  void testMissingSecretsAreNotCached() {
+    assertTrue(cachingPersistence.read(MISSING_COORDINATE).isEmpty());
+    backingPersistence.write(MISSING_COORDINATE, "late");
+    assertEquals(Optional.of("late"), cachingPersistence.read(MISSING_COORDINATE));
+  }
+
+  @Test
+  void testReadAllOnlyFetchesMisses() {
+    cachingPersistence.read(COORDINATE_V1);
+
+    final Map<SecretCoordinate, String> secrets = cachingPersistence.readAll(List.of(COORDINATE_V1, COORDINATE_V2, MISSING_COORDINATE));
+
+    assertEquals(Map.of(COORDINATE_V1, "first", COORDINATE_V2, "second"), secrets);
+    assertEquals(List.of(List.of(COORDINATE_V2, MISSING_COORDINATE)), backingPersistence.bulkReads);
+
+    cachingPersistence.readAll(List.of(COORDINATE_V1, COORDINATE_V2));
+    assertEquals(1, backingPersistence.bulkReads.size());
+  }
+
+  @Test
+  void testHydrationUsesCache() {
+    final var hydrator = new RealSecretsHydrator(cachingPersistence);
+    final var partialConfig = Jsons.jsonNode(Map.of(
+        "password", Map.of(SecretsHelpers.COORDINATE_FIELD, COORDINATE_V2.getFullCoordinate())));
+    final var fullConfig = Jsons.jsonNode(Map.of("password", "second"));
+
+    assertEquals(fullConfig, hydrator.hydrate(partialConfig));
+    assertEquals(fullConfig, hydrator.hydrate(partialConfig));
+    assertEquals(1, backingPersistence.bulkReads.size());
+    assertTrue(backingPersistence.reads.isEmpty());
+  }
+
+  /**
+   * Records the reads that reach the backing store.
+   */
+  private static class CountingSecretPersistence extends MemorySecretPersistence {
+
+    private final List<SecretCoordinate> reads = new ArrayList<>();
+    private final List<List<SecretCoordinate>> bulkReads = new ArrayList<>();
+
+    @Override
+    public Optional<String> read(final SecretCoordinate coordinate) {
+      reads.add(coordinate);
+      return super.read(coordinate);
+    }
+
+    @Override
+    public Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+      bulkReads.add(List.copyOf(coordinates));
+      return Map.copyOf(coordinates.stream()
+          .filter(secretMap::containsKey)
+          .collect(Collectors.toMap(Function.identity(), secretMap::get)));
+    }
+
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.JsonPaths;
+import io.airbyte.commons.json.Jsons;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Splits the secrets out of a config by evaluating the JSONPath of every secret of the spec, as
+ * SecretsHelpers did before {@link SecretPlan}.
+ */
+public final class LegacySecretSplitter {
+
+  private LegacySecretSplitter() {}
+
+  public static SplitSecretConfig split(final Supplier<UUID> uuidSupplier,
+                                        final UUID workspaceId,
+                                        final ReadOnlySecretPersistence secretReader,
+                                        final JsonNode persistedPartialConfig,
+                                        final JsonNode newFullConfig,
+                                        final JsonNode spec) {
+    var fullConfigCopy = newFullConfig.deepCopy();
+    final var secretMap = new HashMap<SecretCoordinate, String>();
+
+    final List<String> paths = SecretsHelpers.getSortedSecretPaths(spec);
+
+    for (final String path : paths) {
+      fullConfigCopy = JsonPaths.replaceAt(fullConfigCopy, path, (json, pathOfNode) -> {
+        final Optional<JsonNode> persistedNode = JsonPaths.getSingleValue(persistedPartialConfig, pathOfNode);
+        final String existingCoordinate = persistedNode
+            .filter(node -> node.has(SecretsHelpers.COORDINATE_FIELD))
+            .map(node -> node.get(SecretsHelpers.COORDINATE_FIELD).asText())
+            .orElse(null);
+        final SecretCoordinate coordinate = SecretsHelpers.getCoordinate(json.asText(), secretReader, workspaceId, uuidSupplier, existingCoordinate);
+
+        secretMap.put(coordinate, json.asText());
+
+        return Jsons.jsonNode(Map.of(SecretsHelpers.COORDINATE_FIELD, coordinate.getFullCoordinate()));
+      });
+    }
+
+    return new SplitSecretConfig(fullConfigCopy, secretMap);
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.constants.AirbyteSecretConstants;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates connector specs with nested objects, arrays and oneOf branches holding secrets, and
+ * configs for them.
+ */
+public final class NestedSecretSpecs {
+
+  private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+  private NestedSecretSpecs() {}
+
+  /**
+   * Generate a spec.
+   *
+   * @param random source of randomness
+   * @param depth levels of nested objects
+   * @param width properties per object
+   * @return spec of an object
+   */
+  public static ObjectNode spec(final Random random, final int depth, final int width) {
+    final ObjectNode properties = FACTORY.objectNode();
+    for (int i = 0; i < width; i++) {
+      properties.set("field_" + i, property(random, depth, width));
+    }
+    final ObjectNode spec = FACTORY.objectNode();
+    spec.put("type", "object");
+    spec.set("properties", properties);
+    return spec;
+  }
+
+  private static ObjectNode property(final Random random, final int depth, final int width) {
+    final int kind = depth > 0 ? random.nextInt(6) : random.nextInt(2);
+    final ObjectNode property = FACTORY.objectNode();
+    switch (kind) {
+      case 0 -> property.put("type", "string");
+      case 1 -> {
+        property.put("type", "string");
+        property.put(AirbyteSecretConstants.AIRBYTE_SECRET_FIELD, true);
+      }
+      case 2, 3 -> {
+        return spec(random, depth - 1, width);
+      }
+      case 4 -> {
+        property.put("type", "array");
+        property.set("items", random.nextBoolean() ? property(random, 0, width) : spec(random, depth - 1, width));
+      }
+      default -> {
+        final ArrayNode oneOf = FACTORY.arrayNode();
+        final int branches = 2 + random.nextInt(2);
+        for (int i = 0; i < branches; i++) {
+          oneOf.add(spec(random, depth - 1, width));
+        }
+        property.put("type", "object");
+        property.set("oneOf", oneOf);
+      }
+    }
+    return property;
+  }
+
+  /**
+   * Generate a config for a spec. Fields are sometimes missing, null or of another type, and a
+   * oneOf is filled from one of its branches.
+   *
+   * @param random source of randomness
+   * @param spec spec generated by {@link #spec(Random, int, int)}
+   * @return config
+   */
+  public static JsonNode config(final Random random, final JsonNode spec) {
+    if (spec.has("oneOf")) {
+      return config(random, spec.get("oneOf").get(random.nextInt(spec.get("oneOf").size())));
+    }
+    switch (spec.get("type").asText()) {
+      case "object" -> {
+        final ObjectNode config = FACTORY.objectNode();
+        final Iterator<Map.Entry<String, JsonNode>> properties = spec.get("properties").fields();
+        while (properties.hasNext()) {
+          final Map.Entry<String, JsonNode> property = properties.next();
+          final int roll = random.nextInt(20);
+          if (roll == 0) {
+            continue;
+          } else if (roll == 1) {
+            config.putNull(property.getKey());
+          } else if (roll == 2) {
+            config.put(property.getKey(), random.nextInt(1000));
+          } else {
+            config.set(property.getKey(), config(random, property.getValue()));
+          }
+        }
+        return config;
+      }
+      case "array" -> {
+        final ArrayNode config = FACTORY.arrayNode();
+        final int size = random.nextInt(4);
+        for (int i = 0; i < size; i++) {
+          config.add(config(random, spec.get("items")));
+        }
+        return config;
+      }
+      default -> {
+        return FACTORY.textNode("value-" + random.nextInt(3));
+      }
+    }
+  }
+
+}
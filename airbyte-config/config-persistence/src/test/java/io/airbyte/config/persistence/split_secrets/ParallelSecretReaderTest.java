@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ParallelSecretReaderTest {
+
+  private static final int PARALLELISM = 3;
+
+  private final ParallelSecretReader reader = new ParallelSecretReader("test", PARALLELISM);
+
+  @Test
+  void testReadAllLeavesOutMissingSecrets() {
+    final SecretCoordinate found = new SecretCoordinate("airbyte_workspace_123_secret_abc", 1);
+    final SecretCoordinate missing = new SecretCoordinate("airbyte_workspace_123_secret_def", 1);
+
+    assertEquals(Map.of(found, "abc"),
+        reader.readAll(List.of(found, missing), coordinate -> coordinate.equals(found) ? Optional.of("abc") : Optional.empty()));
+  }
+
+  @Test
+  void testReadsRunConcurrentlyUpToTheParallelism() {
+    final List<SecretCoordinate> coordinates = IntStream.range(0, 10)
+        .mapToObj(i -> new SecretCoordinate("airbyte_workspace_123_secret_" + i, 1))
+        .collect(Collectors.toList());
+    final CountDownLatch allReading = new CountDownLatch(PARALLELISM);
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    final Map<SecretCoordinate, String> secrets = reader.readAll(coordinates, coordinate -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      allReading.countDown();
+      try {
+        // the first reads only finish once as many reads as the parallelism are in flight
+        assertTrue(allReading.await(10, TimeUnit.SECONDS));
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      inFlight.decrementAndGet();
+      return Optional.of(coordinate.getCoordinateBase());
+    });
+
+    assertEquals(coordinates.size(), secrets.size());
+    assertEquals(PARALLELISM, maxInFlight.get());
+  }
+
+  @Test
+  void testReadFailuresAreRethrown() {
+    final List<SecretCoordinate> coordinates = List.of(
+        new SecretCoordinate("airbyte_workspace_123_secret_abc", 1),
+        new SecretCoordinate("airbyte_workspace_123_secret_def", 1));
+
+    final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> reader.readAll(coordinates, coordinate -> {
+      throw new IllegalStateException("unreachable");
+    }));
+    assertEquals("unreachable", exception.getMessage());
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.persistence.split_secrets.test_cases.ArrayOneOfTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.ArrayTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.NestedObjectTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.NestedOneOfTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.OneOfSecretTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.OneOfTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.OptionalPasswordTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.PostgresSshKeyTestCase;
+import io.airbyte.config.persistence.split_secrets.test_cases.SimpleTestCase;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@SuppressWarnings("PMD.UnusedPrivateMethod")
+class SecretPlanTest {
+
+  private static final UUID WORKSPACE_ID = UUID.fromString("e0eb0554-ffe0-4e9c-9dc0-ed7f52023eb2");
+
+  private static Stream<Arguments> provideTestCases() {
+    return Stream.of(
+        new OptionalPasswordTestCase(),
+        new SimpleTestCase(),
+        new NestedObjectTestCase(),
+        new OneOfTestCase(),
+        new OneOfSecretTestCase(),
+        new ArrayTestCase(),
+        new ArrayOneOfTestCase(),
+        new NestedOneOfTestCase(),
+        new PostgresSshKeyTestCase()).map(Arguments::of);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecretPlan.invalidateAll();
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideTestCases")
+  void testMatchesJsonPathSplittingOnTestCases(final SecretsTestCase testCase) {
+    final JsonNode spec = testCase.getSpec().getConnectionSpecification();
+    final MemorySecretPersistence secretPersistence = new MemorySecretPersistence();
+    for (final Map.Entry<SecretCoordinate, String> entry : testCase.getFirstSecretMap().entrySet()) {
+      secretPersistence.write(entry.getKey(), entry.getValue());
+    }
+
+    assertSameSplit(secretPersistence, Jsons.emptyObject(), testCase.getFullConfig(), spec);
+    assertSameSplit(secretPersistence, testCase.getPartialConfig(), testCase.getUpdateConfig(), spec);
+  }
+
+  @Test
+  void testMatchesJsonPathSplittingOnGeneratedSpecs() {
+    final Random random = new Random(3);
+    for (int i = 0; i < 200; i++) {
+      final JsonNode spec = NestedSecretSpecs.spec(random, 3, 3);
+      final JsonNode fullConfig = NestedSecretSpecs.config(random, spec);
+      final JsonNode updateConfig = NestedSecretSpecs.config(random, spec);
+
+      final MemorySecretPersistence secretPersistence = new MemorySecretPersistence();
+      final SplitSecretConfig firstSplit =
+          LegacySecretSplitter.split(sequentialUuids(), WORKSPACE_ID, secretPersistence, Jsons.emptyObject(), fullConfig, spec);
+      firstSplit.getCoordinateToPayload().forEach(secretPersistence::write);
+
+      assertSameSplit(secretPersistence, Jsons.emptyObject(), fullConfig, spec);
+      assertSameSplit(secretPersistence, firstSplit.getPartialConfig(), updateConfig, spec);
+      assertSameSplit(secretPersistence, firstSplit.getPartialConfig(), fullConfig, spec);
+    }
+  }
+
+  @Test
+  void testPlansAreCachedBySpec() {
+    final JsonNode spec = new NestedOneOfTestCase().getSpec().getConnectionSpecification();
+
+    final SecretPlan plan = SecretPlan.forSpec(spec);
+    assertSame(plan, SecretPlan.forSpec(spec));
+    // a spec with the same content, e.g. read again from the database
+    assertSame(plan, SecretPlan.forSpec(spec.deepCopy()));
+    assertEquals(SecretsHelpers.getSortedSecretPaths(spec), plan.paths());
+
+    SecretPlan.invalidateAll();
+    assertNotSame(plan, SecretPlan.forSpec(spec));
+  }
+
+  private static void assertSameSplit(final ReadOnlySecretPersistence secretPersistence,
+                                      final JsonNode persistedPartialConfig,
+                                      final JsonNode fullConfig,
+                                      final JsonNode spec) {
+    final JsonNode fullConfigCopy = fullConfig.deepCopy();
+    final JsonNode persistedPartialConfigCopy = persistedPartialConfig.deepCopy();
+
+    final SplitSecretConfig expected =
+        LegacySecretSplitter.split(sequentialUuids(), WORKSPACE_ID, secretPersistence, persistedPartialConfig, fullConfig, spec);
+    final SplitSecretConfig actual =
+        SecretsHelpers.internalSplitAndUpdateConfig(sequentialUuids(), WORKSPACE_ID, secretPersistence, persistedPartialConfig, fullConfig, spec);
+
+    assertEquals(expected.getPartialConfig(), actual.getPartialConfig());
+    assertEquals(expected.getCoordinateToPayload(), actual.getCoordinateToPayload());
+    // the inputs are not modified
+    assertEquals(fullConfigCopy, fullConfig);
+    assertEquals(persistedPartialConfigCopy, persistedPartialConfig);
+  }
+
+  private static Supplier<UUID> sequentialUuids() {
+    final AtomicLong counter = new AtomicLong();
+    return () -> new UUID(0, counter.incrementAndGet());
+  }
+
+}
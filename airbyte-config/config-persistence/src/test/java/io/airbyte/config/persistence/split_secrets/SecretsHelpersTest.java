@@ -24,10 +24,15 @@ import io.airbyte.config.persistence.split_secrets.test_cases.SimpleTestCase;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -161,6 +166,35 @@ public class SecretsHelpersTest {
     assertEquals(inputPartialConfigCopy, inputPartialConfig);
   }
 
+  @ParameterizedTest
+  @MethodSource(PROVIDE_TEST_CASES)
+  void testCombineReadsSecretsInOneBatch(final SecretsTestCase testCase) {
+    final AtomicInteger singleReads = new AtomicInteger();
+    final AtomicInteger bulkReads = new AtomicInteger();
+    final var secretPersistence = new MemorySecretPersistence() {
+
+      @Override
+      public Optional<String> read(final SecretCoordinate coordinate) {
+        singleReads.incrementAndGet();
+        return super.read(coordinate);
+      }
+
+      @Override
+      public Map<SecretCoordinate, String> readAll(final Collection<SecretCoordinate> coordinates) {
+        bulkReads.incrementAndGet();
+        return coordinates.stream()
+            .filter(secretMap::containsKey)
+            .collect(Collectors.toMap(Function.identity(), secretMap::get));
+      }
+
+    };
+    testCase.getPersistenceUpdater().accept(secretPersistence);
+
+    assertEquals(testCase.getFullConfig(), SecretsHelpers.combineConfig(testCase.getPartialConfig(), secretPersistence));
+    assertEquals(0, singleReads.get());
+    assertEquals(secretPersistence.getMap().isEmpty() ? 0 : 1, bulkReads.get());
+  }
+
   @Test
   void testCombineNullPartialConfig() {
     final var secretPersistence = new MemorySecretPersistence();
@@ -7,6 +7,8 @@ package io.airbyte.config.persistence.split_secrets;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
+import java.util.Map;
 import lombok.val;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -61,4 +63,15 @@ class VaultSecretPersistenceTest {
     assertEquals(secondPayload, thirdRead.get());
   }
 
+  @Test
+  void testReadAll() {
+    val coordinate1 = new SecretCoordinate(baseCoordinate, 1);
+    val coordinate2 = new SecretCoordinate(baseCoordinate, 2);
+    val missingCoordinate = new SecretCoordinate(baseCoordinate, 3);
+    persistence.write(coordinate1, "abc");
+    persistence.write(coordinate2, "def");
+
+    assertEquals(Map.of(coordinate1, "abc", coordinate2, "def"), persistence.readAll(List.of(coordinate1, coordinate2, missingCoordinate)));
+  }
+
 }
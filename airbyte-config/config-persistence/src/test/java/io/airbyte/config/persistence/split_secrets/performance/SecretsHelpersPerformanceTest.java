@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.persistence.split_secrets.LegacySecretSplitter;
+import io.airbyte.config.persistence.split_secrets.MemorySecretPersistence;
+import io.airbyte.config.persistence.split_secrets.NestedSecretSpecs;
+import io.airbyte.config.persistence.split_secrets.SecretsHelpers;
+import io.airbyte.config.persistence.split_secrets.SplitSecretConfig;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PerformanceTest for splitting the secrets out of the config of a deeply nested spec full of oneOf
+ * branches, on creation and on update. The JSONPath based splitting walks the config once per
+ * secret path of the spec, while the secret plan of the spec is compiled once and then walks the
+ * config a single time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecretsHelpersPerformanceTest {
+
+  private static final UUID WORKSPACE_ID = UUID.randomUUID();
+
+  @Param({"2", "4"})
+  public int depth;
+
+  private JsonNode spec;
+  private JsonNode fullConfig;
+  private JsonNode partialConfig;
+  private MemorySecretPersistence secretPersistence;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final Random random = new Random(42);
+    spec = NestedSecretSpecs.spec(random, depth, 4);
+    fullConfig = NestedSecretSpecs.config(random, spec);
+    secretPersistence = new MemorySecretPersistence();
+    final SplitSecretConfig split = SecretsHelpers.splitConfig(WORKSPACE_ID, fullConfig, spec);
+    split.getCoordinateToPayload().forEach(secretPersistence::write);
+    partialConfig = split.getPartialConfig();
+  }
+
+  @Benchmark
+  public SplitSecretConfig jsonPathSplit() {
+    return LegacySecretSplitter.split(UUID::randomUUID, WORKSPACE_ID, secretPersistence, Jsons.emptyObject(), fullConfig, spec);
+  }
+
+  @Benchmark
+  public SplitSecretConfig planSplit() {
+    return SecretsHelpers.splitConfig(WORKSPACE_ID, fullConfig, spec);
+  }
+
+  @Benchmark
+  public SplitSecretConfig jsonPathSplitAndUpdate() {
+    return LegacySecretSplitter.split(UUID::randomUUID, WORKSPACE_ID, secretPersistence, partialConfig, fullConfig, spec);
+  }
+
+  @Benchmark
+  public SplitSecretConfig planSplitAndUpdate() {
+    return SecretsHelpers.splitAndUpdateConfig(WORKSPACE_ID, partialConfig, fullConfig, spec, secretPersistence);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SecretsHelpersPerformanceTest.class.getName()).build()).run();
+  }
+
+}
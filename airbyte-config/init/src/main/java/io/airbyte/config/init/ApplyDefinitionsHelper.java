@@ -6,6 +6,8 @@ package io.airbyte.config.init;
 
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.config.ActorDefinitionBreakingChange;
@@ -17,16 +19,23 @@ import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.helpers.ConnectorRegistryConverters;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.ConnectorMetadata;
 import io.airbyte.config.specs.DefinitionsProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.RunSupportStateUpdater;
 import io.airbyte.featureflag.Workspace;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.validation.json.JsonValidationException;
 import io.micronaut.context.annotation.Requires;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -53,8 +62,35 @@ public class ApplyDefinitionsHelper {
   private final SupportStateUpdater supportStateUpdater;
   private int newConnectorCount;
   private int changedConnectorCount;
+  private int updatedDefinitionCount;
+  private int unchangedDefinitionCount;
+  private AppliedRegistry lastAppliedRegistry;
+  // fingerprint of the definition this process last wrote, by definition id
+  private final Map<UUID, String> appliedDefinitionFingerprints = new HashMap<>();
   private static final Logger LOGGER = LoggerFactory.getLogger(ApplyDefinitionsHelper.class);
 
+  /**
+   * Everything the outcome of {@link #apply(boolean)} depends on, apart from which connectors are in
+   * use. The date is included because support states move with upgrade deadlines, and so that
+   * connectors that are no longer in use get updated at least once a day.
+   */
+  private record AppliedRegistry(String registryRevision,
+                                 Optional<AirbyteProtocolVersionRange> protocolRange,
+                                 boolean updateAll,
+                                 LocalDate date) {}
+
+  /**
+   * Writes collected for one actor type while comparing the registry to what is stored, and the
+   * fingerprints to remember once they are committed.
+   */
+  private static final class DefinitionWrites<T> {
+
+    private final List<ConnectorMetadata<T>> connectorMetadata = new ArrayList<>();
+    private final List<T> updatedDefinitions = new ArrayList<>();
+    private final Map<UUID, String> fingerprints = new HashMap<>();
+
+  }
+
   public ApplyDefinitionsHelper(@Named("seedDefinitionsProvider") final DefinitionsProvider definitionsProvider,
                                 final JobPersistence jobPersistence,
                                 final ConfigRepository configRepository,
@@ -79,10 +115,19 @@ public class ApplyDefinitionsHelper {
    *        version.
    */
   public void apply(final boolean updateAll) throws JsonValidationException, IOException, ConfigNotFoundException {
+    final Optional<String> registryRevision = definitionsProvider.getRegistryRevision();
+    final Optional<AirbyteProtocolVersionRange> currentProtocolRange = jobPersistence.getCurrentProtocolVersionRange();
+    final AppliedRegistry appliedRegistry = registryRevision
+        .map(revision -> new AppliedRegistry(revision, currentProtocolRange, updateAll, LocalDate.now()))
+        .orElse(null);
+    if (appliedRegistry != null && appliedRegistry.equals(lastAppliedRegistry)) {
+      LOGGER.info("Connector registry is unchanged since it was last applied ({}), skipping", appliedRegistry.registryRevision());
+      return;
+    }
+
     final List<ConnectorRegistrySourceDefinition> latestSourceDefinitions = definitionsProvider.getSourceDefinitions();
     final List<ConnectorRegistryDestinationDefinition> latestDestinationDefinitions = definitionsProvider.getDestinationDefinitions();
 
-    final Optional<AirbyteProtocolVersionRange> currentProtocolRange = jobPersistence.getCurrentProtocolVersionRange();
     final List<ConnectorRegistrySourceDefinition> protocolCompatibleSourceDefinitions =
         filterOutIncompatibleSourceDefs(currentProtocolRange, latestSourceDefinitions);
     final List<ConnectorRegistryDestinationDefinition> protocolCompatibleDestinationDefinitions =
@@ -93,26 +138,47 @@ public class ApplyDefinitionsHelper {
 
     newConnectorCount = 0;
     changedConnectorCount = 0;
+    updatedDefinitionCount = 0;
+    unchangedDefinitionCount = 0;
 
+    final DefinitionWrites<StandardSourceDefinition> sourceWrites = new DefinitionWrites<>();
     for (final ConnectorRegistrySourceDefinition def : protocolCompatibleSourceDefinitions) {
-      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
+      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, sourceWrites);
+    }
+    if (!sourceWrites.connectorMetadata.isEmpty() || !sourceWrites.updatedDefinitions.isEmpty()) {
+      configRepository.writeSourceConnectorMetadata(sourceWrites.connectorMetadata, sourceWrites.updatedDefinitions);
+      appliedDefinitionFingerprints.putAll(sourceWrites.fingerprints);
     }
+
+    final DefinitionWrites<StandardDestinationDefinition> destinationWrites = new DefinitionWrites<>();
     for (final ConnectorRegistryDestinationDefinition def : protocolCompatibleDestinationDefinitions) {
-      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
+      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, destinationWrites);
+    }
+    if (!destinationWrites.connectorMetadata.isEmpty() || !destinationWrites.updatedDefinitions.isEmpty()) {
+      configRepository.writeDestinationConnectorMetadata(destinationWrites.connectorMetadata, destinationWrites.updatedDefinitions);
+      appliedDefinitionFingerprints.putAll(destinationWrites.fingerprints);
     }
+
     if (featureFlagClient.boolVariation(RunSupportStateUpdater.INSTANCE, new Workspace(ANONYMOUS))) {
       supportStateUpdater.updateSupportStates();
     }
 
     LOGGER.info("New connectors added: {}", newConnectorCount);
     LOGGER.info("Version changes applied: {}", changedConnectorCount);
+    LOGGER.info("Definitions updated: {}, unchanged definitions skipped: {}", updatedDefinitionCount, unchangedDefinitionCount);
+    final MetricClient metricClient = MetricClientFactory.getMetricClient();
+    metricClient.count(OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITIONS_INSERTED, newConnectorCount);
+    metricClient.count(OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITIONS_UPDATED, changedConnectorCount + updatedDefinitionCount);
+    metricClient.count(OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITIONS_UNCHANGED, unchangedDefinitionCount);
+    lastAppliedRegistry = appliedRegistry;
   }
 
   private void applySourceDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
                                      final ConnectorRegistrySourceDefinition newDef,
                                      final Set<UUID> actorDefinitionIdsInUse,
-                                     final boolean updateAll)
-      throws IOException, JsonValidationException, ConfigNotFoundException {
+                                     final boolean updateAll,
+                                     final DefinitionWrites<StandardSourceDefinition> writes)
+      throws IOException {
 
     // Skip and log if unable to parse is registry entry.
     final StandardSourceDefinition newSourceDef;
@@ -127,11 +193,13 @@ public class ApplyDefinitionsHelper {
       return;
     }
 
+    final String fingerprint = fingerprint(newSourceDef);
     final boolean connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newSourceDef.getSourceDefinitionId());
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
       newConnectorCount++;
-      configRepository.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newSourceDef, newADV, breakingChangesForDef));
+      writes.fingerprints.put(newSourceDef.getSourceDefinitionId(), fingerprint);
       return;
     }
 
@@ -144,17 +212,23 @@ public class ApplyDefinitionsHelper {
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
       changedConnectorCount++;
-      configRepository.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newSourceDef, newADV, breakingChangesForDef));
+    } else if (fingerprint.equals(appliedDefinitionFingerprints.get(newSourceDef.getSourceDefinitionId()))) {
+      unchangedDefinitionCount++;
+      return;
     } else {
-      configRepository.updateStandardSourceDefinition(newSourceDef);
+      updatedDefinitionCount++;
+      writes.updatedDefinitions.add(newSourceDef);
     }
+    writes.fingerprints.put(newSourceDef.getSourceDefinitionId(), fingerprint);
   }
 
   private void applyDestinationDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
                                           final ConnectorRegistryDestinationDefinition newDef,
                                           final Set<UUID> actorDefinitionIdsInUse,
-                                          final boolean updateAll)
-      throws IOException, JsonValidationException, ConfigNotFoundException {
+                                          final boolean updateAll,
+                                          final DefinitionWrites<StandardDestinationDefinition> writes)
+      throws IOException {
 
     // Skip and log if unable to parse is registry entry.
     final StandardDestinationDefinition newDestinationDef;
@@ -169,11 +243,13 @@ public class ApplyDefinitionsHelper {
       return;
     }
 
+    final String fingerprint = fingerprint(newDestinationDef);
     final boolean connectorIsNew = !actorDefinitionIdsAndDefaultVersions.containsKey(newDestinationDef.getDestinationDefinitionId());
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
       newConnectorCount++;
-      configRepository.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newDestinationDef, newADV, breakingChangesForDef));
+      writes.fingerprints.put(newDestinationDef.getDestinationDefinitionId(), fingerprint);
       return;
     }
 
@@ -186,11 +262,24 @@ public class ApplyDefinitionsHelper {
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
       changedConnectorCount++;
-      configRepository.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      writes.connectorMetadata.add(new ConnectorMetadata<>(newDestinationDef, newADV, breakingChangesForDef));
+    } else if (fingerprint.equals(appliedDefinitionFingerprints.get(newDestinationDef.getDestinationDefinitionId()))) {
+      unchangedDefinitionCount++;
+      return;
     } else {
-      configRepository.updateStandardDestinationDefinition(newDestinationDef);
+      updatedDefinitionCount++;
+      writes.updatedDefinitions.add(newDestinationDef);
     }
+    writes.fingerprints.put(newDestinationDef.getDestinationDefinitionId(), fingerprint);
+
+  }
 
+  /**
+   * Content fingerprint of a definition, used to skip definitions that are identical to what this
+   * process last wrote. Definitions are always written on the first apply after startup.
+   */
+  private static String fingerprint(final Object definition) throws IOException {
+    return Jsons.canonicalJsonHash(definition, Hashing.sha256()).get(0).toString();
   }
 
   private boolean getShouldUpdateActorDefinitionDefaultVersion(final ActorDefinitionVersion currentDefaultADV,
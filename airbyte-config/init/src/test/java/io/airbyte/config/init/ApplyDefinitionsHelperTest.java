@@ -7,10 +7,12 @@ package io.airbyte.config.init;
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.ActorDefinitionVersion;
@@ -18,10 +20,13 @@ import io.airbyte.config.BreakingChanges;
 import io.airbyte.config.ConnectorRegistryDestinationDefinition;
 import io.airbyte.config.ConnectorRegistrySourceDefinition;
 import io.airbyte.config.ConnectorReleases;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.VersionBreakingChange;
 import io.airbyte.config.helpers.ConnectorRegistryConverters;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.ConnectorMetadata;
 import io.airbyte.config.specs.DefinitionsProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.RunSupportStateUpdater;
@@ -119,6 +124,20 @@ class ApplyDefinitionsHelperTest {
     when(configRepository.getActorDefinitionIdsToDefaultVersionsMap()).thenReturn(seededDefinitionsAndDefaultVersions);
   }
 
+  private static ConnectorMetadata<StandardSourceDefinition> sourceMetadata(final ConnectorRegistrySourceDefinition def) {
+    return new ConnectorMetadata<>(
+        ConnectorRegistryConverters.toStandardSourceDefinition(def),
+        ConnectorRegistryConverters.toActorDefinitionVersion(def),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(def));
+  }
+
+  private static ConnectorMetadata<StandardDestinationDefinition> destinationMetadata(final ConnectorRegistryDestinationDefinition def) {
+    return new ConnectorMetadata<>(
+        ConnectorRegistryConverters.toStandardDestinationDefinition(def),
+        ConnectorRegistryConverters.toActorDefinitionVersion(def),
+        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(def));
+  }
+
   private void verifyConfigRepositoryGetInteractions() throws IOException {
     verify(configRepository).getActorDefinitionIdsToDefaultVersionsMap();
     verify(configRepository).getActorDefinitionIdsInUse();
@@ -134,14 +153,8 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
     verifyConfigRepositoryGetInteractions();
 
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES));
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3));
+    verify(configRepository).writeSourceConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES)), List.of());
+    verify(configRepository).writeDestinationConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3)), List.of());
     verify(supportStateUpdater).updateSupportStates();
 
     verifyNoMoreInteractions(configRepository, supportStateUpdater);
@@ -161,14 +174,8 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
     verifyConfigRepositoryGetInteractions();
 
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    verify(configRepository).writeSourceConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES_2)), List.of());
+    verify(configRepository).writeDestinationConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3_2)), List.of());
     verify(supportStateUpdater).updateSupportStates();
 
     verifyNoMoreInteractions(configRepository, supportStateUpdater);
@@ -188,17 +195,13 @@ class ApplyDefinitionsHelperTest {
     verifyConfigRepositoryGetInteractions();
 
     if (updateAll) {
-      verify(configRepository).writeConnectorMetadata(
-          ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-          ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-          ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-      verify(configRepository).writeConnectorMetadata(
-          ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-          ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-          ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+      verify(configRepository).writeSourceConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES_2)), List.of());
+      verify(configRepository).writeDestinationConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3_2)), List.of());
     } else {
-      verify(configRepository).updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2));
-      verify(configRepository).updateStandardDestinationDefinition(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2));
+      verify(configRepository).writeSourceConnectorMetadata(List.of(),
+          List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)));
+      verify(configRepository).writeDestinationConnectorMetadata(List.of(),
+          List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2)));
     }
     verify(supportStateUpdater).updateSupportStates();
 
@@ -222,28 +225,67 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
     verifyConfigRepositoryGetInteractions();
 
-    verify(configRepository, never()).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(postgresWithOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionVersion(s3withOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(postgresWithOldProtocolVersion));
-    verify(configRepository, never()).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(s3withOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionVersion(postgresWithOldProtocolVersion),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(s3withOldProtocolVersion));
-
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    // only the protocol compatible definitions are written
+    verify(configRepository).writeSourceConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES_2)), List.of());
+    verify(configRepository).writeDestinationConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3_2)), List.of());
     verify(supportStateUpdater).updateSupportStates();
 
     verifyNoMoreInteractions(configRepository, supportStateUpdater);
   }
 
+  @Test
+  void testApplyIsSkippedWhenRegistryIsUnchanged() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(definitionsProvider.getRegistryRevision()).thenReturn(Optional.of("revision-1"));
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3));
+
+    applyDefinitionsHelper.apply(false);
+    applyDefinitionsHelper.apply(false);
+
+    verify(definitionsProvider, times(1)).getSourceDefinitions();
+    verify(configRepository, times(1)).getActorDefinitionIdsToDefaultVersionsMap();
+    verify(supportStateUpdater, times(1)).updateSupportStates();
+
+    // a new registry revision is applied again
+    when(definitionsProvider.getRegistryRevision()).thenReturn(Optional.of("revision-2"));
+    applyDefinitionsHelper.apply(false);
+
+    verify(definitionsProvider, times(2)).getSourceDefinitions();
+    verify(configRepository, times(2)).getActorDefinitionIdsToDefaultVersionsMap();
+    verify(supportStateUpdater, times(2)).updateSupportStates();
+  }
+
+  @Test
+  void testUnchangedDefinitionsAreNotRewritten() throws JsonValidationException, ConfigNotFoundException, IOException {
+    mockSeedInitialDefinitions();
+    when(configRepository.getActorDefinitionIdsInUse()).thenReturn(Set.of(POSTGRES_ID, S3_ID));
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3));
+
+    // definitions are written the first time they are seen
+    applyDefinitionsHelper.apply(false);
+    verify(configRepository).writeSourceConnectorMetadata(List.of(),
+        List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES)));
+    verify(configRepository).writeDestinationConnectorMetadata(List.of(),
+        List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3)));
+
+    // and skipped while they stay the same
+    applyDefinitionsHelper.apply(false);
+    verify(configRepository, times(2)).getActorDefinitionIdsToDefaultVersionsMap();
+    verify(configRepository, times(2)).getActorDefinitionIdsInUse();
+    verifyNoMoreInteractions(configRepository);
+
+    // a changed definition is written again, even without a new version
+    final ConnectorRegistrySourceDefinition renamedPostgres = Jsons.clone(SOURCE_POSTGRES).withName("Postgres - Renamed");
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(renamedPostgres));
+    applyDefinitionsHelper.apply(false);
+    verify(configRepository).writeSourceConnectorMetadata(List.of(),
+        List.of(ConnectorRegistryConverters.toStandardSourceDefinition(renamedPostgres)));
+    verify(configRepository, times(3)).getActorDefinitionIdsToDefaultVersionsMap();
+    verify(configRepository, times(3)).getActorDefinitionIdsInUse();
+    verifyNoMoreInteractions(configRepository);
+  }
+
   @Test
   void testTurnOffRunSupportStateUpdaterFeatureFlag() throws JsonValidationException, ConfigNotFoundException, IOException {
     when(featureFlagClient.boolVariation(RunSupportStateUpdater.INSTANCE, new Workspace(ANONYMOUS))).thenReturn(false);
@@ -254,14 +296,8 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(true);
     verifyConfigRepositoryGetInteractions();
 
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(SOURCE_POSTGRES_2));
-    verify(configRepository).writeConnectorMetadata(
-        ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionVersion(DESTINATION_S3_2),
-        ConnectorRegistryConverters.toActorDefinitionBreakingChanges(DESTINATION_S3_2));
+    verify(configRepository).writeSourceConnectorMetadata(List.of(sourceMetadata(SOURCE_POSTGRES_2)), List.of());
+    verify(configRepository).writeDestinationConnectorMetadata(List.of(destinationMetadata(DESTINATION_S3_2)), List.of());
 
     verify(supportStateUpdater, never()).updateSupportStates();
     verifyNoMoreInteractions(configRepository, supportStateUpdater);
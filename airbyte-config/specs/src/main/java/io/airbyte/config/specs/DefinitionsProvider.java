@@ -7,6 +7,7 @@ package io.airbyte.config.specs;
 import io.airbyte.config.ConnectorRegistryDestinationDefinition;
 import io.airbyte.config.ConnectorRegistrySourceDefinition;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -22,4 +23,14 @@ public interface DefinitionsProvider {
 
   List<ConnectorRegistryDestinationDefinition> getDestinationDefinitions();
 
+  /**
+   * Identifies the definitions currently served by this provider. Two calls returning the same
+   * revision mean that the definitions have not changed in between.
+   *
+   * @return revision of the definitions, or empty if this provider cannot tell
+   */
+  default Optional<String> getRegistryRevision() {
+    return Optional.empty();
+  }
+
 }
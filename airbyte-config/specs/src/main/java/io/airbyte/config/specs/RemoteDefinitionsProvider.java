@@ -5,9 +5,14 @@
 package io.airbyte.config.specs;
 
 import static io.micronaut.http.HttpHeaders.ACCEPT;
+import static io.micronaut.http.HttpHeaders.ETAG;
+import static io.micronaut.http.HttpHeaders.IF_MODIFIED_SINCE;
+import static io.micronaut.http.HttpHeaders.IF_NONE_MATCH;
+import static io.micronaut.http.HttpHeaders.LAST_MODIFIED;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
 import io.airbyte.commons.constants.AirbyteCatalogConstants;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
@@ -16,18 +21,17 @@ import io.airbyte.config.Configs.DeploymentMode;
 import io.airbyte.config.ConnectorRegistry;
 import io.airbyte.config.ConnectorRegistryDestinationDefinition;
 import io.airbyte.config.ConnectorRegistrySourceDefinition;
-import io.micronaut.cache.annotation.CacheConfig;
-import io.micronaut.cache.annotation.Cacheable;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.http.MediaType;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,9 +45,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This provider pulls the definitions from a remotely hosted connector registry.
+ * <p>
+ * The parsed registry is kept in memory. Once it is older than the refresh interval, the next lookup
+ * revalidates it with a conditional GET (If-None-Match / If-Modified-Since) so that an unchanged
+ * registry is neither downloaded nor parsed again. Only one refresh runs at a time, concurrent
+ * lookups wait for it and share its result. After a failed refresh the remote registry is not tried
+ * again for the failure backoff, lookups keep the previous registry or fail fast in the meantime.
  */
 @Singleton
-@CacheConfig("remote-definitions-provider")
 public class RemoteDefinitionsProvider implements DefinitionsProvider {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteDefinitionsProvider.class);
@@ -52,7 +61,40 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
 
   private final URI remoteRegistryBaseUrl;
   private final DeploymentMode deploymentMode;
+  private final Duration refreshInterval;
+  private final Duration failureBackoff;
   private static final int NOT_FOUND = 404;
+  private static final int NOT_MODIFIED = 304;
+  private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(15);
+  private static final Duration DEFAULT_FAILURE_BACKOFF = Duration.ofMinutes(1);
+
+  private final Object refreshLock = new Object();
+  private volatile CachedRegistry cachedRegistry;
+  // last failed refresh, written under refreshLock
+  private volatile Exception refreshFailure;
+  private volatile long refreshFailedAtNanos;
+
+  /**
+   * Registry as of the last successful fetch, along with what is needed to revalidate it.
+   *
+   * @param revision digest of the registry body
+   * @param etag ETag header of the response, may be null
+   * @param lastModified Last-Modified header of the response, may be null
+   * @param fetchedAtNanos when the registry was last fetched or revalidated
+   */
+  private record CachedRegistry(ConnectorRegistry registry,
+                                Map<UUID, ConnectorRegistrySourceDefinition> sources,
+                                Map<UUID, ConnectorRegistryDestinationDefinition> destinations,
+                                String revision,
+                                String etag,
+                                String lastModified,
+                                long fetchedAtNanos) {
+
+    CachedRegistry revalidated() {
+      return new CachedRegistry(registry, sources, destinations, revision, etag, lastModified, System.nanoTime());
+    }
+
+  }
 
   private URI parsedRemoteRegistryBaseUrlOrDefault(final String remoteRegistryBaseUrl) {
     try {
@@ -67,33 +109,45 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
     }
   }
 
+  @Inject
   public RemoteDefinitionsProvider(@Value("${airbyte.connector-registry.remote.base-url}") final String remoteRegistryBaseUrl,
                                    final DeploymentMode deploymentMode,
                                    @Value("${airbyte.connector-registry.remote.timeout-ms}") final long remoteCatalogTimeoutMs) {
+    this(remoteRegistryBaseUrl, deploymentMode, remoteCatalogTimeoutMs, DEFAULT_REFRESH_INTERVAL);
+  }
+
+  @VisibleForTesting
+  RemoteDefinitionsProvider(final String remoteRegistryBaseUrl,
+                            final DeploymentMode deploymentMode,
+                            final long remoteCatalogTimeoutMs,
+                            final Duration refreshInterval) {
+    this(remoteRegistryBaseUrl, deploymentMode, remoteCatalogTimeoutMs, refreshInterval, DEFAULT_FAILURE_BACKOFF);
+  }
+
+  @VisibleForTesting
+  RemoteDefinitionsProvider(final String remoteRegistryBaseUrl,
+                            final DeploymentMode deploymentMode,
+                            final long remoteCatalogTimeoutMs,
+                            final Duration refreshInterval,
+                            final Duration failureBackoff) {
     final URI remoteRegistryBaseUrlUri = parsedRemoteRegistryBaseUrlOrDefault(remoteRegistryBaseUrl);
     LOGGER.info("Creating remote definitions provider for URL '{}' and registry '{}'...", remoteRegistryBaseUrlUri, deploymentMode);
 
     this.remoteRegistryBaseUrl = remoteRegistryBaseUrlUri;
     this.deploymentMode = deploymentMode;
+    this.refreshInterval = refreshInterval;
+    this.failureBackoff = failureBackoff;
     this.okHttpClient = new OkHttpClient.Builder()
         .callTimeout(Duration.ofMillis(remoteCatalogTimeoutMs))
         .build();
   }
 
   private Map<UUID, ConnectorRegistrySourceDefinition> getSourceDefinitionsMap() {
-    final ConnectorRegistry registry = getRemoteConnectorRegistry();
-    return registry.getSources().stream().collect(Collectors.toMap(
-        ConnectorRegistrySourceDefinition::getSourceDefinitionId,
-        source -> source.withProtocolVersion(
-            AirbyteProtocolVersion.getWithDefault(source.getSpec() != null ? source.getSpec().getProtocolVersion() : null).serialize())));
+    return getCachedRegistry().sources();
   }
 
   private Map<UUID, ConnectorRegistryDestinationDefinition> getDestinationDefinitionsMap() {
-    final ConnectorRegistry catalog = getRemoteConnectorRegistry();
-    return catalog.getDestinations().stream().collect(Collectors.toMap(
-        ConnectorRegistryDestinationDefinition::getDestinationDefinitionId,
-        destination -> destination.withProtocolVersion(
-            AirbyteProtocolVersion.getWithDefault(destination.getSpec() != null ? destination.getSpec().getProtocolVersion() : null).serialize())));
+    return getCachedRegistry().destinations();
   }
 
   @Override
@@ -102,7 +156,7 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
     if (definition == null) {
       throw new RegistryDefinitionNotFoundException(ActorType.SOURCE, definitionId);
     }
-    return definition;
+    return Jsons.clone(definition);
   }
 
   /**
@@ -116,7 +170,7 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
 
   @Override
   public List<ConnectorRegistrySourceDefinition> getSourceDefinitions() {
-    return new ArrayList<>(getSourceDefinitionsMap().values());
+    return getSourceDefinitionsMap().values().stream().map(Jsons::clone).collect(Collectors.toList());
   }
 
   @Override
@@ -125,7 +179,7 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
     if (definition == null) {
       throw new RegistryDefinitionNotFoundException(ActorType.DESTINATION, definitionId);
     }
-    return definition;
+    return Jsons.clone(definition);
   }
 
   /**
@@ -139,7 +193,15 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
 
   @Override
   public List<ConnectorRegistryDestinationDefinition> getDestinationDefinitions() {
-    return new ArrayList<>(getDestinationDefinitionsMap().values());
+    return getDestinationDefinitionsMap().values().stream().map(Jsons::clone).collect(Collectors.toList());
+  }
+
+  /**
+   * The revision is a digest of the registry body, so it only changes when the registry does.
+   */
+  @Override
+  public Optional<String> getRegistryRevision() {
+    return Optional.of(getCachedRegistry().revision());
   }
 
   private String getRegistryName() {
@@ -181,27 +243,98 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
    *
    * @return ConnectorRegistry
    */
-  @Cacheable
   public ConnectorRegistry getRemoteConnectorRegistry() {
-    final Request request = new Request.Builder()
+    return Jsons.clone(getCachedRegistry().registry());
+  }
+
+  private CachedRegistry getCachedRegistry() {
+    final CachedRegistry current = cachedRegistry;
+    if (isFresh(current) || (current != null && isBackedOff())) {
+      return current;
+    }
+
+    synchronized (refreshLock) {
+      // another thread may have refreshed the registry while this one was waiting
+      final CachedRegistry latest = cachedRegistry;
+      if (latest != current && isFresh(latest)) {
+        return latest;
+      }
+      if (isBackedOff()) {
+        return previousOrFail(latest, refreshFailure);
+      }
+      try {
+        cachedRegistry = fetchRemoteConnectorRegistry(latest);
+        refreshFailure = null;
+        return cachedRegistry;
+      } catch (final Exception e) {
+        refreshFailedAtNanos = System.nanoTime();
+        refreshFailure = e;
+        if (latest != null) {
+          LOGGER.warn("Failed to refresh remote connector registry, using the registry fetched previously for the next {}", failureBackoff, e);
+        }
+        return previousOrFail(latest, e);
+      }
+    }
+  }
+
+  private static CachedRegistry previousOrFail(final CachedRegistry previous, final Exception failure) {
+    if (previous != null) {
+      return previous;
+    }
+    throw new RuntimeException("Failed to fetch remote connector registry", failure);
+  }
+
+  private boolean isBackedOff() {
+    return refreshFailure != null && System.nanoTime() - refreshFailedAtNanos < failureBackoff.toNanos();
+  }
+
+  private boolean isFresh(final CachedRegistry registry) {
+    return registry != null && System.nanoTime() - registry.fetchedAtNanos() < refreshInterval.toNanos();
+  }
+
+  private CachedRegistry fetchRemoteConnectorRegistry(final CachedRegistry previous) throws IOException {
+    final Request.Builder requestBuilder = new Request.Builder()
         .url(getRegistryUrl())
-        .header(ACCEPT, MediaType.APPLICATION_JSON)
-        .build();
+        .header(ACCEPT, MediaType.APPLICATION_JSON);
+    if (previous != null && previous.etag() != null) {
+      requestBuilder.header(IF_NONE_MATCH, previous.etag());
+    }
+    if (previous != null && previous.lastModified() != null) {
+      requestBuilder.header(IF_MODIFIED_SINCE, previous.lastModified());
+    }
 
-    try (Response response = okHttpClient.newCall(request).execute()) {
-      if (response.isSuccessful() && response.body() != null) {
+    try (Response response = okHttpClient.newCall(requestBuilder.build()).execute()) {
+      if (response.code() == NOT_MODIFIED && previous != null) {
+        LOGGER.debug("Remote definitions are unchanged ({})", previous.revision());
+        return previous.revalidated();
+      } else if (response.isSuccessful() && response.body() != null) {
         final String responseBody = response.body().string();
-        LOGGER.info("Fetched latest remote definitions ({})", responseBody.hashCode());
-        return Jsons.deserialize(responseBody, ConnectorRegistry.class);
+        final String revision = Hashing.sha256().hashString(responseBody, StandardCharsets.UTF_8).toString();
+        LOGGER.info("Fetched latest remote definitions ({})", revision);
+        return buildCachedRegistry(Jsons.deserialize(responseBody, ConnectorRegistry.class), revision, response.header(ETAG),
+            response.header(LAST_MODIFIED));
       } else {
         throw new IOException(
             "getRemoteConnectorRegistry request ran into status code error: " + response.code() + " with message: " + response.message());
       }
-    } catch (final Exception e) {
-      throw new RuntimeException("Failed to fetch remote connector registry", e);
     }
   }
 
+  private static CachedRegistry buildCachedRegistry(final ConnectorRegistry registry,
+                                                    final String revision,
+                                                    final String etag,
+                                                    final String lastModified) {
+    final Map<UUID, ConnectorRegistrySourceDefinition> sources = registry.getSources().stream().collect(Collectors.toMap(
+        ConnectorRegistrySourceDefinition::getSourceDefinitionId,
+        source -> source.withProtocolVersion(
+            AirbyteProtocolVersion.getWithDefault(source.getSpec() != null ? source.getSpec().getProtocolVersion() : null).serialize())));
+    final Map<UUID, ConnectorRegistryDestinationDefinition> destinations = registry.getDestinations().stream().collect(Collectors.toMap(
+        ConnectorRegistryDestinationDefinition::getDestinationDefinitionId,
+        destination -> destination.withProtocolVersion(
+            AirbyteProtocolVersion.getWithDefault(destination.getSpec() != null ? destination.getSpec().getProtocolVersion() : null).serialize())));
+    return new CachedRegistry(registry, sources, destinations, revision, etag, lastModified, System.nanoTime());
+  }
+
   @VisibleForTesting
   Optional<JsonNode> getConnectorRegistryEntryJson(final String connectorName, final String version) {
     final URL registryEntryPath = getRegistryEntryUrl(connectorName, version);
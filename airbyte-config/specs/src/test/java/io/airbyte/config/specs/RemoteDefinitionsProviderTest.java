@@ -5,6 +5,7 @@
 package io.airbyte.config.specs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -22,9 +23,14 @@ import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -41,6 +47,9 @@ class RemoteDefinitionsProviderTest {
   private static final DeploymentMode DEPLOYMENT_MODE = DeploymentMode.OSS;
   private static final String CONNECTOR_REPOSITORY = "airbyte/source-stripe";
   private static final String CONNECTOR_VERSION = "0.2.1";
+  private static final String ETAG_HEADER = "ETag";
+  private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+  private static final String REGISTRY_ETAG = "\"registry-etag\"";
   private JsonNode jsonCatalog;
 
   @BeforeEach
@@ -141,6 +150,101 @@ class RemoteDefinitionsProviderTest {
     assertTrue(destinationDefinitions.stream().allMatch(destDef -> destDef.getProtocolVersion().length() > 0));
   }
 
+  @Test
+  void testUnchangedRegistryIsRevalidated() throws InterruptedException {
+    webServer.enqueue(validCatalogResponse.clone().addHeader(ETAG_HEADER, REGISTRY_ETAG));
+    webServer.enqueue(new MockResponse().setResponseCode(304).addHeader(ETAG_HEADER, REGISTRY_ETAG));
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30), Duration.ZERO);
+
+    final List<ConnectorRegistrySourceDefinition> sourceDefinitions = remoteDefinitionsProvider.getSourceDefinitions();
+    final Optional<String> revision = remoteDefinitionsProvider.getRegistryRevision();
+
+    assertEquals(sourceDefinitions.size(), remoteDefinitionsProvider.getSourceDefinitions().size());
+    assertTrue(revision.isPresent());
+    assertEquals(2, webServer.getRequestCount());
+    assertNull(webServer.takeRequest().getHeader(IF_NONE_MATCH_HEADER));
+    assertEquals(REGISTRY_ETAG, webServer.takeRequest().getHeader(IF_NONE_MATCH_HEADER));
+
+    webServer.enqueue(new MockResponse().setResponseCode(304).addHeader(ETAG_HEADER, REGISTRY_ETAG));
+    assertEquals(revision, remoteDefinitionsProvider.getRegistryRevision());
+  }
+
+  @Test
+  void testRegistryIsHeldInMemory() {
+    webServer.enqueue(validCatalogResponse);
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30), Duration.ofMinutes(1));
+
+    remoteDefinitionsProvider.getSourceDefinitions();
+    remoteDefinitionsProvider.getDestinationDefinitions();
+    remoteDefinitionsProvider.getRemoteConnectorRegistry();
+
+    assertEquals(1, webServer.getRequestCount());
+  }
+
+  @Test
+  void testConcurrentLookupsShareOneFetch() throws Exception {
+    webServer.enqueue(validCatalogResponse.clone().setBodyDelay(200, TimeUnit.MILLISECONDS));
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30), Duration.ofMinutes(1));
+    final UUID stripeSourceId = UUID.fromString("e094cb9a-26de-4645-8761-65c0c425d1de");
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<ConnectorRegistrySourceDefinition>> lookups = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        lookups.add(executor.submit(() -> remoteDefinitionsProvider.getSourceDefinition(stripeSourceId)));
+      }
+      for (final Future<ConnectorRegistrySourceDefinition> lookup : lookups) {
+        assertEquals(stripeSourceId, lookup.get().getSourceDefinitionId());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, webServer.getRequestCount());
+  }
+
+  @Test
+  void testFailedRefreshKeepsPreviousRegistry() {
+    webServer.enqueue(validCatalogResponse);
+    webServer.enqueue(new MockResponse().setResponseCode(500));
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30), Duration.ZERO);
+
+    final int expectedNumberOfSources = MoreIterators.toList(jsonCatalog.get("sources").elements()).size();
+    assertEquals(expectedNumberOfSources, remoteDefinitionsProvider.getSourceDefinitions().size());
+    assertEquals(expectedNumberOfSources, remoteDefinitionsProvider.getSourceDefinitions().size());
+    assertEquals(2, webServer.getRequestCount());
+  }
+
+  @Test
+  void testFailedRefreshIsBackedOff() {
+    webServer.enqueue(validCatalogResponse);
+    webServer.enqueue(new MockResponse().setResponseCode(500));
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30), Duration.ZERO, Duration.ofMinutes(1));
+
+    final int expectedNumberOfSources = MoreIterators.toList(jsonCatalog.get("sources").elements()).size();
+    for (int i = 0; i < 3; i++) {
+      assertEquals(expectedNumberOfSources, remoteDefinitionsProvider.getSourceDefinitions().size());
+    }
+    assertEquals(2, webServer.getRequestCount());
+  }
+
+  @Test
+  void testFailedFirstFetchIsBackedOff() {
+    webServer.enqueue(new MockResponse().setResponseCode(500));
+    webServer.enqueue(validCatalogResponse);
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30), Duration.ZERO, Duration.ofMinutes(1));
+
+    assertThrows(RuntimeException.class, remoteDefinitionsProvider::getSourceDefinitions);
+    assertThrows(RuntimeException.class, remoteDefinitionsProvider::getSourceDefinitions);
+    assertEquals(1, webServer.getRequestCount());
+  }
+
   @Test
   void testBadResponseStatus() {
     webServer.enqueue(new MockResponse().setResponseCode(404));
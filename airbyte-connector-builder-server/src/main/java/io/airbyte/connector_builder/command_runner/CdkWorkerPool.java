@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps up to `size` warm {@link CdkWorkerProcess}es. Workers are started in the background, and
+ * replaced once they have handled `maxRequests` requests, grown past `maxMemoryBytes` or died.
+ *
+ * The pool gives up on starting workers after a few consecutive startup failures, callers are then
+ * expected to fall back to launching a process per request.
+ */
+public class CdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorkerPool.class);
+  private static final int MAX_CONSECUTIVE_STARTUP_FAILURES = 3;
+
+  /**
+   * Starts a single worker.
+   */
+  @FunctionalInterface
+  public interface WorkerStarter {
+
+    CdkWorkerProcess start() throws IOException;
+
+  }
+
+  private final WorkerStarter starter;
+  private final int size;
+  private final int maxRequests;
+  private final long maxMemoryBytes;
+  private final BlockingQueue<CdkWorkerProcess> idle = new LinkedBlockingQueue<>();
+  // started workers, whether idle or busy, so that closing the pool also closes the busy ones
+  private final Set<CdkWorkerProcess> started = ConcurrentHashMap.newKeySet();
+  // workers that are started or starting, whether idle or busy
+  private final AtomicInteger workers = new AtomicInteger();
+  private final AtomicInteger consecutiveStartupFailures = new AtomicInteger();
+  private final ExecutorService startupExecutor;
+  private volatile boolean closed;
+
+  public CdkWorkerPool(final WorkerStarter starter, final int size, final int maxRequests, final long maxMemoryBytes) {
+    this.starter = starter;
+    this.size = size;
+    this.maxRequests = maxRequests;
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.startupExecutor = Executors.newSingleThreadExecutor(r -> {
+      final Thread thread = new Thread(r, "cdk-worker-pool");
+      thread.setDaemon(true);
+      return thread;
+    });
+    replenish();
+  }
+
+  public boolean isEnabled() {
+    return size > 0;
+  }
+
+  /**
+   * Take an idle worker, waiting up to `timeout` for one to free up. Empty if the pool has no usable
+   * workers or they are all busy.
+   */
+  Optional<CdkWorkerProcess> acquire(final Duration timeout) {
+    if (!isAvailable()) {
+      return Optional.empty();
+    }
+    // retry workers that failed to start
+    replenish();
+    try {
+      return Optional.ofNullable(idle.poll(timeout.toMillis(), TimeUnit.MILLISECONDS));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Give a worker back to the pool, or replace it if it should be recycled.
+   */
+  void release(final CdkWorkerProcess worker) {
+    if (closed) {
+      started.remove(worker);
+      worker.close();
+      return;
+    }
+    final String recycleReason = recycleReason(worker);
+    if (recycleReason == null) {
+      idle.add(worker);
+      return;
+    }
+    LOGGER.info("Recycling CDK worker: {}", recycleReason);
+    started.remove(worker);
+    worker.close();
+    workers.decrementAndGet();
+    replenish();
+  }
+
+  /**
+   * Close every worker, including busy ones, which also deletes their work directories.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    startupExecutor.shutdownNow();
+    idle.clear();
+    started.forEach(CdkWorkerProcess::close);
+    started.clear();
+  }
+
+  private boolean isAvailable() {
+    return !closed && isEnabled() && consecutiveStartupFailures.get() < MAX_CONSECUTIVE_STARTUP_FAILURES;
+  }
+
+  private String recycleReason(final CdkWorkerProcess worker) {
+    if (!worker.isAlive()) {
+      return "worker exited";
+    }
+    if (worker.getRequestCount() >= maxRequests) {
+      return String.format("handled %d requests", worker.getRequestCount());
+    }
+    final long memoryBytes = worker.getResidentMemoryBytes();
+    if (memoryBytes > maxMemoryBytes) {
+      return String.format("using %d bytes of memory", memoryBytes);
+    }
+    return null;
+  }
+
+  /**
+   * Start workers in the background until the pool is full again.
+   */
+  private void replenish() {
+    while (isAvailable()) {
+      final int current = workers.get();
+      if (current >= size) {
+        return;
+      }
+      if (workers.compareAndSet(current, current + 1)) {
+        startupExecutor.execute(this::startWorker);
+      }
+    }
+  }
+
+  private void startWorker() {
+    try {
+      final CdkWorkerProcess worker = starter.start();
+      consecutiveStartupFailures.set(0);
+      started.add(worker);
+      if (closed) {
+        started.remove(worker);
+        worker.close();
+      } else {
+        idle.add(worker);
+      }
+    } catch (final Exception e) {
+      workers.decrementAndGet();
+      final int failures = consecutiveStartupFailures.incrementAndGet();
+      LOGGER.warn("Failed to start a CDK worker ({} consecutive failures)", failures, e);
+      if (failures >= MAX_CONSECUTIVE_STARTUP_FAILURES) {
+        LOGGER.error("Giving up on CDK workers, requests will launch a CDK process each");
+      }
+    }
+  }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.google.common.io.MoreFiles;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived Python process running `cdk_worker.py`, which imports the CDK once and then answers
+ * one request per line: the request is written to its stdin and the response is read from its
+ * stdout. The config and catalog of each request are written to a private work directory, which is
+ * deleted when the worker is closed since configs hold secrets.
+ *
+ * Not thread-safe, a worker handles a single request at a time. See {@link CdkWorkerPool}.
+ */
+public class CdkWorkerProcess implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorkerProcess.class);
+  static final String READY = "ready";
+  static final String WORK_DIR_ENV = "CDK_WORKER_DIR";
+  // put on the response queue once stdout is closed, so that readers do not wait for a dead process
+  private static final String EOF = "\u0000EOF";
+
+  private final Process process;
+  private final Path workDir;
+  private final BufferedWriter stdin;
+  private final BlockingQueue<String> responses = new LinkedBlockingQueue<>();
+  private int requestCount;
+  private volatile boolean closed;
+
+  CdkWorkerProcess(final Process process, final Path workDir) {
+    this.process = process;
+    this.workDir = workDir;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    final Thread reader = new Thread(this::readResponses, "cdk-worker-" + process.pid());
+    reader.setDaemon(true);
+    reader.start();
+  }
+
+  /**
+   * Start a worker and wait for it to be ready to take requests. The work directory is created here
+   * and handed to the worker through {@link #WORK_DIR_ENV}.
+   */
+  public static CdkWorkerProcess start(final ProcessBuilder processBuilder, final Duration startupTimeout) throws IOException {
+    final Path workDir = Files.createTempDirectory("cdk-worker-");
+    final Process process;
+    try {
+      processBuilder.environment().put(WORK_DIR_ENV, workDir.toString());
+      process = processBuilder.start();
+    } catch (final IOException | RuntimeException e) {
+      MoreFiles.deleteRecursively(workDir);
+      throw e;
+    }
+    final CdkWorkerProcess worker = new CdkWorkerProcess(process, workDir);
+    final String ready = worker.poll(startupTimeout);
+    if (!READY.equals(ready)) {
+      worker.close();
+      throw new IOException(String.format("CDK worker did not start within %s.", startupTimeout));
+    }
+    return worker;
+  }
+
+  /**
+   * Send one request and wait for its response. The worker is killed if it does not answer within
+   * `timeout`, as it would otherwise answer this request to the next caller.
+   *
+   * @param request single line request
+   * @param timeout how long to wait for the response, zero to wait as long as the worker is alive
+   * @return single line response
+   * @throws IOException if the worker died, the request can safely be run elsewhere
+   * @throws CdkProcessException if the request timed out
+   */
+  String request(final String request, final Duration timeout) throws IOException {
+    requestCount++;
+    stdin.write(request);
+    stdin.newLine();
+    stdin.flush();
+
+    final String response = poll(timeout);
+    if (response == null) {
+      close();
+      throw new CdkProcessException(String.format("CDK worker did not answer within %s.", timeout));
+    }
+    if (EOF.equals(response)) {
+      close();
+      throw new IOException("CDK worker exited while handling the request.");
+    }
+    return response;
+  }
+
+  boolean isAlive() {
+    return !closed && process.isAlive();
+  }
+
+  int getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Resident memory of the worker, read from procfs. -1 where procfs is not available.
+   */
+  long getResidentMemoryBytes() {
+    try {
+      final List<String> status = Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status"));
+      for (final String line : status) {
+        // e.g. "VmRSS:     51236 kB"
+        if (line.startsWith("VmRSS:")) {
+          return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+        }
+      }
+    } catch (final IOException | NumberFormatException e) {
+      LOGGER.debug("Could not read the memory usage of CDK worker {}", process.pid(), e);
+    }
+    return -1;
+  }
+
+  Path getWorkDir() {
+    return workDir;
+  }
+
+  /**
+   * Kill the worker and delete its work directory. Safe to call more than once.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    process.destroy();
+    try {
+      // the worker may still be writing a request when it is killed
+      process.waitFor(1, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      // still delete the work directory, the caller is usually interrupted while waiting on the worker
+      Thread.currentThread().interrupt();
+    }
+    try {
+      MoreFiles.deleteRecursively(workDir);
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to delete the work directory {} of CDK worker {}", workDir, process.pid(), e);
+    }
+  }
+
+  private String poll(final Duration timeout) throws IOException {
+    try {
+      return timeout.isZero() ? responses.take() : responses.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new IOException("Interrupted while waiting for the CDK worker.", e);
+    }
+  }
+
+  private void readResponses() {
+    try (final BufferedReader stdout = IOs.newBufferedReader(process.getInputStream())) {
+      String line;
+      while ((line = stdout.readLine()) != null) {
+        responses.add(line);
+      }
+    } catch (final IOException e) {
+      LOGGER.debug("CDK worker {} output closed", process.pid(), e);
+    } finally {
+      responses.add(EOF);
+    }
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import datadog.trace.api.Trace;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends requests to a warm CDK worker from a {@link CdkWorkerPool}, which saves starting a Python
+ * interpreter and importing the CDK on every request.
+ *
+ * Requests fall back to the one-shot `fallback` runner when no worker frees up in time, or when the
+ * worker dies while handling the request.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+
+  private final CdkWorkerPool pool;
+  private final SynchronousCdkCommandRunner fallback;
+  private final Duration acquireTimeout;
+  private final Duration requestTimeout;
+
+  public PooledPythonCdkCommandRunner(
+                                      final CdkWorkerPool pool,
+                                      final SynchronousCdkCommandRunner fallback,
+                                      final Duration acquireTimeout,
+                                      final Duration requestTimeout) {
+    this.pool = pool;
+    this.fallback = fallback;
+    this.acquireTimeout = acquireTimeout;
+    this.requestTimeout = requestTimeout;
+  }
+
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents)
+      throws IOException {
+    final Optional<CdkWorkerProcess> worker = pool.acquire(acquireTimeout);
+    if (worker.isEmpty()) {
+      LOGGER.debug("No CDK worker available for {}, launching a CDK process", cdkCommand);
+      return fallback.runCommand(cdkCommand, configContents, catalogContents);
+    }
+
+    final String response;
+    try {
+      response = worker.get().request(Jsons.serialize(Map.of("config", configContents, "catalog", catalogContents)), requestTimeout);
+    } catch (final IOException e) {
+      LOGGER.warn("CDK worker failed to handle {}, launching a CDK process", cdkCommand, e);
+      return fallback.runCommand(cdkCommand, configContents, catalogContents);
+    } finally {
+      pool.release(worker.get());
+    }
+
+    final AirbyteMessage message = Jsons.deserialize(response, AirbyteMessage.class);
+    return ProcessOutputParser.findRecord(Map.of(message.getType(), List.of(message)))
+        .orElseThrow(() -> new CdkUnknownException(
+            String.format("The CDK command `%s` completed properly but no records nor trace were found.", cdkCommand)));
+  }
+
+}
@@ -54,13 +54,25 @@ public class ProcessOutputParser {
       throwCdkException(process, cdkCommand);
     }
 
+    final Optional<AirbyteRecordMessage> record = findRecord(messagesByType);
+    if (record.isPresent()) {
+      return record.get();
+    }
+    throw generateError(process, cdkCommand);
+  }
+
+  /**
+   * Return the first record of the CDK response, or throw the error reported by its first trace.
+   * Empty if the response has neither.
+   */
+  static Optional<AirbyteRecordMessage> findRecord(final Map<Type, List<AirbyteMessage>> messagesByType) {
     final Optional<AirbyteRecordMessage> record = messagesByType
         .getOrDefault(Type.RECORD, new ArrayList<>()).stream()
         .map(AirbyteMessage::getRecord)
         .findFirst();
 
     if (record.isPresent()) {
-      return record.get();
+      return record;
     }
 
     final Optional<AirbyteTraceMessage> trace = messagesByType
@@ -77,7 +89,7 @@ public class ProcessOutputParser {
       throw new AirbyteCdkInvalidInputException(
           String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
     }
-    throw generateError(process, cdkCommand);
+    return Optional.empty();
   }
 
   private void throwCdkException(final Process process, final String cdkCommand) {
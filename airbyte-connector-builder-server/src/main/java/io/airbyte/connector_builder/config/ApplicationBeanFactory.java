@@ -4,14 +4,24 @@
 
 package io.airbyte.connector_builder.config;
 
+import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.config.EnvConfigs;
+import io.airbyte.connector_builder.command_runner.CdkWorkerPool;
+import io.airbyte.connector_builder.command_runner.CdkWorkerProcess;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Defines the instantiation of handler classes.
@@ -36,16 +46,50 @@ public class ApplicationBeanFactory {
   }
 
   /**
-   * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
+   * Defines the pool of warm CDK worker processes. The pool stays empty when it is disabled.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
-    return new SynchronousPythonCdkCommandRunner(
+  @Bean(preDestroy = "close")
+  public CdkWorkerPool cdkWorkerPool(final CdkWorkerPoolConfiguration configuration) throws IOException {
+    final long maxMemoryBytes = configuration.getMaxMemoryMb() * 1024 * 1024;
+    if (configuration.getSize() <= 0) {
+      return new CdkWorkerPool(() -> {
+        throw new IOException("CDK worker pool is disabled.");
+      }, 0, configuration.getMaxRequests(), maxMemoryBytes);
+    }
+
+    final Path workerScript = Files.createTempFile("cdk_worker", ".py");
+    workerScript.toFile().deleteOnExit();
+    Files.writeString(workerScript, MoreResources.readResource("cdk_worker.py"));
+    final List<String> command = List.of(this.getPython(), workerScript.toString(), this.getCdkEntrypoint());
+    return new CdkWorkerPool(
+        () -> CdkWorkerProcess.start(new ProcessBuilder(command).redirectError(Redirect.INHERIT), configuration.getStartupTimeout()),
+        configuration.getSize(),
+        configuration.getMaxRequests(),
+        maxMemoryBytes);
+  }
+
+  /**
+   * Defines the instantiation of the SynchronousPythonCdkCommandRunner. Requests go to warm CDK
+   * workers when the pool is enabled, and fall back to a CDK process per request otherwise.
+   */
+  @Singleton
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(final CdkWorkerPool cdkWorkerPool,
+                                                                       final CdkWorkerPoolConfiguration configuration) {
+    final SynchronousCdkCommandRunner oneShotRunner = new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         // This should eventually be constructed via DI.
         VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false),
         this.getPython(),
         this.getCdkEntrypoint());
+    if (!cdkWorkerPool.isEnabled()) {
+      return oneShotRunner;
+    }
+    return new PooledPythonCdkCommandRunner(
+        cdkWorkerPool,
+        oneShotRunner,
+        configuration.getAcquireTimeout(),
+        configuration.getRequestTimeout());
   }
 
 }
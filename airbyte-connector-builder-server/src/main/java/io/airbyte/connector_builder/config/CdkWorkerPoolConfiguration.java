@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.config;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Micronaut configured properties for the pool of warm CDK worker processes. A `size` of 0 disables
+ * the pool, and every request launches its own CDK process. A `requestTimeout` of 0 lets requests
+ * run as long as they would in their own CDK process.
+ */
+@ConfigurationProperties("airbyte.connector-builder-server.cdk-worker-pool")
+public class CdkWorkerPoolConfiguration {
+
+  private int size = 2;
+  private int maxRequests = 500;
+  private long maxMemoryMb = 1024;
+  private Duration startupTimeout = Duration.ofSeconds(60);
+  private Duration acquireTimeout = Duration.ofSeconds(5);
+  private Duration requestTimeout = Duration.ZERO;
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(final int size) {
+    this.size = size;
+  }
+
+  public int getMaxRequests() {
+    return maxRequests;
+  }
+
+  public void setMaxRequests(final int maxRequests) {
+    this.maxRequests = maxRequests;
+  }
+
+  public long getMaxMemoryMb() {
+    return maxMemoryMb;
+  }
+
+  public void setMaxMemoryMb(final long maxMemoryMb) {
+    this.maxMemoryMb = maxMemoryMb;
+  }
+
+  public Duration getStartupTimeout() {
+    return startupTimeout;
+  }
+
+  public void setStartupTimeout(final Duration startupTimeout) {
+    this.startupTimeout = startupTimeout;
+  }
+
+  public Duration getAcquireTimeout() {
+    return acquireTimeout;
+  }
+
+  public void setAcquireTimeout(final Duration acquireTimeout) {
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  public Duration getRequestTimeout() {
+    return requestTimeout;
+  }
+
+  public void setRequestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+  }
+
+}
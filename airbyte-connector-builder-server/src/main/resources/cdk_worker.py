@@ -0,0 +1,88 @@
+#
+# Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker for the connector builder server.
+
+Imports the CDK connector builder entrypoint once, then handles one request per line read from
+stdin. A request is a JSON object with the `config` and `catalog` file contents. Each request is
+answered with exactly one AirbyteMessage on a single line of stdout.
+
+The request files are written to the directory named by the CDK_WORKER_DIR env var, which is owned
+and deleted by the server.
+
+Usage: python cdk_worker.py <path to airbyte_cdk/connector_builder/main.py>
+"""
+
+import importlib.util
+import json
+import os
+import sys
+import time
+import traceback
+
+READY = "ready"
+
+
+def load_entrypoint(path):
+    spec = importlib.util.spec_from_file_location("connector_builder_entrypoint", path)
+    module = importlib.util.module_from_spec(spec)
+    spec.loader.exec_module(module)
+    return module
+
+
+def write_file(path, contents):
+    with open(path, "w") as f:
+        f.write(contents)
+
+
+def error_message(exc):
+    return json.dumps(
+        {
+            "type": "TRACE",
+            "trace": {
+                "type": "ERROR",
+                "emitted_at": time.time() * 1000,
+                "error": {
+                    "message": f"Error handling request: {exc}",
+                    "internal_message": str(exc),
+                    "stack_trace": traceback.format_exc(),
+                    "failure_type": "system_error",
+                },
+            },
+        }
+    )
+
+
+def main():
+    # Keep a private handle on stdout for responses and point fd 1 at stderr, so that anything the
+    # CDK prints or logs cannot be mistaken for a response.
+    responses = os.fdopen(os.dup(sys.stdout.fileno()), "w")
+    os.dup2(sys.stderr.fileno(), sys.stdout.fileno())
+
+    entrypoint = load_entrypoint(sys.argv[1])
+
+    workdir = os.environ["CDK_WORKER_DIR"]
+    config_path = os.path.join(workdir, "config.json")
+    catalog_path = os.path.join(workdir, "catalog.json")
+
+    responses.write(READY + "\n")
+    responses.flush()
+
+    for line in sys.stdin:
+        try:
+            request = json.loads(line)
+            write_file(config_path, request["config"])
+            write_file(catalog_path, request["catalog"])
+            response = entrypoint.handle_request(["read", "--config", config_path, "--catalog", catalog_path])
+            if not isinstance(response, str):
+                response = response.json(exclude_unset=True)
+        except Exception as exc:
+            response = error_message(exc)
+        responses.write(response.replace("\n", " ") + "\n")
+        responses.flush()
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the latency of requests served by a warm worker of the pool with launching a process per
+ * request, against the stub CDK entrypoint which takes a while to import. Run with the
+ * performanceTest task.
+ */
+@Tag("performance")
+class PooledPythonCdkCommandRunnerPerformanceTest {
+
+  private static final String PYTHON = "python3";
+  private static final String WORKER_SCRIPT = "src/main/resources/cdk_worker.py";
+  private static final String STUB_ENTRYPOINT = "src/test/java/io/airbyte/connector_builder/fixtures/stub_cdk_entrypoint.py";
+  private static final String CONFIG = "{\"__command\": \"test_read\"}";
+  private static final Duration WAIT_FOR_WORKER = Duration.ofSeconds(30);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+  private static final int REQUESTS = 10;
+
+  private CdkWorkerPool pool;
+
+  @BeforeAll
+  static void checkPython() throws InterruptedException {
+    boolean pythonAvailable;
+    try {
+      pythonAvailable = new ProcessBuilder(PYTHON, "--version").start().waitFor() == 0;
+    } catch (final IOException e) {
+      pythonAvailable = false;
+    }
+    assumeTrue(pythonAvailable, "python3 is required to run CDK workers");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void testPooledLatencyIsBelowOneShotLatency() throws IOException {
+    pool = new CdkWorkerPool(
+        () -> CdkWorkerProcess.start(
+            new ProcessBuilder(PYTHON, WORKER_SCRIPT, STUB_ENTRYPOINT).redirectError(Redirect.INHERIT),
+            WAIT_FOR_WORKER),
+        1,
+        100,
+        Long.MAX_VALUE);
+    final SynchronousCdkCommandRunner pooledRunner = new PooledPythonCdkCommandRunner(pool, (command, config, catalog) -> {
+      throw new IllegalStateException("Unexpected fallback for " + command);
+    }, WAIT_FOR_WORKER, REQUEST_TIMEOUT);
+    final SynchronousCdkCommandRunner oneShotRunner = new SynchronousPythonCdkCommandRunner(
+        new AirbyteFileWriterImpl(),
+        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false),
+        PYTHON,
+        STUB_ENTRYPOINT);
+    // wait for the worker to be warm
+    pooledRunner.runCommand("test_read", CONFIG, "");
+
+    final long oneShotMedianMillis = medianMillis(oneShotRunner);
+    final long pooledMedianMillis = medianMillis(pooledRunner);
+
+    assertTrue(pooledMedianMillis < oneShotMedianMillis,
+        String.format("median pooled latency %d ms is not below the median one-shot latency %d ms", pooledMedianMillis, oneShotMedianMillis));
+  }
+
+  private static long medianMillis(final SynchronousCdkCommandRunner runner) throws IOException {
+    final long[] millis = new long[REQUESTS];
+    for (int i = 0; i < REQUESTS; i++) {
+      final long startedAt = System.nanoTime();
+      runner.runCommand("test_read", CONFIG, "");
+      millis[i] = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+    Arrays.sort(millis);
+    return millis[REQUESTS / 2];
+  }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the real worker script against a stub CDK entrypoint, see `fixtures/stub_cdk_entrypoint.py`.
+ */
+class PooledPythonCdkCommandRunnerTest {
+
+  private static final String PYTHON = "python3";
+  private static final String WORKER_SCRIPT = "src/main/resources/cdk_worker.py";
+  private static final String STUB_ENTRYPOINT = "src/test/java/io/airbyte/connector_builder/fixtures/stub_cdk_entrypoint.py";
+  private static final Duration WAIT_FOR_WORKER = Duration.ofSeconds(30);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  private CdkWorkerPool pool;
+
+  @BeforeAll
+  static void checkPython() throws InterruptedException {
+    boolean pythonAvailable;
+    try {
+      pythonAvailable = new ProcessBuilder(PYTHON, "--version").start().waitFor() == 0;
+    } catch (final IOException e) {
+      pythonAvailable = false;
+    }
+    assumeTrue(pythonAvailable, "python3 is required to run CDK workers");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void testWarmWorkerIsReused() throws IOException {
+    final SynchronousCdkCommandRunner runner = pooledRunner(1, 100, REQUEST_TIMEOUT, failingFallback());
+
+    final long first = pid(runner.runCommand("test_read", config("test_read"), ""));
+    final long second = pid(runner.runCommand("test_read", config("test_read"), ""));
+
+    assertEquals(first, second);
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterMaxRequests() throws IOException {
+    final SynchronousCdkCommandRunner runner = pooledRunner(1, 2, REQUEST_TIMEOUT, failingFallback());
+
+    final long first = pid(runner.runCommand("test_read", config("test_read"), ""));
+    final long second = pid(runner.runCommand("test_read", config("test_read"), ""));
+    final long third = pid(runner.runCommand("test_read", config("test_read"), ""));
+
+    assertEquals(first, second);
+    assertNotEquals(second, third);
+  }
+
+  @Test
+  void testCdkErrorsAreReported() throws IOException {
+    final SynchronousCdkCommandRunner runner = pooledRunner(1, 100, REQUEST_TIMEOUT, failingFallback());
+
+    final AirbyteCdkInvalidInputException exception =
+        assertThrows(AirbyteCdkInvalidInputException.class, () -> runner.runCommand("fail", config("fail"), ""));
+    assertTrue(exception.getMessage().contains("stub failure"));
+    // the worker survives errors raised by the CDK
+    runner.runCommand("test_read", config("test_read"), "");
+  }
+
+  @Test
+  void testFallsBackWhenTheWorkerDies() throws IOException {
+    final AirbyteRecordMessage fallbackRecord = new AirbyteRecordMessage().withStream("fallback");
+    final SynchronousCdkCommandRunner runner = pooledRunner(1, 100, REQUEST_TIMEOUT, (command, config, catalog) -> fallbackRecord);
+
+    assertSame(fallbackRecord, runner.runCommand("crash", config("crash"), ""));
+    // a new worker replaces the dead one
+    assertEquals("test_read", runner.runCommand("test_read", config("test_read"), "").getStream());
+  }
+
+  @Test
+  void testRequestTimeout() throws IOException {
+    final SynchronousCdkCommandRunner runner = pooledRunner(1, 100, Duration.ofMillis(500), failingFallback());
+
+    assertThrows(CdkProcessException.class, () -> runner.runCommand("hang", config("hang"), ""));
+    assertEquals("test_read", runner.runCommand("test_read", config("test_read"), "").getStream());
+  }
+
+  @Test
+  void testNoRequestTimeout() throws IOException {
+    final SynchronousCdkCommandRunner runner = pooledRunner(1, 100, Duration.ZERO, failingFallback());
+
+    assertEquals("slow", runner.runCommand("slow", config("slow"), "").getStream());
+  }
+
+  @Test
+  void testWorkDirsAreDeletedWhenThePoolIsClosed() {
+    pooledRunner(2, 100, REQUEST_TIMEOUT, failingFallback());
+    final CdkWorkerProcess busyWorker = pool.acquire(WAIT_FOR_WORKER).orElseThrow();
+    final CdkWorkerProcess idleWorker = pool.acquire(WAIT_FOR_WORKER).orElseThrow();
+    pool.release(idleWorker);
+    assertTrue(Files.isDirectory(busyWorker.getWorkDir()));
+    assertTrue(Files.isDirectory(idleWorker.getWorkDir()));
+
+    pool.close();
+
+    assertFalse(Files.exists(busyWorker.getWorkDir()));
+    assertFalse(Files.exists(idleWorker.getWorkDir()));
+  }
+
+  private SynchronousCdkCommandRunner pooledRunner(final int size,
+                                                   final int maxRequests,
+                                                   final Duration requestTimeout,
+                                                   final SynchronousCdkCommandRunner fallback) {
+    pool = new CdkWorkerPool(
+        () -> CdkWorkerProcess.start(
+            new ProcessBuilder(PYTHON, WORKER_SCRIPT, STUB_ENTRYPOINT).redirectError(Redirect.INHERIT),
+            WAIT_FOR_WORKER),
+        size,
+        maxRequests,
+        Long.MAX_VALUE);
+    return new PooledPythonCdkCommandRunner(pool, fallback, WAIT_FOR_WORKER, requestTimeout);
+  }
+
+  private static SynchronousCdkCommandRunner failingFallback() {
+    return (command, config, catalog) -> {
+      throw new IllegalStateException("Unexpected fallback for " + command);
+    };
+  }
+
+  private static String config(final String command) {
+    return String.format("{\"__command\": \"%s\"}", command);
+  }
+
+  private static long pid(final AirbyteRecordMessage record) {
+    return record.getData().get("pid").asLong();
+  }
+
+}
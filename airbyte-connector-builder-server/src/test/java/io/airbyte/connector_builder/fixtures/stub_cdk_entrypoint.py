@@ -0,0 +1,36 @@
+#
+# Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Stands in for airbyte_cdk/connector_builder/main.py in tests: importing it is slow, like importing
+the CDK, while handling a request is fast. The `__command` of the config picks the behavior.
+"""
+
+import json
+import os
+import sys
+import time
+
+IMPORT_SECONDS = 0.3
+
+time.sleep(IMPORT_SECONDS)
+
+
+def handle_request(args):
+    with open(args[args.index("--config") + 1]) as f:
+        command = json.load(f)["__command"]
+    if command == "crash":
+        os._exit(1)
+    if command == "hang":
+        time.sleep(3600)
+    if command == "slow":
+        time.sleep(1)
+    if command == "fail":
+        raise ValueError("stub failure")
+    record = {"stream": command, "data": {"pid": os.getpid()}, "emitted_at": int(time.time() * 1000)}
+    return json.dumps({"type": "RECORD", "record": record})
+
+
+if __name__ == "__main__":
+    print(handle_request(sys.argv[1:]))
@@ -15,18 +15,37 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.micronaut.scheduling.annotation.Scheduled;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Temporal cleaner. Resets failed workflow executions.
+ * <p>
+ * Listing every closed workflow of the namespace gets slower as its history grows, so each run
+ * only looks at the workflows that closed since the previous run. A full scan still runs once per
+ * {@link #FULL_RECONCILE_INTERVAL} to pick up anything an incremental run missed, e.g. a restart
+ * that failed.
  */
 @Singleton
 @Slf4j
 public class SelfHealTemporalWorkflows {
 
+  static final Duration FULL_RECONCILE_INTERVAL = Duration.ofHours(1);
+
+  /**
+   * Visibility records are written asynchronously, so the next run looks this far before the start
+   * of the previous one.
+   */
+  static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+
   private final TemporalClient temporalClient;
   private final MetricClient metricClient;
 
+  // start of the last run minus the overlap, null until the first full scan succeeded
+  private Instant watermark;
+  private Instant lastFullReconcile;
+
   public SelfHealTemporalWorkflows(final TemporalClient temporalClient, final MetricClient metricClient) {
     log.debug("Creating temporal self-healing");
     this.temporalClient = temporalClient;
@@ -37,8 +56,20 @@ public class SelfHealTemporalWorkflows {
   @Scheduled(fixedRate = "10s")
   void cleanTemporal() {
     metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "self_heal_temporal"));
-    final var numRestarted = temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+
+    final Instant runStart = Instant.now();
+    final boolean fullReconcile = watermark == null || !runStart.isBefore(lastFullReconcile.plus(FULL_RECONCILE_INTERVAL));
+    final var numRestarted = temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED,
+        fullReconcile ? null : watermark);
+
+    watermark = runStart.minus(WATERMARK_OVERLAP);
+    if (fullReconcile) {
+      lastFullReconcile = runStart;
+    }
+
     metricClient.count(OssMetricsRegistry.WORKFLOWS_HEALED, numRestarted);
+    metricClient.distribution(OssMetricsRegistry.SELF_HEAL_SCAN_DURATION_MILLISECS, Duration.between(runStart, Instant.now()).toMillis(),
+        new MetricAttribute(MetricTags.SCAN_TYPE, fullReconcile ? "full" : "incremental"));
   }
 
 }
@@ -15,21 +15,16 @@ import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.env.Environment;
 import io.micronaut.scheduling.annotation.Scheduled;
 import jakarta.inject.Singleton;
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.util.Date;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.AgeFileFilter;
 
 /**
  * Delete old files that accumulate in docker.
@@ -42,8 +37,11 @@ public class WorkspaceCleaner {
   private final Path workspaceRoot;
   private final long maxAgeFilesInDays;
   private final MetricClient metricClient;
+  private final WorkspaceDirectoryCleaner directoryCleaner;
 
-  WorkspaceCleaner(final MetricClient metricClient) {
+  WorkspaceCleaner(final MetricClient metricClient,
+                   @Value("${airbyte.cron.workspace-cleaner.parallelism:4}") final int parallelism,
+                   @Value("${airbyte.cron.workspace-cleaner.max-deletes-per-second:1000}") final double maxDeletesPerSecond) {
     log.info("Creating workspace cleaner");
 
     // TODO Configs should get injected through micronaut
@@ -54,41 +52,29 @@ public class WorkspaceCleaner {
     // It might make sense configure this independently in the future
     this.maxAgeFilesInDays = configs.getTemporalRetentionInDays();
     this.metricClient = metricClient;
+    this.directoryCleaner = new WorkspaceDirectoryCleaner(parallelism, maxDeletesPerSecond);
   }
 
   /**
-   * Delete files older than maxAgeFilesInDays from the workspace. NOTE: this is currently only
-   * intended to work for docker.
+   * Delete the job and attempt directories that were not modified for maxAgeFilesInDays from the
+   * workspace. NOTE: this is currently only intended to work for docker.
    *
-   * @throws IOException exception while interacting with the database
+   * @throws IOException exception while listing the workspace
+   * @throws InterruptedException if interrupted while deleting
    */
   @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
   @Scheduled(fixedRate = "1d")
-  public void deleteOldFiles() throws IOException {
-    final Date oldestAllowed = getDateFromDaysAgo(maxAgeFilesInDays);
+  public void deleteOldFiles() throws IOException, InterruptedException {
+    final Instant oldestAllowed = Instant.now().minus(Duration.ofDays(maxAgeFilesInDays));
     log.info("Deleting files older than {} days ({})", maxAgeFilesInDays, oldestAllowed);
     metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "workspace_cleaner"));
 
     ApmTraceUtils.addTagsToTrace(Map.of("oldest_date_allowed", oldestAllowed, "max_age", maxAgeFilesInDays));
 
-    final AtomicInteger counter = new AtomicInteger(0);
-    Files.walk(workspaceRoot)
-        .map(Path::toFile)
-        .filter(f -> new AgeFileFilter(oldestAllowed).accept(f))
-        .forEach(file -> {
-          log.debug("Deleting file: " + file.toString());
-          FileUtils.deleteQuietly(file);
-          counter.incrementAndGet();
-          final File parentDir = file.getParentFile();
-          if (parentDir.isDirectory() && parentDir.listFiles().length == 0) {
-            FileUtils.deleteQuietly(parentDir);
-          }
-        });
-    log.info("deleted {} files", counter.get());
-  }
-
-  private static Date getDateFromDaysAgo(final long daysAgo) {
-    return Date.from(LocalDateTime.now().minusDays(daysAgo).toInstant(OffsetDateTime.now().getOffset()));
+    final WorkspaceDirectoryCleaner.Result result = directoryCleaner.clean(workspaceRoot, oldestAllowed);
+    metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_BYTES_RECLAIMED, result.bytes());
+    metricClient.count(OssMetricsRegistry.WORKSPACE_CLEANER_DIRECTORIES_DELETED, result.directories());
+    log.info("deleted {} directories and {} files, {} bytes reclaimed", result.directories(), result.files(), result.bytes());
   }
 
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs;
+
+import com.google.common.util.concurrent.RateLimiter;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes the job and attempt directories of the workspace that have not been modified since a
+ * cutoff.
+ * <p>
+ * The workspace holds a directory per job, with a directory per attempt inside. An attempt
+ * directory is deleted as a whole when neither it nor any of its direct entries were modified
+ * since the cutoff, so that the files of old attempts are not looked at one by one. The direct
+ * entries are checked because appending to a file, e.g. the log of a long running attempt, does
+ * not update the modification time of its directory. A job directory is deleted once it is empty
+ * and was not modified since the cutoff.
+ * <p>
+ * Job directories are processed in parallel by a bounded number of threads, and the deletions are
+ * rate limited so that the cleaner does not starve running syncs of disk I/O.
+ */
+@Slf4j
+class WorkspaceDirectoryCleaner {
+
+  /**
+   * What a cleaning run deleted.
+   *
+   * @param directories number of deleted job and attempt directories
+   * @param files number of deleted files, outside of the deleted directories included
+   * @param bytes total size of the deleted files
+   */
+  record Result(long directories, long files, long bytes) {}
+
+  private final int parallelism;
+  private final RateLimiter deleteRateLimiter;
+
+  /**
+   * Cleaner.
+   *
+   * @param parallelism number of job directories processed at the same time
+   * @param maxDeletesPerSecond maximum number of files and directories deleted per second
+   */
+  WorkspaceDirectoryCleaner(final int parallelism, final double maxDeletesPerSecond) {
+    this.parallelism = Math.max(1, parallelism);
+    this.deleteRateLimiter = RateLimiter.create(maxDeletesPerSecond);
+  }
+
+  /**
+   * Delete the job and attempt directories of a workspace that were not modified since a cutoff.
+   *
+   * @param workspaceRoot root of the workspace
+   * @param cutoff directories and files modified before this are deleted
+   * @return what was deleted
+   * @throws IOException if the workspace root cannot be listed
+   * @throws InterruptedException if interrupted while waiting for the job directories to be processed
+   */
+  Result clean(final Path workspaceRoot, final Instant cutoff) throws IOException, InterruptedException {
+    final Counters counters = new Counters();
+    final ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+      final Thread thread = new Thread(r, "workspace-cleaner-" + counters.threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    // bounds the job directories waiting for a thread, so that the workspace root is listed as the
+    // directories are processed rather than all at once
+    final Semaphore inFlight = new Semaphore(2 * parallelism);
+    try (final DirectoryStream<Path> jobDirectories = Files.newDirectoryStream(workspaceRoot)) {
+      for (final Path jobDirectory : jobDirectories) {
+        inFlight.acquire();
+        executor.execute(() -> {
+          try {
+            cleanJobDirectory(jobDirectory, cutoff, counters);
+          } finally {
+            inFlight.release();
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      if (!executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+        executor.shutdownNow();
+      }
+    }
+    return new Result(counters.directories.get(), counters.files.get(), counters.bytes.get());
+  }
+
+  private void cleanJobDirectory(final Path jobDirectory, final Instant cutoff, final Counters counters) {
+    try {
+      if (!Files.isDirectory(jobDirectory, LinkOption.NOFOLLOW_LINKS)) {
+        deleteFileIfOlder(jobDirectory, cutoff, counters);
+        return;
+      }
+      // read before deleting attempt directories, which updates it
+      final Instant jobModifiedAt = modifiedAt(jobDirectory);
+      try (final DirectoryStream<Path> entries = Files.newDirectoryStream(jobDirectory)) {
+        for (final Path entry : entries) {
+          if (!Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+            deleteFileIfOlder(entry, cutoff, counters);
+          } else if (isUnmodifiedSince(entry, cutoff)) {
+            deleteDirectory(entry, counters);
+          }
+        }
+      }
+      if (jobModifiedAt.isBefore(cutoff) && isEmpty(jobDirectory)) {
+        deleteRateLimiter.acquire();
+        Files.deleteIfExists(jobDirectory);
+        counters.directories.incrementAndGet();
+      }
+    } catch (final IOException | DirectoryIteratorException e) {
+      log.warn("Failed to clean workspace directory {}", jobDirectory, e);
+    }
+  }
+
+  /**
+   * Whether neither the directory nor any of its direct entries were modified since the cutoff.
+   */
+  private static boolean isUnmodifiedSince(final Path directory, final Instant cutoff) throws IOException {
+    if (!modifiedAt(directory).isBefore(cutoff)) {
+      return false;
+    }
+    try (final DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+      for (final Path entry : entries) {
+        if (!modifiedAt(entry).isBefore(cutoff)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private void deleteDirectory(final Path directory, final Counters counters) throws IOException {
+    Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+
+      @Override
+      public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) throws IOException {
+        deleteRateLimiter.acquire();
+        Files.delete(file);
+        counters.files.incrementAndGet();
+        counters.bytes.addAndGet(attributes.size());
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult postVisitDirectory(final Path dir, final IOException e) throws IOException {
+        if (e != null) {
+          throw e;
+        }
+        deleteRateLimiter.acquire();
+        Files.delete(dir);
+        return FileVisitResult.CONTINUE;
+      }
+
+    });
+    counters.directories.incrementAndGet();
+  }
+
+  private void deleteFileIfOlder(final Path file, final Instant cutoff, final Counters counters) throws IOException {
+    final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+    if (attributes.lastModifiedTime().toInstant().isBefore(cutoff)) {
+      deleteRateLimiter.acquire();
+      if (Files.deleteIfExists(file)) {
+        counters.files.incrementAndGet();
+        counters.bytes.addAndGet(attributes.size());
+      }
+    }
+  }
+
+  private static Instant modifiedAt(final Path path) throws IOException {
+    return Files.getLastModifiedTime(path, LinkOption.NOFOLLOW_LINKS).toInstant();
+  }
+
+  private static boolean isEmpty(final Path directory) throws IOException {
+    try (final DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+      return !entries.iterator().hasNext();
+    }
+  }
+
+  private static final class Counters {
+
+    private final AtomicInteger threads = new AtomicInteger();
+    private final AtomicLong directories = new AtomicLong();
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+  }
+
+}
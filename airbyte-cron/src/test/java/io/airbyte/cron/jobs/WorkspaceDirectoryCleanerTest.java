@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorkspaceDirectoryCleanerTest {
+
+  private static final Instant NOW = Instant.now();
+  private static final Instant CUTOFF = NOW.minus(Duration.ofDays(30));
+  private static final Instant OLD = NOW.minus(Duration.ofDays(45));
+  private static final int FILE_SIZE = 100;
+
+  @TempDir
+  Path workspaceRoot;
+
+  @Test
+  void testDeletesOldJobAndAttemptDirectories() throws IOException, InterruptedException {
+    // jobs whose attempts are all old
+    final int oldJobs = 50;
+    for (int i = 0; i < oldJobs; i++) {
+      final Path job = workspaceRoot.resolve(String.valueOf(i));
+      createAttempt(job.resolve("0"), OLD, OLD);
+      createAttempt(job.resolve("1"), OLD, OLD);
+      touch(job, OLD);
+    }
+    // an old attempt and a recent one
+    final Path retriedJob = workspaceRoot.resolve("100");
+    createAttempt(retriedJob.resolve("0"), OLD, OLD);
+    createAttempt(retriedJob.resolve("1"), NOW, NOW);
+    touch(retriedJob, OLD);
+    // an old attempt that is still writing its log
+    final Path runningJob = workspaceRoot.resolve("101");
+    createAttempt(runningJob.resolve("0"), OLD, NOW);
+    touch(runningJob, OLD);
+    // a recent job
+    final Path recentJob = workspaceRoot.resolve("102");
+    createAttempt(recentJob.resolve("0"), NOW, NOW);
+    touch(recentJob, NOW);
+    // files directly in the workspace root
+    final Path oldFile = createFile(workspaceRoot.resolve("old.log"), OLD);
+    final Path recentFile = createFile(workspaceRoot.resolve("recent.log"), NOW);
+
+    final WorkspaceDirectoryCleaner.Result result = new WorkspaceDirectoryCleaner(4, 100_000).clean(workspaceRoot, CUTOFF);
+
+    for (int i = 0; i < oldJobs; i++) {
+      assertFalse(Files.exists(workspaceRoot.resolve(String.valueOf(i))));
+    }
+    assertFalse(Files.exists(retriedJob.resolve("0")));
+    assertTrue(Files.exists(retriedJob.resolve("1").resolve("logs.log")));
+    assertTrue(Files.exists(runningJob.resolve("0").resolve("logs.log")));
+    assertTrue(Files.exists(recentJob.resolve("0").resolve("logs.log")));
+    assertFalse(Files.exists(oldFile));
+    assertTrue(Files.exists(recentFile));
+
+    // the job directories and their 2 attempts, and the first attempt of the retried job
+    assertEquals(3L * oldJobs + 1, result.directories());
+    // the 3 files of each deleted attempt, and the file in the workspace root
+    final long deletedFiles = 3L * (2L * oldJobs + 1) + 1;
+    assertEquals(deletedFiles, result.files());
+    assertEquals(deletedFiles * FILE_SIZE, result.bytes());
+  }
+
+  @Test
+  void testEmptyWorkspace() throws IOException, InterruptedException {
+    final WorkspaceDirectoryCleaner.Result result = new WorkspaceDirectoryCleaner(2, 100_000).clean(workspaceRoot, CUTOFF);
+
+    assertEquals(new WorkspaceDirectoryCleaner.Result(0, 0, 0), result);
+  }
+
+  /**
+   * Create an attempt directory with a log, a config file and a nested file, like the ones written by
+   * the docker process factory.
+   */
+  private static void createAttempt(final Path attempt, final Instant modifiedAt, final Instant logModifiedAt) throws IOException {
+    Files.createDirectories(attempt.resolve("normalize"));
+    createFile(attempt.resolve("logs.log"), logModifiedAt);
+    createFile(attempt.resolve("source_config.json"), modifiedAt);
+    createFile(attempt.resolve("normalize").resolve("profiles.yml"), modifiedAt);
+    touch(attempt.resolve("normalize"), modifiedAt);
+    touch(attempt, modifiedAt);
+  }
+
+  private static Path createFile(final Path file, final Instant modifiedAt) throws IOException {
+    Files.write(file, new byte[FILE_SIZE]);
+    touch(file, modifiedAt);
+    return file;
+  }
+
+  private static void touch(final Path path, final Instant modifiedAt) throws IOException {
+    Files.setLastModifiedTime(path, FileTime.from(modifiedAt));
+  }
+
+}
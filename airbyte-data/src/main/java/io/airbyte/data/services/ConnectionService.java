@@ -7,6 +7,7 @@ package io.airbyte.data.services;
 import io.airbyte.config.Geography;
 import io.airbyte.config.StandardSync;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.StandardSyncListQuery;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
@@ -42,6 +43,8 @@ public interface ConnectionService {
 
   Map<UUID, List<StandardSync>> listWorkspaceStandardSyncsPaginated(StandardSyncsQueryPaginated standardSyncsQueryPaginated) throws IOException;
 
+  List<StandardSync> listWorkspaceStandardSyncsLight(StandardSyncListQuery standardSyncListQuery) throws IOException;
+
   List<StandardSync> listConnectionsBySource(UUID sourceId, boolean includeDeleted) throws IOException;
 
   List<StandardSync> listConnectionsByActorDefinitionIdAndType(UUID actorDefinitionId, String actorTypeValue, boolean includeDeleted)
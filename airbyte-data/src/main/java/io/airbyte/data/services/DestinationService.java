@@ -9,6 +9,7 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.DestinationAndDefinition;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.validation.json.JsonValidationException;
@@ -66,6 +67,10 @@ public interface DestinationService {
                               final List<ActorDefinitionBreakingChange> breakingChangesForDefinition)
       throws IOException;
 
+  void writeConnectorMetadata(final List<ConnectorMetadata<StandardDestinationDefinition>> connectorMetadata,
+                              final List<StandardDestinationDefinition> updatedDefinitions)
+      throws IOException;
+
   List<DestinationConnection> listDestinationsWithVersionIds(final List<UUID> actorDefinitionVersionIds) throws IOException;
 
 }
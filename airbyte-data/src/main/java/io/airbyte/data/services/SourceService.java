@@ -9,6 +9,7 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.data.services.shared.SourceAndDefinition;
 import io.airbyte.validation.json.JsonValidationException;
@@ -59,6 +60,10 @@ public interface SourceService {
                               final List<ActorDefinitionBreakingChange> breakingChangesForDefinition)
       throws IOException;
 
+  void writeConnectorMetadata(final List<ConnectorMetadata<StandardSourceDefinition>> connectorMetadata,
+                              final List<StandardSourceDefinition> updatedDefinitions)
+      throws IOException;
+
   void writeCustomConnectorMetadata(final StandardSourceDefinition sourceDefinition,
                                     final ActorDefinitionVersion defaultVersion,
                                     final UUID scopeId,
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.impls.jooq;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.jooq.JSONB;
+import org.jooq.Record;
+
+/**
+ * Reads and writes the JSON of an actor catalog. Catalogs are written zstd compressed to the
+ * catalog_zstd column, while catalogs written before it existed stay in the catalog JSONB column.
+ */
+final class ActorCatalogCodec {
+
+  private ActorCatalogCodec() {}
+
+  /**
+   * Compress the JSON of a catalog for the catalog_zstd column.
+   *
+   * @param catalogJson catalog as JSON string
+   * @return zstd compressed catalog
+   */
+  static byte[] compress(final String catalogJson) {
+    return Zstd.compress(catalogJson.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Read the JSON of a catalog from an actor_catalog record, from whichever column holds it.
+   *
+   * @param record db record selecting both catalog columns
+   * @return catalog as JSON string
+   */
+  static String catalogJson(final Record record) {
+    final byte[] compressed = record.get(ACTOR_CATALOG.CATALOG_ZSTD);
+    if (compressed != null) {
+      return decompress(compressed);
+    }
+    final JSONB catalog = record.get(ACTOR_CATALOG.CATALOG);
+    return catalog.data();
+  }
+
+  private static String decompress(final byte[] compressed) {
+    try (final InputStream in = new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to decompress an actor catalog", e);
+    }
+  }
+
+}
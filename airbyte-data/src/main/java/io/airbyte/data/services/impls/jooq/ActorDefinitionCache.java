@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.impls.jooq;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache for connector definitions and definition versions. These rows are read on
+ * almost every API call and sync, but only change when definitions are applied or a custom
+ * connector is edited.
+ * <p>
+ * Entries expire after {@link #TTL} so that writes made by other processes are picked up. Writes
+ * made in this process call {@link #invalidateAll()}, which bumps a process-wide write generation.
+ * Every entry remembers the generation it was loaded in and is ignored once it is older than the
+ * current one, which also covers a read that raced with a write. Values are copied on the way in
+ * and out because callers are free to mutate what they get back.
+ * <p>
+ * Callers read with {@link #get}, and on a miss capture {@link #generation()} before querying the
+ * database and hand it to {@link #put}.
+ */
+final class ActorDefinitionCache {
+
+  /**
+   * What a cached value is, so that one instance can hold several kinds of lookups.
+   */
+  enum Kind {
+    SOURCE_DEFINITION,
+    DESTINATION_DEFINITION,
+    ACTOR_DEFINITION_VERSION,
+    ACTOR_DEFINITION_VERSION_FOR_TAG,
+    DEFAULT_VERSIONS
+  }
+
+  static final Duration TTL = Duration.ofSeconds(60);
+
+  private static final long MAX_ENTRIES = 10_000;
+  private static final AtomicLong WRITE_GENERATION = new AtomicLong();
+
+  private record Key(Kind kind, Object id) {}
+
+  private record Entry(long generation, Object value) {}
+
+  private final Cache<Key, Entry> entries = CacheBuilder.newBuilder()
+      .maximumSize(MAX_ENTRIES)
+      .expireAfterWrite(TTL)
+      .build();
+
+  /**
+   * Drop every cached definition and version in this process. Must be called after any write to the
+   * actor_definition or actor_definition_version tables.
+   */
+  static void invalidateAll() {
+    WRITE_GENERATION.incrementAndGet();
+  }
+
+  /**
+   * Current write generation. Capture it before loading a value from the database and pass it to
+   * {@link #put}.
+   */
+  long generation() {
+    return WRITE_GENERATION.get();
+  }
+
+  /**
+   * Get a copy of a cached value.
+   *
+   * @param kind kind of value
+   * @param id identifies the value within its kind, may be null for singletons
+   * @param copier deep copies the value
+   * @param <V> type of value
+   * @return copy of the cached value, or empty on a miss
+   */
+  @SuppressWarnings("unchecked")
+  <V> Optional<V> get(final Kind kind, final Object id, final UnaryOperator<V> copier) {
+    final Entry entry = entries.getIfPresent(new Key(kind, id));
+    if (entry != null && entry.generation() == WRITE_GENERATION.get()) {
+      count(OssMetricsRegistry.ACTOR_DEFINITION_CACHE_HIT, kind);
+      return Optional.of(copier.apply((V) entry.value()));
+    }
+    count(OssMetricsRegistry.ACTOR_DEFINITION_CACHE_MISS, kind);
+    return Optional.empty();
+  }
+
+  /**
+   * Cache a copy of a value loaded from the database, unless a write happened since it was loaded.
+   *
+   * @param kind kind of value
+   * @param id identifies the value within its kind, may be null for singletons
+   * @param generation generation captured before the value was loaded
+   * @param value value loaded from the database
+   * @param copier deep copies the value
+   * @param <V> type of value
+   * @return the value that was passed in
+   */
+  <V> V put(final Kind kind, final Object id, final long generation, final V value, final UnaryOperator<V> copier) {
+    if (generation == WRITE_GENERATION.get()) {
+      entries.put(new Key(kind, id), new Entry(generation, copier.apply(value)));
+    }
+    return value;
+  }
+
+  private void count(final OssMetricsRegistry metric, final Kind kind) {
+    MetricClientFactory.getMetricClient().count(metric, 1, new MetricAttribute(MetricTags.CACHE_KIND, kind.name().toLowerCase(Locale.ROOT)));
+  }
+
+}
@@ -12,6 +12,7 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.WORKSPACE;
 import static org.jooq.impl.DSL.asterisk;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Maps;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
@@ -24,6 +25,7 @@ import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ScopeType;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ActorDefinitionService;
+import io.airbyte.data.services.impls.jooq.ActorDefinitionCache.Kind;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.db.instance.configs.jooq.generated.Tables;
@@ -35,6 +37,8 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -59,6 +63,7 @@ import org.jooq.impl.DSL;
 public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
 
   private final ExceptionWrappingDatabase database;
+  private final ActorDefinitionCache definitionCache = new ActorDefinitionCache();
 
   @VisibleForTesting
   public ActorDefinitionServiceJooqImpl(@Named("configDatabase") final Database database) {
@@ -107,7 +112,14 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
   @Override
   public Map<UUID, ActorDefinitionVersion> getActorDefinitionIdsToDefaultVersionsMap()
       throws IOException {
-    return database.query(ctx -> ctx.select(ACTOR_DEFINITION.ID, ACTOR_DEFINITION_VERSION.asterisk())
+    final Optional<Map<UUID, ActorDefinitionVersion>> cached =
+        definitionCache.get(Kind.DEFAULT_VERSIONS, null, ActorDefinitionServiceJooqImpl::viewVersionsMap);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final long generation = definitionCache.generation();
+    final Map<UUID, ActorDefinitionVersion> defaultVersions = database.query(ctx -> ctx
+        .select(ACTOR_DEFINITION.ID, ACTOR_DEFINITION_VERSION.asterisk())
         .from(ACTOR_DEFINITION)
         .join(ACTOR_DEFINITION_VERSION)
         .on(ACTOR_DEFINITION.DEFAULT_VERSION_ID.eq(ACTOR_DEFINITION_VERSION.ID))
@@ -116,6 +128,7 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
         .collect(Collectors.toMap(
             record -> record.get(ACTOR_DEFINITION.ID),
             DbConverter::buildActorDefinitionVersion)));
+    return definitionCache.put(Kind.DEFAULT_VERSIONS, null, generation, defaultVersions, ActorDefinitionServiceJooqImpl::copyVersionsMap);
   }
 
   /**
@@ -129,7 +142,9 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
   public int updateActorDefinitionsDockerImageTag(List<UUID> actorDefinitionIds,
                                                   String targetImageTag)
       throws IOException {
-    return database.transaction(ctx -> writeSourceDefinitionImageTag(actorDefinitionIds, targetImageTag, ctx));
+    final int updated = database.transaction(ctx -> writeSourceDefinitionImageTag(actorDefinitionIds, targetImageTag, ctx));
+    ActorDefinitionCache.invalidateAll();
+    return updated;
   }
 
   /**
@@ -205,7 +220,9 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
   public ActorDefinitionVersion writeActorDefinitionVersion(
                                                             ActorDefinitionVersion actorDefinitionVersion)
       throws IOException {
-    return database.transaction(ctx -> writeActorDefinitionVersion(actorDefinitionVersion, ctx));
+    final ActorDefinitionVersion writtenVersion = database.transaction(ctx -> writeActorDefinitionVersion(actorDefinitionVersion, ctx));
+    ActorDefinitionCache.invalidateAll();
+    return writtenVersion;
   }
 
   /**
@@ -221,7 +238,18 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
   public Optional<ActorDefinitionVersion> getActorDefinitionVersion(UUID actorDefinitionId,
                                                                     String dockerImageTag)
       throws IOException {
-    return database.query(ctx -> getActorDefinitionVersion(actorDefinitionId, dockerImageTag, ctx));
+    final String cacheId = actorDefinitionId + ":" + dockerImageTag;
+    final Optional<ActorDefinitionVersion> cached = definitionCache.get(Kind.ACTOR_DEFINITION_VERSION_FOR_TAG, cacheId, Jsons::clone);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    final long generation = definitionCache.generation();
+    final Optional<ActorDefinitionVersion> actorDefinitionVersion =
+        database.query(ctx -> getActorDefinitionVersion(actorDefinitionId, dockerImageTag, ctx));
+    // only found versions are cached, a missing version is usually about to be written
+    actorDefinitionVersion.ifPresent(
+        version -> definitionCache.put(Kind.ACTOR_DEFINITION_VERSION_FOR_TAG, cacheId, generation, version, Jsons::clone));
+    return actorDefinitionVersion;
   }
 
   /**
@@ -236,10 +264,16 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
   @Override
   public ActorDefinitionVersion getActorDefinitionVersion(UUID actorDefinitionVersionId)
       throws IOException, ConfigNotFoundException {
-    return getActorDefinitionVersions(List.of(actorDefinitionVersionId))
+    final Optional<ActorDefinitionVersion> cached = definitionCache.get(Kind.ACTOR_DEFINITION_VERSION, actorDefinitionVersionId, Jsons::clone);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final long generation = definitionCache.generation();
+    final ActorDefinitionVersion actorDefinitionVersion = getActorDefinitionVersions(List.of(actorDefinitionVersionId))
         .stream()
         .findFirst()
         .orElseThrow(() -> new ConfigNotFoundException(ConfigSchema.ACTOR_DEFINITION_VERSION, actorDefinitionVersionId.toString()));
+    return definitionCache.put(Kind.ACTOR_DEFINITION_VERSION, actorDefinitionVersionId, generation, actorDefinitionVersion, Jsons::clone);
   }
 
   /**
@@ -327,6 +361,7 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
         .set(Tables.ACTOR_DEFINITION_VERSION.UPDATED_AT, OffsetDateTime.now())
         .where(Tables.ACTOR_DEFINITION_VERSION.ID.in(actorDefinitionVersionIds))
         .execute());
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -583,4 +618,18 @@ public class ActorDefinitionServiceJooqImpl implements ActorDefinitionService {
         .map(DbConverter::buildActorDefinitionVersion);
   }
 
+  /**
+   * Read-only view of a cached map that copies a version only when the caller reads it, so that a
+   * cache hit does not copy every default version.
+   */
+  private static Map<UUID, ActorDefinitionVersion> viewVersionsMap(final Map<UUID, ActorDefinitionVersion> versions) {
+    return Maps.transformValues(Collections.unmodifiableMap(versions), Jsons::clone);
+  }
+
+  private static Map<UUID, ActorDefinitionVersion> copyVersionsMap(final Map<UUID, ActorDefinitionVersion> versions) {
+    final Map<UUID, ActorDefinitionVersion> copy = new HashMap<>(versions.size());
+    versions.forEach((actorDefinitionId, version) -> copy.put(actorDefinitionId, Jsons.clone(version)));
+    return copy;
+  }
+
 }
@@ -9,6 +9,7 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import io.airbyte.commons.json.Jsons;
@@ -35,7 +36,7 @@ import java.util.stream.Collectors;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
 import org.jooq.Record;
-import org.jooq.Record2;
+import org.jooq.Record3;
 import org.jooq.Result;
 import org.jooq.impl.DSL;
 import org.slf4j.Logger;
@@ -229,6 +230,11 @@ public class CatalogServiceJooqImpl implements CatalogService {
    * Store an Airbyte catalog in DB if it is not present already. Checks in the config DB if the
    * catalog is present already, if so returns it identifier. If not present, it is inserted in DB
    * with a new identifier and that identifier is returned.
+   * <p>
+   * Catalogs are looked up by the SHA-256 digest of their canonical JSON, which is unique, so a
+   * catalog that was stored before is found without reading or deserializing any stored catalog.
+   * Only rows that do not have a digest yet fall back to the older 32-bit hashes, which need a full
+   * comparison; such a row gets its digest once it is matched.
    *
    * @param airbyteCatalog the catalog to be cached
    * @param context - db context
@@ -238,33 +244,57 @@ public class CatalogServiceJooqImpl implements CatalogService {
   private UUID getOrInsertActorCatalog(final AirbyteCatalog airbyteCatalog,
                                        final DSLContext context,
                                        final OffsetDateTime timestamp) {
+    final List<HashCode> canonicalHashes = canonicalHashes(airbyteCatalog);
+    final String digest = canonicalHashes == null ? null : canonicalHashes.get(0).toString();
+    final String canonicalCatalogHash = canonicalHashes == null ? null : canonicalHashes.get(1).toString();
 
-    final String canonicalCatalogHash = generateCanonicalHash(airbyteCatalog);
-    UUID catalogId = lookupCatalogId(canonicalCatalogHash, airbyteCatalog, context);
-    if (catalogId != null) {
-      return catalogId;
+    if (digest != null) {
+      final UUID catalogId = findCatalogIdByDigest(digest, context);
+      if (catalogId != null) {
+        return catalogId;
+      }
     }
 
-    final String oldCatalogHash = generateOldHash(airbyteCatalog);
-    catalogId = lookupCatalogId(oldCatalogHash, airbyteCatalog, context);
+    UUID catalogId = lookupCatalogId(canonicalCatalogHash, airbyteCatalog, context);
+    if (catalogId == null) {
+      final String oldCatalogHash = generateOldHash(airbyteCatalog);
+      catalogId = lookupCatalogId(oldCatalogHash, airbyteCatalog, context);
+    }
     if (catalogId != null) {
+      if (digest != null) {
+        context.update(ACTOR_CATALOG)
+            .set(ACTOR_CATALOG.CATALOG_DIGEST, digest)
+            .where(ACTOR_CATALOG.ID.eq(catalogId))
+            .and(ACTOR_CATALOG.CATALOG_DIGEST.isNull())
+            .execute();
+      }
       return catalogId;
     }
 
-    return insertCatalog(airbyteCatalog, canonicalCatalogHash, context, timestamp);
+    return insertCatalog(airbyteCatalog, canonicalCatalogHash, digest, context, timestamp);
   }
 
-  private String generateCanonicalHash(final AirbyteCatalog airbyteCatalog) {
-    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
+  /**
+   * Hashes the canonical JSON of the catalog in a single pass: the SHA-256 digest, which the digest
+   * backfill in V0_50_24_010__AddDigestToActorCatalog must compute the same way, and the 32-bit
+   * canonical hash.
+   */
+  private List<HashCode> canonicalHashes(final AirbyteCatalog airbyteCatalog) {
     try {
-      return hashFunction.hashBytes(Jsons.canonicalJsonSerialize(airbyteCatalog)
-          .getBytes(Charsets.UTF_8)).toString();
+      return Jsons.canonicalJsonHash(airbyteCatalog, Hashing.sha256(), Hashing.murmur3_32_fixed());
     } catch (final IOException e) {
       LOGGER.error("Failed to serialize AirbyteCatalog to canonical JSON", e);
       return null;
     }
   }
 
+  private UUID findCatalogIdByDigest(final String digest, final DSLContext context) {
+    return context.select(ACTOR_CATALOG.ID)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.CATALOG_DIGEST.eq(digest))
+        .fetchOne(ACTOR_CATALOG.ID);
+  }
+
   private UUID lookupCatalogId(final String catalogHash, final AirbyteCatalog airbyteCatalog, final DSLContext context) {
     if (catalogHash == null) {
       return null;
@@ -279,15 +309,24 @@ public class CatalogServiceJooqImpl implements CatalogService {
 
   private UUID insertCatalog(final AirbyteCatalog airbyteCatalog,
                              final String catalogHash,
+                             final String digest,
                              final DSLContext context,
                              final OffsetDateTime timestamp) {
     final UUID catalogId = UUID.randomUUID();
-    context.insertInto(ACTOR_CATALOG)
+    final int inserted = context.insertInto(ACTOR_CATALOG)
         .set(ACTOR_CATALOG.ID, catalogId)
-        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(airbyteCatalog)))
-        .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash)
+        .set(ACTOR_CATALOG.CATALOG_ZSTD, ActorCatalogCodec.compress(Jsons.serialize(airbyteCatalog)))
+        .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash != null ? catalogHash : generateOldHash(airbyteCatalog))
+        .set(ACTOR_CATALOG.CATALOG_DIGEST, digest)
         .set(ACTOR_CATALOG.CREATED_AT, timestamp)
-        .set(ACTOR_CATALOG.MODIFIED_AT, timestamp).execute();
+        .set(ACTOR_CATALOG.MODIFIED_AT, timestamp)
+        .onConflict(ACTOR_CATALOG.CATALOG_DIGEST)
+        .doNothing()
+        .execute();
+    if (inserted == 0) {
+      // the same catalog was inserted concurrently
+      return findCatalogIdByDigest(digest, context);
+    }
     return catalogId;
   }
 
@@ -301,17 +340,22 @@ public class CatalogServiceJooqImpl implements CatalogService {
     return null;
   }
 
+  /**
+   * Only looks at catalogs without a digest, every other catalog is found by its digest.
+   */
   private Map<UUID, AirbyteCatalog> findCatalogByHash(final String catalogHash, final DSLContext context) {
-    final Result<Record2<UUID, JSONB>> records = context.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG)
+    final Result<Record3<UUID, JSONB, byte[]>> records = context.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG, ACTOR_CATALOG.CATALOG_ZSTD)
         .from(ACTOR_CATALOG)
-        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash)).fetch();
+        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash))
+        .and(ACTOR_CATALOG.CATALOG_DIGEST.isNull())
+        .fetch();
 
     final Map<UUID, AirbyteCatalog> result = new HashMap<>();
     for (final Record record : records) {
       // We do not apply the on-the-fly migration here because the only caller is getOrInsertActorCatalog
       // which is using this to figure out if the catalog has already been inserted. Migrating on the fly
       // here will cause us to add a duplicate each time we check for existence of a catalog.
-      final AirbyteCatalog catalog = Jsons.deserialize(record.get(ACTOR_CATALOG.CATALOG).toString(), AirbyteCatalog.class);
+      final AirbyteCatalog catalog = Jsons.deserialize(ActorCatalogCodec.catalogJson(record), AirbyteCatalog.class);
       result.put(record.get(ACTOR_CATALOG.ID), catalog);
     }
     return result;
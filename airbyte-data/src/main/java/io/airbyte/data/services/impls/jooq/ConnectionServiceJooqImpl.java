@@ -15,6 +15,7 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.STATE;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.groupConcat;
 import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.select;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -27,6 +28,7 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
+import io.airbyte.data.services.shared.StandardSyncListQuery;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.db.Database;
@@ -36,6 +38,7 @@ import io.airbyte.db.instance.configs.jooq.generated.enums.AutoPropagationStatus
 import io.airbyte.db.instance.configs.jooq.generated.enums.NotificationType;
 import io.airbyte.db.instance.configs.jooq.generated.enums.ReleaseStage;
 import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
+import io.airbyte.db.instance.configs.jooq.generated.tables.Connection;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.SchemaManagementRecord;
 import io.airbyte.protocol.models.CatalogHelpers;
@@ -58,9 +61,11 @@ import java.util.Set;
 import java.util.UUID;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
 import org.jooq.SelectJoinStep;
 import org.jooq.TableField;
 import org.jooq.impl.TableImpl;
@@ -71,6 +76,20 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
   private static final String OPERATION_IDS_AGG_DELIMITER = ",";
   private static final String OPERATION_IDS_AGG_FIELD = "operation_ids_agg";
 
+  // columns needed to list connections, leaving out the catalog and field selection json
+  private static final List<Field<?>> CONNECTION_LIGHT_FIELDS = List.of(
+      CONNECTION.ID,
+      CONNECTION.NAME,
+      CONNECTION.STATUS,
+      CONNECTION.SOURCE_ID,
+      CONNECTION.DESTINATION_ID,
+      CONNECTION.MANUAL,
+      CONNECTION.SCHEDULE,
+      CONNECTION.SCHEDULE_TYPE,
+      CONNECTION.SCHEDULE_DATA,
+      CONNECTION.SOURCE_CATALOG_ID,
+      CONNECTION.BREAKING_CHANGE);
+
   private final ExceptionWrappingDatabase database;
 
   @VisibleForTesting
@@ -297,6 +316,56 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     return getWorkspaceIdToStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * List connections for workspace without their catalogs, one page at a time. Only the columns
+   * needed to show a connection in a list are read, so the returned syncs have no catalog, field
+   * selection, operation ids, resource requirements or notification settings. Filtering, ordering
+   * and the keyset cursor are all applied in the query.
+   *
+   * @param standardSyncListQuery query
+   * @return page of connections ordered by name then id
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<StandardSync> listWorkspaceStandardSyncsLight(final StandardSyncListQuery standardSyncListQuery) throws IOException {
+    final Connection cursorConnection = CONNECTION.as("cursor_connection");
+    final Condition keysetCondition;
+    if (standardSyncListQuery.afterConnectionId() == null) {
+      keysetCondition = noCondition();
+    } else {
+      final var cursor = select(cursorConnection.NAME, cursorConnection.ID)
+          .from(cursorConnection)
+          .where(cursorConnection.ID.eq(standardSyncListQuery.afterConnectionId()));
+      keysetCondition = standardSyncListQuery.descending()
+          ? row(CONNECTION.NAME, CONNECTION.ID).lessThan(cursor)
+          : row(CONNECTION.NAME, CONNECTION.ID).greaterThan(cursor);
+    }
+
+    final Result<Record> result = database.query(ctx -> {
+      final var ordered = ctx
+          .select(CONNECTION_LIGHT_FIELDS)
+          .from(CONNECTION)
+          // join with source actors so that we can filter by workspaceId
+          .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+          .where(ACTOR.WORKSPACE_ID.eq(standardSyncListQuery.workspaceId())
+              .and(standardSyncListQuery.destinationId() == null || standardSyncListQuery.destinationId().isEmpty() ? noCondition()
+                  : CONNECTION.DESTINATION_ID.in(standardSyncListQuery.destinationId()))
+              .and(standardSyncListQuery.sourceId() == null || standardSyncListQuery.sourceId().isEmpty() ? noCondition()
+                  : CONNECTION.SOURCE_ID.in(standardSyncListQuery.sourceId()))
+              .and(standardSyncListQuery.nameContains() == null || standardSyncListQuery.nameContains().isEmpty() ? noCondition()
+                  : CONNECTION.NAME.containsIgnoreCase(standardSyncListQuery.nameContains()))
+              .and(standardSyncListQuery.includeDeleted() ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated))
+              .and(keysetCondition))
+          .orderBy(
+              standardSyncListQuery.descending() ? CONNECTION.NAME.desc() : CONNECTION.NAME.asc(),
+              standardSyncListQuery.descending() ? CONNECTION.ID.desc() : CONNECTION.ID.asc());
+      final ResultQuery<Record> query = standardSyncListQuery.pageSize() == null ? ordered : ordered.limit(standardSyncListQuery.pageSize());
+      return query.fetch();
+    });
+
+    return result.map(DbConverter::buildStandardSyncLight);
+  }
+
   /**
    * List connections that use a source.
    *
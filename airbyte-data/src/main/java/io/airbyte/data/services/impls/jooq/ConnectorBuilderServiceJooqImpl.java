@@ -269,6 +269,7 @@ public class ConnectorBuilderServiceJooqImpl implements ConnectorBuilderService
           .execute();
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -346,6 +347,7 @@ public class ConnectorBuilderServiceJooqImpl implements ConnectorBuilderService
       insertActiveDeclarativeManifest(declarativeManifest, ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -393,6 +395,7 @@ public class ConnectorBuilderServiceJooqImpl implements ConnectorBuilderService
       upsertActiveDeclarativeManifest(new ActiveDeclarativeManifest().withActorDefinitionId(sourceDefinitionId).withVersion(version), ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -139,6 +139,34 @@ public class DbConverter {
         .withNotifySchemaChangesByEmail(isEmailNotificationEnabled);
   }
 
+  /**
+   * Build a connection (a.k.a. StandardSync) from a db record that only holds the columns needed
+   * to list it. The catalog and other configuration that is not part of the record is left unset.
+   *
+   * @param record db record.
+   * @return connection (a.k.a. StandardSync) without its catalog
+   */
+  public static StandardSync buildStandardSyncLight(final Record record) {
+    return new StandardSync()
+        .withConnectionId(record.get(CONNECTION.ID))
+        .withSourceId(record.get(CONNECTION.SOURCE_ID))
+        .withDestinationId(record.get(CONNECTION.DESTINATION_ID))
+        .withName(record.get(CONNECTION.NAME))
+        .withStatus(
+            record.get(CONNECTION.STATUS) == null ? null
+                : Enums.toEnum(record.get(CONNECTION.STATUS, String.class), Status.class).orElseThrow())
+        .withSchedule(record.get(CONNECTION.SCHEDULE) == null ? null
+            : Jsons.deserialize(record.get(CONNECTION.SCHEDULE).data(), Schedule.class))
+        .withManual(record.get(CONNECTION.MANUAL))
+        .withScheduleType(record.get(CONNECTION.SCHEDULE_TYPE) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.SCHEDULE_TYPE, String.class), ScheduleType.class).orElseThrow())
+        .withScheduleData(
+            record.get(CONNECTION.SCHEDULE_DATA) == null ? null
+                : Jsons.deserialize(record.get(CONNECTION.SCHEDULE_DATA).data(), ScheduleData.class))
+        .withSourceCatalogId(record.get(CONNECTION.SOURCE_CATALOG_ID))
+        .withBreakingChange(record.get(CONNECTION.BREAKING_CHANGE));
+  }
+
   private static ConfiguredAirbyteCatalog parseConfiguredAirbyteCatalog(final String configuredAirbyteCatalogString) {
     final ConfiguredAirbyteCatalog configuredAirbyteCatalog = Jsons.deserialize(configuredAirbyteCatalogString, ConfiguredAirbyteCatalog.class);
     // On-the-fly migration of persisted data types related objects (protocol v0->v1)
@@ -316,7 +344,7 @@ public class DbConverter {
   public static ActorCatalog buildActorCatalog(final Record record) {
     return new ActorCatalog()
         .withId(record.get(ACTOR_CATALOG.ID))
-        .withCatalog(Jsons.jsonNode(parseAirbyteCatalog(record.get(ACTOR_CATALOG.CATALOG).toString())))
+        .withCatalog(Jsons.jsonNode(parseAirbyteCatalog(ActorCatalogCodec.catalogJson(record))))
         .withCatalogHash(record.get(ACTOR_CATALOG.CATALOG_HASH));
   }
 
@@ -329,7 +357,7 @@ public class DbConverter {
   public static ActorCatalogWithUpdatedAt buildActorCatalogWithUpdatedAt(final Record record) {
     return new ActorCatalogWithUpdatedAt()
         .withId(record.get(ACTOR_CATALOG.ID))
-        .withCatalog(Jsons.jsonNode(parseAirbyteCatalog(record.get(ACTOR_CATALOG.CATALOG).toString())))
+        .withCatalog(Jsons.jsonNode(parseAirbyteCatalog(ActorCatalogCodec.catalogJson(record))))
         .withCatalogHash(record.get(ACTOR_CATALOG.CATALOG_HASH))
         .withUpdatedAt(record.get(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC));
   }
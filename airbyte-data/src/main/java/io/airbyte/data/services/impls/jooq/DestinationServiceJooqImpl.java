@@ -32,6 +32,8 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.DestinationService;
+import io.airbyte.data.services.impls.jooq.ActorDefinitionCache.Kind;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.DestinationAndDefinition;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.db.Database;
@@ -77,6 +79,7 @@ import org.jooq.impl.DSL;
 public class DestinationServiceJooqImpl implements DestinationService {
 
   private final ExceptionWrappingDatabase database;
+  private final ActorDefinitionCache definitionCache = new ActorDefinitionCache();
 
   @VisibleForTesting
   public DestinationServiceJooqImpl(@Named("configDatabase") final Database database) {
@@ -96,9 +99,16 @@ public class DestinationServiceJooqImpl implements DestinationService {
   public StandardDestinationDefinition getStandardDestinationDefinition(
                                                                         UUID destinationDefinitionId)
       throws JsonValidationException, IOException, ConfigNotFoundException {
-    return destDefQuery(Optional.of(destinationDefinitionId), true)
+    final Optional<StandardDestinationDefinition> cached =
+        definitionCache.get(Kind.DESTINATION_DEFINITION, destinationDefinitionId, Jsons::clone);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final long generation = definitionCache.generation();
+    final StandardDestinationDefinition destinationDefinition = destDefQuery(Optional.of(destinationDefinitionId), true)
         .findFirst()
         .orElseThrow(() -> new ConfigNotFoundException(ConfigSchema.STANDARD_DESTINATION_DEFINITION, destinationDefinitionId));
+    return definitionCache.put(Kind.DESTINATION_DEFINITION, destinationDefinitionId, generation, destinationDefinition, Jsons::clone);
   }
 
   /**
@@ -227,6 +237,7 @@ public class DestinationServiceJooqImpl implements DestinationService {
       writeStandardDestinationDefinition(Collections.singletonList(destinationDefinition), ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -389,6 +400,7 @@ public class DestinationServiceJooqImpl implements DestinationService {
           io.airbyte.db.instance.configs.jooq.generated.enums.ScopeType.valueOf(scopeType.toString()), ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -411,6 +423,35 @@ public class DestinationServiceJooqImpl implements DestinationService {
       writeConnectorMetadata(destinationDefinition, actorDefinitionVersion, breakingChangesForDefinition, ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
+  }
+
+  /**
+   * Write metadata for several destination connectors in one transaction. Connectors in connectorMetadata
+   * get their definition, breaking changes and default version written as in
+   * {@link #writeConnectorMetadata(StandardDestinationDefinition, ActorDefinitionVersion, List)}.
+   * Definitions in updatedDefinitions must already exist and only have their global metadata
+   * written.
+   *
+   * @param connectorMetadata connectors to write the definition and default version of
+   * @param updatedDefinitions existing definitions to update, keeping their default version
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void writeConnectorMetadata(final List<ConnectorMetadata<StandardDestinationDefinition>> connectorMetadata,
+                                     final List<StandardDestinationDefinition> updatedDefinitions)
+      throws IOException {
+    if (connectorMetadata.isEmpty() && updatedDefinitions.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      for (final ConnectorMetadata<StandardDestinationDefinition> metadata : connectorMetadata) {
+        writeConnectorMetadata(metadata.definition(), metadata.actorDefinitionVersion(), metadata.breakingChangesForDefinition(), ctx);
+      }
+      writeStandardDestinationDefinition(updatedDefinitions, ctx);
+      return null;
+    });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -32,6 +32,8 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.SourceService;
+import io.airbyte.data.services.impls.jooq.ActorDefinitionCache.Kind;
+import io.airbyte.data.services.shared.ConnectorMetadata;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.data.services.shared.SourceAndDefinition;
 import io.airbyte.db.Database;
@@ -82,6 +84,7 @@ public class SourceServiceJooqImpl implements SourceService {
 
   private final ExceptionWrappingDatabase database;
   private final static long heartbeatMaxSecondBetweenMessage = 3600L;
+  private final ActorDefinitionCache definitionCache = new ActorDefinitionCache();
 
   public SourceServiceJooqImpl(@Named("configDatabase") Database database) {
     this.database = new ExceptionWrappingDatabase(database);
@@ -99,9 +102,15 @@ public class SourceServiceJooqImpl implements SourceService {
   @Override
   public StandardSourceDefinition getStandardSourceDefinition(UUID sourceDefinitionId)
       throws JsonValidationException, IOException, ConfigNotFoundException {
-    return sourceDefQuery(Optional.of(sourceDefinitionId), true)
+    final Optional<StandardSourceDefinition> cached = definitionCache.get(Kind.SOURCE_DEFINITION, sourceDefinitionId, Jsons::clone);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final long generation = definitionCache.generation();
+    final StandardSourceDefinition sourceDefinition = sourceDefQuery(Optional.of(sourceDefinitionId), true)
         .findFirst()
         .orElseThrow(() -> new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefinitionId));
+    return definitionCache.put(Kind.SOURCE_DEFINITION, sourceDefinitionId, generation, sourceDefinition, Jsons::clone);
   }
 
   /**
@@ -229,6 +238,7 @@ public class SourceServiceJooqImpl implements SourceService {
       writeStandardSourceDefinition(Collections.singletonList(sourceDefinition), ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
@@ -399,6 +409,35 @@ public class SourceServiceJooqImpl implements SourceService {
       writeConnectorMetadata(sourceDefinition, actorDefinitionVersion, breakingChangesForDefinition, ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
+  }
+
+  /**
+   * Write metadata for several source connectors in one transaction. Connectors in connectorMetadata
+   * get their definition, breaking changes and default version written as in
+   * {@link #writeConnectorMetadata(StandardSourceDefinition, ActorDefinitionVersion, List)}.
+   * Definitions in updatedDefinitions must already exist and only have their global metadata
+   * written.
+   *
+   * @param connectorMetadata connectors to write the definition and default version of
+   * @param updatedDefinitions existing definitions to update, keeping their default version
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void writeConnectorMetadata(final List<ConnectorMetadata<StandardSourceDefinition>> connectorMetadata,
+                                     final List<StandardSourceDefinition> updatedDefinitions)
+      throws IOException {
+    if (connectorMetadata.isEmpty() && updatedDefinitions.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      for (final ConnectorMetadata<StandardSourceDefinition> metadata : connectorMetadata) {
+        writeConnectorMetadata(metadata.definition(), metadata.actorDefinitionVersion(), metadata.breakingChangesForDefinition(), ctx);
+      }
+      writeStandardSourceDefinition(updatedDefinitions, ctx);
+      return null;
+    });
+    ActorDefinitionCache.invalidateAll();
   }
 
   @Override
@@ -413,6 +452,7 @@ public class SourceServiceJooqImpl implements SourceService {
           io.airbyte.db.instance.configs.jooq.generated.enums.ScopeType.valueOf(scopeType.toString()), ctx);
       return null;
     });
+    ActorDefinitionCache.invalidateAll();
   }
 
   /**
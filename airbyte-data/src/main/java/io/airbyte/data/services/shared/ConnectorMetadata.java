@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.ActorDefinitionBreakingChange;
+import io.airbyte.config.ActorDefinitionVersion;
+import java.util.List;
+
+/**
+ * Metadata of one connector, i.e. its definition, the version to set as its default and its
+ * breaking changes. Used to write the metadata of several connectors at once.
+ *
+ * @param definition standard source or destination definition
+ * @param actorDefinitionVersion actor definition version to set as default
+ * @param breakingChangesForDefinition breaking changes for the definition
+ * @param <T> type of definition
+ */
+public record ConnectorMetadata<T>(T definition,
+                                   ActorDefinitionVersion actorDefinitionVersion,
+                                   List<ActorDefinitionBreakingChange> breakingChangesForDefinition) {
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query object for listing the connections of a workspace one page at a time. Connections are
+ * ordered by name then id, so the id of the last connection of a page is enough to resume from.
+ *
+ * @param workspaceId workspace to fetch connections for
+ * @param sourceId fetch connections with this source id
+ * @param destinationId fetch connections with this destination id
+ * @param nameContains only fetch connections whose name contains this string, ignoring case
+ * @param includeDeleted include tombstoned connections
+ * @param afterConnectionId keyset cursor, i.e. the id of the last connection of the previous page
+ * @param descending order by name descending instead of ascending
+ * @param pageSize limit, null to fetch every matching connection
+ */
+public record StandardSyncListQuery(@Nonnull UUID workspaceId,
+                                    List<UUID> sourceId,
+                                    List<UUID> destinationId,
+                                    String nameContains,
+                                    boolean includeDeleted,
+                                    UUID afterConnectionId,
+                                    boolean descending,
+                                    Integer pageSize) {
+
+}
@@ -10,19 +10,50 @@ import org.jooq.impl.DSL;
 
 /**
  * Database object for interacting with a Jooq connection.
+ * <p>
+ * Read-only queries that may scan a lot of rows, e.g. listings and reports, can be run on a
+ * separate connection pool, so that they do not hold up the connections of the other queries.
+ * Without one, they run on the same pool as the other queries.
  */
 public class Database {
 
   private final DSLContext dslContext;
+  private final DSLContext readOnlyDslContext;
 
   public Database(final DSLContext dslContext) {
+    this(dslContext, dslContext);
+  }
+
+  /**
+   * Database with a separate connection pool for read-only queries.
+   *
+   * @param dslContext context of the queries and transactions
+   * @param readOnlyDslContext context of the read-only queries, run through
+   *        {@link #queryReadOnly(ContextQueryFunction)}
+   */
+  public Database(final DSLContext dslContext, final DSLContext readOnlyDslContext) {
     this.dslContext = dslContext;
+    this.readOnlyDslContext = readOnlyDslContext;
   }
 
   public <T> T query(final ContextQueryFunction<T> transform) throws SQLException {
     return transform.query(dslContext);
   }
 
+  /**
+   * Run a query that does not write, on the read-only connection pool if there is one. The
+   * read-only pool may point to a replica, so the query should not depend on a write that was just
+   * made.
+   *
+   * @param transform query to run
+   * @param <T> type of return value
+   * @return value of query
+   * @throws SQLException exception when accessing db
+   */
+  public <T> T queryReadOnly(final ContextQueryFunction<T> transform) throws SQLException {
+    return transform.query(readOnlyDslContext);
+  }
+
   public <T> T transaction(final ContextQueryFunction<T> transform) throws SQLException {
     return dslContext.transactionResult(configuration -> transform.query(DSL.using(configuration)));
   }
@@ -34,6 +34,23 @@ public class ExceptionWrappingDatabase {
     }
   }
 
+  /**
+   * Run a query that does not write, on the read-only connection pool of the database if there is
+   * one.
+   *
+   * @param transform query to run
+   * @param <T> type of return value
+   * @return value of query
+   * @throws IOException exception when accessing db
+   */
+  public <T> T queryReadOnly(final ContextQueryFunction<T> transform) throws IOException {
+    try {
+      return database.queryReadOnly(transform);
+    } catch (final SQLException e) {
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Execute query in a transaction.
    *
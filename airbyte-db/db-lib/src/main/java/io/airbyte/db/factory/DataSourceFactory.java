@@ -9,6 +9,7 @@ import static org.postgresql.PGProperty.CONNECT_TIMEOUT;
 import com.google.common.base.Preconditions;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Map;
@@ -151,6 +152,40 @@ public class DataSourceFactory {
         .build();
   }
 
+  /**
+   * Constructs a new {@link DataSource} for read-only queries, e.g. listings and reports, so that they
+   * run on their own connection pool. The connections are read-only, which lets the database route
+   * them to a replica when the connection string points to one.
+   *
+   * @param username The username of the database user.
+   * @param password The password of the database user.
+   * @param driverClassName The fully qualified name of the JDBC driver class.
+   * @param jdbcConnectionString The JDBC connection string.
+   * @param poolName The name of the connection pool, used in its metrics.
+   * @param maximumPoolSize The maximum number of connections of the pool.
+   * @param metricsTrackerFactory The factory of the trackers of the metrics of the pool, or
+   *        {@code null} to not track them.
+   * @return The configured {@link DataSource}.
+   */
+  public static DataSource createReadOnly(final String username,
+                                          final String password,
+                                          final String driverClassName,
+                                          final String jdbcConnectionString,
+                                          final String poolName,
+                                          final Integer maximumPoolSize,
+                                          final MetricsTrackerFactory metricsTrackerFactory) {
+    return new DataSourceBuilder()
+        .withDriverClassName(driverClassName)
+        .withJdbcUrl(jdbcConnectionString)
+        .withPassword(password)
+        .withUsername(username)
+        .withPoolName(poolName)
+        .withMaximumPoolSize(maximumPoolSize)
+        .withReadOnly(true)
+        .withMetricsTrackerFactory(metricsTrackerFactory)
+        .build();
+  }
+
   /**
    * Utility method that attempts to close the provided {@link DataSource} if it implements
    * {@link Closeable}.
@@ -182,6 +217,9 @@ public class DataSourceFactory {
     private String password;
     private int port = 5432;
     private String username;
+    private String poolName;
+    private boolean readOnly;
+    private MetricsTrackerFactory metricsTrackerFactory;
     private static final String CONNECT_TIMEOUT_KEY = "connectTimeout";
     private static final Duration CONNECT_TIMEOUT_DEFAULT = Duration.ofSeconds(60);
 
@@ -291,6 +329,21 @@ public class DataSourceFactory {
       return this;
     }
 
+    public DataSourceBuilder withPoolName(final String poolName) {
+      this.poolName = poolName;
+      return this;
+    }
+
+    public DataSourceBuilder withReadOnly(final boolean readOnly) {
+      this.readOnly = readOnly;
+      return this;
+    }
+
+    public DataSourceBuilder withMetricsTrackerFactory(final MetricsTrackerFactory metricsTrackerFactory) {
+      this.metricsTrackerFactory = metricsTrackerFactory;
+      return this;
+    }
+
     public DataSource build() {
       final DatabaseDriver databaseDriver = DatabaseDriver.findByDriverClassName(driverClassName);
 
@@ -305,6 +358,13 @@ public class DataSourceFactory {
       config.setConnectionTimeout(connectionTimeoutMs);
       config.setPassword(password);
       config.setUsername(username);
+      config.setReadOnly(readOnly);
+      if (poolName != null) {
+        config.setPoolName(poolName);
+      }
+      if (metricsTrackerFactory != null) {
+        config.setMetricsTrackerFactory(metricsTrackerFactory);
+      }
       // Expose stats via JMX
       // (https://github.com/brettwooldridge/HikariCP/wiki/MBean-(JMX)-Monitoring-and-Management)
       config.setRegisterMbeans(true);
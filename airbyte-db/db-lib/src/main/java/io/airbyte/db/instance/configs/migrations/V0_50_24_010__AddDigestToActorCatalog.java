@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.jooq.impl.DSL.constraint;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds a catalog_digest column to actor_catalog holding the SHA-256 of the canonical JSON of the
+ * catalog, so that a catalog can be looked up by its content without reading the catalog column.
+ * Existing rows are backfilled in small chunks, and each chunk is streamed and hashed row by row
+ * since a catalog can be several megabytes. When several rows hold the same catalog only the first
+ * one gets the digest, the others keep a null digest so that the unique constraint can be added.
+ */
+public class V0_50_24_010__AddDigestToActorCatalog extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_24_010__AddDigestToActorCatalog.class);
+
+  @VisibleForTesting
+  static final int BACKFILL_CHUNK_SIZE = 10;
+
+  private static final Table<?> ACTOR_CATALOG = DSL.table("actor_catalog");
+  private static final Field<UUID> ID = DSL.field("id", SQLDataType.UUID);
+  private static final Field<JSONB> CATALOG = DSL.field("catalog", SQLDataType.JSONB);
+  private static final Field<String> CATALOG_DIGEST = DSL.field("catalog_digest", SQLDataType.VARCHAR(64).nullable(true));
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    migrate(ctx);
+  }
+
+  @VisibleForTesting
+  static void migrate(final DSLContext ctx) {
+    addDigestColumn(ctx);
+    backfillDigests(ctx);
+    addUniqueConstraint(ctx);
+  }
+
+  private static void addDigestColumn(final DSLContext ctx) {
+    ctx.alterTable(ACTOR_CATALOG)
+        .addColumnIfNotExists(CATALOG_DIGEST)
+        .execute();
+  }
+
+  @VisibleForTesting
+  static void backfillDigests(final DSLContext ctx) {
+    final Set<String> seenDigests = new HashSet<>();
+    UUID lastId = null;
+    int backfilled = 0;
+
+    while (true) {
+      final List<Query> updates = new ArrayList<>();
+      int read = 0;
+      try (final Cursor<Record2<UUID, JSONB>> chunk = ctx.select(ID, CATALOG)
+          .from(ACTOR_CATALOG)
+          .where(lastId == null ? DSL.noCondition() : ID.greaterThan(lastId))
+          .orderBy(ID)
+          .limit(BACKFILL_CHUNK_SIZE)
+          .fetchSize(1)
+          .fetchLazy()) {
+        for (final Record2<UUID, JSONB> record : chunk) {
+          final String digest = digest(record.value2());
+          if (digest != null && seenDigests.add(digest)) {
+            updates.add(ctx.update(ACTOR_CATALOG).set(CATALOG_DIGEST, digest).where(ID.eq(record.value1())));
+          }
+          lastId = record.value1();
+          read++;
+        }
+      }
+      if (read == 0) {
+        break;
+      }
+      if (!updates.isEmpty()) {
+        ctx.batch(updates).execute();
+      }
+      backfilled += updates.size();
+    }
+
+    LOGGER.info("Backfilled the digest of {} actor catalogs.", backfilled);
+  }
+
+  /**
+   * Must stay in sync with how CatalogServiceJooqImpl computes the digest of a catalog.
+   */
+  private static String digest(final JSONB catalog) {
+    try {
+      final AirbyteCatalog airbyteCatalog = Jsons.deserialize(catalog.data(), AirbyteCatalog.class);
+      return Hashing.sha256().hashString(Jsons.canonicalJsonSerialize(airbyteCatalog), StandardCharsets.UTF_8).toString();
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.warn("Failed to compute the digest of an actor catalog, it will keep a null digest.", e);
+      return null;
+    }
+  }
+
+  private static void addUniqueConstraint(final DSLContext ctx) {
+    ctx.alterTable(ACTOR_CATALOG)
+        .add(constraint("actor_catalog_catalog_digest_key").unique(CATALOG_DIGEST))
+        .execute();
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+import static org.jooq.impl.DSL.foreignKey;
+import static org.jooq.impl.DSL.primaryKey;
+import static org.jooq.impl.DSL.unique;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.Catalog;
+import org.jooq.DSLContext;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.Schema;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.SchemaImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds the workload and workload_label tables backing the workload API. Launchers claim pending
+ * workloads, so the table is indexed for listing workloads by dataplane and status, and by status
+ * and last update for the sweeper that expires abandoned claims.
+ */
+public class V0_50_24_011__AddWorkloadTables extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_24_011__AddWorkloadTables.class);
+
+  private static final String WORKLOAD = "workload";
+  private static final String WORKLOAD_LABEL = "workload_label";
+  private static final String WORKLOAD_STATUS = "workload_status";
+
+  private static final Field<OffsetDateTime> CREATED_AT =
+      DSL.field("created_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false).defaultValue(currentOffsetDateTime()));
+  private static final Field<OffsetDateTime> UPDATED_AT =
+      DSL.field("updated_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false).defaultValue(currentOffsetDateTime()));
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    createWorkloadStatusEnum(ctx);
+    createWorkloadTable(ctx);
+    createWorkloadLabelTable(ctx);
+  }
+
+  static void createWorkloadStatusEnum(final DSLContext ctx) {
+    ctx.dropTypeIfExists(WORKLOAD_STATUS).execute();
+    ctx.createType(WORKLOAD_STATUS).asEnum(
+        WorkloadStatus.PENDING.getLiteral(),
+        WorkloadStatus.CLAIMED.getLiteral(),
+        WorkloadStatus.RUNNING.getLiteral(),
+        WorkloadStatus.SUCCESS.getLiteral(),
+        WorkloadStatus.FAILURE.getLiteral(),
+        WorkloadStatus.CANCELLED.getLiteral()).execute();
+  }
+
+  static void createWorkloadTable(final DSLContext ctx) {
+    final Field<String> id = DSL.field("id", SQLDataType.VARCHAR(256).nullable(false));
+    final Field<String> dataplaneId = DSL.field("dataplane_id", SQLDataType.VARCHAR(256).nullable(true));
+    final Field<WorkloadStatus> status = DSL.field("status",
+        SQLDataType.VARCHAR.asEnumDataType(WorkloadStatus.class).nullable(false).defaultValue(WorkloadStatus.PENDING));
+    final Field<OffsetDateTime> lastHeartbeatAt = DSL.field("last_heartbeat_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(true));
+
+    ctx.createTableIfNotExists(WORKLOAD)
+        .columns(id, dataplaneId, status, lastHeartbeatAt, CREATED_AT, UPDATED_AT)
+        .constraints(primaryKey(id))
+        .execute();
+
+    ctx.createIndexIfNotExists("workload_dataplane_id_status_idx").on(WORKLOAD, "dataplane_id", "status").execute();
+    ctx.createIndexIfNotExists("workload_status_updated_at_idx").on(WORKLOAD, "status", "updated_at").execute();
+
+    LOGGER.info(WORKLOAD + " table created");
+  }
+
+  static void createWorkloadLabelTable(final DSLContext ctx) {
+    final Field<UUID> id = DSL.field("id", SQLDataType.UUID.nullable(false));
+    final Field<String> workloadId = DSL.field("workload_id", SQLDataType.VARCHAR(256).nullable(false));
+    final Field<String> key = DSL.field("key", SQLDataType.VARCHAR(256).nullable(false));
+    final Field<String> value = DSL.field("value", SQLDataType.VARCHAR(256).nullable(false));
+
+    ctx.createTableIfNotExists(WORKLOAD_LABEL)
+        .columns(id, workloadId, key, value, CREATED_AT, UPDATED_AT)
+        .constraints(
+            primaryKey(id),
+            foreignKey(workloadId).references(WORKLOAD, "id").onDeleteCascade(),
+            unique(workloadId, key))
+        .execute();
+
+    LOGGER.info(WORKLOAD_LABEL + " table created");
+  }
+
+  enum WorkloadStatus implements EnumType {
+
+    PENDING("pending"),
+    CLAIMED("claimed"),
+    RUNNING("running"),
+    SUCCESS("success"),
+    FAILURE("failure"),
+    CANCELLED("cancelled");
+
+    private final String literal;
+
+    WorkloadStatus(final String literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    public Catalog getCatalog() {
+      return getSchema().getCatalog();
+    }
+
+    @Override
+    public Schema getSchema() {
+      return new SchemaImpl(DSL.name("public"), null);
+    }
+
+    @Override
+    public String getName() {
+      return WORKLOAD_STATUS;
+    }
+
+    @Override
+    public String getLiteral() {
+      return literal;
+    }
+
+  }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.jooq.impl.DSL.constraint;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds a catalog_zstd column to actor_catalog holding the zstd compressed JSON of the catalog. New
+ * catalogs are only written to this column, so the catalog column becomes nullable and a check
+ * makes sure that every row keeps one of the two. Existing rows are not rewritten and are still read
+ * from the catalog column.
+ */
+public class V0_50_24_012__AddCompressedCatalogToActorCatalog extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_24_012__AddCompressedCatalogToActorCatalog.class);
+
+  private static final Table<?> ACTOR_CATALOG = DSL.table("actor_catalog");
+  private static final Field<JSONB> CATALOG = DSL.field("catalog", SQLDataType.JSONB);
+  private static final Field<byte[]> CATALOG_ZSTD = DSL.field("catalog_zstd", SQLDataType.BLOB.nullable(true));
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    migrate(ctx);
+  }
+
+  @VisibleForTesting
+  static void migrate(final DSLContext ctx) {
+    ctx.alterTable(ACTOR_CATALOG)
+        .addColumnIfNotExists(CATALOG_ZSTD)
+        .execute();
+    ctx.alterTable(ACTOR_CATALOG)
+        .alterColumn(CATALOG)
+        .dropNotNull()
+        .execute();
+    ctx.alterTable(ACTOR_CATALOG)
+        .add(constraint("actor_catalog_catalog_check").check(CATALOG.isNotNull().or(CATALOG_ZSTD.isNotNull())))
+        .execute();
+  }
+
+}
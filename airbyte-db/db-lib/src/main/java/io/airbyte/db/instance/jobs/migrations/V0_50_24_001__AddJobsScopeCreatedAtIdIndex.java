@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds an index matching the job history sort order so that keyset pagination over a connection's
+ * jobs, i.e. (created_at, id) &lt; (?, ?), is a bounded index range scan.
+ */
+public class V0_50_24_001__AddJobsScopeCreatedAtIdIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_24_001__AddJobsScopeCreatedAtIdIndex.class);
+
+  static final String INDEX_NAME = "jobs_scope_created_at_id_idx";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createIndexIfNotExists(INDEX_NAME)
+        .on(DSL.table("jobs"), DSL.field("scope").asc(), DSL.field("created_at").desc(), DSL.field("id").desc())
+        .execute();
+
+    LOGGER.info("Completed migration: {}", this.getClass().getSimpleName());
+  }
+
+}
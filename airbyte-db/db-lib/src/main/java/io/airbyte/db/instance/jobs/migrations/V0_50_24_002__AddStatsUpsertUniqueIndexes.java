@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds the unique indexes needed to upsert attempt stats with INSERT ... ON CONFLICT.
+ *
+ * sync_stats gets a unique index on attempt_id. stream_stats already has a unique constraint on
+ * (attempt_id, stream_name, stream_namespace), but Postgres treats null namespaces as distinct, so
+ * streams without a namespace get a partial unique index on (attempt_id, stream_name). Existing
+ * duplicates are dropped first, keeping the most recently updated row as the stats readers do.
+ */
+public class V0_50_24_002__AddStatsUpsertUniqueIndexes extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_24_002__AddStatsUpsertUniqueIndexes.class);
+
+  static final String SYNC_STATS_INDEX_NAME = "sync_stats_attempt_id_uniq_idx";
+  static final String STREAM_STATS_INDEX_NAME = "stream_stats_null_namespace_uniq_idx";
+  private static final String REPLACED_SYNC_STATS_INDEX_NAME = "attempt_id_idx";
+
+  private static final Table<?> SYNC_STATS = DSL.table("sync_stats");
+  private static final Table<?> STREAM_STATS = DSL.table("stream_stats");
+  private static final Field<UUID> ID = DSL.field("id", UUID.class);
+  private static final Field<Long> ATTEMPT_ID = DSL.field("attempt_id", Long.class);
+  private static final Field<String> STREAM_NAME = DSL.field("stream_name", String.class);
+  private static final Field<String> STREAM_NAMESPACE = DSL.field("stream_namespace", String.class);
+  private static final Field<OffsetDateTime> UPDATED_AT = DSL.field("updated_at", OffsetDateTime.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    migrate(ctx);
+
+    LOGGER.info("Completed migration: {}", this.getClass().getSimpleName());
+  }
+
+  @VisibleForTesting
+  static void migrate(final DSLContext ctx) {
+    final int deletedSyncStats = dropDuplicateRows(ctx, SYNC_STATS, DSL.noCondition(), ATTEMPT_ID);
+    LOGGER.info("Deleted {} duplicate sync_stats rows", deletedSyncStats);
+    ctx.createUniqueIndexIfNotExists(SYNC_STATS_INDEX_NAME)
+        .on(SYNC_STATS, ATTEMPT_ID)
+        .execute();
+    // the unique index covers every lookup the previous index was used for
+    ctx.dropIndexIfExists(REPLACED_SYNC_STATS_INDEX_NAME).execute();
+
+    final Condition nullNamespace = STREAM_NAMESPACE.isNull();
+    final int deletedStreamStats = dropDuplicateRows(ctx, STREAM_STATS, nullNamespace, ATTEMPT_ID, STREAM_NAME);
+    LOGGER.info("Deleted {} duplicate stream_stats rows", deletedStreamStats);
+    ctx.createUniqueIndexIfNotExists(STREAM_STATS_INDEX_NAME)
+        .on(STREAM_STATS, ATTEMPT_ID, STREAM_NAME)
+        .where(nullNamespace)
+        .execute();
+  }
+
+  /**
+   * Deletes every row matching `condition` but the most recently updated one for each value of
+   * `keys`.
+   */
+  private static int dropDuplicateRows(final DSLContext ctx, final Table<?> table, final Condition condition, final Field<?>... keys) {
+    final Select<?> rankingQuery = ctx.select(ID,
+        DSL.rowNumber()
+            .over(DSL.partitionBy(keys).orderBy(UPDATED_AT.desc(), ID.desc()))
+            .as("update_rank"))
+        .from(table)
+        .where(condition);
+
+    return ctx.deleteFrom(table)
+        .where(ID.in(ctx.select(rankingQuery.field(ID))
+            .from(rankingQuery)
+            .where(rankingQuery.field("update_rank", Integer.class).gt(1))))
+        .execute();
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+import static org.jooq.impl.DSL.foreignKey;
+import static org.jooq.impl.DSL.primaryKey;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jetbrains.annotations.NotNull;
+import org.jooq.Catalog;
+import org.jooq.DSLContext;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.Schema;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.SchemaImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds the active_jobs table, which holds a row for each job that is not in a terminal status. It
+ * is kept up to date on job status transitions and lets the metrics reporter count and age pending
+ * and running jobs without scanning the jobs table.
+ *
+ * The connection_id column is the job scope typed as a uuid, so that it can be joined with the
+ * connection table. It is null for jobs whose scope is not a connection id.
+ */
+public class V0_50_24_003__AddActiveJobsTable extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_24_003__AddActiveJobsTable.class);
+
+  static final String TABLE_NAME = "active_jobs";
+  // matches the canonical text form of a uuid, so that the cast below never fails
+  private static final String UUID_PATTERN = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+  private static final Field<Long> JOB_ID = DSL.field("job_id", SQLDataType.BIGINT.notNull());
+  private static final Field<UUID> CONNECTION_ID = DSL.field("connection_id", SQLDataType.UUID.nullable(true));
+  private static final Field<JobStatus> STATUS = DSL.field("status", SQLDataType.VARCHAR.asEnumDataType(JobStatus.class).notNull());
+  private static final Field<OffsetDateTime> CREATED_AT = DSL.field("created_at", SQLDataType.TIMESTAMPWITHTIMEZONE.notNull());
+  private static final Field<OffsetDateTime> UPDATED_AT = DSL
+      .field("updated_at", SQLDataType.TIMESTAMPWITHTIMEZONE.notNull().defaultValue(currentOffsetDateTime()));
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    migrate(ctx);
+
+    LOGGER.info("Completed migration: {}", this.getClass().getSimpleName());
+  }
+
+  @VisibleForTesting
+  static void migrate(final DSLContext ctx) {
+    LOGGER.info("Creating table");
+    ctx.createTableIfNotExists(TABLE_NAME)
+        .columns(JOB_ID, CONNECTION_ID, STATUS, CREATED_AT, UPDATED_AT)
+        .constraints(
+            primaryKey(JOB_ID),
+            foreignKey(JOB_ID).references("jobs", "id").onDeleteCascade())
+        .execute();
+
+    LOGGER.info("Backfilling non-terminal jobs");
+    final Field<Long> jobsId = DSL.field("id", Long.class);
+    final Field<String> jobsScope = DSL.field("scope", String.class);
+    final Field<JobStatus> jobsStatus = DSL.field("status", SQLDataType.VARCHAR.asEnumDataType(JobStatus.class));
+    final Field<OffsetDateTime> jobsCreatedAt = DSL.field("created_at", OffsetDateTime.class);
+    final int backfilled = ctx.insertInto(DSL.table(TABLE_NAME), JOB_ID, CONNECTION_ID, STATUS, CREATED_AT, UPDATED_AT)
+        .select(ctx.select(
+            jobsId,
+            DSL.when(jobsScope.likeRegex(UUID_PATTERN), jobsScope.cast(SQLDataType.UUID)),
+            jobsStatus,
+            DSL.coalesce(jobsCreatedAt, currentOffsetDateTime()),
+            currentOffsetDateTime())
+            .from(DSL.table("jobs"))
+            .where(jobsStatus.in(JobStatus.PENDING, JobStatus.RUNNING, JobStatus.INCOMPLETE)))
+        .onConflictDoNothing()
+        .execute();
+    LOGGER.info("Backfilled {} jobs", backfilled);
+  }
+
+  /**
+   * The existing job_status type.
+   */
+  enum JobStatus implements EnumType {
+
+    PENDING("pending"),
+    RUNNING("running"),
+    INCOMPLETE("incomplete"),
+    FAILED("failed"),
+    SUCCEEDED("succeeded"),
+    CANCELLED("cancelled");
+
+    private final String literal;
+
+    JobStatus(@NotNull final String literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    public Catalog getCatalog() {
+      return getSchema().getCatalog();
+    }
+
+    @Override
+    public Schema getSchema() {
+      return new SchemaImpl(DSL.name("public"), null);
+    }
+
+    @Override
+    public String getName() {
+      return "job_status";
+    }
+
+    @Override
+    @NotNull
+    public String getLiteral() {
+      return literal;
+    }
+
+  }
+
+}
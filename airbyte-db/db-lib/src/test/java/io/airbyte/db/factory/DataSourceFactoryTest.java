@@ -7,11 +7,13 @@ package io.airbyte.db.factory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.Assertions;
@@ -156,6 +158,17 @@ class DataSourceFactoryTest extends CommonFactoryTest {
     assertEquals(10, ((HikariDataSource) dataSource).getHikariConfigMXBean().getMaximumPoolSize());
   }
 
+  @Test
+  void testCreatingAReadOnlyDataSource() {
+    final MetricsTrackerFactory metricsTrackerFactory = mock(MetricsTrackerFactory.class);
+    final HikariDataSource dataSource = (HikariDataSource) DataSourceFactory.createReadOnly(username, password, driverClassName, jdbcUrl,
+        "read-only", 3, metricsTrackerFactory);
+    assertTrue(dataSource.isReadOnly());
+    assertEquals("read-only", dataSource.getPoolName());
+    assertEquals(3, dataSource.getMaximumPoolSize());
+    assertEquals(metricsTrackerFactory, dataSource.getMetricsTrackerFactory());
+  }
+
   @Test
   void testClosingADataSource() {
     final HikariDataSource dataSource1 = mock(HikariDataSource.class);
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.factory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import io.airbyte.db.Database;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Load test of the read-only pool of {@link Database}: slow read-only queries, standing in for the
+ * job listings, run next to short queries, and the tail of the time spent waiting for a connection
+ * of the main pool is compared between running both on the main pool and running the slow queries on
+ * a read-only pool. Run with the performanceTest task.
+ */
+@Tag("performance")
+class ReadOnlyPoolLoadTest extends CommonFactoryTest {
+
+  private static final int POOL_SIZE = 4;
+  private static final int SLOW_QUERY_THREADS = 8;
+  private static final int SHORT_QUERY_THREADS = 4;
+  private static final Duration LOAD_DURATION = Duration.ofSeconds(5);
+
+  @Test
+  void testReadOnlyPoolLowersTheAcquireTimeOfTheMainPool() throws Exception {
+    final long sharedP99 = mainPoolAcquireTimeP99(false);
+    final long separateP99 = mainPoolAcquireTimeP99(true);
+
+    assertTrue(separateP99 < sharedP99,
+        String.format("p99 acquire time with a read-only pool %d ns is not below the p99 with a shared pool %d ns", separateP99, sharedP99));
+  }
+
+  private static long mainPoolAcquireTimeP99(final boolean withReadOnlyPool) throws Exception {
+    final List<Long> acquireNanos = Collections.synchronizedList(new ArrayList<>());
+    final HikariDataSource mainDataSource = (HikariDataSource) DataSourceFactory.create(container.getUsername(), container.getPassword(),
+        container.getDriverClassName(), container.getJdbcUrl());
+    mainDataSource.setMaximumPoolSize(POOL_SIZE);
+    mainDataSource.setMetricsTrackerFactory(recordingAcquireTime(acquireNanos));
+    final DataSource readOnlyDataSource = withReadOnlyPool
+        ? DataSourceFactory.createReadOnly(container.getUsername(), container.getPassword(), container.getDriverClassName(),
+            container.getJdbcUrl(), "read-only", POOL_SIZE, null)
+        : mainDataSource;
+
+    final Database database = new Database(DSLContextFactory.create(mainDataSource, SQLDialect.POSTGRES),
+        DSLContextFactory.create(readOnlyDataSource, SQLDialect.POSTGRES));
+    final long endAt = System.nanoTime() + LOAD_DURATION.toNanos();
+    final ExecutorService executor = Executors.newFixedThreadPool(SLOW_QUERY_THREADS + SHORT_QUERY_THREADS);
+    try {
+      for (int i = 0; i < SLOW_QUERY_THREADS; i++) {
+        executor.submit(() -> {
+          while (System.nanoTime() < endAt) {
+            database.queryReadOnly(ctx -> ctx.execute("SELECT pg_sleep(0.05)"));
+          }
+          return null;
+        });
+      }
+      for (int i = 0; i < SHORT_QUERY_THREADS; i++) {
+        executor.submit(() -> {
+          while (System.nanoTime() < endAt) {
+            database.query(ctx -> ctx.fetchOne("SELECT 1"));
+          }
+          return null;
+        });
+      }
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(LOAD_DURATION.toSeconds() + 30, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+      DataSourceFactory.close(mainDataSource);
+      if (withReadOnlyPool) {
+        DataSourceFactory.close(readOnlyDataSource);
+      }
+    }
+
+    synchronized (acquireNanos) {
+      final List<Long> sorted = new ArrayList<>(acquireNanos);
+      Collections.sort(sorted);
+      return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+  }
+
+  private static MetricsTrackerFactory recordingAcquireTime(final List<Long> acquireNanos) {
+    return (poolName, poolStats) -> new IMetricsTracker() {
+
+      @Override
+      public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+        acquireNanos.add(elapsedAcquiredNanos);
+      }
+
+    };
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"PMD.AvoidDuplicateLiterals", "checkstyle:AbbreviationAsWordInName", "checkstyle:MemberName"})
+class V0_50_24_010__AddDigestToActorCatalogTest extends AbstractConfigsDatabaseTest {
+
+  private static final Table<?> ACTOR_CATALOG = DSL.table("actor_catalog");
+  private static final Field<UUID> ID = DSL.field("id", UUID.class);
+  private static final Field<String> CATALOG_DIGEST = DSL.field("catalog_digest", String.class);
+
+  private static final String CATALOG =
+      "{\"streams\": [{\"name\": \"%s\", \"json_schema\": {\"type\": \"object\"}, \"supported_sync_modes\": [\"full_refresh\"]}]}";
+  // same catalog as above with its keys in a different order
+  private static final String REORDERED_CATALOG =
+      "{\"streams\": [{\"supported_sync_modes\": [\"full_refresh\"], \"json_schema\": {\"type\": \"object\"}, \"name\": \"%s\"}]}";
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_50_24_010__AddDigestToActorCatalogTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_50_24_009__AddConstraintInPermissionTable();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  private static void insertCatalog(final DSLContext ctx, final UUID id, final String catalog) {
+    ctx.insertInto(ACTOR_CATALOG)
+        .columns(DSL.field("id"), DSL.field("catalog"), DSL.field("catalog_hash"), DSL.field("created_at"))
+        .values(id, JSONB.valueOf(catalog), "abcd1234", OffsetDateTime.now())
+        .execute();
+  }
+
+  private static String fetchDigest(final DSLContext ctx, final UUID id) {
+    return ctx.select(CATALOG_DIGEST).from(ACTOR_CATALOG).where(ID.eq(id)).fetchOne(CATALOG_DIGEST);
+  }
+
+  @Test
+  void testBackfillDigestsAcrossChunks() {
+    final DSLContext ctx = getDslContext();
+
+    final List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < V0_50_24_010__AddDigestToActorCatalog.BACKFILL_CHUNK_SIZE * 2 + 1; i++) {
+      final UUID id = UUID.randomUUID();
+      insertCatalog(ctx, id, String.format(CATALOG, "stream_" + i));
+      ids.add(id);
+    }
+
+    V0_50_24_010__AddDigestToActorCatalog.migrate(ctx);
+
+    final Set<String> digests = new HashSet<>();
+    for (final UUID id : ids) {
+      final String digest = fetchDigest(ctx, id);
+      assertNotNull(digest);
+      digests.add(digest);
+    }
+    assertEquals(ids.size(), digests.size());
+  }
+
+  @Test
+  void testDuplicateCatalogsKeepOneDigest() {
+    final DSLContext ctx = getDslContext();
+
+    final UUID firstId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    final UUID duplicateId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    final UUID otherId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    insertCatalog(ctx, firstId, String.format(CATALOG, "users"));
+    insertCatalog(ctx, duplicateId, String.format(REORDERED_CATALOG, "users"));
+    insertCatalog(ctx, otherId, String.format(CATALOG, "orders"));
+
+    V0_50_24_010__AddDigestToActorCatalog.migrate(ctx);
+
+    final String firstDigest = fetchDigest(ctx, firstId);
+    assertNotNull(firstDigest);
+    assertNull(fetchDigest(ctx, duplicateId));
+    assertNotNull(fetchDigest(ctx, otherId));
+    assertNotEquals(firstDigest, fetchDigest(ctx, otherId));
+
+    // the digest is unique
+    assertThrows(DataAccessException.class,
+        () -> ctx.update(ACTOR_CATALOG).set(CATALOG_DIGEST, firstDigest).where(ID.eq(duplicateId)).execute());
+  }
+
+}
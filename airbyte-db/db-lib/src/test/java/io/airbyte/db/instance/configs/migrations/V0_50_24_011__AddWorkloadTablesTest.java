@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"PMD.AvoidDuplicateLiterals", "checkstyle:AbbreviationAsWordInName", "checkstyle:MemberName"})
+class V0_50_24_011__AddWorkloadTablesTest extends AbstractConfigsDatabaseTest {
+
+  private static final String WORKLOAD = "workload";
+  private static final String WORKLOAD_LABEL = "workload_label";
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_50_24_011__AddWorkloadTablesTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_50_24_010__AddDigestToActorCatalog();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void test() {
+    final DSLContext context = getDslContext();
+    V0_50_24_011__AddWorkloadTables.createWorkloadStatusEnum(context);
+    V0_50_24_011__AddWorkloadTables.createWorkloadTable(context);
+    V0_50_24_011__AddWorkloadTables.createWorkloadLabelTable(context);
+
+    context.insertInto(DSL.table(WORKLOAD))
+        .columns(DSL.field("id"))
+        .values("workload-1")
+        .execute();
+
+    // new workloads default to pending
+    Assertions.assertEquals("pending",
+        context.select(DSL.field("status").cast(String.class)).from(WORKLOAD).where(DSL.field("id").eq("workload-1")).fetchOne(0, String.class));
+
+    context.insertInto(DSL.table(WORKLOAD_LABEL))
+        .columns(DSL.field("id"), DSL.field("workload_id"), DSL.field("key"), DSL.field("value"))
+        .values(UUID.randomUUID(), "workload-1", "connection_id", "abc")
+        .execute();
+
+    // assert uniqueness for workload + key
+    final Exception e = Assertions.assertThrows(DataAccessException.class, () -> context.insertInto(DSL.table(WORKLOAD_LABEL))
+        .columns(DSL.field("id"), DSL.field("workload_id"), DSL.field("key"), DSL.field("value"))
+        .values(UUID.randomUUID(), "workload-1", "connection_id", "def")
+        .execute());
+    Assertions.assertTrue(e.getMessage().contains("duplicate key value violates unique constraint"));
+
+    // labels are deleted with their workload
+    context.deleteFrom(DSL.table(WORKLOAD)).where(DSL.field("id").eq("workload-1")).execute();
+    Assertions.assertEquals(0, context.fetchCount(DSL.table(WORKLOAD_LABEL)));
+  }
+
+}
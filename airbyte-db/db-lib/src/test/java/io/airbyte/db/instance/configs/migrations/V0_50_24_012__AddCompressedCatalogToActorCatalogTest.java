@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"PMD.AvoidDuplicateLiterals", "checkstyle:AbbreviationAsWordInName", "checkstyle:MemberName"})
+class V0_50_24_012__AddCompressedCatalogToActorCatalogTest extends AbstractConfigsDatabaseTest {
+
+  private static final Table<?> ACTOR_CATALOG = DSL.table("actor_catalog");
+  private static final Field<UUID> ID = DSL.field("id", UUID.class);
+  private static final Field<JSONB> CATALOG = DSL.field("catalog", JSONB.class);
+  private static final Field<byte[]> CATALOG_ZSTD = DSL.field("catalog_zstd", byte[].class);
+  private static final Field<String> CATALOG_HASH = DSL.field("catalog_hash", String.class);
+  private static final Field<OffsetDateTime> CREATED_AT = DSL.field("created_at", OffsetDateTime.class);
+
+  private static final String CATALOG_JSON = "{\"streams\": []}";
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_50_24_012__AddCompressedCatalogToActorCatalogTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_50_24_011__AddWorkloadTables();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void testExistingCatalogsAreKept() {
+    final DSLContext ctx = getDslContext();
+    final UUID id = UUID.randomUUID();
+    ctx.insertInto(ACTOR_CATALOG)
+        .set(ID, id)
+        .set(CATALOG, JSONB.valueOf(CATALOG_JSON))
+        .set(CATALOG_HASH, "abcd1234")
+        .set(CREATED_AT, OffsetDateTime.now())
+        .execute();
+
+    V0_50_24_012__AddCompressedCatalogToActorCatalog.migrate(ctx);
+
+    assertEquals(JSONB.valueOf(CATALOG_JSON), ctx.select(CATALOG).from(ACTOR_CATALOG).where(ID.eq(id)).fetchOne(CATALOG));
+    assertNull(ctx.select(CATALOG_ZSTD).from(ACTOR_CATALOG).where(ID.eq(id)).fetchOne(CATALOG_ZSTD));
+  }
+
+  @Test
+  void testCatalogIsStoredInOneOfTheColumns() {
+    final DSLContext ctx = getDslContext();
+
+    V0_50_24_012__AddCompressedCatalogToActorCatalog.migrate(ctx);
+
+    final UUID id = UUID.randomUUID();
+    final byte[] catalogBytes = CATALOG_JSON.getBytes(StandardCharsets.UTF_8);
+    ctx.insertInto(ACTOR_CATALOG)
+        .set(ID, id)
+        .set(CATALOG_ZSTD, catalogBytes)
+        .set(CATALOG_HASH, "abcd1234")
+        .set(CREATED_AT, OffsetDateTime.now())
+        .execute();
+    assertArrayEquals(catalogBytes, ctx.select(CATALOG_ZSTD).from(ACTOR_CATALOG).where(ID.eq(id)).fetchOne(CATALOG_ZSTD));
+
+    assertThrows(DataAccessException.class, () -> ctx.insertInto(ACTOR_CATALOG)
+        .set(ID, UUID.randomUUID())
+        .set(CATALOG_HASH, "abcd1234")
+        .set(CREATED_AT, OffsetDateTime.now())
+        .execute());
+  }
+
+}
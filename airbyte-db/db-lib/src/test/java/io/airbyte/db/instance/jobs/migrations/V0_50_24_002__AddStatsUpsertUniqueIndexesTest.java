@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import io.airbyte.db.instance.jobs.AbstractJobsDatabaseTest;
+import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"PMD.AvoidDuplicateLiterals", "checkstyle:AbbreviationAsWordInName", "checkstyle:MemberName"})
+class V0_50_24_002__AddStatsUpsertUniqueIndexesTest extends AbstractJobsDatabaseTest {
+
+  private static final Table<?> SYNC_STATS = DSL.table("sync_stats");
+  private static final Table<?> STREAM_STATS = DSL.table("stream_stats");
+  private static final Field<UUID> ID = DSL.field("id", UUID.class);
+  private static final Field<Long> ATTEMPT_ID = DSL.field("attempt_id", Long.class);
+  private static final Field<String> STREAM_NAME = DSL.field("stream_name", String.class);
+  private static final Field<String> STREAM_NAMESPACE = DSL.field("stream_namespace", String.class);
+  private static final Field<Long> RECORDS_EMITTED = DSL.field("records_emitted", Long.class);
+  private static final Field<OffsetDateTime> CREATED_AT = DSL.field("created_at", OffsetDateTime.class);
+  private static final Field<OffsetDateTime> UPDATED_AT = DSL.field("updated_at", OffsetDateTime.class);
+  private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_50_24_002__AddStatsUpsertUniqueIndexesTest", JobsDatabaseMigrator.DB_IDENTIFIER,
+            JobsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final JobsDatabaseMigrator jobsDbMigrator = new JobsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_50_24_001__AddJobsScopeCreatedAtIdIndex();
+    final DevDatabaseMigrator devJobsDbMigrator = new DevDatabaseMigrator(jobsDbMigrator, previousMigration.getVersion());
+    devJobsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void testMigrate() {
+    final DSLContext ctx = getDslContext();
+
+    // ignore all foreign key constraints
+    ctx.execute("SET session_replication_role = replica;");
+
+    insertSyncStats(ctx, 1L, 10L, NOW.minusMinutes(2));
+    insertSyncStats(ctx, 1L, 20L, NOW);
+    insertSyncStats(ctx, 1L, 15L, NOW.minusMinutes(1));
+    insertSyncStats(ctx, 2L, 30L, NOW);
+
+    insertStreamStats(ctx, 1L, "stream", null, 10L, NOW.minusMinutes(1));
+    insertStreamStats(ctx, 1L, "stream", null, 20L, NOW);
+    insertStreamStats(ctx, 1L, "stream", "namespace", 30L, NOW);
+    insertStreamStats(ctx, 2L, "stream", null, 40L, NOW);
+
+    V0_50_24_002__AddStatsUpsertUniqueIndexes.migrate(ctx);
+
+    // only the most recently updated duplicates are kept
+    assertEquals(1, ctx.fetchCount(SYNC_STATS, ATTEMPT_ID.eq(1L)));
+    assertEquals(20L, ctx.select(RECORDS_EMITTED).from(SYNC_STATS).where(ATTEMPT_ID.eq(1L)).fetchOne(RECORDS_EMITTED));
+    assertEquals(1, ctx.fetchCount(SYNC_STATS, ATTEMPT_ID.eq(2L)));
+
+    assertEquals(2, ctx.fetchCount(STREAM_STATS, ATTEMPT_ID.eq(1L)));
+    assertEquals(20L, ctx.select(RECORDS_EMITTED).from(STREAM_STATS)
+        .where(ATTEMPT_ID.eq(1L), STREAM_NAMESPACE.isNull())
+        .fetchOne(RECORDS_EMITTED));
+    assertEquals(1, ctx.fetchCount(STREAM_STATS, ATTEMPT_ID.eq(2L)));
+
+    // duplicates can no longer be inserted
+    assertThrows(DataAccessException.class, () -> insertSyncStats(ctx, 1L, 40L, NOW));
+    assertThrows(DataAccessException.class, () -> insertStreamStats(ctx, 1L, "stream", null, 50L, NOW));
+  }
+
+  private static void insertSyncStats(final DSLContext ctx, final long attemptId, final long recordsEmitted, final OffsetDateTime updatedAt) {
+    ctx.insertInto(SYNC_STATS)
+        .columns(ID, ATTEMPT_ID, RECORDS_EMITTED, CREATED_AT, UPDATED_AT)
+        .values(UUID.randomUUID(), attemptId, recordsEmitted, updatedAt, updatedAt)
+        .execute();
+  }
+
+  private static void insertStreamStats(final DSLContext ctx,
+                                        final long attemptId,
+                                        final String streamName,
+                                        final String streamNamespace,
+                                        final long recordsEmitted,
+                                        final OffsetDateTime updatedAt) {
+    ctx.insertInto(STREAM_STATS)
+        .columns(ID, ATTEMPT_ID, STREAM_NAME, STREAM_NAMESPACE, RECORDS_EMITTED, CREATED_AT, UPDATED_AT)
+        .values(UUID.randomUUID(), attemptId, streamName, streamNamespace, recordsEmitted, updatedAt, updatedAt)
+        .execute();
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import io.airbyte.db.instance.jobs.AbstractJobsDatabaseTest;
+import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import java.util.Map;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"checkstyle:AbbreviationAsWordInName", "checkstyle:MemberName"})
+class V0_50_24_003__AddActiveJobsTableTest extends AbstractJobsDatabaseTest {
+
+  private static final Field<Long> JOB_ID = DSL.field("job_id", Long.class);
+  private static final Field<UUID> CONNECTION_ID = DSL.field("connection_id", UUID.class);
+  private static final Field<String> STATUS = DSL.field("status::text", String.class);
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_50_24_003__AddActiveJobsTableTest", JobsDatabaseMigrator.DB_IDENTIFIER,
+            JobsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final JobsDatabaseMigrator jobsDbMigrator = new JobsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_50_24_002__AddStatsUpsertUniqueIndexes();
+    final DevDatabaseMigrator devJobsDbMigrator = new DevDatabaseMigrator(jobsDbMigrator, previousMigration.getVersion());
+    devJobsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void testBackfillsNonTerminalJobs() {
+    final DSLContext ctx = getDslContext();
+    final UUID connectionId = UUID.randomUUID();
+
+    insertJob(ctx, 1L, connectionId.toString(), "pending");
+    insertJob(ctx, 2L, connectionId.toString(), "running");
+    insertJob(ctx, 3L, connectionId.toString(), "incomplete");
+    insertJob(ctx, 4L, connectionId.toString(), "succeeded");
+    insertJob(ctx, 5L, connectionId.toString(), "failed");
+    insertJob(ctx, 6L, connectionId.toString(), "cancelled");
+    insertJob(ctx, 7L, "not-a-connection-id", "running");
+
+    V0_50_24_003__AddActiveJobsTable.migrate(ctx);
+
+    final Map<Long, String> statuses = ctx.select(JOB_ID, STATUS)
+        .from(V0_50_24_003__AddActiveJobsTable.TABLE_NAME)
+        .fetchMap(JOB_ID, STATUS);
+    assertEquals(Map.of(1L, "pending", 2L, "running", 3L, "incomplete", 7L, "running"), statuses);
+
+    assertEquals(connectionId, fetchConnectionId(ctx, 1L));
+    // the scope of this job is not a uuid
+    assertNull(fetchConnectionId(ctx, 7L));
+  }
+
+  private static void insertJob(final DSLContext ctx, final long id, final String scope, final String status) {
+    ctx.execute("INSERT INTO jobs(id, config_type, scope, status, created_at, updated_at) "
+        + "VALUES(?, CAST('sync' AS JOB_CONFIG_TYPE), ?, CAST(? AS JOB_STATUS), now(), now())", id, scope, status);
+  }
+
+  private static UUID fetchConnectionId(final DSLContext ctx, final long jobId) {
+    return ctx.select(CONNECTION_ID)
+        .from(V0_50_24_003__AddActiveJobsTable.TABLE_NAME)
+        .where(JOB_ID.eq(jobId))
+        .fetchOne(CONNECTION_ID);
+  }
+
+}
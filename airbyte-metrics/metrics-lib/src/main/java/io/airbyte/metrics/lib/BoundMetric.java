@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+/**
+ * A metric bound to a fixed set of {@link MetricAttribute}s, see
+ * {@link MetricClient#bind(MetricsRegistry, MetricAttribute...)}.
+ * <p>
+ * The attributes are resolved when binding and the instrument on the first record, then both are
+ * reused, so recording through a bound metric is cheaper than calling the {@link MetricClient}
+ * directly. Use it for metrics recorded on hot paths,
+ * e.g. once per message.
+ */
+public interface BoundMetric {
+
+  /**
+   * Increment or decrement the counter.
+   *
+   * @param val to record.
+   */
+  void count(long val);
+
+  /**
+   * Record a value in the distribution.
+   *
+   * @param val to record.
+   */
+  void distribution(double val);
+
+}
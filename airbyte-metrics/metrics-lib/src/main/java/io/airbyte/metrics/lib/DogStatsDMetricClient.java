@@ -8,8 +8,6 @@ import com.google.common.annotations.VisibleForTesting;
 import com.timgroup.statsd.NonBlockingStatsDClientBuilder;
 import com.timgroup.statsd.StatsDClient;
 import io.airbyte.config.Configs;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -87,6 +85,46 @@ public class DogStatsDMetricClient implements MetricClient {
     }
   }
 
+  /**
+   * Bind a metric to a fixed set of attributes. The tags are built once instead of on each call.
+   *
+   * @param metric dd metric
+   * @param attributes additional attributes
+   * @return metric bound to the attributes
+   */
+  @Override
+  public BoundMetric bind(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final String name = metric.getMetricName();
+    final String[] tags = toTags(attributes);
+    return new BoundMetric() {
+
+      @Override
+      public void count(final long val) {
+        if (instancePublish) {
+          if (statsDClient == null) {
+            // do not loudly fail to prevent application disruption
+            log.warn("singleton not initialized, count {} not emitted", metric);
+            return;
+          }
+          statsDClient.count(name, val, tags);
+        }
+      }
+
+      @Override
+      public void distribution(final double val) {
+        if (instancePublish) {
+          if (statsDClient == null) {
+            // do not loudly fail to prevent application disruption
+            log.warn("singleton not initialized, distribution {} not emitted", metric);
+            return;
+          }
+          statsDClient.distribution(name, val, tags);
+        }
+      }
+
+    };
+  }
+
   /**
    * Record the latest value for a gauge.
    *
@@ -129,7 +167,11 @@ public class DogStatsDMetricClient implements MetricClient {
    * @return An array of tag values.
    */
   private String[] toTags(final MetricAttribute... attributes) {
-    return Stream.of(attributes).map(a -> String.join(TAG_DELIMITER, a.key(), a.value())).collect(Collectors.toList()).toArray(new String[] {});
+    final String[] tags = new String[attributes.length];
+    for (int i = 0; i < attributes.length; i++) {
+      tags[i] = attributes[i].key() + TAG_DELIMITER + attributes[i].value();
+    }
+    return tags;
   }
 
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the metrics of Hikari connection pools through a {@link MetricClient}, tagged with the
+ * name of the pool: the time spent waiting for a connection, how long connections are held, the
+ * acquisitions that timed out, and the number of active and idle connections and of threads waiting
+ * for one.
+ * <p>
+ * Hikari reports acquisitions and usage as they happen. The sizes of the pool are published as
+ * gauges once per interval from a background thread, so that a busy pool does not send them for
+ * every query and an idle pool does not keep reporting the sizes of its last acquisition. The gauges
+ * of a pool stop when it is closed.
+ */
+public class HikariPoolMetrics implements MetricsTrackerFactory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HikariPoolMetrics.class);
+
+  private static final Duration GAUGE_INTERVAL = Duration.ofSeconds(10);
+
+  private final MetricClient metricClient;
+  private final Duration gaugeInterval;
+  private final ScheduledExecutorService scheduler;
+
+  public HikariPoolMetrics(final MetricClient metricClient) {
+    this(metricClient, GAUGE_INTERVAL);
+  }
+
+  @VisibleForTesting
+  HikariPoolMetrics(final MetricClient metricClient, final Duration gaugeInterval) {
+    this.metricClient = metricClient;
+    this.gaugeInterval = gaugeInterval;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "hikari-pool-metrics");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+    final Tracker tracker = new Tracker(new MetricAttribute(MetricTags.DB_POOL, poolName), poolStats);
+    tracker.gauges = scheduler.scheduleAtFixedRate(tracker::publishGauges, 0, gaugeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    return tracker;
+  }
+
+  private class Tracker implements IMetricsTracker {
+
+    private final MetricAttribute pool;
+    private final PoolStats poolStats;
+    private ScheduledFuture<?> gauges;
+
+    private Tracker(final MetricAttribute pool, final PoolStats poolStats) {
+      this.pool = pool;
+      this.poolStats = poolStats;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+      metricClient.distribution(OssMetricsRegistry.DB_POOL_CONNECTION_ACQUIRE_TIME_MILLISECS,
+          (double) elapsedAcquiredNanos / TimeUnit.MILLISECONDS.toNanos(1), pool);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(final long elapsedBorrowedMillis) {
+      metricClient.distribution(OssMetricsRegistry.DB_POOL_CONNECTION_USAGE_MILLISECS, elapsedBorrowedMillis, pool);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+      metricClient.count(OssMetricsRegistry.DB_POOL_CONNECTION_TIMEOUTS, 1, pool);
+    }
+
+    @Override
+    public void close() {
+      gauges.cancel(false);
+    }
+
+    private void publishGauges() {
+      // an exception would cancel the next runs
+      try {
+        metricClient.gauge(OssMetricsRegistry.DB_POOL_ACTIVE_CONNECTIONS, poolStats.getActiveConnections(), pool);
+        metricClient.gauge(OssMetricsRegistry.DB_POOL_IDLE_CONNECTIONS, poolStats.getIdleConnections(), pool);
+        metricClient.gauge(OssMetricsRegistry.DB_POOL_PENDING_THREADS, poolStats.getPendingThreads(), pool);
+      } catch (final RuntimeException e) {
+        LOGGER.warn("Failed to publish the gauges of database pool {}", pool.value(), e);
+      }
+    }
+
+  }
+
+}
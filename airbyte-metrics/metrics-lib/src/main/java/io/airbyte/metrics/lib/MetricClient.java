@@ -39,6 +39,31 @@ public interface MetricClient {
    */
   void distribution(MetricsRegistry metric, double val, final MetricAttribute... attributes);
 
+  /**
+   * Bind a metric to a fixed set of attributes. The returned {@link BoundMetric} records without
+   * resolving the instrument or the attributes on each call.
+   *
+   * @param metric dd metric
+   * @param attributes additional attributes
+   * @return metric bound to the attributes
+   */
+  default BoundMetric bind(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final MetricAttribute[] boundAttributes = attributes.clone();
+    return new BoundMetric() {
+
+      @Override
+      public void count(final long val) {
+        MetricClient.this.count(metric, val, boundAttributes);
+      }
+
+      @Override
+      public void distribution(final double val) {
+        MetricClient.this.distribution(metric, val, boundAttributes);
+      }
+
+    };
+  }
+
   /*
    * Reset initialization. Can be used in a unit test to reset metric client state.
    */
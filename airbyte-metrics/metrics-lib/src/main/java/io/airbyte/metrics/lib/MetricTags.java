@@ -21,8 +21,10 @@ public class MetricTags {
   public static final String AUTHENTICATION_RESPONSE = "authentication_response";
   public static final String AUTHENTICATION_RESPONSE_FAILURE_REASON = "authentication_response_failure_reason";
   public static final String AUTHENTICATION_REQUEST_URI_ATTRIBUTE_KEY = "request_uri";
+  public static final String CACHE_KIND = "cache_kind";
   public static final String CONNECTION_ID = "connection_id";
   public static final String CRON_TYPE = "cron_type";
+  public static final String DB_POOL = "db_pool";
   public static final String DESTINATION_ID = "destination_id";
   public static final String FAILURE_ORIGIN = "failure_origin";
   public static final String FAILURE_TYPE = "failure_type";
@@ -33,15 +35,19 @@ public class MetricTags {
   public static final String JOB_STATUS = "job_status";
   public static final String LAUNCHER = "launcher";
   public static final String MADE_PROGRESS = "made_progress";
+  public static final String MIGRATION_OUTCOME = "migration_outcome"; // started|already_running|failed
   // the release stage of the highest release connector in the sync (GA > Beta > Alpha)
   public static final String MAX_CONNECTOR_RELEASE_STATE = "max_connector_release_stage";
   // the release stage of the lowest release stage connector in the sync (GA > Beta > Alpha)
   public static final String MIN_CONNECTOR_RELEASE_STATE = "min_connector_release_stage";
   public static final String NOTIFICATION_TRIGGER = "notification_trigger";
   public static final String NOTIFICATION_CLIENT = "notification_client";
+  public static final String NOTIFICATION_DROP_REASON = "notification_drop_reason"; // queue_full|delivery_failed|shutdown
   public static final String RELEASE_STAGE = "release_stage";
   public static final String RESET_WORKFLOW_FAILURE_CAUSE = "failure_cause";
+  public static final String SCAN_TYPE = "scan_type"; // full|incremental
   public static final String SOURCE_ID = "source_id";
+  public static final String STAGE_NAME = "stage_name";
   public static final String WORKSPACE_ID = "workspace_id";
   public static final String UNKNOWN = "unknown";
   public static final String USER_TYPE = "user_type"; // real user, service account, data plane user, etc
@@ -30,6 +30,7 @@ import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of the {@link MetricClient} that sends the provided metric data to an
@@ -45,16 +46,13 @@ public class OpenTelemetryMetricClient implements MetricClient {
 
   private final Map<String, ObservableDoubleGauge> gauges = new HashMap<>();
   private final Map<String, Map<Attributes, Double>> gaugeValues = Collections.synchronizedMap(new HashMap<>());
+  // instruments are built once per metric, building them on every call is comparatively expensive
+  private final Map<MetricsRegistry, LongCounter> counters = new ConcurrentHashMap<>();
+  private final Map<MetricsRegistry, DoubleHistogram> histograms = new ConcurrentHashMap<>();
 
   @Override
   public void count(final MetricsRegistry metric, final long val, final MetricAttribute... attributes) {
-    final LongCounter counter = meter
-        .counterBuilder(metric.getMetricName())
-        .setDescription(metric.getMetricDescription())
-        .build();
-
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    counter.add(val, attributesBuilder.build());
+    getCounter(metric).add(val, buildAttributes(attributes));
   }
 
   @Override
@@ -71,7 +69,7 @@ public class OpenTelemetryMetricClient implements MetricClient {
      * MetricClient interface. Without some refactoring of the client interface, this adapter is
      * necessary.
      */
-    final Attributes attr = buildAttributes(attributes).build();
+    final Attributes attr = buildAttributes(attributes);
     final String name = metric.getMetricName();
     synchronized (gauges) { // sync so we don't create the same gauge concurrently
       if (!gauges.containsKey(name)) {
@@ -100,9 +98,40 @@ public class OpenTelemetryMetricClient implements MetricClient {
 
   @Override
   public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
-    final DoubleHistogram histogramMeter = meter.histogramBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription()).build();
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    histogramMeter.record(val, attributesBuilder.build());
+    getHistogram(metric).record(val, buildAttributes(attributes));
+  }
+
+  @Override
+  public BoundMetric bind(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final Attributes attr = buildAttributes(attributes);
+    return new BoundMetric() {
+
+      // resolved on first use rather than here, so that binding a counter does not also register a
+      // histogram of the same name. Racing threads resolve the same instrument.
+      private LongCounter counter;
+      private DoubleHistogram histogram;
+
+      @Override
+      public void count(final long val) {
+        LongCounter resolved = counter;
+        if (resolved == null) {
+          resolved = getCounter(metric);
+          counter = resolved;
+        }
+        resolved.add(val, attr);
+      }
+
+      @Override
+      public void distribution(final double val) {
+        DoubleHistogram resolved = histogram;
+        if (resolved == null) {
+          resolved = getHistogram(metric);
+          histogram = resolved;
+        }
+        resolved.record(val, attr);
+      }
+
+    };
   }
 
   /**
@@ -156,6 +185,22 @@ public class OpenTelemetryMetricClient implements MetricClient {
   public void shutdown() {
     resetForTest();
     closeGauges();
+    counters.clear();
+    histograms.clear();
+  }
+
+  private LongCounter getCounter(final MetricsRegistry metric) {
+    return counters.computeIfAbsent(metric, m -> meter
+        .counterBuilder(m.getMetricName())
+        .setDescription(m.getMetricDescription())
+        .build());
+  }
+
+  private DoubleHistogram getHistogram(final MetricsRegistry metric) {
+    return histograms.computeIfAbsent(metric, m -> meter
+        .histogramBuilder(m.getMetricName())
+        .setDescription(m.getMetricDescription())
+        .build());
   }
 
   private void closeGauges() {
@@ -168,12 +213,15 @@ public class OpenTelemetryMetricClient implements MetricClient {
     }
   }
 
-  private AttributesBuilder buildAttributes(final MetricAttribute... attributes) {
+  private Attributes buildAttributes(final MetricAttribute... attributes) {
+    if (attributes.length == 0) {
+      return Attributes.empty();
+    }
     final AttributesBuilder attributesBuilder = Attributes.builder();
     for (final MetricAttribute attribute : attributes) {
       attributesBuilder.put(stringKey(attribute.key()), attribute.value());
     }
-    return attributesBuilder;
+    return attributesBuilder.build();
   }
 
 }
@@ -115,6 +115,24 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   CRON_JOB_RUN_BY_CRON_TYPE(MetricEmittingApps.CRON,
       "cron_jobs_run",
       "number of cron runs by cron type"),
+  DB_POOL_ACTIVE_CONNECTIONS(MetricEmittingApps.SERVER,
+      "db_pool_active_connections",
+      "number of connections of a database pool in use"),
+  DB_POOL_IDLE_CONNECTIONS(MetricEmittingApps.SERVER,
+      "db_pool_idle_connections",
+      "number of idle connections of a database pool"),
+  DB_POOL_PENDING_THREADS(MetricEmittingApps.SERVER,
+      "db_pool_pending_threads",
+      "number of threads waiting for a connection of a database pool"),
+  DB_POOL_CONNECTION_ACQUIRE_TIME_MILLISECS(MetricEmittingApps.SERVER,
+      "db_pool_connection_acquire_time_millisecs",
+      "time spent waiting for a connection of a database pool"),
+  DB_POOL_CONNECTION_USAGE_MILLISECS(MetricEmittingApps.SERVER,
+      "db_pool_connection_usage_millisecs",
+      "time a connection of a database pool was held before being returned"),
+  DB_POOL_CONNECTION_TIMEOUTS(MetricEmittingApps.SERVER,
+      "db_pool_connection_timeouts",
+      "number of times waiting for a connection of a database pool timed out"),
   EST_NUM_METRICS_EMITTED_BY_REPORTER(
       MetricEmittingApps.METRICS_REPORTER,
       "est_num_metrics_emitted_by_reporter",
@@ -339,9 +357,36 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   WORKFLOWS_HEALED(MetricEmittingApps.CRON,
       "workflows_healed",
       "number of workflow the self healing cron healed"),
+  CLOSED_WORKFLOWS_SCANNED(MetricEmittingApps.CRON,
+      "closed_workflows_scanned",
+      "number of closed workflow executions listed from temporal visibility by the self healing cron"),
+  SELF_HEAL_SCAN_DURATION_MILLISECS(MetricEmittingApps.CRON,
+      "self_heal_scan_duration_millisecs",
+      "duration of one run of the self healing cron"),
+  WORKSPACE_CLEANER_BYTES_RECLAIMED(MetricEmittingApps.CRON,
+      "workspace_cleaner_bytes_reclaimed",
+      "total size of the files deleted by the workspace cleaner cron"),
+  WORKSPACE_CLEANER_DIRECTORIES_DELETED(MetricEmittingApps.CRON,
+      "workspace_cleaner_directories_deleted",
+      "number of job and attempt directories deleted by the workspace cleaner cron"),
+  CONNECTION_MANAGER_MIGRATIONS(MetricEmittingApps.SERVER,
+      "connection_manager_migrations",
+      "number of connections processed while starting connection manager workflows in bulk, by outcome"),
+  WORKLOAD_LAUNCHER_STAGE_DURATION_MILLISECS(MetricEmittingApps.SERVER,
+      "workload_launcher_stage_duration_millisecs",
+      "duration of one stage of the workload launch pipeline"),
+  WORKLOAD_LAUNCHER_KUBE_RETRIES(MetricEmittingApps.SERVER,
+      "workload_launcher_kube_retries",
+      "number of workload launches retried after a transient kubernetes api error"),
   NOTIFICATIONS_SENT(MetricEmittingApps.WORKER,
       "notifications_sent",
       "number of notifications sent"),
+  NOTIFICATION_DELIVERY_LATENCY_MILLISECS(MetricEmittingApps.SERVER,
+      "notification_delivery_latency_millisecs",
+      "time from queuing a notification to its delivery, including retries"),
+  NOTIFICATIONS_DROPPED(MetricEmittingApps.SERVER,
+      "notifications_dropped",
+      "number of notifications dropped because the dispatch queue was full, every delivery attempt failed or they were still queued on shutdown"),
   NON_AIRBYTE_MESSAGE_LOG_LINE(MetricEmittingApps.WORKER,
       "non_airbyte_message_log_line",
       "non airbyte message log"),
@@ -353,7 +398,34 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "Skip the line because of its size"),
   TOO_LONG_LINES_DISTRIBUTION(MetricEmittingApps.WORKER,
       "too_long_lines_distribution",
-      "Too long line distribution");
+      "Too long line distribution"),
+  ACTOR_DEFINITION_CACHE_HIT(MetricEmittingApps.SERVER,
+      "actor_definition_cache_hit",
+      "connector definition or definition version lookup served from the in-memory cache"),
+  ACTOR_DEFINITION_CACHE_MISS(MetricEmittingApps.SERVER,
+      "actor_definition_cache_miss",
+      "connector definition or definition version lookup that had to read the database"),
+  SECRETS_CACHE_HIT(MetricEmittingApps.WORKER,
+      "secrets_cache_hit",
+      "secret read served from the in-memory secret hydration cache"),
+  SECRETS_CACHE_MISS(MetricEmittingApps.WORKER,
+      "secrets_cache_miss",
+      "secret read that had to go to the secret persistence"),
+  CONNECTOR_REGISTRY_DEFINITIONS_INSERTED(MetricEmittingApps.CRON,
+      "connector_registry_definitions_inserted",
+      "number of connector definitions from the registry that were new and inserted"),
+  CONNECTOR_REGISTRY_DEFINITIONS_UPDATED(MetricEmittingApps.CRON,
+      "connector_registry_definitions_updated",
+      "number of connector definitions or default versions updated from the registry"),
+  CONNECTOR_REGISTRY_DEFINITIONS_UNCHANGED(MetricEmittingApps.CRON,
+      "connector_registry_definitions_unchanged",
+      "number of connector definitions from the registry that were unchanged and not written"),
+  JOB_HISTORY_PURGE_DELETED_JOBS(MetricEmittingApps.CRON,
+      "job_history_purge_deleted_jobs",
+      "number of jobs deleted by the job history purge"),
+  JOB_HISTORY_PURGE_BATCH_DURATION_MILLISECS(MetricEmittingApps.CRON,
+      "job_history_purge_batch_duration_millisecs",
+      "duration of one batch of the job history purge");
 
   private final MetricEmittingApp application;
   private final String metricName;
@@ -50,4 +50,15 @@ class DogStatsDMetricClientTest {
     });
   }
 
+  @Test
+  @DisplayName("there should be no exception if we emit bound metrics while publish is false")
+  void testBoundMetricNoEmitError() {
+    final BoundMetric boundMetric =
+        dogStatsDMetricClient.bind(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, new MetricAttribute("tag", "value"));
+    Assertions.assertDoesNotThrow(() -> {
+      boundMetric.count(1);
+      boundMetric.distribution(1);
+    });
+  }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HikariPoolMetricsTest {
+
+  private static final String POOL_NAME = "config";
+  private static final MetricAttribute POOL = new MetricAttribute(MetricTags.DB_POOL, POOL_NAME);
+  private static final long TIMEOUT_MILLIS = 5000;
+
+  private MetricClient metricClient;
+  private PoolStats poolStats;
+
+  @BeforeEach
+  void setup() {
+    metricClient = mock(MetricClient.class);
+    poolStats = new PoolStats(0) {
+
+      @Override
+      protected void update() {
+        activeConnections = 3;
+        idleConnections = 2;
+        pendingThreads = 1;
+      }
+
+    };
+  }
+
+  @Test
+  void testRecordsAcquisitionsUsageAndTimeouts() {
+    final IMetricsTracker tracker = new HikariPoolMetrics(metricClient, Duration.ofHours(1)).create(POOL_NAME, poolStats);
+
+    tracker.recordConnectionAcquiredNanos(Duration.ofMillis(5).toNanos());
+    tracker.recordConnectionUsageMillis(40);
+    tracker.recordConnectionTimeout();
+
+    verify(metricClient).distribution(OssMetricsRegistry.DB_POOL_CONNECTION_ACQUIRE_TIME_MILLISECS, 5.0, POOL);
+    verify(metricClient).distribution(OssMetricsRegistry.DB_POOL_CONNECTION_USAGE_MILLISECS, 40, POOL);
+    verify(metricClient).count(OssMetricsRegistry.DB_POOL_CONNECTION_TIMEOUTS, 1, POOL);
+  }
+
+  @Test
+  void testPublishesGaugesWhileThePoolIsIdle() {
+    new HikariPoolMetrics(metricClient, Duration.ofMillis(10)).create(POOL_NAME, poolStats);
+
+    verify(metricClient, timeout(TIMEOUT_MILLIS).atLeast(2)).gauge(OssMetricsRegistry.DB_POOL_ACTIVE_CONNECTIONS, 3, POOL);
+    verify(metricClient, timeout(TIMEOUT_MILLIS).atLeast(2)).gauge(OssMetricsRegistry.DB_POOL_IDLE_CONNECTIONS, 2, POOL);
+    verify(metricClient, timeout(TIMEOUT_MILLIS).atLeast(2)).gauge(OssMetricsRegistry.DB_POOL_PENDING_THREADS, 1, POOL);
+  }
+
+  @Test
+  void testStopsPublishingGaugesWhenThePoolIsClosed() throws InterruptedException {
+    final IMetricsTracker tracker = new HikariPoolMetrics(metricClient, Duration.ofMillis(10)).create(POOL_NAME, poolStats);
+    verify(metricClient, timeout(TIMEOUT_MILLIS)).gauge(OssMetricsRegistry.DB_POOL_PENDING_THREADS, 1, POOL);
+
+    tracker.close();
+    // a run may have started before the close
+    Thread.sleep(50);
+    clearInvocations(metricClient);
+    Thread.sleep(50);
+
+    verifyNoInteractions(metricClient);
+  }
+
+}
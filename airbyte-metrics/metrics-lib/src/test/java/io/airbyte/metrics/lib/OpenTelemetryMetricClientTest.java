@@ -10,6 +10,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import com.google.common.collect.Iterables;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
@@ -110,4 +111,23 @@ class OpenTelemetryMetricClientTest {
     assertThat(data.getHistogramData().getPoints().stream().anyMatch(histogramPointData -> histogramPointData.getMin() == 10.0));
   }
 
+  @Test
+  @DisplayName("Bound metrics should record to the same instrument as unbound calls")
+  void testBoundMetricSuccess() {
+    final BoundMetric boundMetric =
+        openTelemetryMetricClient.bind(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, new MetricAttribute(TAG, TAG));
+    boundMetric.count(1);
+    boundMetric.count(2);
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 4, new MetricAttribute(TAG, TAG));
+
+    metricProvider.forceFlush();
+    final List<MetricData> metricDataList = metricExporter.getFinishedMetricItems();
+    final MetricData data = Iterables.getOnlyElement(metricDataList);
+
+    assertThat(data.getName()).isEqualTo(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS.getMetricName());
+    final LongPointData point = Iterables.getOnlyElement(data.getLongSumData().getPoints());
+    assertThat(point.getValue()).isEqualTo(7L);
+    assertThat(point.getAttributes().get(AttributeKey.stringKey(TAG))).isEqualTo(TAG);
+  }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib.performance;
+
+import io.airbyte.metrics.lib.BoundMetric;
+import io.airbyte.metrics.lib.DatadogClientConfiguration;
+import io.airbyte.metrics.lib.DogStatsDMetricClient;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricEmittingApps;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.MetricsRegistry;
+import io.airbyte.metrics.lib.OpenTelemetryMetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PerformanceTest for recording a counter with the attributes of a sync through each
+ * {@link MetricClient}, with the attributes converted on every call and once by a
+ * {@link BoundMetric}. Neither client has a collector listening, so only the client side is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricClientPerformanceTest {
+
+  private static final MetricsRegistry METRIC = OssMetricsRegistry.STATE_PROCESSED_FROM_SOURCE;
+  private static final MetricAttribute[] ATTRIBUTES = {
+    new MetricAttribute(MetricTags.CONNECTION_ID, "6e5b7c3a-0f4c-4c6e-9f5d-3b2a1c0d9e8f"),
+    new MetricAttribute(MetricTags.JOB_ID, "12345"),
+    new MetricAttribute(MetricTags.ATTEMPT_NUMBER, "0"),
+  };
+
+  private OpenTelemetryMetricClient openTelemetryMetricClient;
+  private BoundMetric openTelemetryBoundMetric;
+  private DogStatsDMetricClient dogStatsDMetricClient;
+  private BoundMetric dogStatsDBoundMetric;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // the exporter only runs once a minute, the records stay in memory until then
+    openTelemetryMetricClient = new OpenTelemetryMetricClient();
+    openTelemetryMetricClient.initialize(MetricEmittingApps.WORKER, "http://localhost:4317");
+    openTelemetryBoundMetric = openTelemetryMetricClient.bind(METRIC, ATTRIBUTES);
+
+    // nothing listens on this port, the client drops the datagrams
+    dogStatsDMetricClient = new DogStatsDMetricClient();
+    dogStatsDMetricClient.initialize(MetricEmittingApps.WORKER, new DatadogClientConfiguration("localhost", "8125", true, Collections.emptyList()));
+    dogStatsDBoundMetric = dogStatsDMetricClient.bind(METRIC, ATTRIBUTES);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    openTelemetryMetricClient.shutdown();
+    dogStatsDMetricClient.shutdown();
+  }
+
+  @Benchmark
+  public void openTelemetryCount() {
+    openTelemetryMetricClient.count(METRIC, 1, ATTRIBUTES);
+  }
+
+  @Benchmark
+  public void openTelemetryBoundCount() {
+    openTelemetryBoundMetric.count(1);
+  }
+
+  @Benchmark
+  public void dogStatsDCount() {
+    dogStatsDMetricClient.count(METRIC, 1, ATTRIBUTES);
+  }
+
+  @Benchmark
+  public void dogStatsDBoundCount() {
+    dogStatsDBoundMetric.count(1);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(MetricClientPerformanceTest.class.getName())
+        .addProfiler(GCProfiler.class)
+        .build())
+        .run();
+  }
+
+}
@@ -5,12 +5,11 @@
 package io.airbyte.metrics.reporter;
 
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ACTIVE_JOBS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
-import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.name;
-import static org.jooq.impl.SQLDataType.VARCHAR;
 
 import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.AttemptStatus;
@@ -23,6 +22,11 @@ import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
 
+/**
+ * Queries backing the metrics reporter. The pending and running job metrics read from active_jobs,
+ * which only holds non-terminal jobs and carries the connection id as a uuid, instead of scanning
+ * the jobs table and casting its scope.
+ */
 @Singleton
 class MetricRepository {
 
@@ -43,10 +47,10 @@ class MetricRepository {
     String geographyResultAlias = "geography";
     String countResultAlias = "result";
     var result = ctx.select(CONNECTION.GEOGRAPHY.cast(String.class).as(geographyResultAlias), count(asterisk()).as(countResultAlias))
-        .from(JOBS)
+        .from(ACTIVE_JOBS)
         .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
-        .where(JOBS.STATUS.eq(JobStatus.pending))
+        .on(CONNECTION.ID.eq(ACTIVE_JOBS.CONNECTION_ID))
+        .where(ACTIVE_JOBS.STATUS.eq(JobStatus.pending))
         .groupBy(CONNECTION.GEOGRAPHY);
     Field<String> geographyResultField = DSL.field(name(geographyResultAlias), String.class);
     Field<Integer> countResultField = DSL.field(name(countResultAlias), Integer.class);
@@ -62,12 +66,12 @@ class MetricRepository {
   Map<String, Integer> numberOfRunningJobsByTaskQueue() {
     String countFieldName = "count";
     var result = ctx.select(ATTEMPTS.PROCESSING_TASK_QUEUE, count(asterisk()).as(countFieldName))
-        .from(JOBS)
+        .from(ACTIVE_JOBS)
         .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
+        .on(CONNECTION.ID.eq(ACTIVE_JOBS.CONNECTION_ID))
         .join(ATTEMPTS)
-        .on(ATTEMPTS.JOB_ID.eq(JOBS.ID))
-        .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.eq(StatusType.active)))
+        .on(ATTEMPTS.JOB_ID.eq(ACTIVE_JOBS.JOB_ID))
+        .where(ACTIVE_JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.eq(StatusType.active)))
         .and(ATTEMPTS.STATUS.eq(AttemptStatus.running))
         .groupBy(ATTEMPTS.PROCESSING_TASK_QUEUE);
 
@@ -85,10 +89,10 @@ class MetricRepository {
   // whole.
   int numberOfOrphanRunningJobs() {
     return ctx.selectCount()
-        .from(JOBS)
+        .from(ACTIVE_JOBS)
         .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
-        .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.ne(StatusType.active)))
+        .on(CONNECTION.ID.eq(ACTIVE_JOBS.CONNECTION_ID))
+        .where(ACTIVE_JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.ne(StatusType.active)))
         .fetchOne(0, int.class);
   }
 
@@ -97,11 +101,11 @@ class MetricRepository {
         """
         SELECT
           cast(connection.geography as varchar) AS geography,
-          MAX(EXTRACT(EPOCH FROM (current_timestamp - jobs.created_at))) AS run_duration_seconds
-        FROM jobs
+          MAX(EXTRACT(EPOCH FROM (current_timestamp - active_jobs.created_at))) AS run_duration_seconds
+        FROM active_jobs
         JOIN connection
-        ON jobs.scope::uuid = connection.id
-        WHERE jobs.status = 'pending'
+        ON active_jobs.connection_id = connection.id
+        WHERE active_jobs.status = 'pending'
         GROUP BY geography;
         """;
     final var result = ctx.fetch(query);
@@ -119,11 +123,13 @@ class MetricRepository {
   Map<String, Double> oldestRunningJobAgeSecsByTaskQueue() {
     final var query =
         """
-        SELECT attempts.processing_task_queue AS task_queue, MAX(EXTRACT(EPOCH FROM (current_timestamp - jobs.created_at))) AS run_duration_seconds
-        FROM jobs
+        SELECT
+          attempts.processing_task_queue AS task_queue,
+          MAX(EXTRACT(EPOCH FROM (current_timestamp - active_jobs.created_at))) AS run_duration_seconds
+        FROM active_jobs
         JOIN attempts
-        ON jobs.id = attempts.job_id
-        WHERE jobs.status = 'running' AND attempts.status = 'running'
+        ON active_jobs.job_id = attempts.job_id
+        WHERE active_jobs.status = 'running' AND attempts.status = 'running'
         GROUP BY task_queue;
         """;
     final var result = ctx.fetch(query);
@@ -167,57 +173,42 @@ class MetricRepository {
 
   long numberOfJobsNotRunningOnScheduleInLastDay() {
     // This query finds all sync jobs ran in last 24 hours and count how many times they have run.
-    // Comparing this to the expected number of runs (24 hours divide by configured cadence in hours),
-    // if it runs below that expected number it will be considered as abnormal instance.
+    // Comparing this to the expected number of runs (24 hours divide by configured cadence in hours,
+    // or 1440 = 24 hours x 60 minutes divided by the configured cadence in minutes), if it runs below
+    // that expected number it will be considered as abnormal instance.
     // For example, if it's configured to run every 6 hours but in last 24 hours it only has 3 runs,
     // it will be considered as 1 abnormal instance.
-    final var queryForAbnormalSyncInHoursInLastDay = """
-                                                     select count(1) as cnt
-                                                     from (
-                                                       select
-                                                         c.id,
-                                                         count(*) as cnt
-                                                       from connection c
-                                                       left join jobs j on j.scope::uuid = c.id
-                                                       where
-                                                         c.schedule is not null
-                                                         and c.schedule != 'null'
-                                                         and j.created_at > now() - interval '24 hours 1 minutes'
-                                                         and c.status = 'active'
-                                                         and j.config_type = 'sync'
-                                                         and c.updated_at < now() - interval '24 hours 1 minutes'
-                                                         and cast(c.schedule::jsonb->'timeUnit' as text) = '"hours"'
-                                                       group by 1
-                                                       having count(*) < 24 / cast(c.schedule::jsonb->'units' as integer)
-                                                     ) as abnormal_jobs
-                                                     """;
-
-    // Similar to the query above, this finds if the connection cadence's timeUnit is minutes.
-    // thus we use 1440 (=24 hours x 60 minutes) to divide the configured cadence.
-    final var queryForAbnormalSyncInMinutesInLastDay = """
-                                                       select count(1) as cnt
-                                                       from (
-                                                         select
-                                                           c.id,
-                                                           count(*) as cnt
-                                                         from
-                                                           connection c
-                                                         left join Jobs j on
-                                                           j.scope::uuid = c.id
-                                                         where
-                                                           c.schedule is not null
-                                                           and c.schedule != 'null'
-                                                           and j.created_at > now() - interval '24 hours 1 minutes'
-                                                           and c.status = 'active'
-                                                           and j.config_type = 'sync'
-                                                           and c.updated_at < now() - interval '24 hours 1 minutes'
-                                                           and cast(c.schedule::jsonb->'timeUnit' as text) = '"minutes"'
-                                                         group by 1
-                                                         having count(*) < 1440 / cast(c.schedule::jsonb->'units' as integer)
-                                                       ) as abnormal_jobs
-                                                       """;
-    return ctx.fetchOne(queryForAbnormalSyncInHoursInLastDay).get("cnt", long.class)
-        + ctx.fetchOne(queryForAbnormalSyncInMinutesInLastDay).get("cnt", long.class);
+    // The schedule of each connection is parsed once, and jobs are matched on their scope as text so
+    // that the jobs (scope, created_at) index can be used.
+    final var queryForAbnormalSyncInLastDay = """
+                                              with scheduled_connections as (
+                                                select
+                                                  c.id,
+                                                  c.schedule::jsonb->>'timeUnit' as time_unit,
+                                                  cast(c.schedule::jsonb->>'units' as integer) as units
+                                                from connection c
+                                                where
+                                                  c.schedule is not null
+                                                  and c.schedule != 'null'
+                                                  and c.status = 'active'
+                                                  and c.updated_at < now() - interval '24 hours 1 minutes'
+                                              )
+                                              select count(1) as cnt
+                                              from (
+                                                select
+                                                  sc.id,
+                                                  count(*) as cnt
+                                                from scheduled_connections sc
+                                                join jobs j on j.scope = cast(sc.id as varchar(255))
+                                                where
+                                                  sc.time_unit in ('hours', 'minutes')
+                                                  and j.created_at > now() - interval '24 hours 1 minutes'
+                                                  and j.config_type = 'sync'
+                                                group by sc.id, sc.time_unit, sc.units
+                                                having count(*) < case sc.time_unit when 'hours' then 24 else 1440 end / sc.units
+                                              ) as abnormal_jobs
+                                              """;
+    return ctx.fetchOne(queryForAbnormalSyncInLastDay).get("cnt", long.class);
   }
 
   long numberOfJobsRunningUnusuallyLong() {
@@ -33,6 +33,7 @@ import io.airbyte.db.instance.test.TestDatabaseProviders;
 import io.airbyte.test.utils.Databases;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
@@ -45,6 +46,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
 
@@ -148,6 +150,7 @@ class MetricRepositoryTest {
           .values(5L, inactiveConnectionId.toString(), JobStatus.running)
           .execute();
 
+      syncActiveJobs();
       assertEquals(1, db.numberOfRunningJobsByTaskQueue().get(SYNC_QUEUE));
       assertEquals(1, db.numberOfRunningJobsByTaskQueue().get(AWS_SYNC_QUEUE));
       // To test we send 0 for 'null' to overwrite previous bug.
@@ -161,6 +164,7 @@ class MetricRepositoryTest {
       ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS).values(1L, "", JobStatus.pending).execute();
       ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS).values(2L, "", JobStatus.failed).execute();
 
+      syncActiveJobs();
       final var result = db.numberOfRunningJobsByTaskQueue();
       assertEquals(result.get(SYNC_QUEUE), 0);
       assertEquals(result.get(AWS_SYNC_QUEUE), 0);
@@ -185,6 +189,7 @@ class MetricRepositoryTest {
           .values(4L, connectionUuid.toString(), JobStatus.running)
           .execute();
 
+      syncActiveJobs();
       final var res = db.numberOfPendingJobsByGeography();
       assertEquals(2, res.get(EU_REGION));
       assertEquals(0, res.get(AUTO_REGION));
@@ -207,6 +212,7 @@ class MetricRepositoryTest {
           .values(2L, connectionUuid.toString(), JobStatus.failed)
           .execute();
 
+      syncActiveJobs();
       final var result = db.numberOfPendingJobsByGeography();
       assertEquals(result.get(AUTO_REGION), 0);
       assertEquals(result.get(EU_REGION), 0);
@@ -243,6 +249,7 @@ class MetricRepositoryTest {
           .values(4L, connectionUuid.toString(), JobStatus.failed)
           .execute();
 
+      syncActiveJobs();
       final Double result = db.oldestPendingJobAgeSecsByGeography().get(EU_REGION);
       // expected age is 1000 seconds, but allow for +/- 1 second to account for timing/rounding errors
       assertTrue(999 < result && result < 1001);
@@ -264,6 +271,7 @@ class MetricRepositoryTest {
           .values(2L, connectionUuid.toString(), JobStatus.running)
           .values(3L, connectionUuid.toString(), JobStatus.failed).execute();
 
+      syncActiveJobs();
       final var result = db.oldestPendingJobAgeSecsByGeography();
       assertEquals(result.get(EU_REGION), 0.0);
       assertEquals(result.get(AUTO_REGION), 0.0);
@@ -294,6 +302,7 @@ class MetricRepositoryTest {
           .values(4L, "", JobStatus.failed)
           .execute();
 
+      syncActiveJobs();
       final var result = db.oldestRunningJobAgeSecsByTaskQueue();
       // expected age is 1000 seconds, but allow for +/- 1 second to account for timing/rounding errors
       assertTrue(9999 < result.get(SYNC_QUEUE) && result.get(SYNC_QUEUE) < 10001L);
@@ -310,6 +319,7 @@ class MetricRepositoryTest {
           .values(3L, "", JobStatus.failed)
           .execute();
 
+      syncActiveJobs();
       final var result = db.oldestRunningJobAgeSecsByTaskQueue();
       assertEquals(result.get(SYNC_QUEUE), 0.0);
       assertEquals(result.get(AWS_SYNC_QUEUE), 0.0);
@@ -689,4 +699,93 @@ class MetricRepositoryTest {
 
   }
 
+  /**
+   * Compares the pending job metric read from active_jobs with the query it replaced, which scanned
+   * jobs, over a jobs table mostly made of terminal jobs. Run with the performanceTest task.
+   */
+  @Nested
+  @Tag("performance")
+  class Performance {
+
+    private static final int CONNECTIONS = 1000;
+    private static final int TERMINAL_JOBS = 200_000;
+    private static final int PENDING_JOBS = 500;
+    private static final int RUNNING_JOBS = 500;
+
+    @Test
+    void testActiveJobMetricsAreFasterThanScanningJobs() {
+      ctx.execute("""
+                  INSERT INTO connection(id, namespace_definition, source_id, destination_id, name, catalog, manual, status, geography)
+                  SELECT gen_random_uuid(), 'source', gen_random_uuid(), gen_random_uuid(), 'conn', '{}', true, 'active', 'EU'
+                  FROM generate_series(1, ?)
+                  """, CONNECTIONS);
+      // jobs are spread evenly over the connections: terminal jobs first, then pending and running ones
+      ctx.execute("""
+                  INSERT INTO jobs(id, config_type, scope, status, created_at, updated_at)
+                  SELECT
+                    g,
+                    'sync',
+                    c.id::text,
+                    CAST(CASE WHEN g <= ? THEN 'succeeded' WHEN g <= ? THEN 'pending' ELSE 'running' END AS job_status),
+                    now() - g * interval '1 second',
+                    now()
+                  FROM generate_series(1, ?) g
+                  JOIN (SELECT id, row_number() OVER () AS rn FROM connection) c ON c.rn = g % ? + 1
+                  """, TERMINAL_JOBS, TERMINAL_JOBS + PENDING_JOBS, TERMINAL_JOBS + PENDING_JOBS + RUNNING_JOBS, CONNECTIONS);
+      ctx.execute("""
+                  INSERT INTO attempts(id, job_id, attempt_number, status, processing_task_queue)
+                  SELECT id, id, 0, 'running', ? FROM jobs WHERE status = 'running'
+                  """, SYNC_QUEUE);
+      syncActiveJobs();
+      ctx.execute("ANALYZE");
+
+      final long legacyPendingMillis = time(() -> ctx.fetch("""
+                                                            SELECT cast(connection.geography as varchar) AS geography, count(*) AS result
+                                                            FROM jobs
+                                                            JOIN connection ON cast(connection.id as varchar(255)) = jobs.scope
+                                                            WHERE jobs.status = 'pending'
+                                                            GROUP BY connection.geography
+                                                            """));
+      final long pendingMillis = time(db::numberOfPendingJobsByGeography);
+
+      assertTrue(pendingMillis < legacyPendingMillis,
+          String.format("pending jobs metric took %d ms, scanning jobs took %d ms", pendingMillis, legacyPendingMillis));
+      assertEquals(PENDING_JOBS, db.numberOfPendingJobsByGeography().get(EU_REGION));
+      assertEquals(RUNNING_JOBS, db.numberOfRunningJobsByTaskQueue().get(SYNC_QUEUE));
+      assertEquals(0, db.numberOfOrphanRunningJobs());
+    }
+
+    private static long time(final Runnable query) {
+      // warm up the plan and the buffer cache, then keep the best of a few runs
+      query.run();
+      long best = Long.MAX_VALUE;
+      for (int i = 0; i < 5; i++) {
+        final long startedAt = System.nanoTime();
+        query.run();
+        best = Math.min(best, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+      }
+      return best;
+    }
+
+  }
+
+  /**
+   * Jobs are inserted directly in these tests, so active_jobs is populated from them the same way
+   * the migration backfills it.
+   */
+  private static void syncActiveJobs() {
+    ctx.execute("""
+                INSERT INTO active_jobs(job_id, connection_id, status, created_at, updated_at)
+                SELECT
+                  id,
+                  CASE WHEN scope ~ '^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$' THEN scope::uuid END,
+                  status,
+                  coalesce(created_at, now()),
+                  now()
+                FROM jobs
+                WHERE status IN ('pending', 'running', 'incomplete')
+                ON CONFLICT (job_id) DO NOTHING
+                """);
+  }
+
 }
@@ -78,7 +78,7 @@ public class CustomerioNotificationClient extends NotificationClient {
     final EnvConfigs configs = new EnvConfigs();
     this.apiToken = configs.getCustomerIoKey();
     this.baseUrl = CUSTOMERIO_BASE_URL;
-    this.okHttpClient = new OkHttpClient.Builder()
+    this.okHttpClient = NotificationHttpClients.okHttpClient().newBuilder()
         .addInterceptor(new CampaignsRateLimitInterceptor())
         .build();
   }
@@ -88,7 +88,7 @@ public class CustomerioNotificationClient extends NotificationClient {
                                       final String baseUrl) {
     this.apiToken = apiToken;
     this.baseUrl = baseUrl;
-    this.okHttpClient = new OkHttpClient.Builder()
+    this.okHttpClient = NotificationHttpClients.okHttpClient().newBuilder()
         .addInterceptor(new CampaignsRateLimitInterceptor())
         .build();
   }
@@ -246,6 +246,16 @@ public class CustomerioNotificationClient extends NotificationClient {
     return CUSTOMERIO_TYPE;
   }
 
+  /**
+   * Customer.io accepts far more than the webhook rate, so its deliveries are not spaced out by the
+   * dispatcher. Broadcasts throttled with a 429 are retried by {@link CampaignsRateLimitInterceptor},
+   * other failed deliveries are retried by the dispatcher.
+   */
+  @Override
+  public String getNotificationDestination() {
+    return null;
+  }
+
   private boolean notifyByEmail(final String requestPayload) throws IOException {
     return sendNotifyRequest(CUSTOMERIO_EMAIL_API_ENDPOINT, requestPayload);
   }
@@ -85,6 +85,14 @@ public abstract class NotificationClient {
 
   public abstract String getNotificationClientType();
 
+  /**
+   * Identifies where the notifications of this client are delivered, e.g. to rate limit the
+   * deliveries to the same endpoint together. Null if the client handles throttling itself.
+   */
+  public String getNotificationDestination() {
+    return getNotificationClientType();
+  }
+
   String renderTemplate(final String templateFile, final String... data) throws IOException {
     final String template = MoreResources.readResource(templateFile);
     return String.format(template, data);
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import static io.airbyte.metrics.lib.MetricTags.NOTIFICATION_CLIENT;
+import static io.airbyte.metrics.lib.MetricTags.NOTIFICATION_DROP_REASON;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers notifications off the caller's thread.
+ *
+ * Notifications are delivered by a small pool of threads, and at most threads + queue capacity
+ * notifications wait for delivery. Deliveries to the same destination are spaced out, so that a
+ * burst of notifications to the same webhook does not get throttled by the receiving end. A
+ * delivery that has to wait for its destination, or for the backoff before a retry, is scheduled
+ * for later rather than holding a thread, so the other destinations are not held up. A delivery
+ * that fails is retried with an exponential backoff. A notification is dropped if too many are
+ * waiting or if it still fails after the last attempt.
+ *
+ * With no threads, notifications are delivered right away on the caller's thread, in a single
+ * attempt.
+ */
+@Singleton
+@Bean(preDestroy = "close")
+public class NotificationDispatcher implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+  private static final String QUEUE_FULL = "queue_full";
+  private static final String DELIVERY_FAILED = "delivery_failed";
+  private static final String SHUTDOWN = "shutdown";
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+  /**
+   * Delivers a single notification.
+   */
+  @FunctionalInterface
+  public interface Delivery {
+
+    /**
+     * Deliver the notification.
+     *
+     * @return true if the notification was delivered, false if there was nothing to deliver
+     * @throws Exception if the delivery failed and should be retried
+     */
+    boolean deliver() throws Exception;
+
+  }
+
+  private final ScheduledThreadPoolExecutor executor;
+  private final int capacity;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final long deliveryIntervalNanos;
+  // time, in System.nanoTime(), from which the next delivery to a destination may start
+  private final LoadingCache<String, AtomicLong> nextDeliveryAt;
+  private int pending;
+  // waiting notifications by client type, so that the ones still waiting on shutdown are counted as
+  // dropped
+  private final Map<String, Integer> pendingByClientType = new HashMap<>();
+  private boolean closing;
+
+  public NotificationDispatcher(@Value("${airbyte.notification.dispatcher.threads:4}") final int threads,
+                                @Value("${airbyte.notification.dispatcher.queue-capacity:1000}") final int queueCapacity,
+                                @Value("${airbyte.notification.dispatcher.permits-per-second:1}") final double permitsPerSecond,
+                                @Value("${airbyte.notification.dispatcher.max-attempts:3}") final int maxAttempts,
+                                @Value("${airbyte.notification.dispatcher.initial-backoff:1s}") final Duration initialBackoff) {
+    this.capacity = threads + queueCapacity;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.initialBackoff = initialBackoff;
+    this.deliveryIntervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    this.nextDeliveryAt = CacheBuilder.newBuilder()
+        .expireAfterAccess(Duration.ofMinutes(10))
+        .build(CacheLoader.from(destination -> new AtomicLong(System.nanoTime())));
+    if (threads > 0) {
+      final AtomicInteger threadCount = new AtomicInteger();
+      this.executor = new ScheduledThreadPoolExecutor(threads, r -> {
+        final Thread thread = new Thread(r, "notification-dispatcher-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    } else {
+      this.executor = null;
+    }
+  }
+
+  /**
+   * Queue a notification for delivery.
+   *
+   * @param clientType type of the notification client, used to tag the metrics
+   * @param destination where the notification is delivered, e.g. a webhook url. Deliveries to the
+   *        same destination are spaced out. Null for a client that handles throttling itself, its
+   *        deliveries are not spaced out.
+   * @param delivery delivers the notification
+   * @return false if the notification was dropped because too many notifications are waiting
+   */
+  public boolean dispatch(final String clientType, final String destination, final Delivery delivery) {
+    final long queuedAt = System.nanoTime();
+    if (executor == null) {
+      attemptDelivery(clientType, delivery, queuedAt, 1, 1);
+      return true;
+    }
+    synchronized (this) {
+      if (closing || pending >= capacity) {
+        LOGGER.warn("Dropping {} notification, the dispatch queue is full", clientType);
+        reportDrop(clientType, QUEUE_FULL, 1);
+        return false;
+      }
+      pending++;
+      pendingByClientType.merge(clientType, 1, Integer::sum);
+    }
+    schedule(clientType, destination, delivery, queuedAt, 1, 0);
+    return true;
+  }
+
+  /**
+   * Deliver the waiting notifications, including their retries, and stop.
+   */
+  @Override
+  public void close() {
+    if (executor == null) {
+      return;
+    }
+    final long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+    try {
+      synchronized (this) {
+        closing = true;
+        long remaining = deadline - System.nanoTime();
+        while (pending > 0 && remaining > 0) {
+          TimeUnit.NANOSECONDS.timedWait(this, remaining);
+          remaining = deadline - System.nanoTime();
+        }
+        if (pending > 0) {
+          LOGGER.warn("Dropping {} queued notifications on shutdown", pending);
+          pendingByClientType.forEach((clientType, count) -> reportDrop(clientType, SHUTDOWN, count));
+          pendingByClientType.clear();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Schedule an attempt once the delay has passed and the destination is free.
+   */
+  private void schedule(final String clientType,
+                        final String destination,
+                        final Delivery delivery,
+                        final long queuedAt,
+                        final int attempt,
+                        final long delayNanos) {
+    final long delay = destination == null ? delayNanos : reserveDeliverySlot(destination, delayNanos);
+    try {
+      executor.schedule(() -> {
+        if (attemptDelivery(clientType, delivery, queuedAt, attempt, maxAttempts)) {
+          schedule(clientType, destination, delivery, queuedAt, attempt + 1, backoff(attempt).toNanos());
+        } else {
+          done(clientType);
+        }
+      }, delay, TimeUnit.NANOSECONDS);
+    } catch (final RejectedExecutionException e) {
+      // the dispatcher was closed while the notification was waiting, close() counted it as dropped
+      done(clientType);
+    }
+  }
+
+  /**
+   * Reserve the first free delivery slot of a destination that is at least delayNanos from now.
+   *
+   * @return time until the reserved slot, in nanoseconds
+   */
+  private long reserveDeliverySlot(final String destination, final long delayNanos) {
+    final long now = System.nanoTime();
+    final long earliest = now + delayNanos;
+    final long slot = nextDeliveryAt.getUnchecked(destination)
+        .getAndAccumulate(earliest, (next, start) -> Math.max(next, start) + deliveryIntervalNanos);
+    return Math.max(slot, earliest) - now;
+  }
+
+  private synchronized void done(final String clientType) {
+    pendingByClientType.computeIfPresent(clientType, (type, count) -> count > 1 ? count - 1 : null);
+    pending--;
+    if (pending == 0) {
+      notifyAll();
+    }
+  }
+
+  /**
+   * Make one delivery attempt.
+   *
+   * @return true if the attempt failed and the notification should be retried
+   */
+  private boolean attemptDelivery(final String clientType, final Delivery delivery, final long queuedAt, final int attempt, final int attempts) {
+    try {
+      if (delivery.deliver()) {
+        MetricClientFactory.getMetricClient().distribution(OssMetricsRegistry.NOTIFICATION_DELIVERY_LATENCY_MILLISECS,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedAt), new MetricAttribute(NOTIFICATION_CLIENT, clientType));
+      }
+      return false;
+    } catch (final Exception e) {
+      if (attempt >= attempts) {
+        LOGGER.error("Failed to deliver {} notification after {} attempts. Not blocking.", clientType, attempts, e);
+        reportDrop(clientType, DELIVERY_FAILED, 1);
+        return false;
+      }
+      LOGGER.warn("Failed to deliver {} notification, retrying in {} ms", clientType, backoff(attempt).toMillis(), e);
+      return true;
+    }
+  }
+
+  private Duration backoff(final int attempt) {
+    return initialBackoff.multipliedBy(1L << (attempt - 1));
+  }
+
+  private static void reportDrop(final String clientType, final String reason, final long count) {
+    MetricClientFactory.getMetricClient().count(OssMetricsRegistry.NOTIFICATIONS_DROPPED, count,
+        new MetricAttribute(NOTIFICATION_CLIENT, clientType), new MetricAttribute(NOTIFICATION_DROP_REASON, reason));
+  }
+
+}
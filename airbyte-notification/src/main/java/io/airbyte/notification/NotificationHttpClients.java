@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+/**
+ * HTTP clients shared by the notification clients.
+ *
+ * Both clients keep a pool of connections and their own threads, so they are created once per
+ * process rather than once per notification. Clients that need extra configuration derive it with
+ * {@link OkHttpClient#newBuilder()}, which keeps the connection pool and dispatcher of the shared
+ * client.
+ */
+public final class NotificationHttpClients {
+
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_2)
+      .connectTimeout(CONNECT_TIMEOUT)
+      .build();
+
+  private static final OkHttpClient OK_HTTP_CLIENT = new OkHttpClient.Builder()
+      .connectionPool(new ConnectionPool(10, 5, TimeUnit.MINUTES))
+      .connectTimeout(CONNECT_TIMEOUT)
+      .callTimeout(REQUEST_TIMEOUT)
+      .build();
+
+  private NotificationHttpClients() {}
+
+  /**
+   * The client used for webhooks.
+   */
+  public static HttpClient httpClient() {
+    return HTTP_CLIENT;
+  }
+
+  /**
+   * Timeout of a single request sent with {@link #httpClient()}.
+   */
+  public static Duration requestTimeout() {
+    return REQUEST_TIMEOUT;
+  }
+
+  /**
+   * The client used for the customer.io API and webhooks sent with OkHttp.
+   */
+  public static OkHttpClient okHttpClient() {
+    return OK_HTTP_CLIENT;
+  }
+
+}
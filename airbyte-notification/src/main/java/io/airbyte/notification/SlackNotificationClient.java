@@ -12,7 +12,6 @@ import io.airbyte.config.ActorType;
 import io.airbyte.config.SlackNotificationConfiguration;
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.List;
@@ -179,9 +178,6 @@ public class SlackNotificationClient extends NotificationClient {
   }
 
   private boolean notify(final String message) throws IOException, InterruptedException {
-    final HttpClient httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
     final ImmutableMap<String, String> body = new Builder<String, String>()
         .put("text", message)
         .build();
@@ -189,8 +185,9 @@ public class SlackNotificationClient extends NotificationClient {
         .POST(HttpRequest.BodyPublishers.ofString(Jsons.serialize(body)))
         .uri(URI.create(config.getWebhook()))
         .header("Content-Type", "application/json")
+        .timeout(NotificationHttpClients.requestTimeout())
         .build();
-    final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> response = NotificationHttpClients.httpClient().send(request, HttpResponse.BodyHandlers.ofString());
     if (isSuccessfulHttpResponse(response.statusCode())) {
       LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
       return true;
@@ -223,6 +220,11 @@ public class SlackNotificationClient extends NotificationClient {
     return SLACK_CLIENT;
   }
 
+  @Override
+  public String getNotificationDestination() {
+    return config.getWebhook();
+  }
+
   /**
    * Used when user tries to test the notification webhook settings on UI.
    */
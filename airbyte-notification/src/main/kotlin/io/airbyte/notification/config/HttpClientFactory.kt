@@ -1,5 +1,6 @@
 package io.airbyte.notification.config
 
+import io.airbyte.notification.NotificationHttpClients
 import io.micronaut.context.annotation.Factory
 import jakarta.inject.Named
 import jakarta.inject.Singleton
@@ -10,6 +11,6 @@ class HttpClientFactory {
   @Singleton
   @Named("webhookHttpClient")
   fun okHttpClient(): OkHttpClient {
-    return OkHttpClient()
+    return NotificationHttpClients.okHttpClient()
   }
 }
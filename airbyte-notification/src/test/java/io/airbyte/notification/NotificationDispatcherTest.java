@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.SlackNotificationConfiguration;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationDispatcherTest {
+
+  private static final String API_KEY = "api-key";
+  private static final String SLACK_PATH = "/slack";
+  private static final String CUSTOMERIO_EMAIL_PATH = "/v1/send/email";
+  private static final Duration BACKOFF = Duration.ofMillis(10);
+
+  private MockWebServer mockWebServer;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void testBurstOfNotificationsIsDelivered() throws InterruptedException {
+    mockWebServer.setDispatcher(new Dispatcher() {
+
+      @NotNull
+      @Override
+      public MockResponse dispatch(@NotNull final RecordedRequest request) {
+        return new MockResponse().setResponseCode(200);
+      }
+
+    });
+    final int burst = 200;
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(4, 2 * burst, 1000, 3, BACKOFF);
+
+    for (int i = 0; i < burst; i++) {
+      // a new client for every notification, as the job notifier does
+      final SlackNotificationClient slackClient =
+          new SlackNotificationClient(new SlackNotificationConfiguration().withWebhook(mockWebServer.url(SLACK_PATH).toString()));
+      final String message = "sync " + i + " failed";
+      assertTrue(dispatcher.dispatch(slackClient.getNotificationClientType(), slackClient.getNotificationDestination(),
+          () -> slackClient.notifyFailure(message)));
+
+      final CustomerioNotificationClient customerioClient = new CustomerioNotificationClient(API_KEY, mockWebServer.url("/").toString());
+      final long jobId = i;
+      assertTrue(dispatcher.dispatch(customerioClient.getNotificationClientType(), customerioClient.getNotificationDestination(),
+          () -> customerioClient.notifyJobFailure("user@airbyte.io", "source", "destination", "connection", "description", "logUrl", jobId)));
+    }
+    dispatcher.close();
+
+    assertEquals(2 * burst, mockWebServer.getRequestCount());
+    final List<RecordedRequest> customerioRequests = new ArrayList<>();
+    for (int i = 0; i < 2 * burst; i++) {
+      final RecordedRequest request = mockWebServer.takeRequest();
+      if (CUSTOMERIO_EMAIL_PATH.equals(request.getPath())) {
+        customerioRequests.add(request);
+      }
+    }
+    assertEquals(burst, customerioRequests.size());
+    // the customer.io clients share the connection pool
+    assertTrue(customerioRequests.stream().anyMatch(request -> request.getSequenceNumber() > 0));
+  }
+
+  @Test
+  void testFailedDeliveriesAreRetried() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(1, 10, 1000, 3, BACKOFF);
+    final CustomerioNotificationClient client = new CustomerioNotificationClient(API_KEY, mockWebServer.url("/").toString());
+
+    assertTrue(dispatcher.dispatch(client.getNotificationClientType(), client.getNotificationDestination(),
+        () -> client.notifyJobFailure("user@airbyte.io", "source", "destination", "connection", "description", "logUrl", 1L)));
+    dispatcher.close();
+
+    assertEquals(3, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  void testDeliveryIsDroppedAfterTheLastAttempt() {
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(1, 10, 1000, 3, BACKOFF);
+    final AtomicInteger attempts = new AtomicInteger();
+
+    assertTrue(dispatcher.dispatch("slack", "destination", () -> {
+      attempts.incrementAndGet();
+      throw new IOException("failed");
+    }));
+    dispatcher.close();
+
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  void testNotificationsAreDroppedWhenTheQueueIsFull() throws InterruptedException {
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(1, 1, 1000, 1, BACKOFF);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger delivered = new AtomicInteger();
+
+    // the first notification is picked up right away and holds the only thread, the second one
+    // fills the queue
+    assertTrue(dispatcher.dispatch("slack", "destination", () -> {
+      started.countDown();
+      release.await();
+      return delivered.incrementAndGet() > 0;
+    }));
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertTrue(dispatcher.dispatch("slack", "destination", () -> delivered.incrementAndGet() > 0));
+    assertFalse(dispatcher.dispatch("slack", "destination", () -> delivered.incrementAndGet() > 0));
+
+    release.countDown();
+    dispatcher.close();
+    assertEquals(2, delivered.get());
+  }
+
+  @Test
+  void testDeliveriesToTheSameDestinationAreRateLimited() {
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(4, 100, 20, 1, BACKOFF);
+
+    final long startedAt = System.nanoTime();
+    for (int i = 0; i < 11; i++) {
+      dispatcher.dispatch("slack", "destination", () -> true);
+    }
+    dispatcher.close();
+
+    // 10 intervals of 50 ms between the 11 deliveries
+    assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(450));
+  }
+
+  @Test
+  void testRateLimitedDeliveriesDoNotHoldTheThreads() throws InterruptedException {
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(1, 100, 1, 1, BACKOFF);
+    final AtomicInteger delivered = new AtomicInteger();
+    final CountDownLatch otherDelivered = new CountDownLatch(1);
+
+    // the second and third deliveries to the destination wait for one and two seconds
+    for (int i = 0; i < 3; i++) {
+      dispatcher.dispatch("slack", "destination", () -> delivered.incrementAndGet() > 0);
+    }
+    dispatcher.dispatch("slack", "other-destination", () -> {
+      otherDelivered.countDown();
+      return true;
+    });
+
+    // the only thread is not held while the destination is waiting
+    assertTrue(otherDelivered.await(500, TimeUnit.MILLISECONDS));
+    dispatcher.close();
+    assertEquals(3, delivered.get());
+  }
+
+  @Test
+  void testDeliveriesWithoutDestinationAreNotRateLimited() {
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(1, 100, 1, 1, BACKOFF);
+    final AtomicInteger delivered = new AtomicInteger();
+
+    final long startedAt = System.nanoTime();
+    for (int i = 0; i < 5; i++) {
+      dispatcher.dispatch("customerio", null, () -> delivered.incrementAndGet() > 0);
+    }
+    dispatcher.close();
+
+    assertEquals(5, delivered.get());
+    assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void testDeliversOnTheCallerThreadWithoutThreads() {
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(0, 0, 1, 3, BACKOFF);
+    final AtomicReference<Thread> deliveryThread = new AtomicReference<>();
+    final AtomicInteger attempts = new AtomicInteger();
+
+    assertTrue(dispatcher.dispatch("slack", "destination", () -> {
+      deliveryThread.set(Thread.currentThread());
+      attempts.incrementAndGet();
+      throw new IOException("failed");
+    }));
+    dispatcher.close();
+
+    assertEquals(Thread.currentThread(), deliveryThread.get());
+    // a single attempt, the caller is not held up by retries
+    assertEquals(1, attempts.get());
+  }
+
+}
@@ -18,7 +18,6 @@ import com.google.common.collect.Sets;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.protocol.migrations.v1.CatalogMigrationV1Helper;
-import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.commons.text.Names;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
@@ -34,10 +33,10 @@ import io.airbyte.config.JobOutput.OutputType;
 import io.airbyte.config.NormalizationSummary;
 import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
-import io.airbyte.config.persistence.PersistenceHelpers;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.db.instance.configs.jooq.generated.Tables;
+import io.airbyte.db.instance.jobs.jooq.generated.tables.records.StreamStatsRecord;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.AttemptStatus;
@@ -45,9 +44,9 @@ import io.airbyte.persistence.job.models.AttemptWithJobInfo;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
-import io.airbyte.protocol.models.v0.StreamDescriptor;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -64,6 +63,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -71,6 +71,9 @@ import java.util.stream.StreamSupport;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertOnConflictDoUpdateStep;
+import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
 import org.jooq.Query;
 import org.jooq.Record;
@@ -86,11 +89,6 @@ import org.slf4j.LoggerFactory;
  */
 public class DefaultJobPersistence implements JobPersistence {
 
-  // not static because job history test case manipulates these.
-  private final int jobHistoryMinimumAgeInDays;
-  private final int jobHistoryMinimumRecency;
-  private final int jobHistoryExcessiveNumberOfJobs;
-
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultJobPersistence.class);
   private static final String ATTEMPT_NUMBER = "attempt_number";
   private static final String JOB_ID = "job_id";
@@ -128,11 +126,30 @@ public class DefaultJobPersistence implements JobPersistence {
                                                  attempts.ended_at AS attempt_ended_at
                                                """;
 
+  // same columns as ATTEMPT_FIELDS, minus the (potentially very large) json blobs
+  private static final String ATTEMPT_LIGHT_FIELDS = """
+                                                       attempts.attempt_number AS attempt_number,
+                                                       NULL AS attempt_sync_config,
+                                                       attempts.log_path AS log_path,
+                                                       NULL AS attempt_output,
+                                                       attempts.status AS attempt_status,
+                                                       attempts.processing_task_queue AS processing_task_queue,
+                                                       attempts.failure_summary AS attempt_failure_summary,
+                                                       attempts.created_at AS attempt_created_at,
+                                                       attempts.updated_at AS attempt_updated_at,
+                                                       attempts.ended_at AS attempt_ended_at
+                                                     """;
+
   private static final String ATTEMPT_SELECT =
       "SELECT job_id," + ATTEMPT_FIELDS + "FROM attempts WHERE job_id = ? AND attempt_number = ?";
 
+  // the purge deletes this many jobs per transaction, and pauses between transactions
+  private static final int JOB_HISTORY_PURGE_BATCH_SIZE = 1000;
+  private static final Duration JOB_HISTORY_PURGE_BATCH_DELAY = Duration.ofMillis(500);
+
   private final ExceptionWrappingDatabase jobDatabase;
   private final Supplier<Instant> timeSupplier;
+  private final JobHistoryPurger jobHistoryPurger;
 
   @VisibleForTesting
   DefaultJobPersistence(final Database jobDatabase,
@@ -140,11 +157,22 @@ public class DefaultJobPersistence implements JobPersistence {
                         final int minimumAgeInDays,
                         final int excessiveNumberOfJobs,
                         final int minimumRecencyCount) {
+    this(jobDatabase, timeSupplier, minimumAgeInDays, excessiveNumberOfJobs, minimumRecencyCount, JOB_HISTORY_PURGE_BATCH_SIZE,
+        JOB_HISTORY_PURGE_BATCH_DELAY);
+  }
+
+  @VisibleForTesting
+  DefaultJobPersistence(final Database jobDatabase,
+                        final Supplier<Instant> timeSupplier,
+                        final int minimumAgeInDays,
+                        final int excessiveNumberOfJobs,
+                        final int minimumRecencyCount,
+                        final int purgeBatchSize,
+                        final Duration purgeBatchDelay) {
     this.jobDatabase = new ExceptionWrappingDatabase(jobDatabase);
     this.timeSupplier = timeSupplier;
-    jobHistoryMinimumAgeInDays = minimumAgeInDays;
-    jobHistoryExcessiveNumberOfJobs = excessiveNumberOfJobs;
-    jobHistoryMinimumRecency = minimumRecencyCount;
+    jobHistoryPurger = new JobHistoryPurger(this.jobDatabase, minimumAgeInDays, excessiveNumberOfJobs, minimumRecencyCount, purgeBatchSize,
+        purgeBatchDelay);
   }
 
   public DefaultJobPersistence(final Database jobDatabase) {
@@ -165,6 +193,24 @@ public class DefaultJobPersistence implements JobPersistence {
         + "FROM " + jobsSubquery + " LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
   }
 
+  /**
+   * Same as {@link #jobSelectAndJoin(String)} but leaves out the job config and the attempt output
+   * and sync config, which make up most of the bytes of a job row.
+   */
+  private static String jobLightSelectAndJoin(final String jobsSubquery) {
+    return "SELECT\n"
+        + "jobs.id AS job_id,\n"
+        + "jobs.config_type AS config_type,\n"
+        + "jobs.scope AS scope,\n"
+        + "NULL AS config,\n"
+        + "jobs.status AS job_status,\n"
+        + "jobs.started_at AS job_started_at,\n"
+        + "jobs.created_at AS job_created_at,\n"
+        + "jobs.updated_at AS job_updated_at,\n"
+        + ATTEMPT_LIGHT_FIELDS
+        + "FROM " + jobsSubquery + " LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
+  }
+
   /**
    * Enqueue a job for a given scope (i.e. almost always at this point just means enqueue a sync or
    * reset job for a connection).
@@ -188,27 +234,30 @@ public class DefaultJobPersistence implements JobPersistence {
             JobStatus.TERMINAL_STATUSES.stream().map(DefaultJobPersistence::toSqlName).map(Names::singleQuote).collect(Collectors.joining(",")))
         : "";
 
-    return jobDatabase.query(
-        ctx -> ctx.fetch(
-            "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config) "
-                + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, ?, ?, CAST(? AS JOB_STATUS), CAST(? as JSONB) "
-                + queueingRequest
-                + "RETURNING id ",
-            toSqlName(jobConfig.getConfigType()),
-            scope,
-            now,
-            now,
-            toSqlName(JobStatus.PENDING),
-            Jsons.serialize(jobConfig)))
-        .stream()
-        .findFirst()
-        .map(r -> r.getValue("id", Long.class));
+    return jobDatabase.transaction(ctx -> {
+      final Optional<Long> jobId = ctx.fetch(
+          "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config) "
+              + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, ?, ?, CAST(? AS JOB_STATUS), CAST(? as JSONB) "
+              + queueingRequest
+              + "RETURNING id ",
+          toSqlName(jobConfig.getConfigType()),
+          scope,
+          now,
+          now,
+          toSqlName(JobStatus.PENDING),
+          Jsons.serialize(jobConfig))
+          .stream()
+          .findFirst()
+          .map(r -> r.getValue("id", Long.class));
+      jobId.ifPresent(id -> updateActiveJob(ctx, id, scope, JobStatus.PENDING, now, now));
+      return jobId;
+    });
   }
 
   @Override
   public void resetJob(final long jobId) throws IOException {
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
-    jobDatabase.query(ctx -> {
+    jobDatabase.transaction(ctx -> {
       updateJobStatus(ctx, jobId, JobStatus.PENDING, now);
       return null;
     });
@@ -217,7 +266,7 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public void cancelJob(final long jobId) throws IOException {
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
-    jobDatabase.query(ctx -> {
+    jobDatabase.transaction(ctx -> {
       updateJobStatus(ctx, jobId, JobStatus.CANCELLED, now);
       return null;
     });
@@ -226,7 +275,7 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public void failJob(final long jobId) throws IOException {
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
-    jobDatabase.query(ctx -> {
+    jobDatabase.transaction(ctx -> {
       updateJobStatus(ctx, jobId, JobStatus.FAILED, now);
       return null;
     });
@@ -244,6 +293,44 @@ public class DefaultJobPersistence implements JobPersistence {
         toSqlName(newStatus),
         now,
         jobId);
+    updateActiveJob(ctx, jobId, job.getScope(), newStatus, LocalDateTime.ofEpochSecond(job.getCreatedAtInSecond(), 0, ZoneOffset.UTC), now);
+  }
+
+  /**
+   * Keeps active_jobs, which holds the jobs that are not in a terminal status, in sync with a job
+   * status change. This lets the metrics reporter count and age pending and running jobs without
+   * scanning the jobs table.
+   */
+  private static void updateActiveJob(final DSLContext ctx,
+                                      final long jobId,
+                                      final String scope,
+                                      final JobStatus status,
+                                      final LocalDateTime createdAt,
+                                      final LocalDateTime now) {
+    if (JobStatus.TERMINAL_STATUSES.contains(status)) {
+      ctx.execute("DELETE FROM active_jobs WHERE job_id = ?", jobId);
+      return;
+    }
+    ctx.execute(
+        "INSERT INTO active_jobs(job_id, connection_id, status, created_at, updated_at) "
+            + "VALUES(?, CAST(? AS UUID), CAST(? AS JOB_STATUS), ?, ?) "
+            + "ON CONFLICT (job_id) DO UPDATE SET status = excluded.status, updated_at = excluded.updated_at",
+        jobId,
+        connectionIdFromScope(scope),
+        toSqlName(status),
+        createdAt,
+        now);
+  }
+
+  /**
+   * The scope of sync and reset jobs is the connection id, other jobs have no connection.
+   */
+  private static String connectionIdFromScope(final String scope) {
+    try {
+      return UUID.fromString(scope).toString();
+    } catch (final IllegalArgumentException | NullPointerException e) {
+      return null;
+    }
   }
 
   @Override
@@ -430,47 +517,31 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static void saveToSyncStatsTable(final OffsetDateTime now, final SyncStats syncStats, final Long attemptId, final DSLContext ctx) {
-    // Although JOOQ supports upsert using the onConflict statement, we cannot use it as the table
-    // currently has duplicate records and also doesn't contain the unique constraint on the attempt_id
-    // column JOOQ requires. We are forced to check for existence.
-    final var isExisting = ctx.fetchExists(SYNC_STATS, SYNC_STATS.ATTEMPT_ID.eq(attemptId));
-    if (isExisting) {
-      ctx.update(SYNC_STATS)
-          .set(SYNC_STATS.UPDATED_AT, now)
-          .set(SYNC_STATS.BYTES_EMITTED, syncStats.getBytesEmitted())
-          .set(SYNC_STATS.RECORDS_EMITTED, syncStats.getRecordsEmitted())
-          .set(SYNC_STATS.ESTIMATED_RECORDS, syncStats.getEstimatedRecords())
-          .set(SYNC_STATS.ESTIMATED_BYTES, syncStats.getEstimatedBytes())
-          .set(SYNC_STATS.RECORDS_COMMITTED, syncStats.getRecordsCommitted())
-          .set(SYNC_STATS.BYTES_COMMITTED, syncStats.getBytesCommitted())
-          .set(SYNC_STATS.SOURCE_STATE_MESSAGES_EMITTED, syncStats.getSourceStateMessagesEmitted())
-          .set(SYNC_STATS.DESTINATION_STATE_MESSAGES_EMITTED, syncStats.getDestinationStateMessagesEmitted())
-          .set(SYNC_STATS.MAX_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMaxSecondsBeforeSourceStateMessageEmitted())
-          .set(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted())
-          .set(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted())
-          .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted())
-          .where(SYNC_STATS.ATTEMPT_ID.eq(attemptId))
-          .execute();
-      return;
-    }
-
+    final Map<Field<?>, Object> values = new HashMap<>();
+    values.put(SYNC_STATS.UPDATED_AT, now);
+    values.put(SYNC_STATS.BYTES_EMITTED, syncStats.getBytesEmitted());
+    values.put(SYNC_STATS.RECORDS_EMITTED, syncStats.getRecordsEmitted());
+    values.put(SYNC_STATS.ESTIMATED_RECORDS, syncStats.getEstimatedRecords());
+    values.put(SYNC_STATS.ESTIMATED_BYTES, syncStats.getEstimatedBytes());
+    values.put(SYNC_STATS.RECORDS_COMMITTED, syncStats.getRecordsCommitted());
+    values.put(SYNC_STATS.BYTES_COMMITTED, syncStats.getBytesCommitted());
+    values.put(SYNC_STATS.SOURCE_STATE_MESSAGES_EMITTED, syncStats.getSourceStateMessagesEmitted());
+    values.put(SYNC_STATS.DESTINATION_STATE_MESSAGES_EMITTED, syncStats.getDestinationStateMessagesEmitted());
+    values.put(SYNC_STATS.MAX_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMaxSecondsBeforeSourceStateMessageEmitted());
+    values.put(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted());
+    values.put(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted());
+    values.put(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted());
+
+    // sync_stats has a unique index on attempt_id, so this is a single statement whether or not the
+    // attempt already has stats.
     ctx.insertInto(SYNC_STATS)
         .set(SYNC_STATS.ID, UUID.randomUUID())
-        .set(SYNC_STATS.CREATED_AT, now)
         .set(SYNC_STATS.ATTEMPT_ID, attemptId)
-        .set(SYNC_STATS.UPDATED_AT, now)
-        .set(SYNC_STATS.BYTES_EMITTED, syncStats.getBytesEmitted())
-        .set(SYNC_STATS.RECORDS_EMITTED, syncStats.getRecordsEmitted())
-        .set(SYNC_STATS.ESTIMATED_RECORDS, syncStats.getEstimatedRecords())
-        .set(SYNC_STATS.ESTIMATED_BYTES, syncStats.getEstimatedBytes())
-        .set(SYNC_STATS.RECORDS_COMMITTED, syncStats.getRecordsCommitted())
-        .set(SYNC_STATS.BYTES_COMMITTED, syncStats.getBytesCommitted())
-        .set(SYNC_STATS.SOURCE_STATE_MESSAGES_EMITTED, syncStats.getSourceStateMessagesEmitted())
-        .set(SYNC_STATS.DESTINATION_STATE_MESSAGES_EMITTED, syncStats.getDestinationStateMessagesEmitted())
-        .set(SYNC_STATS.MAX_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMaxSecondsBeforeSourceStateMessageEmitted())
-        .set(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted())
-        .set(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted())
-        .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted())
+        .set(SYNC_STATS.CREATED_AT, now)
+        .set(values)
+        .onConflict(SYNC_STATS.ATTEMPT_ID)
+        .doUpdate()
+        .set(values)
         .execute();
   }
 
@@ -480,53 +551,32 @@ public class DefaultJobPersistence implements JobPersistence {
                                                   final DSLContext ctx) {
     final List<Query> queries = new ArrayList<>();
 
-    // Upserts require the onConflict statement that does not work as the table currently has duplicate
-    // records on the null
-    // namespace value. This is a valid state and not a bug.
-    // Upserts are possible if we upgrade to Postgres 15. However this requires downtime. A simpler
-    // solution to prevent O(N) existence checks, where N in the
-    // number of streams, is to fetch all streams for the attempt. Existence checks are in memory,
-    // letting us do only 2 queries in total.
-    final Set<StreamDescriptor> existingStreams = ctx.select(STREAM_STATS.STREAM_NAME, STREAM_STATS.STREAM_NAMESPACE)
-        .from(STREAM_STATS)
-        .where(STREAM_STATS.ATTEMPT_ID.eq(attemptId))
-        .fetchSet(r -> new StreamDescriptor().withName(r.get(STREAM_STATS.STREAM_NAME)).withNamespace(r.get(STREAM_STATS.STREAM_NAMESPACE)));
-
     Optional.ofNullable(perStreamStats).orElse(Collections.emptyList()).forEach(
         streamStats -> {
-          final var isExisting =
-              existingStreams.contains(new StreamDescriptor().withName(streamStats.getStreamName()).withNamespace(streamStats.getStreamNamespace()));
           final var stats = streamStats.getStats();
-          if (isExisting) {
-            queries.add(
-                ctx.update(STREAM_STATS)
-                    .set(STREAM_STATS.UPDATED_AT, now)
-                    .set(STREAM_STATS.BYTES_EMITTED, stats.getBytesEmitted())
-                    .set(STREAM_STATS.RECORDS_EMITTED, stats.getRecordsEmitted())
-                    .set(STREAM_STATS.ESTIMATED_RECORDS, stats.getEstimatedRecords())
-                    .set(STREAM_STATS.ESTIMATED_BYTES, stats.getEstimatedBytes())
-                    .set(STREAM_STATS.BYTES_COMMITTED, stats.getBytesCommitted())
-                    .set(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted())
-                    .where(
-                        STREAM_STATS.ATTEMPT_ID.eq(attemptId),
-                        PersistenceHelpers.isNullOrEquals(STREAM_STATS.STREAM_NAME, streamStats.getStreamName()),
-                        PersistenceHelpers.isNullOrEquals(STREAM_STATS.STREAM_NAMESPACE, streamStats.getStreamNamespace())));
-          } else {
-            queries.add(
-                ctx.insertInto(STREAM_STATS)
-                    .set(STREAM_STATS.ID, UUID.randomUUID())
-                    .set(STREAM_STATS.ATTEMPT_ID, attemptId)
-                    .set(STREAM_STATS.STREAM_NAME, streamStats.getStreamName())
-                    .set(STREAM_STATS.STREAM_NAMESPACE, streamStats.getStreamNamespace())
-                    .set(STREAM_STATS.CREATED_AT, now)
-                    .set(STREAM_STATS.UPDATED_AT, now)
-                    .set(STREAM_STATS.BYTES_EMITTED, stats.getBytesEmitted())
-                    .set(STREAM_STATS.RECORDS_EMITTED, stats.getRecordsEmitted())
-                    .set(STREAM_STATS.ESTIMATED_RECORDS, stats.getEstimatedRecords())
-                    .set(STREAM_STATS.ESTIMATED_BYTES, stats.getEstimatedBytes())
-                    .set(STREAM_STATS.BYTES_COMMITTED, stats.getBytesCommitted())
-                    .set(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted()));
-          }
+          final Map<Field<?>, Object> values = new HashMap<>();
+          values.put(STREAM_STATS.UPDATED_AT, now);
+          values.put(STREAM_STATS.BYTES_EMITTED, stats.getBytesEmitted());
+          values.put(STREAM_STATS.RECORDS_EMITTED, stats.getRecordsEmitted());
+          values.put(STREAM_STATS.ESTIMATED_RECORDS, stats.getEstimatedRecords());
+          values.put(STREAM_STATS.ESTIMATED_BYTES, stats.getEstimatedBytes());
+          values.put(STREAM_STATS.BYTES_COMMITTED, stats.getBytesCommitted());
+          values.put(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted());
+
+          final InsertSetMoreStep<StreamStatsRecord> insert = ctx.insertInto(STREAM_STATS)
+              .set(STREAM_STATS.ID, UUID.randomUUID())
+              .set(STREAM_STATS.ATTEMPT_ID, attemptId)
+              .set(STREAM_STATS.STREAM_NAME, streamStats.getStreamName())
+              .set(STREAM_STATS.STREAM_NAMESPACE, streamStats.getStreamNamespace())
+              .set(STREAM_STATS.CREATED_AT, now)
+              .set(values);
+          // Postgres treats null namespaces as distinct in the (attempt_id, stream_name, stream_namespace)
+          // constraint, streams without a namespace are covered by a partial unique index instead.
+          final InsertOnConflictDoUpdateStep<StreamStatsRecord> upsert = streamStats.getStreamNamespace() == null
+              ? insert.onConflict(STREAM_STATS.ATTEMPT_ID, STREAM_STATS.STREAM_NAME)
+                  .where(DSL.field(DSL.name(STREAM_STATS.STREAM_NAMESPACE.getName())).isNull())
+              : insert.onConflict(STREAM_STATS.ATTEMPT_ID, STREAM_STATS.STREAM_NAME, STREAM_STATS.STREAM_NAMESPACE);
+          queries.add(upsert.doUpdate().set(values));
         });
 
     ctx.batch(queries).execute();
@@ -738,7 +788,7 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public Long getJobCount(final Set<ConfigType> configTypes, final String connectionId) throws IOException {
-    return jobDatabase.query(ctx -> ctx.selectCount().from(JOBS)
+    return jobDatabase.queryReadOnly(ctx -> ctx.selectCount().from(JOBS)
         .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
         .and(JOBS.SCOPE.eq(connectionId))
         .fetchOne().into(Long.class));
@@ -746,16 +796,18 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
-    return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
-          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
-          .and(JOBS.SCOPE.eq(configId))
-          .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
-          .limit(pagesize)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+    return jobDatabase.queryReadOnly(ctx -> listJobs(ctx, configTypes, configId, pagesize));
+  }
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
-    });
+  private static List<Job> listJobs(final DSLContext ctx, final Set<ConfigType> configTypes, final String configId, final int pagesize) {
+    final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+        .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+        .and(JOBS.SCOPE.eq(configId))
+        .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
+        .limit(pagesize)
+        .getSQL(ParamType.INLINED) + ") AS jobs";
+
+    return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
   }
 
   @Override
@@ -771,7 +823,7 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByField,
                             final String orderByMethod)
       throws IOException {
-    return jobDatabase.query(ctx -> {
+    return jobDatabase.queryReadOnly(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
           .and(JOBS.SCOPE.eq(configId))
@@ -805,7 +857,7 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByMethod)
       throws IOException {
 
-    return jobDatabase.query(ctx -> {
+    return jobDatabase.queryReadOnly(ctx -> {
       final String jobsSubquery = "(" + ctx.select(JOBS.asterisk()).from(JOBS)
           .join(Tables.CONNECTION)
           .on(Tables.CONNECTION.ID.eq(JOBS.SCOPE.cast(UUID.class)))
@@ -855,7 +907,7 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<Job> listJobs(final ConfigType configType, final Instant attemptEndedAtTimestamp) throws IOException {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, ZoneOffset.UTC);
-    return jobDatabase.query(ctx -> getJobsFromResult(ctx
+    return jobDatabase.queryReadOnly(ctx -> getJobsFromResult(ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
             + "CAST(config_type AS VARCHAR) =  ? AND "
             + " attempts.ended_at > ? ORDER BY jobs.created_at ASC, attempts.created_at ASC", toSqlName(configType),
@@ -865,6 +917,8 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<Job> listJobsIncludingId(final Set<ConfigType> configTypes, final String connectionId, final long includingJobId, final int pagesize)
       throws IOException {
+    // read from the main pool: the job is usually the one that was just created, which a lagging
+    // replica would not have yet
     final Optional<OffsetDateTime> includingJobCreatedAt = jobDatabase.query(ctx -> ctx.select(JOBS.CREATED_AT).from(JOBS)
         .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
         .and(JOBS.SCOPE.eq(connectionId))
@@ -886,7 +940,72 @@ public class DefaultJobPersistence implements JobPersistence {
 
     // calculate the multiple of `pagesize` that includes the target job
     final int pageSizeThatIncludesJob = (countIncludingJob / pagesize + 1) * pagesize;
-    return listJobs(configTypes, connectionId, pageSizeThatIncludesJob);
+    return jobDatabase.query(ctx -> listJobs(ctx, configTypes, connectionId, pageSizeThatIncludesJob));
+  }
+
+  @Override
+  public List<Job> listJobsBefore(final Set<ConfigType> configTypes,
+                                  final String connectionId,
+                                  final Long beforeJobId,
+                                  final int limit,
+                                  final JobStatus status,
+                                  final OffsetDateTime createdAtStart,
+                                  final OffsetDateTime createdAtEnd,
+                                  final OffsetDateTime updatedAtStart,
+                                  final OffsetDateTime updatedAtEnd)
+      throws IOException {
+    return listJobsBefore(configTypes, connectionId, beforeJobId, limit, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd,
+        DefaultJobPersistence::jobSelectAndJoin);
+  }
+
+  @Override
+  public List<Job> listJobsLightBefore(final Set<ConfigType> configTypes,
+                                       final String connectionId,
+                                       final Long beforeJobId,
+                                       final int limit,
+                                       final JobStatus status,
+                                       final OffsetDateTime createdAtStart,
+                                       final OffsetDateTime createdAtEnd,
+                                       final OffsetDateTime updatedAtStart,
+                                       final OffsetDateTime updatedAtEnd)
+      throws IOException {
+    return listJobsBefore(configTypes, connectionId, beforeJobId, limit, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd,
+        DefaultJobPersistence::jobLightSelectAndJoin);
+  }
+
+  private List<Job> listJobsBefore(final Set<ConfigType> configTypes,
+                                   final String connectionId,
+                                   final Long beforeJobId,
+                                   final int limit,
+                                   final JobStatus status,
+                                   final OffsetDateTime createdAtStart,
+                                   final OffsetDateTime createdAtEnd,
+                                   final OffsetDateTime updatedAtStart,
+                                   final OffsetDateTime updatedAtEnd,
+                                   final Function<String, String> selectAndJoin)
+      throws IOException {
+    final var cursorJob = JOBS.as("cursor_job");
+    return jobDatabase.queryReadOnly(ctx -> {
+      // the keyset condition is served by the (scope, created_at desc, id desc) index, so the cost of a
+      // page does not depend on how many jobs come before it
+      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+          .and(JOBS.SCOPE.eq(connectionId))
+          .and(beforeJobId == null ? DSL.noCondition()
+              : DSL.row(JOBS.CREATED_AT, JOBS.ID).lessThan(
+                  DSL.select(cursorJob.CREATED_AT, cursorJob.ID).from(cursorJob).where(cursorJob.ID.eq(beforeJobId))))
+          .and(status == null ? DSL.noCondition()
+              : JOBS.STATUS.eq(io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(toSqlName(status))))
+          .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
+          .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
+          .and(updatedAtStart == null ? DSL.noCondition() : JOBS.UPDATED_AT.ge(updatedAtStart))
+          .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
+          .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
+          .limit(limit)
+          .getSQL(ParamType.INLINED) + ") AS jobs";
+
+      return getJobsFromResult(ctx.fetch(selectAndJoin.apply(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+    });
   }
 
   @Override
@@ -929,6 +1048,7 @@ public class DefaultJobPersistence implements JobPersistence {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(jobCreatedAtTimestamp, ZoneOffset.UTC);
 
     final String JobStatusSelect = "SELECT id, status, created_at, updated_at FROM jobs ";
+    // read from the main pool: auto-disabling a connection counts the job that just failed
     return jobDatabase.query(ctx -> ctx
         .fetch(JobStatusSelect + WHERE
             + SCOPE_CLAUSE
@@ -1058,7 +1178,7 @@ public class DefaultJobPersistence implements JobPersistence {
   public List<AttemptWithJobInfo> listAttemptsWithJobInfo(final ConfigType configType, final Instant attemptEndedAtTimestamp, final int limit)
       throws IOException {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, ZoneOffset.UTC);
-    return jobDatabase.query(ctx -> getAttemptsWithJobsFromResult(ctx.fetch(
+    return jobDatabase.queryReadOnly(ctx -> getAttemptsWithJobsFromResult(ctx.fetch(
         BASE_JOB_SELECT_AND_JOIN + WHERE + "CAST(config_type AS VARCHAR) =  ? AND " + " attempts.ended_at > ? ORDER BY attempts.ended_at ASC LIMIT ?",
         toSqlName(configType),
         timeConvertedIntoLocalDateTime,
@@ -1082,7 +1202,7 @@ public class DefaultJobPersistence implements JobPersistence {
     return new Job(record.get(JOB_ID, Long.class),
         Enums.toEnum(record.get("config_type", String.class), ConfigType.class).orElseThrow(),
         record.get("scope", String.class),
-        parseJobConfigFromString(record.get("config", String.class)),
+        record.get("config", String.class) == null ? null : parseJobConfigFromString(record.get("config", String.class)),
         new ArrayList<Attempt>(),
         JobStatus.valueOf(record.get("job_status", String.class).toUpperCase()),
         Optional.ofNullable(record.get("job_started_at")).map(value -> getEpoch(record, "started_at")).orElse(null),
@@ -1324,20 +1444,14 @@ public class DefaultJobPersistence implements JobPersistence {
 
   /**
    * Purge job history from N days before a given date. Only purge jobs that are not the last job for
-   * the connection.
+   * the connection. Jobs are deleted in batches, see {@link JobHistoryPurger}.
    *
    * @param asOfDate date to purge before
    */
   @VisibleForTesting
   public void purgeJobHistory(final LocalDateTime asOfDate) {
     try {
-      final String jobHistoryPurgeSql = MoreResources.readResource("job_history_purge.sql");
-      // interval '?' days cannot use a ? bind, so we're using %d instead.
-      final String sql = String.format(jobHistoryPurgeSql, (jobHistoryMinimumAgeInDays - 1));
-      jobDatabase.query(ctx -> ctx.execute(sql,
-          asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")),
-          jobHistoryExcessiveNumberOfJobs,
-          jobHistoryMinimumRecency));
+      jobHistoryPurger.purge(asOfDate);
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job;
+
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.db.ExceptionWrappingDatabase;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Purges the job history in batches of job ids, so that no single transaction holds locks on a
+ * large part of the jobs table. The attempts and stats of the purged jobs are deleted through the
+ * foreign key cascades.
+ * <p>
+ * The retention rules are those of job_history_purge.sql. A job is purged if it is older than the
+ * minimum age or its connection has an excessive number of jobs, unless it is one of the most recent
+ * jobs of its connection or holds the latest saved state. The connections with an excessive number
+ * of jobs and the protected jobs are determined once when the purge starts, so that earlier batches
+ * do not change the outcome of later ones, and batches do not rank the jobs of their connections
+ * again.
+ * <p>
+ * The last purged job id is saved in airbyte_metadata after each batch, so an interrupted purge
+ * resumes where it left off. The checkpoint is cleared once the purge went through all the jobs.
+ */
+class JobHistoryPurger {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobHistoryPurger.class);
+
+  static final String CHECKPOINT_KEY = "job_history_purge_checkpoint";
+  private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
+  private static final String METADATA_KEY_COL = "key";
+  private static final String METADATA_VAL_COL = "value";
+
+  private final ExceptionWrappingDatabase jobDatabase;
+  private final int minimumAgeInDays;
+  private final int excessiveNumberOfJobs;
+  private final int minimumRecencyCount;
+  private final int batchSize;
+  private final Duration batchDelay;
+
+  JobHistoryPurger(final ExceptionWrappingDatabase jobDatabase,
+                   final int minimumAgeInDays,
+                   final int excessiveNumberOfJobs,
+                   final int minimumRecencyCount,
+                   final int batchSize,
+                   final Duration batchDelay) {
+    this.jobDatabase = jobDatabase;
+    this.minimumAgeInDays = minimumAgeInDays;
+    this.excessiveNumberOfJobs = excessiveNumberOfJobs;
+    this.minimumRecencyCount = minimumRecencyCount;
+    this.batchSize = batchSize;
+    this.batchDelay = batchDelay;
+  }
+
+  /**
+   * Purge job history from N days before a given date.
+   *
+   * @param asOfDate date to purge before
+   * @return number of purged jobs
+   * @throws IOException if interacting with the db fails
+   */
+  long purge(final LocalDateTime asOfDate) throws IOException {
+    // interval '?' days cannot use a ? bind, so we're using %d instead.
+    final String batchSql = String.format(MoreResources.readResource("job_history_purge.sql"), minimumAgeInDays - 1);
+    final String asOf = asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd"));
+    final MetricClient metricClient = MetricClientFactory.getMetricClient();
+
+    final Long maxJobId = jobDatabase.query(ctx -> ctx.fetchOne("SELECT MAX(id) FROM jobs").get(0, Long.class));
+    if (maxJobId == null) {
+      return 0;
+    }
+    final String[] excessiveScopes = jobDatabase.query(ctx -> ctx.fetch(
+        "SELECT scope FROM jobs WHERE scope IS NOT NULL GROUP BY scope HAVING COUNT(id) > ?", excessiveNumberOfJobs)
+        .getValues("scope", String.class))
+        .toArray(new String[0]);
+    final String protectedJobsSql = MoreResources.readResource("job_history_purge_protected_jobs.sql");
+    final Long[] protectedJobIds = jobDatabase.query(ctx -> ctx.fetch(protectedJobsSql, minimumRecencyCount)
+        .getValues("id", Long.class))
+        .toArray(new Long[0]);
+
+    long lastJobId = readCheckpoint().orElse(0L);
+    if (lastJobId > 0) {
+      LOGGER.info("Resuming job history purge after job {}", lastJobId);
+    }
+    long purged = 0;
+    while (lastJobId < maxJobId) {
+      final long batchStart = lastJobId;
+      final Long batchEnd = jobDatabase.query(ctx -> ctx.fetchOne(
+          "SELECT MAX(id) FROM (SELECT id FROM jobs WHERE id > ? AND id <= ? ORDER BY id LIMIT ?) batch",
+          batchStart, maxJobId, batchSize).get(0, Long.class));
+      if (batchEnd == null) {
+        break;
+      }
+
+      final long startedAt = System.nanoTime();
+      final int deleted = jobDatabase.transaction(ctx -> {
+        final int count = ctx.execute(batchSql,
+            batchStart, batchEnd,
+            asOf,
+            excessiveScopes,
+            protectedJobIds);
+        writeCheckpoint(ctx, batchEnd);
+        return count;
+      });
+      final long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+      metricClient.count(OssMetricsRegistry.JOB_HISTORY_PURGE_DELETED_JOBS, deleted);
+      metricClient.distribution(OssMetricsRegistry.JOB_HISTORY_PURGE_BATCH_DURATION_MILLISECS, elapsedMillis);
+      LOGGER.debug("Purged {} jobs with ids in ({}, {}] in {} ms", deleted, batchStart, batchEnd, elapsedMillis);
+
+      purged += deleted;
+      lastJobId = batchEnd;
+      if (lastJobId < maxJobId && !pauseBetweenBatches()) {
+        LOGGER.info("Job history purge interrupted after job {}, {} jobs purged", lastJobId, purged);
+        return purged;
+      }
+    }
+
+    jobDatabase.query(ctx -> ctx.deleteFrom(DSL.table(AIRBYTE_METADATA_TABLE))
+        .where(DSL.field(METADATA_KEY_COL).eq(CHECKPOINT_KEY))
+        .execute());
+    LOGGER.info("Job history purge completed, {} jobs purged", purged);
+    return purged;
+  }
+
+  /**
+   * Give the jobs table a break between batches.
+   *
+   * @return false if the thread was interrupted
+   */
+  private boolean pauseBetweenBatches() {
+    if (batchDelay.isZero()) {
+      return true;
+    }
+    try {
+      Thread.sleep(batchDelay.toMillis());
+      return true;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private Optional<Long> readCheckpoint() throws IOException {
+    return jobDatabase.query(ctx -> ctx.select(DSL.field(METADATA_VAL_COL))
+        .from(AIRBYTE_METADATA_TABLE)
+        .where(DSL.field(METADATA_KEY_COL).eq(CHECKPOINT_KEY))
+        .fetchOptional(DSL.field(METADATA_VAL_COL), String.class))
+        .map(Long::parseLong);
+  }
+
+  private static void writeCheckpoint(final DSLContext ctx, final long lastJobId) {
+    ctx.insertInto(DSL.table(AIRBYTE_METADATA_TABLE))
+        .columns(DSL.field(METADATA_KEY_COL), DSL.field(METADATA_VAL_COL))
+        .values(CHECKPOINT_KEY, String.valueOf(lastJobId))
+        .onConflict(DSL.field(METADATA_KEY_COL))
+        .doUpdate()
+        .set(DSL.field(METADATA_VAL_COL), String.valueOf(lastJobId))
+        .execute();
+  }
+
+}
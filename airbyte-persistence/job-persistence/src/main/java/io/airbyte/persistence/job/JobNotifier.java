@@ -27,6 +27,7 @@ import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.notification.CustomerioNotificationClient;
 import io.airbyte.notification.NotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.tracker.TrackingMetadata;
@@ -61,17 +62,30 @@ public class JobNotifier {
   private final WebUrlHelper webUrlHelper;
   private final WorkspaceHelper workspaceHelper;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private final NotificationDispatcher notificationDispatcher;
 
   public JobNotifier(final WebUrlHelper webUrlHelper,
                      final ConfigRepository configRepository,
                      final WorkspaceHelper workspaceHelper,
                      final TrackingClient trackingClient,
                      final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+    // without dispatcher threads, notifications are sent on the caller's thread
+    this(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper,
+        new NotificationDispatcher(0, 0, 1, 1, Duration.ZERO));
+  }
+
+  public JobNotifier(final WebUrlHelper webUrlHelper,
+                     final ConfigRepository configRepository,
+                     final WorkspaceHelper workspaceHelper,
+                     final TrackingClient trackingClient,
+                     final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                     final NotificationDispatcher notificationDispatcher) {
     this.webUrlHelper = webUrlHelper;
     this.workspaceHelper = workspaceHelper;
     this.configRepository = configRepository;
     this.trackingClient = trackingClient;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
+    this.notificationDispatcher = notificationDispatcher;
   }
 
   private void notifyJob(final String reason, final String action, final Job job) {
@@ -221,15 +235,15 @@ public class JobNotifier {
     }
     final List<NotificationClient> notificationClients = getNotificationClientsFromNotificationItem(notificationItem);
     for (final NotificationClient notificationClient : notificationClients) {
-      try {
-        if (!executeNotification.apply(notificationClient)) {
+      // Delivered off this thread; failures are retried and logged by the dispatcher. Do not block.
+      notificationDispatcher.dispatch(notificationClient.getNotificationClientType(), notificationClient.getNotificationDestination(), () -> {
+        final boolean notified = executeNotification.apply(notificationClient);
+        if (!notified) {
           LOGGER.warn("Failed to successfully notify: {}", notificationItem);
         }
         submitToMetricClient(notificationTrigger, notificationClient.getNotificationClientType());
-      } catch (final Exception ex) {
-        LOGGER.error("Failed to notify: {} due to an exception. Not blocking.", notificationItem, ex);
-        // Do not block.
-      }
+        return notified;
+      });
     }
 
   }
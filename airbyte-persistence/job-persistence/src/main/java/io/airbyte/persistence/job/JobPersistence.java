@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import javax.annotation.Nullable;
 
 /**
  * General interface methods for persistence to the Jobs database. This database is separate from
@@ -308,6 +309,53 @@ public interface JobPersistence {
    */
   List<Job> listJobsIncludingId(Set<JobConfig.ConfigType> configTypes, String connectionId, long includingJobId, int pagesize) throws IOException;
 
+  /**
+   * List jobs of a connection with filters, using keyset pagination. Unlike offset pagination, the
+   * cost of reading a page does not grow with how deep into the history the page is.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param connectionId - id of the connection for which jobs should be retrieved
+   * @param beforeJobId - keyset cursor, i.e. the id of the last job of the previous page. Only jobs
+   *        that sort after it in descending (created_at, id) order are returned. Null for the first
+   *        page.
+   * @param limit - maximum number of jobs to return
+   * @return jobs in descending (created_at, id) order
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsBefore(Set<JobConfig.ConfigType> configTypes,
+                           String connectionId,
+                           @Nullable Long beforeJobId,
+                           int limit,
+                           @Nullable JobStatus status,
+                           @Nullable OffsetDateTime createdAtStart,
+                           @Nullable OffsetDateTime createdAtEnd,
+                           @Nullable OffsetDateTime updatedAtStart,
+                           @Nullable OffsetDateTime updatedAtEnd)
+      throws IOException;
+
+  /**
+   * Same as {@link #listJobsBefore}, but the jobs are light: the job config and the attempt outputs
+   * and sync configs are not read from the database and are null. Statuses, timestamps, log paths
+   * and failure summaries are still populated.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param connectionId - id of the connection for which jobs should be retrieved
+   * @param beforeJobId - keyset cursor, see {@link #listJobsBefore}
+   * @param limit - maximum number of jobs to return
+   * @return light jobs in descending (created_at, id) order
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsLightBefore(Set<JobConfig.ConfigType> configTypes,
+                                String connectionId,
+                                @Nullable Long beforeJobId,
+                                int limit,
+                                @Nullable JobStatus status,
+                                @Nullable OffsetDateTime createdAtStart,
+                                @Nullable OffsetDateTime createdAtEnd,
+                                @Nullable OffsetDateTime updatedAtStart,
+                                @Nullable OffsetDateTime updatedAtEnd)
+      throws IOException;
+
   List<Job> listJobsWithStatus(JobStatus status) throws IOException;
 
   List<Job> listJobsWithStatus(Set<JobConfig.ConfigType> configTypes, JobStatus status) throws IOException;
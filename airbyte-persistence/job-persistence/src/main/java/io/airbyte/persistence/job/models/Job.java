@@ -84,7 +84,7 @@ public class Job {
   /**
    * Get config for a job.
    *
-   * @return config
+   * @return config, null for jobs read through a light listing
    */
   public JobConfig getConfig() {
     return config;
@@ -0,0 +1,49 @@
+/* Selects the jobs that are never purged, whatever their age or the number of jobs of their connection/scope. */
+/* the most recent job with saved state */
+SELECT
+    job_id AS id
+FROM
+    (
+        SELECT
+            jobs.scope,
+            jobs.id AS job_id,
+            ROW_NUMBER() OVER(
+                PARTITION BY SCOPE
+            ORDER BY
+                jobs.created_at DESC,
+                jobs.id DESC
+            ) AS stateRecency
+        FROM
+            jobs
+        LEFT JOIN attempts ON
+            jobs.id = attempts.job_id
+        GROUP BY
+            SCOPE,
+            jobs.id
+        HAVING
+            bool_or(
+                attempts."output" -> 'sync' -> 'state' -> 'state' IS NOT NULL
+            )= TRUE
+    ) jobs_with_state
+WHERE
+    stateRecency = 1
+UNION
+/* the last MINIMUM_RECENCY jobs for each connection/scope */
+SELECT
+    id
+FROM
+    (
+        SELECT
+            jobs.scope,
+            jobs.id,
+            ROW_NUMBER() OVER(
+                PARTITION BY SCOPE
+            ORDER BY
+                jobs.created_at DESC,
+                jobs.id DESC
+            ) AS recency
+        FROM
+            jobs
+    ) jobs_by_recency
+WHERE
+    recency <=?
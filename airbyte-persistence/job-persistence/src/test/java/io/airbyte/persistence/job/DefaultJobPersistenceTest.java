@@ -4,6 +4,7 @@
 
 package io.airbyte.persistence.job;
 
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ACTIVE_JOBS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.AIRBYTE_METADATA;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
@@ -24,6 +25,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
@@ -60,23 +62,32 @@ import io.airbyte.test.utils.Databases;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.sql.DataSource;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -84,7 +95,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -522,6 +535,40 @@ class DefaultJobPersistenceTest {
       assertEquals(streamStats, actStreamStats);
     }
 
+    @Test
+    @DisplayName("Writing stats should run a constant number of statements regardless of the number of streams")
+    void testWriteStatsStatementCount() throws IOException {
+      final int streamCount = 200;
+      final int updateCount = 3;
+      final AtomicInteger statements = new AtomicInteger();
+      final DSLContext countingContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES);
+      countingContext.configuration().set(ExecuteListener.onExecuteStart(ctx -> statements.incrementAndGet()));
+      final DefaultJobPersistence countingPersistence = new DefaultJobPersistence(new Database(countingContext), timeSupplier,
+          DEFAULT_MINIMUM_AGE_IN_DAYS, DEFAULT_EXCESSIVE_NUMBER_OF_JOBS, DEFAULT_MINIMUM_RECENCY_COUNT);
+
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+
+      for (int update = 0; update < updateCount; update++) {
+        final long records = update;
+        // half of the streams have no namespace, they go through the partial unique index
+        final List<StreamSyncStats> streamStats = IntStream.range(0, streamCount)
+            .mapToObj(i -> new StreamSyncStats().withStreamName("stream" + i).withStreamNamespace(i % 2 == 0 ? "ns" : null)
+                .withStats(new SyncStats().withRecordsEmitted(records).withBytesEmitted(records)))
+            .toList();
+
+        statements.set(0);
+        countingPersistence.writeStats(jobId, attemptNumber, null, null, records, records, null, null, streamStats);
+        // the attempt id lookup, the sync_stats upsert and a single batch of stream_stats upserts
+        assertEquals(3, statements.get());
+      }
+
+      final AttemptStats stats = jobPersistence.getAttemptStats(jobId, attemptNumber);
+      assertEquals(updateCount - 1, stats.combinedStats().getRecordsEmitted());
+      assertEquals(streamCount, stats.perStreamStats().size());
+      assertTrue(stats.perStreamStats().stream().allMatch(s -> s.getStats().getRecordsEmitted() == updateCount - 1));
+    }
+
     @Test
     @DisplayName("Writing multiple stats a stream with null namespace should write correctly without exceptions")
     void testGetStatsNoResult() throws IOException {
@@ -928,6 +975,53 @@ class DefaultJobPersistenceTest {
     return jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
   }
 
+  /**
+   * Reports the latency of writing the stats of a sync with many streams. Run with the
+   * performanceTest task.
+   */
+  @Nested
+  @Tag("performance")
+  @DisplayName("Stats Performance")
+  class StatsPerformance {
+
+    private static final int STREAM_COUNT = 200;
+    private static final int WARM_UP_COUNT = 20;
+    private static final int UPDATE_COUNT = 200;
+
+    @Test
+    @DisplayName("Writing the stats of 200 streams should report its p50 and p99 latency")
+    void testWriteStatsLatency(final TestReporter testReporter) throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+
+      for (int update = 0; update < WARM_UP_COUNT; update++) {
+        writeStats(jobId, attemptNumber, update);
+      }
+      final long[] nanos = new long[UPDATE_COUNT];
+      for (int update = 0; update < UPDATE_COUNT; update++) {
+        final long startedAt = System.nanoTime();
+        writeStats(jobId, attemptNumber, WARM_UP_COUNT + update);
+        nanos[update] = System.nanoTime() - startedAt;
+      }
+      Arrays.sort(nanos);
+      final String report = String.format("writeStats of %d streams: p50 %.2f ms, p99 %.2f ms", STREAM_COUNT,
+          nanos[UPDATE_COUNT / 2] / 1e6, nanos[UPDATE_COUNT * 99 / 100] / 1e6);
+      testReporter.publishEntry("write stats latency", report);
+
+      final AttemptStats stats = jobPersistence.getAttemptStats(jobId, attemptNumber);
+      assertEquals(STREAM_COUNT, stats.perStreamStats().size(), report);
+    }
+
+    private void writeStats(final long jobId, final int attemptNumber, final long records) throws IOException {
+      final List<StreamSyncStats> streamStats = IntStream.range(0, STREAM_COUNT)
+          .mapToObj(i -> new StreamSyncStats().withStreamName("stream" + i).withStreamNamespace(i % 2 == 0 ? "ns" : null)
+              .withStats(new SyncStats().withRecordsEmitted(records).withBytesEmitted(records)))
+          .toList();
+      jobPersistence.writeStats(jobId, attemptNumber, null, null, records, records, null, null, streamStats);
+    }
+
+  }
+
   @Nested
   class TemporalWorkflowInfo {
 
@@ -1216,6 +1310,27 @@ class DefaultJobPersistenceTest {
       assertEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("Should track the job in active_jobs until it reaches a terminal status")
+    void testActiveJobsFollowStatusTransitions() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      assertEquals(Optional.of(toSqlName(JobStatus.PENDING)), getActiveJobStatus(jobId));
+      assertEquals(CONNECTION_ID, jobDatabase.query(ctx -> ctx.select(ACTIVE_JOBS.CONNECTION_ID).from(ACTIVE_JOBS)
+          .where(ACTIVE_JOBS.JOB_ID.eq(jobId)).fetchOne(ACTIVE_JOBS.CONNECTION_ID)));
+
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      assertEquals(Optional.of(toSqlName(JobStatus.RUNNING)), getActiveJobStatus(jobId));
+
+      jobPersistence.succeedAttempt(jobId, attemptNumber);
+      assertEquals(Optional.empty(), getActiveJobStatus(jobId));
+    }
+
+    private Optional<String> getActiveJobStatus(final long jobId) throws SQLException {
+      return jobDatabase.query(ctx -> ctx.select(ACTIVE_JOBS.STATUS).from(ACTIVE_JOBS).where(ACTIVE_JOBS.JOB_ID.eq(jobId))
+          .fetchOptional(ACTIVE_JOBS.STATUS))
+          .map(status -> status.getLiteral());
+    }
+
   }
 
   @Nested
@@ -1882,6 +1997,72 @@ class DefaultJobPersistenceTest {
       assertEquals(List.of(), actualList);
     }
 
+    @Test
+    @DisplayName("Should walk the whole history page by page with a keyset cursor")
+    void testListJobsBefore() throws IOException {
+      final List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 30; i++) {
+        // every other job shares its createdAt with the previous one, so the cursor has to break ties on id
+        when(timeSupplier.get()).thenReturn(Instant.ofEpochSecond(i / 2));
+        final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+        ids.add(jobId);
+        jobPersistence.createAttempt(jobId, LOG_PATH);
+        jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SPEC_JOB_CONFIG).orElseThrow();
+      }
+
+      final List<Long> listedIds = new ArrayList<>();
+      Long cursor = null;
+      List<Job> page;
+      do {
+        page = jobPersistence.listJobsBefore(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), cursor, 7,
+            null, null, null, null, null);
+        page.forEach(job -> listedIds.add(job.getId()));
+        cursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+      } while (page.size() == 7);
+
+      assertEquals(Lists.reverse(ids), listedIds);
+    }
+
+    @Test
+    @DisplayName("Should apply the status filter when listing with a keyset cursor")
+    void testListJobsBeforeWithStatus() throws IOException {
+      final long failedJobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failJob(failedJobId);
+      final long pendingJobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actualList = jobPersistence.listJobsBefore(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), pendingJobId,
+          10, JobStatus.FAILED, null, null, null, null);
+
+      assertEquals(List.of(failedJobId), actualList.stream().map(Job::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should list light jobs without configs or attempt outputs")
+    void testListJobsLightBefore() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.writeOutput(jobId, attemptNumber, new JobOutput());
+      jobPersistence.failAttempt(jobId, attemptNumber);
+
+      final List<Job> fullList = jobPersistence.listJobsBefore(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), null, 10,
+          null, null, null, null, null);
+      final List<Job> lightList = jobPersistence.listJobsLightBefore(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), null, 10,
+          null, null, null, null, null);
+
+      assertEquals(1, lightList.size());
+      final Job full = fullList.get(0);
+      final Job light = lightList.get(0);
+      assertNull(light.getConfig());
+      assertEquals(full.getId(), light.getId());
+      assertEquals(full.getStatus(), light.getStatus());
+      assertEquals(full.getCreatedAtInSecond(), light.getCreatedAtInSecond());
+      assertEquals(1, light.getAttempts().size());
+      assertTrue(full.getAttempts().get(0).getOutput().isPresent());
+      assertTrue(light.getAttempts().get(0).getOutput().isEmpty());
+      assertEquals(full.getAttempts().get(0).getStatus(), light.getAttempts().get(0).getStatus());
+      assertEquals(full.getAttempts().get(0).getLogPath(), light.getAttempts().get(0).getLogPath());
+    }
+
   }
 
   @Nested
@@ -2193,6 +2374,92 @@ class DefaultJobPersistenceTest {
       assertTrue(afterPurge.contains(lastJobWithState), goalOfTestScenario + " - Missing last job with saved state after deletion.");
     }
 
+    @Test
+    @DisplayName("Batched purge should delete the same jobs as the single statement purge")
+    void testBatchedPurgeMatchesSingleStatementPurge() throws IOException, SQLException {
+      final int ageCutoff = 30;
+      final int tooManyJobs = 50;
+      final int recencyCutoff = 10;
+      final LocalDateTime fakeNow = LocalDateTime.of(2021, 6, 20, 0, 0);
+      final DefaultJobPersistence batchedJobPersistence =
+          new DefaultJobPersistence(jobDatabase, timeSupplier, ageCutoff, tooManyJobs, recencyCutoff, 17, Duration.ZERO);
+
+      // jobs of different connections are interleaved, so every batch spans several connections
+      final Random random = new Random(42);
+      final List<String> scopes = IntStream.range(0, 8).mapToObj(i -> UUID.randomUUID().toString()).toList();
+      for (int i = 0; i < 400; i++) {
+        final String scope = scopes.get(random.nextInt(scopes.size()));
+        final Job job = persistJobForJobHistoryTesting(scope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow.minusHours(random.nextInt(24 * 90)));
+        if (random.nextInt(10) == 0) {
+          addStateToJob(job);
+        }
+      }
+
+      final Set<Long> expected = purgeWithSingleStatement(fakeNow, ageCutoff, tooManyJobs, recencyCutoff);
+      batchedJobPersistence.purgeJobHistory(fakeNow);
+
+      assertTrue(expected.size() < 400, "the single statement purge should have deleted jobs");
+      assertEquals(expected, Set.copyOf(jobDatabase.query(ctx -> ctx.select(JOBS.ID).from(JOBS).fetch(JOBS.ID))));
+      assertEquals(Optional.empty(), getPurgeCheckpoint());
+    }
+
+    @Test
+    @DisplayName("Purge should resume after the last purged job of an interrupted purge")
+    void testPurgeResumesFromCheckpoint() throws IOException, SQLException {
+      final LocalDateTime fakeNow = LocalDateTime.of(2021, 6, 20, 0, 0);
+      final DefaultJobPersistence batchedJobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 10, 100, 5, 3, Duration.ZERO);
+
+      final List<Job> jobs = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        jobs.add(persistJobForJobHistoryTesting(SCOPE, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow.minusDays(100 - i)));
+      }
+      // pretend a previous purge stopped after the 5th job
+      final long checkpoint = jobs.get(4).getId();
+      jobDatabase.query(ctx -> ctx.insertInto(AIRBYTE_METADATA, AIRBYTE_METADATA.KEY, AIRBYTE_METADATA.VALUE)
+          .values(JobHistoryPurger.CHECKPOINT_KEY, String.valueOf(checkpoint))
+          .execute());
+
+      batchedJobPersistence.purgeJobHistory(fakeNow);
+
+      // the jobs up to the checkpoint are left for the next purge, of the others only the 5 most recent remain
+      final List<Long> expected = jobs.stream().map(Job::getId).filter(id -> id <= checkpoint).collect(Collectors.toList());
+      expected.addAll(jobs.subList(15, 20).stream().map(Job::getId).toList());
+      assertEquals(Set.copyOf(expected), Set.copyOf(jobDatabase.query(ctx -> ctx.select(JOBS.ID).from(JOBS).fetch(JOBS.ID))));
+      assertEquals(Optional.empty(), getPurgeCheckpoint());
+    }
+
+    /**
+     * Runs the original single statement purge in a transaction that is rolled back.
+     *
+     * @return ids of the jobs that the single statement purge keeps
+     */
+    private Set<Long> purgeWithSingleStatement(final LocalDateTime asOfDate, final int ageCutoff, final int tooManyJobs, final int recencyCutoff)
+        throws IOException, SQLException {
+      final String sql = String.format(MoreResources.readResource("job_history_purge_unbatched.sql"), ageCutoff - 1);
+      final Set<Long> remaining = new HashSet<>();
+      jobDatabase.query(ctx -> {
+        ctx.connection(connection -> {
+          connection.setAutoCommit(false);
+          try {
+            final DSLContext transaction = DSL.using(connection, SQLDialect.POSTGRES);
+            transaction.execute(sql, asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")), tooManyJobs, recencyCutoff);
+            remaining.addAll(transaction.select(JOBS.ID).from(JOBS).fetch(JOBS.ID));
+          } finally {
+            connection.rollback();
+            connection.setAutoCommit(true);
+          }
+        });
+        return null;
+      });
+      return remaining;
+    }
+
+    private Optional<String> getPurgeCheckpoint() throws SQLException {
+      return jobDatabase.query(ctx -> ctx.select(AIRBYTE_METADATA.VALUE).from(AIRBYTE_METADATA)
+          .where(AIRBYTE_METADATA.KEY.eq(JobHistoryPurger.CHECKPOINT_KEY))
+          .fetchOptional(AIRBYTE_METADATA.VALUE));
+    }
+
     private Job addStateToJob(final Job job) throws IOException, SQLException {
       persistAttemptForJobHistoryTesting(job, LOG_PATH.toString(),
           LocalDateTime.ofEpochSecond(job.getCreatedAtInSecond(), 0, ZoneOffset.UTC), true);
@@ -9,6 +9,8 @@ import static io.airbyte.commons.auth.AuthRoleConstants.EDITOR;
 import static io.airbyte.commons.auth.AuthRoleConstants.READER;
 
 import io.airbyte.api.generated.JobsApi;
+import io.airbyte.api.model.generated.AttemptLogPageRead;
+import io.airbyte.api.model.generated.AttemptLogPageRequestBody;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusReadList;
 import io.airbyte.api.model.generated.BooleanRead;
 import io.airbyte.api.model.generated.CheckInput;
@@ -125,6 +127,15 @@ public class JobsApiController implements JobsApi {
     return ApiHelper.execute(() -> jobHistoryHandler.getJobDebugInfo(jobIdRequestBody));
   }
 
+  @Post("/get_attempt_log_page")
+  @Secured({READER})
+  @SecuredWorkspace
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Override
+  public AttemptLogPageRead getAttemptLogPage(final AttemptLogPageRequestBody attemptLogPageRequestBody) {
+    return ApiHelper.execute(() -> jobHistoryHandler.getAttemptLogPage(attemptLogPageRequestBody));
+  }
+
   @Post("/get")
   @Secured({READER})
   @SecuredWorkspace
@@ -22,6 +22,7 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.MetricEmittingApps;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.persistence.job.DefaultJobCreator;
 import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
@@ -58,8 +59,10 @@ public class ApplicationBeanFactory {
   }
 
   @Singleton
-  public EventRunner eventRunner(final TemporalClient temporalClient) {
-    return new TemporalEventRunner(temporalClient);
+  public EventRunner eventRunner(final TemporalClient temporalClient,
+                                 @Value("${temporal.migration.parallelism}") final int migrationParallelism,
+                                 @Value("${temporal.migration.starts-per-second}") final double migrationStartsPerSecond) {
+    return new TemporalEventRunner(temporalClient, migrationParallelism, migrationStartsPerSecond);
   }
 
   @Singleton
@@ -82,13 +85,15 @@ public class ApplicationBeanFactory {
                                  final TrackingClient trackingClient,
                                  final WebUrlHelper webUrlHelper,
                                  final WorkspaceHelper workspaceHelper,
-                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                                 final NotificationDispatcher notificationDispatcher) {
     return new JobNotifier(
         webUrlHelper,
         configRepository,
         workspaceHelper,
         trackingClient,
-        actorDefinitionVersionHelper);
+        actorDefinitionVersionHelper,
+        notificationDispatcher);
   }
 
   @Singleton
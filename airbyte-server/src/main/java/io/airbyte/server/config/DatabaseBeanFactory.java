@@ -26,20 +26,26 @@ import io.airbyte.db.Database;
 import io.airbyte.db.check.DatabaseMigrationCheck;
 import io.airbyte.db.check.impl.JobsDatabaseAvailabilityCheck;
 import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
 import io.airbyte.db.factory.DatabaseCheckFactory;
+import io.airbyte.db.factory.DatabaseDriver;
 import io.airbyte.db.instance.DatabaseConstants;
+import io.airbyte.metrics.lib.HikariPoolMetrics;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import io.airbyte.persistence.job.DefaultMetadataPersistence;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.MetadataPersistence;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.flyway.FlywayConfigurationProperties;
 import io.micronaut.transaction.jdbc.DelegatingDataSource;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.Optional;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
@@ -59,11 +65,40 @@ public class DatabaseBeanFactory {
   private static final String BASELINE_DESCRIPTION = "Baseline from file-based migration v1";
   private static final Boolean BASELINE_ON_MIGRATION = true;
   private static final String INSTALLED_BY = "ServerApp";
+  private static final String READ_ONLY_POOL_NAME = "config-read-only";
 
+  /**
+   * The connection pool of the read-only queries of the config database, which may point to a
+   * replica. Only created when the read-only pool is enabled.
+   */
+  @Singleton
+  @Named("configReadOnly")
+  @Requires(property = "airbyte.database.read-only-pool.enabled", value = "true")
+  @Bean(preDestroy = "close")
+  public ReadOnlyDataSource configReadOnlyDataSource(final HikariPoolMetrics hikariPoolMetrics,
+                                                     @Value("${airbyte.database.read-only-pool.url}") final String url,
+                                                     @Value("${airbyte.database.read-only-pool.username}") final String username,
+                                                     @Value("${airbyte.database.read-only-pool.password}") final String password,
+                                                     @Value("${airbyte.database.read-only-pool.maximum-pool-size:5}") final Integer maximumPoolSize) {
+    log.info("Running the read-only queries of the config database on the {} pool of {} connections", READ_ONLY_POOL_NAME, maximumPoolSize);
+    return new ReadOnlyDataSource(DataSourceFactory.createReadOnly(username, password, DatabaseDriver.POSTGRESQL.getDriverClassName(), url,
+        READ_ONLY_POOL_NAME, maximumPoolSize, hikariPoolMetrics));
+  }
+
+  /**
+   * The config database. When the read-only pool is enabled, the read-only queries, e.g. the job
+   * listings, run on their own connection pool so that they do not hold up the connections of the
+   * other queries.
+   */
   @Singleton
   @Named("configDatabase")
-  public Database configDatabase(@Named("config") final DSLContext dslContext) throws IOException {
-    return new Database(unwrapContext(dslContext));
+  public Database configDatabase(@Named("config") final DSLContext dslContext,
+                                 @Named("configReadOnly") final Optional<ReadOnlyDataSource> readOnlyDataSource)
+      throws IOException {
+    final DSLContext unwrappedContext = unwrapContext(dslContext);
+    return readOnlyDataSource
+        .map(readOnly -> new Database(unwrappedContext, DSLContextFactory.create(readOnly.dataSource(), SQLDialect.POSTGRES)))
+        .orElseGet(() -> new Database(unwrappedContext));
   }
 
   @Singleton
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.config;
+
+import io.airbyte.db.factory.DataSourceFactory;
+import javax.sql.DataSource;
+
+/**
+ * The connection pool of the read-only queries of the config database. It is not a
+ * {@link DataSource} bean itself, which would make the data source of the micronaut-data
+ * repositories ambiguous, so it is held here and closed with the application.
+ *
+ * @param dataSource read-only connection pool
+ */
+public record ReadOnlyDataSource(DataSource dataSource) implements AutoCloseable {
+
+  @Override
+  public void close() throws Exception {
+    DataSourceFactory.close(dataSource);
+  }
+
+}
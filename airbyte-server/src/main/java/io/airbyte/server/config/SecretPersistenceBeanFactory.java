@@ -8,6 +8,7 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.AWSSecretManagerPersistence;
+import io.airbyte.config.persistence.split_secrets.CachingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.GoogleSecretManagerPersistence;
 import io.airbyte.config.persistence.split_secrets.LocalTestingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.RealSecretsHydrator;
@@ -20,6 +21,7 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -116,7 +118,11 @@ public class SecretPersistenceBeanFactory {
   }
 
   @Singleton
-  public SecretsHydrator secretsHydrator(@Named("secretPersistence") final SecretPersistence secretPersistence) {
+  public SecretsHydrator secretsHydrator(@Named("secretPersistence") final SecretPersistence secretPersistence,
+                                         @Value("${airbyte.secret.hydration-cache-ttl-seconds:0}") final long hydrationCacheTtlSeconds) {
+    if (hydrationCacheTtlSeconds > 0) {
+      return new RealSecretsHydrator(new CachingSecretPersistence(secretPersistence, Duration.ofSeconds(hydrationCacheTtlSeconds)));
+    }
     return new RealSecretsHydrator(secretPersistence);
   }
 
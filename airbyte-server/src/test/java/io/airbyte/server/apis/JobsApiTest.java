@@ -4,6 +4,8 @@
 
 package io.airbyte.server.apis;
 
+import io.airbyte.api.model.generated.AttemptLogPageRead;
+import io.airbyte.api.model.generated.AttemptLogPageRequestBody;
 import io.airbyte.api.model.generated.AttemptNormalizationStatusReadList;
 import io.airbyte.api.model.generated.JobDebugInfoRead;
 import io.airbyte.api.model.generated.JobIdRequestBody;
@@ -59,6 +61,16 @@ class JobsApiTest extends BaseControllerTest {
         HttpStatus.OK);
   }
 
+  @Test
+  void testGetAttemptLogPage() throws IOException {
+    Mockito.when(jobHistoryHandler.getAttemptLogPage(Mockito.any()))
+        .thenReturn(new AttemptLogPageRead());
+    final String path = "/api/v1/jobs/get_attempt_log_page";
+    testEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new AttemptLogPageRequestBody())),
+        HttpStatus.OK);
+  }
+
   @Test
   void testGetJobDebugInfo() throws IOException, JsonValidationException, ConfigNotFoundException {
     Mockito.when(jobHistoryHandler.getJobDebugInfo(Mockito.any()))
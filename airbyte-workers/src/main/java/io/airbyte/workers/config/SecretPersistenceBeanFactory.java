@@ -6,6 +6,7 @@ package io.airbyte.workers.config;
 
 import io.airbyte.commons.temporal.config.WorkerMode;
 import io.airbyte.config.persistence.split_secrets.AWSSecretManagerPersistence;
+import io.airbyte.config.persistence.split_secrets.CachingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.GoogleSecretManagerPersistence;
 import io.airbyte.config.persistence.split_secrets.LocalTestingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.RealSecretsHydrator;
@@ -18,6 +19,7 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 import org.jooq.DSLContext;
 
 /**
@@ -92,7 +94,11 @@ public class SecretPersistenceBeanFactory {
   }
 
   @Singleton
-  public SecretsHydrator secretsHydrator(@Named("secretPersistence") final SecretPersistence secretPersistence) {
+  public SecretsHydrator secretsHydrator(@Named("secretPersistence") final SecretPersistence secretPersistence,
+                                         @Value("${airbyte.secret.hydration-cache-ttl-seconds:0}") final long hydrationCacheTtlSeconds) {
+    if (hydrationCacheTtlSeconds > 0) {
+      return new RealSecretsHydrator(new CachingSecretPersistence(secretPersistence, Duration.ofSeconds(hydrationCacheTtlSeconds)));
+    }
     return new RealSecretsHydrator(secretPersistence);
   }
 
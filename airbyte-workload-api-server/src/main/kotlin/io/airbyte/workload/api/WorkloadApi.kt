@@ -4,11 +4,14 @@ import io.airbyte.workload.api.domain.ClaimResponse
 import io.airbyte.workload.api.domain.NotFoundKnownExceptionInfo
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
+import io.airbyte.workload.api.domain.WorkloadClaimBatchRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
+import io.airbyte.workload.api.domain.WorkloadCreateRequest
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadListResponse
 import io.airbyte.workload.api.domain.WorkloadStatusUpdateRequest
+import io.airbyte.workload.handler.WorkloadHandler
 import io.micronaut.http.annotation.Controller
 import io.swagger.annotations.ApiOperation
 import io.swagger.v3.oas.annotations.media.Content
@@ -26,7 +29,9 @@ import javax.ws.rs.Produces
 
 @Controller("/api/v1/workload")
 @Tag(name = "workload")
-open class WorkloadApi {
+open class WorkloadApi(
+  private val workloadHandler: WorkloadHandler,
+) {
   @PUT
   @Path("/cancel")
   @Consumes("application/json")
@@ -96,7 +101,7 @@ open class WorkloadApi {
       ],
     ) workloadCancelRequest: WorkloadCancelRequest,
   ) {
-    TODO()
+    workloadHandler.cancelWorkloads(workloadCancelRequest.workload, workloadCancelRequest.reason, workloadCancelRequest.source)
   }
 
   @PUT
@@ -158,7 +163,95 @@ open class WorkloadApi {
       ],
     ) workloadClaimRequest: WorkloadClaimRequest,
   ): ClaimResponse {
-    TODO()
+    return ClaimResponse(workloadHandler.claimWorkload(workloadClaimRequest.workloadId, workloadClaimRequest.dataplaneId))
+  }
+
+  @PUT
+  @Path("/claim-batch")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @ApiOperation(value = "Claim the execution of a batch of pending workloads", notes = "", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the workloads claimed for the dataplane, at most limit. Pending workloads that another dataplane " +
+            "is claiming at the same time are skipped.",
+        content = [
+          Content(
+            schema =
+              Schema(
+                implementation = WorkloadListResponse::class,
+              ),
+          ),
+        ],
+      ),
+      ApiResponse(
+        responseCode = "400",
+        description = "Invalid argument, most likely an invalid dataplane id or limit.",
+        content = [
+          Content(
+            schema =
+              Schema(
+                implementation = Void::class,
+              ),
+          ),
+        ],
+      ),
+    ],
+  )
+  open fun workloadClaimBatch(
+    @RequestBody(
+      content = [
+        Content(
+          schema =
+            Schema(
+              implementation = WorkloadClaimBatchRequest::class,
+            ),
+        ),
+      ],
+    ) workloadClaimBatchRequest: WorkloadClaimBatchRequest,
+  ): WorkloadListResponse {
+    return WorkloadListResponse(
+      workloadHandler.claimPendingWorkloads(workloadClaimBatchRequest.dataplaneId, workloadClaimBatchRequest.limit).toMutableList(),
+    )
+  }
+
+  @POST
+  @Path("/create")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @ApiOperation(value = "Create a pending workload", notes = "", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "204",
+        description = "Successfully created the workload, or the workload already existed.",
+        content = [
+          Content(
+            schema =
+              Schema(
+                implementation = Void::class,
+              ),
+          ),
+        ],
+      ),
+    ],
+  )
+  open fun workloadCreate(
+    @RequestBody(
+      content = [
+        Content(
+          schema =
+            Schema(
+              implementation = WorkloadCreateRequest::class,
+            ),
+        ),
+      ],
+    ) workloadCreateRequest: WorkloadCreateRequest,
+  ) {
+    workloadHandler.createWorkload(workloadCreateRequest.workloadId, workloadCreateRequest.labels)
   }
 
   @GET
@@ -204,7 +297,7 @@ open class WorkloadApi {
       ],
     ) workloadId: String,
   ): Workload {
-    TODO()
+    return workloadHandler.getWorkload(workloadId)
   }
 
   @PUT
@@ -264,7 +357,7 @@ open class WorkloadApi {
       ],
     ) workloadHeartbeatRequest: WorkloadHeartbeatRequest,
   ) {
-    TODO()
+    workloadHandler.heartbeat(workloadHeartbeatRequest.workloadId)
   }
 
   @POST
@@ -312,7 +405,13 @@ open class WorkloadApi {
       ],
     ) workloadListRequest: WorkloadListRequest,
   ): WorkloadListResponse {
-    TODO()
+    return WorkloadListResponse(
+      workloadHandler.listWorkloads(
+        workloadListRequest.dataplane,
+        workloadListRequest.status,
+        workloadListRequest.updatedBefore,
+      ).toMutableList(),
+    )
   }
 
   @PUT
@@ -360,6 +459,6 @@ open class WorkloadApi {
       ],
     ) workloadStatusUpdateRequest: WorkloadStatusUpdateRequest,
   ) {
-    TODO()
+    workloadHandler.updateWorkloadStatus(workloadStatusUpdateRequest.workloadId, workloadStatusUpdateRequest.status)
   }
 }
@@ -0,0 +1,10 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.annotations.ApiModelProperty
+
+data class WorkloadClaimBatchRequest(
+  @ApiModelProperty(required = true)
+  var dataplaneId: String = "",
+  @ApiModelProperty(required = true)
+  var limit: Int = 0,
+)
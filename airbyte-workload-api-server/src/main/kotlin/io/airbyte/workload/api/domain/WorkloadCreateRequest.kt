@@ -0,0 +1,9 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.annotations.ApiModelProperty
+
+data class WorkloadCreateRequest(
+  @ApiModelProperty(required = true)
+  var workloadId: String = "",
+  var labels: MutableList<WorkloadLabel>? = null,
+)
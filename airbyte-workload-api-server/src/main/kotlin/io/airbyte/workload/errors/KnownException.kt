@@ -0,0 +1,17 @@
+package io.airbyte.workload.errors
+
+import io.micronaut.http.HttpStatus
+
+/**
+ * Exception that maps to a specific http status, see [KnownExceptionHandler].
+ */
+open class KnownException(val httpStatus: HttpStatus, message: String) : RuntimeException(message)
+
+class BadRequestException(message: String) : KnownException(HttpStatus.BAD_REQUEST, message)
+
+class NotFoundException(message: String) : KnownException(HttpStatus.NOT_FOUND, message)
+
+/**
+ * Thrown when a workload heartbeats or changes status while it is no longer expected to be running.
+ */
+class WorkloadNotActiveException(message: String) : KnownException(HttpStatus.GONE, message)
@@ -0,0 +1,30 @@
+package io.airbyte.workload.errors
+
+import io.airbyte.workload.api.domain.NotFoundKnownExceptionInfo
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.server.exceptions.ExceptionHandler
+import jakarta.inject.Singleton
+
+/**
+ * Returns the http status of a [KnownException] along with its message.
+ */
+@Produces
+@Singleton
+class KnownExceptionHandler : ExceptionHandler<KnownException, HttpResponse<*>> {
+  override fun handle(
+    request: HttpRequest<*>?,
+    exception: KnownException,
+  ): HttpResponse<*> {
+    return HttpResponse.status<Any>(exception.httpStatus)
+      .body(
+        NotFoundKnownExceptionInfo(
+          message = exception.message ?: "",
+          exceptionClassName = exception.javaClass.name,
+        ),
+      )
+      .contentType(MediaType.APPLICATION_JSON_TYPE)
+  }
+}
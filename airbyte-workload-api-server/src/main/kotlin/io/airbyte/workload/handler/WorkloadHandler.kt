@@ -0,0 +1,115 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadStatus
+import io.airbyte.workload.errors.BadRequestException
+import io.airbyte.workload.errors.NotFoundException
+import io.airbyte.workload.errors.WorkloadNotActiveException
+import io.airbyte.workload.repository.WorkloadRepository
+import io.github.oshai.kotlinlogging.KotlinLogging
+import jakarta.inject.Singleton
+import java.time.OffsetDateTime
+
+private val logger = KotlinLogging.logger {}
+
+private val ACTIVE_STATUSES = setOf(WorkloadStatus.CLAIMED, WorkloadStatus.RUNNING)
+
+@Singleton
+class WorkloadHandler(
+  private val workloadRepository: WorkloadRepository,
+  private val heartbeatBuffer: WorkloadHeartbeatBuffer,
+) {
+  fun createWorkload(
+    workloadId: String,
+    labels: List<WorkloadLabel>?,
+  ) {
+    if (!workloadRepository.create(workloadId, labels ?: listOf())) {
+      logger.info { "Workload $workloadId already exists" }
+    }
+  }
+
+  fun getWorkload(workloadId: String): Workload {
+    return workloadRepository.findById(workloadId) ?: throw notFound(workloadId)
+  }
+
+  fun listWorkloads(
+    dataplaneIds: List<String>?,
+    statuses: List<WorkloadStatus>?,
+    updatedBefore: OffsetDateTime?,
+  ): List<Workload> {
+    return workloadRepository.list(dataplaneIds, statuses, updatedBefore)
+  }
+
+  /**
+   * @return true if the workload is claimed by this dataplane, including when the dataplane retries a
+   * claim that already succeeded
+   */
+  fun claimWorkload(
+    workloadId: String,
+    dataplaneId: String,
+  ): Boolean {
+    if (workloadRepository.claim(workloadId, dataplaneId)) {
+      return true
+    }
+    val workload = getWorkload(workloadId)
+    return workload.status == WorkloadStatus.CLAIMED && workload.dataplaneId == dataplaneId
+  }
+
+  /**
+   * Claim up to [limit] pending workloads for a dataplane, so that a launcher polls and claims a
+   * batch in one call rather than listing every pending workload.
+   */
+  fun claimPendingWorkloads(
+    dataplaneId: String,
+    limit: Int,
+  ): List<Workload> {
+    if (dataplaneId.isBlank() || limit <= 0) {
+      throw BadRequestException("A dataplane id and a positive limit are required to claim workloads")
+    }
+    return workloadRepository.claimPending(dataplaneId, limit)
+  }
+
+  /**
+   * Only checks that the workload is still expected to run, the heartbeat itself is written later by
+   * [WorkloadHeartbeatBuffer].
+   */
+  fun heartbeat(workloadId: String) {
+    val status = workloadRepository.findStatus(workloadId) ?: throw notFound(workloadId)
+    if (status !in ACTIVE_STATUSES) {
+      throw WorkloadNotActiveException("Workload $workloadId is $status and should no longer be running")
+    }
+    heartbeatBuffer.record(workloadId)
+  }
+
+  /**
+   * Workloads that already reached a terminal status keep it, a late update is rejected.
+   */
+  fun updateWorkloadStatus(
+    workloadId: String,
+    status: WorkloadStatus,
+  ) {
+    if (!workloadRepository.updateStatus(workloadId, status)) {
+      val currentStatus = workloadRepository.findStatus(workloadId) ?: throw notFound(workloadId)
+      throw WorkloadNotActiveException("Workload $workloadId is $currentStatus and can no longer move to $status")
+    }
+  }
+
+  fun cancelWorkloads(
+    workloadIds: List<String>,
+    reason: String,
+    source: String,
+  ) {
+    workloadIds.forEach { workloadId ->
+      if (workloadRepository.cancel(workloadId)) {
+        logger.info { "Cancelled workload $workloadId from $source: $reason" }
+      } else if (workloadRepository.findStatus(workloadId) == null) {
+        throw notFound(workloadId)
+      }
+    }
+  }
+
+  private fun notFound(workloadId: String): NotFoundException {
+    return NotFoundException("Could not find workload with id: $workloadId")
+  }
+}
@@ -0,0 +1,53 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.repository.WorkloadRepository
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.event.ShutdownEvent
+import io.micronaut.runtime.event.annotation.EventListener
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+import java.time.OffsetDateTime
+import java.util.concurrent.ConcurrentHashMap
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Buffers workload heartbeats in memory and writes them in one batch per flush interval. Every
+ * running workload heartbeats, so writing each heartbeat on its own would cost one row update per
+ * heartbeat. A workload that heartbeats several times between two flushes is written once.
+ *
+ * The flush interval must stay well below the heartbeat timeout of [WorkloadLeaseSweeper].
+ */
+@Singleton
+class WorkloadHeartbeatBuffer(
+  private val workloadRepository: WorkloadRepository,
+) {
+  private val pending = ConcurrentHashMap<String, OffsetDateTime>()
+
+  fun record(workloadId: String) {
+    pending.merge(workloadId, OffsetDateTime.now()) { a, b -> maxOf(a, b) }
+  }
+
+  @Synchronized
+  @Scheduled(fixedDelay = "\${airbyte.workload-api.heartbeat.flush-interval:5s}")
+  fun flush() {
+    if (pending.isEmpty()) {
+      return
+    }
+
+    val heartbeats = HashMap<String, OffsetDateTime>()
+    pending.keys.forEach { workloadId -> pending.remove(workloadId)?.let { heartbeats[workloadId] = it } }
+    try {
+      val updated = workloadRepository.updateHeartbeats(heartbeats)
+      logger.debug { "Flushed ${heartbeats.size} heartbeats, $updated workloads updated" }
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to flush ${heartbeats.size} heartbeats, they will be retried on the next flush" }
+      heartbeats.forEach { (workloadId, heartbeatAt) -> pending.merge(workloadId, heartbeatAt) { a, b -> maxOf(a, b) } }
+    }
+  }
+
+  @EventListener
+  fun onShutdown(event: ShutdownEvent) {
+    flush()
+  }
+}
@@ -0,0 +1,48 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.repository.WorkloadRepository
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.OffsetDateTime
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Expires the lease of workloads that stopped heartbeating. A claimed workload that was never
+ * started goes back to pending so that another launcher can claim it, a running workload fails.
+ *
+ * Rows are swept in batches that skip locked rows, so several replicas can sweep at the same time.
+ */
+@Singleton
+class WorkloadLeaseSweeper(
+  private val workloadRepository: WorkloadRepository,
+  private val heartbeatBuffer: WorkloadHeartbeatBuffer,
+  @Value("\${airbyte.workload-api.claim.timeout:5m}") private val claimTimeout: Duration,
+  @Value("\${airbyte.workload-api.heartbeat.timeout:10m}") private val heartbeatTimeout: Duration,
+  @Value("\${airbyte.workload-api.sweeper.batch-size:500}") private val batchSize: Int,
+) {
+  @Scheduled(fixedDelay = "\${airbyte.workload-api.sweeper.interval:30s}")
+  fun sweep() {
+    // so that heartbeats received by this replica are not mistaken for missing ones
+    heartbeatBuffer.flush()
+
+    val now = OffsetDateTime.now()
+    val released = sweepInBatches { workloadRepository.releaseExpiredClaims(now.minus(claimTimeout), batchSize) }
+    val failed = sweepInBatches { workloadRepository.failExpiredWorkloads(now.minus(heartbeatTimeout), batchSize) }
+    if (released > 0 || failed > 0) {
+      logger.info { "Released $released expired claims and failed $failed workloads that stopped heartbeating" }
+    }
+  }
+
+  private fun sweepInBatches(sweepBatch: () -> Int): Int {
+    var total = 0
+    do {
+      val swept = sweepBatch()
+      total += swept
+    } while (swept == batchSize)
+    return total
+  }
+}
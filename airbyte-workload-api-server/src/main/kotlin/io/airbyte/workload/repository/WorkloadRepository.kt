@@ -0,0 +1,287 @@
+package io.airbyte.workload.repository
+
+import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadStatus
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import org.jooq.Condition
+import org.jooq.DSLContext
+import org.jooq.Record
+import org.jooq.impl.DSL
+import java.time.OffsetDateTime
+import java.util.UUID
+
+private val WORKLOAD = DSL.table("workload")
+private val WORKLOAD_LABEL = DSL.table("workload_label")
+private val ID = DSL.field("id", String::class.java)
+private val DATAPLANE_ID = DSL.field("dataplane_id", String::class.java)
+private val STATUS = DSL.field("status").cast(String::class.java).`as`("status")
+private val LAST_HEARTBEAT_AT = DSL.field("last_heartbeat_at", OffsetDateTime::class.java)
+private val UPDATED_AT = DSL.field("updated_at", OffsetDateTime::class.java)
+private val WORKLOAD_ID = DSL.field("workload_id", String::class.java)
+private val KEY = DSL.field("key", String::class.java)
+private val VALUE = DSL.field("value", String::class.java)
+private const val TERMINAL_STATUSES = "'success', 'failure', 'cancelled'"
+
+/**
+ * Reads and writes the workload table.
+ *
+ * Claims and sweeps lock the rows they change with FOR UPDATE SKIP LOCKED, so that concurrent
+ * launchers and sweepers skip a row someone else is working on instead of queueing behind its lock.
+ * A workload only moves from pending to claimed once, which is what prevents double claims.
+ */
+@Singleton
+class WorkloadRepository(
+  @Named("config") private val dslContext: DSLContext,
+) {
+  /**
+   * Insert a pending workload with its labels.
+   *
+   * @return false if a workload with this id already exists
+   */
+  fun create(
+    workloadId: String,
+    labels: List<WorkloadLabel>,
+  ): Boolean {
+    return dslContext.transactionResult { configuration ->
+      val ctx = DSL.using(configuration)
+      val inserted = ctx.execute("INSERT INTO workload(id, status) VALUES (?, 'pending') ON CONFLICT (id) DO NOTHING", workloadId)
+      if (inserted > 0 && labels.isNotEmpty()) {
+        val insertLabel = ctx.query("INSERT INTO workload_label(id, workload_id, key, value) VALUES (?, ?, ?, ?)", *arrayOfNulls<Any>(4))
+        val batch = ctx.batch(insertLabel)
+        labels.forEach { batch.bind(UUID.randomUUID(), workloadId, it.key, it.value) }
+        batch.execute()
+      }
+      inserted > 0
+    }
+  }
+
+  fun findById(workloadId: String): Workload? {
+    return find(ID.eq(workloadId)).firstOrNull()
+  }
+
+  fun findStatus(workloadId: String): WorkloadStatus? {
+    return dslContext.select(STATUS).from(WORKLOAD).where(ID.eq(workloadId)).fetchOne()?.let { WorkloadStatus.fromValue(it.value1()) }
+  }
+
+  /**
+   * List workloads, every filter is optional. Matches the (dataplane_id, status) and
+   * (status, updated_at) indexes.
+   */
+  fun list(
+    dataplaneIds: List<String>?,
+    statuses: List<WorkloadStatus>?,
+    updatedBefore: OffsetDateTime?,
+  ): List<Workload> {
+    var condition = DSL.noCondition()
+    if (!dataplaneIds.isNullOrEmpty()) {
+      condition = condition.and(DATAPLANE_ID.`in`(dataplaneIds))
+    }
+    if (!statuses.isNullOrEmpty()) {
+      condition = condition.and(statusIn(statuses))
+    }
+    if (updatedBefore != null) {
+      condition = condition.and(UPDATED_AT.lessThan(updatedBefore))
+    }
+    return find(condition)
+  }
+
+  /**
+   * Claim a pending workload for a dataplane. A workload that another transaction is claiming right
+   * now is skipped rather than waited on. The heartbeat of a previous claim is cleared, so that the
+   * sweeper times the new claim from now rather than from the heartbeat of the previous owner.
+   *
+   * @return true if this call claimed the workload
+   */
+  fun claim(
+    workloadId: String,
+    dataplaneId: String,
+  ): Boolean {
+    return dslContext.execute(
+      """
+      UPDATE workload SET status = 'claimed', dataplane_id = ?, last_heartbeat_at = NULL, updated_at = now()
+      WHERE id = (SELECT id FROM workload WHERE id = ? AND status = 'pending' FOR UPDATE SKIP LOCKED)
+      """.trimIndent(),
+      dataplaneId,
+      workloadId,
+    ) > 0
+  }
+
+  /**
+   * Claim up to limit pending workloads for a dataplane, oldest first. Pending workloads that another
+   * transaction is claiming right now are skipped, so concurrent launchers each get their own batch
+   * instead of contending on the same rows.
+   *
+   * @return the workloads claimed by this call
+   */
+  fun claimPending(
+    dataplaneId: String,
+    limit: Int,
+  ): List<Workload> {
+    val claimedIds =
+      dslContext.fetch(
+        """
+        UPDATE workload SET status = 'claimed', dataplane_id = ?, last_heartbeat_at = NULL, updated_at = now()
+        WHERE id IN (
+          SELECT id FROM workload
+          WHERE status = 'pending'
+          ORDER BY updated_at
+          LIMIT ? FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+        """.trimIndent(),
+        dataplaneId,
+        limit,
+      ).getValues(0, String::class.java)
+    if (claimedIds.isEmpty()) {
+      return listOf()
+    }
+    return find(ID.`in`(claimedIds))
+  }
+
+  /**
+   * Update the status of a workload unless it already reached a terminal status, so that a late
+   * update cannot bring back a cancelled workload.
+   *
+   * @return false if the workload does not exist or already reached a terminal status
+   */
+  fun updateStatus(
+    workloadId: String,
+    status: WorkloadStatus,
+  ): Boolean {
+    return dslContext.execute(
+      """
+      UPDATE workload SET status = CAST(? AS workload_status), updated_at = now()
+      WHERE id = ? AND status NOT IN ($TERMINAL_STATUSES)
+      """.trimIndent(),
+      status.toString(),
+      workloadId,
+    ) > 0
+  }
+
+  /**
+   * Cancel a workload unless it already reached a terminal status.
+   *
+   * @return false if the workload does not exist or already reached a terminal status
+   */
+  fun cancel(workloadId: String): Boolean {
+    return dslContext.execute(
+      """
+      UPDATE workload SET status = 'cancelled', updated_at = now()
+      WHERE id = ? AND status NOT IN ($TERMINAL_STATUSES)
+      """.trimIndent(),
+      workloadId,
+    ) > 0
+  }
+
+  /**
+   * Record the heartbeats of many workloads in a single JDBC batch. Heartbeats of workloads that are
+   * no longer claimed or running are dropped.
+   *
+   * @param heartbeats time of the latest heartbeat by workload id
+   * @return number of workloads updated
+   */
+  fun updateHeartbeats(heartbeats: Map<String, OffsetDateTime>): Int {
+    if (heartbeats.isEmpty()) {
+      return 0
+    }
+    val batch =
+      dslContext.batch(
+        dslContext.query(
+          """
+          UPDATE workload SET last_heartbeat_at = GREATEST(last_heartbeat_at, ?)
+          WHERE id = ? AND status IN ('claimed', 'running')
+          """.trimIndent(),
+          *arrayOfNulls<Any>(2),
+        ),
+      )
+    heartbeats.forEach { (workloadId, heartbeatAt) -> batch.bind(heartbeatAt, workloadId) }
+    return batch.execute().sum()
+  }
+
+  /**
+   * Put claimed workloads that have not heartbeated since the cutoff back to pending, so that another
+   * launcher can claim them. Their heartbeat is cleared along with their dataplane.
+   *
+   * @return number of workloads released, at most limit
+   */
+  fun releaseExpiredClaims(
+    cutoff: OffsetDateTime,
+    limit: Int,
+  ): Int {
+    return dslContext.execute(
+      """
+      UPDATE workload SET status = 'pending', dataplane_id = NULL, last_heartbeat_at = NULL, updated_at = now()
+      WHERE id IN (
+        SELECT id FROM workload
+        WHERE status = 'claimed' AND COALESCE(last_heartbeat_at, updated_at) < ?
+        LIMIT ? FOR UPDATE SKIP LOCKED
+      )
+      """.trimIndent(),
+      cutoff,
+      limit,
+    )
+  }
+
+  /**
+   * Fail running workloads that have not heartbeated since the cutoff.
+   *
+   * @return number of workloads failed, at most limit
+   */
+  fun failExpiredWorkloads(
+    cutoff: OffsetDateTime,
+    limit: Int,
+  ): Int {
+    return dslContext.execute(
+      """
+      UPDATE workload SET status = 'failure', updated_at = now()
+      WHERE id IN (
+        SELECT id FROM workload
+        WHERE status = 'running' AND COALESCE(last_heartbeat_at, updated_at) < ?
+        LIMIT ? FOR UPDATE SKIP LOCKED
+      )
+      """.trimIndent(),
+      cutoff,
+      limit,
+    )
+  }
+
+  private fun find(condition: Condition): List<Workload> {
+    val workloads =
+      dslContext.select(ID, DATAPLANE_ID, STATUS, LAST_HEARTBEAT_AT)
+        .from(WORKLOAD)
+        .where(condition)
+        .orderBy(ID)
+        .fetch { toWorkload(it) }
+    if (workloads.isEmpty()) {
+      return workloads
+    }
+
+    // fetch the labels of every workload in one query rather than one query per workload
+    val labelsByWorkloadId =
+      dslContext.select(WORKLOAD_ID, KEY, VALUE)
+        .from(WORKLOAD_LABEL)
+        .where(WORKLOAD_ID.`in`(workloads.map { it.id }))
+        .orderBy(KEY)
+        .fetch()
+        .groupBy({ it.value1() }, { WorkloadLabel(it.value2(), it.value3()) })
+    workloads.forEach { it.labels = labelsByWorkloadId[it.id]?.toMutableList() ?: mutableListOf() }
+    return workloads
+  }
+
+  private fun toWorkload(record: Record): Workload {
+    return Workload(
+      id = record.get(ID),
+      dataplaneId = record.get(DATAPLANE_ID),
+      status = WorkloadStatus.fromValue(record.get(STATUS)),
+      lastHeartbeatAt = record.get(LAST_HEARTBEAT_AT),
+    )
+  }
+
+  private fun statusIn(statuses: List<WorkloadStatus>): Condition {
+    // compare with the enum type rather than casting the column to text, which would skip the indexes
+    val placeholders = statuses.joinToString(", ") { "CAST(? AS workload_status)" }
+    return DSL.condition("status IN ($placeholders)", *statuses.map { it.toString() }.toTypedArray())
+  }
+}
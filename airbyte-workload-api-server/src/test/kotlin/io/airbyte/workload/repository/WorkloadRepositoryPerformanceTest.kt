@@ -0,0 +1,101 @@
+package io.airbyte.workload.repository
+
+import io.airbyte.db.factory.DSLContextFactory
+import io.airbyte.db.factory.DataSourceFactory
+import io.airbyte.db.instance.test.TestDatabaseProviders
+import io.airbyte.test.utils.Databases
+import org.jooq.DSLContext
+import org.jooq.SQLDialect
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestReporter
+import org.testcontainers.containers.PostgreSQLContainer
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import javax.sql.DataSource
+
+private const val DATAPLANE_ID = "dataplane-1"
+private const val WORKLOAD_COUNT = 2_000
+private const val MIN_THROUGHPUT_RATIO = 0.8
+private val CLAIMERS = listOf(1, 4, 16)
+
+/**
+ * Claim throughput of [WorkloadRepository] with 1, 4 and 16 concurrent claimers, after a warm-up
+ * run. Every workload must be claimed exactly once, and concurrent claimers must keep most of the
+ * single claimer throughput since claims of different workloads touch different rows. The claims/sec
+ * of every run are reported in the test output. Run with the performanceTest task.
+ */
+@Tag("performance")
+internal class WorkloadRepositoryPerformanceTest {
+  companion object {
+    private lateinit var container: PostgreSQLContainer<*>
+    private lateinit var dataSource: DataSource
+    private lateinit var dslContext: DSLContext
+
+    @BeforeAll
+    @JvmStatic
+    fun setUpDatabase() {
+      container =
+        PostgreSQLContainer<Nothing>("postgres:13-alpine").apply {
+          withDatabaseName("airbyte")
+          withUsername("docker")
+          withPassword("docker")
+        }
+      container.start()
+      dataSource = Databases.createDataSource(container)
+      dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES)
+      TestDatabaseProviders(dataSource, dslContext).createNewConfigsDatabase()
+    }
+
+    @AfterAll
+    @JvmStatic
+    fun tearDownDatabase() {
+      DataSourceFactory.close(dataSource)
+      container.close()
+    }
+  }
+
+  private val repository = WorkloadRepository(dslContext)
+
+  @Test
+  fun `concurrent claimers claim every workload once and keep the claim throughput`(testReporter: TestReporter) {
+    // warm up the JIT, the connection pool and the table
+    claimThroughput(4)
+
+    val throughputs = CLAIMERS.associateWith { claimThroughput(it) }
+    val report = throughputs.entries.joinToString { (claimers, throughput) -> "$claimers claimers: ${throughput.toLong()} claims/sec" }
+    testReporter.publishEntry("claim throughput", report)
+
+    val minThroughput = MIN_THROUGHPUT_RATIO * throughputs.getValue(1)
+    throughputs.values.forEach { assertTrue(it >= minThroughput, "throughput below ${MIN_THROUGHPUT_RATIO}x of 1 claimer, $report") }
+  }
+
+  private fun claimThroughput(claimers: Int): Double {
+    dslContext.execute("TRUNCATE TABLE workload CASCADE")
+    val workloadIds = (1..WORKLOAD_COUNT).map { "workload-$it" }
+    workloadIds.forEach { repository.create(it, listOf()) }
+
+    // each claimer takes its own slice, the way launchers claim the workloads they were handed
+    val claimed = AtomicInteger()
+    val executor = Executors.newFixedThreadPool(claimers)
+    val startedAt = System.nanoTime()
+    workloadIds.chunked((WORKLOAD_COUNT + claimers - 1) / claimers).forEach { slice ->
+      executor.submit {
+        slice.forEach { if (repository.claim(it, DATAPLANE_ID)) claimed.incrementAndGet() }
+      }
+    }
+    executor.shutdown()
+    assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES))
+    val elapsedSeconds = (System.nanoTime() - startedAt) / 1e9
+
+    // every workload is claimed exactly once
+    assertEquals(WORKLOAD_COUNT, claimed.get())
+    assertTrue(workloadIds.none { repository.claim(it, "dataplane-2") })
+    return WORKLOAD_COUNT / elapsedSeconds
+  }
+}
@@ -0,0 +1,292 @@
+package io.airbyte.workload.repository
+
+import io.airbyte.db.factory.DSLContextFactory
+import io.airbyte.db.factory.DataSourceFactory
+import io.airbyte.db.instance.test.TestDatabaseProviders
+import io.airbyte.test.utils.Databases
+import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadStatus
+import org.jooq.DSLContext
+import org.jooq.SQLDialect
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.testcontainers.containers.PostgreSQLContainer
+import java.time.OffsetDateTime
+import java.time.temporal.ChronoUnit
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import javax.sql.DataSource
+
+private const val WORKLOAD_ID = "workload-1"
+private const val DATAPLANE_ID = "dataplane-1"
+
+internal class WorkloadRepositoryTest {
+  companion object {
+    private lateinit var container: PostgreSQLContainer<*>
+    private lateinit var dataSource: DataSource
+    private lateinit var dslContext: DSLContext
+
+    @BeforeAll
+    @JvmStatic
+    fun setUpDatabase() {
+      container =
+        PostgreSQLContainer<Nothing>("postgres:13-alpine").apply {
+          withDatabaseName("airbyte")
+          withUsername("docker")
+          withPassword("docker")
+        }
+      container.start()
+      dataSource = Databases.createDataSource(container)
+      dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES)
+      TestDatabaseProviders(dataSource, dslContext).createNewConfigsDatabase()
+    }
+
+    @AfterAll
+    @JvmStatic
+    fun tearDownDatabase() {
+      DataSourceFactory.close(dataSource)
+      container.close()
+    }
+  }
+
+  private val repository = WorkloadRepository(dslContext)
+
+  @BeforeEach
+  fun cleanUp() {
+    dslContext.execute("TRUNCATE TABLE workload CASCADE")
+  }
+
+  @Test
+  fun `created workloads are pending and keep their labels`() {
+    assertTrue(repository.create(WORKLOAD_ID, listOf(WorkloadLabel("connection_id", "abc"), WorkloadLabel("attempt", "1"))))
+    // creating the same workload again is a no-op
+    assertFalse(repository.create(WORKLOAD_ID, listOf()))
+
+    val workload = repository.findById(WORKLOAD_ID)
+    assertNotNull(workload)
+    assertEquals(WorkloadStatus.PENDING, workload!!.status)
+    assertNull(workload.dataplaneId)
+    assertEquals(listOf(WorkloadLabel("attempt", "1"), WorkloadLabel("connection_id", "abc")), workload.labels)
+    assertNull(repository.findById("unknown"))
+  }
+
+  @Test
+  fun `a workload is only claimed once`() {
+    repository.create(WORKLOAD_ID, listOf())
+
+    assertTrue(repository.claim(WORKLOAD_ID, DATAPLANE_ID))
+    assertFalse(repository.claim(WORKLOAD_ID, "dataplane-2"))
+    assertFalse(repository.claim("unknown", DATAPLANE_ID))
+
+    val workload = repository.findById(WORKLOAD_ID)!!
+    assertEquals(WorkloadStatus.CLAIMED, workload.status)
+    assertEquals(DATAPLANE_ID, workload.dataplaneId)
+  }
+
+  @Test
+  fun `concurrent claimers never claim the same workload twice`() {
+    val workloadIds = (1..200).map { "workload-$it" }
+    workloadIds.forEach { repository.create(it, listOf()) }
+
+    val claimers = 8
+    val winners = ConcurrentHashMap<String, MutableList<String>>()
+    val start = CountDownLatch(1)
+    val executor = Executors.newFixedThreadPool(claimers)
+    repeat(claimers) { claimer ->
+      executor.submit {
+        start.await()
+        // every claimer walks the workloads in a different order to maximize contention
+        workloadIds.shuffled().forEach { workloadId ->
+          if (repository.claim(workloadId, "dataplane-$claimer")) {
+            winners.computeIfAbsent(workloadId) { mutableListOf() }.add("dataplane-$claimer")
+          }
+        }
+      }
+    }
+    start.countDown()
+    executor.shutdown()
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES))
+
+    // a claim can be skipped while another transaction holds the row, so only check for double claims
+    winners.forEach { (workloadId, dataplaneIds) ->
+      assertEquals(1, dataplaneIds.size, "$workloadId was claimed by $dataplaneIds")
+      assertEquals(dataplaneIds.first(), repository.findById(workloadId)!!.dataplaneId)
+    }
+    val claimed = repository.list(null, listOf(WorkloadStatus.CLAIMED), null)
+    assertEquals(winners.size, claimed.size)
+  }
+
+  @Test
+  fun `concurrent batch claims return disjoint batches of at most the limit`() {
+    (1..100).forEach { repository.create("workload-$it", listOf()) }
+
+    val claimers = 4
+    val batches = ConcurrentHashMap<String, MutableList<List<Workload>>>()
+    val start = CountDownLatch(1)
+    val executor = Executors.newFixedThreadPool(claimers)
+    repeat(claimers) { claimer ->
+      executor.submit {
+        start.await()
+        while (true) {
+          val batch = repository.claimPending("dataplane-$claimer", 7)
+          if (batch.isEmpty()) {
+            break
+          }
+          batches.computeIfAbsent("dataplane-$claimer") { mutableListOf() }.add(batch)
+        }
+      }
+    }
+    start.countDown()
+    executor.shutdown()
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES))
+
+    batches.forEach { (dataplaneId, claimed) ->
+      claimed.forEach { batch ->
+        assertTrue(batch.size <= 7)
+        batch.forEach { assertEquals(dataplaneId, it.dataplaneId) }
+      }
+    }
+    val claimedIds = batches.values.flatten().flatten().map { it.id }
+    assertEquals(100, claimedIds.size)
+    assertEquals(100, claimedIds.toSet().size)
+    assertEquals(100, repository.list(null, listOf(WorkloadStatus.CLAIMED), null).size)
+    assertTrue(repository.list(null, listOf(WorkloadStatus.PENDING), null).isEmpty())
+  }
+
+  @Test
+  fun `list filters by dataplane, status and last update`() {
+    repository.create("workload-a", listOf())
+    repository.create("workload-b", listOf())
+    repository.create("workload-c", listOf())
+    repository.claim("workload-a", DATAPLANE_ID)
+    repository.claim("workload-b", "dataplane-2")
+    repository.updateStatus("workload-b", WorkloadStatus.RUNNING)
+
+    assertEquals(listOf("workload-a"), repository.list(listOf(DATAPLANE_ID), null, null).map { it.id })
+    assertEquals(
+      listOf("workload-a", "workload-b"),
+      repository.list(null, listOf(WorkloadStatus.CLAIMED, WorkloadStatus.RUNNING), null).map { it.id },
+    )
+    assertEquals(
+      listOf("workload-b"),
+      repository.list(listOf(DATAPLANE_ID, "dataplane-2"), listOf(WorkloadStatus.RUNNING), null).map { it.id },
+    )
+    assertEquals(3, repository.list(null, null, OffsetDateTime.now().plusMinutes(1)).size)
+    assertTrue(repository.list(null, null, OffsetDateTime.now().minusMinutes(1)).isEmpty())
+  }
+
+  @Test
+  fun `cancel leaves terminal workloads untouched`() {
+    repository.create("workload-a", listOf())
+    repository.create("workload-b", listOf())
+    repository.updateStatus("workload-b", WorkloadStatus.SUCCESS)
+
+    assertTrue(repository.cancel("workload-a"))
+    assertFalse(repository.cancel("workload-b"))
+    assertFalse(repository.cancel("unknown"))
+
+    assertEquals(WorkloadStatus.CANCELLED, repository.findStatus("workload-a"))
+    assertEquals(WorkloadStatus.SUCCESS, repository.findStatus("workload-b"))
+    assertNull(repository.findStatus("unknown"))
+  }
+
+  @Test
+  fun `status updates leave terminal workloads untouched`() {
+    repository.create("workload-a", listOf())
+    repository.create("workload-b", listOf())
+    repository.claim("workload-a", DATAPLANE_ID)
+    repository.cancel("workload-b")
+
+    assertTrue(repository.updateStatus("workload-a", WorkloadStatus.RUNNING))
+    assertTrue(repository.updateStatus("workload-a", WorkloadStatus.SUCCESS))
+    // a late update does not move a workload out of its terminal status
+    assertFalse(repository.updateStatus("workload-a", WorkloadStatus.RUNNING))
+    assertFalse(repository.updateStatus("workload-b", WorkloadStatus.RUNNING))
+    assertFalse(repository.updateStatus("unknown", WorkloadStatus.RUNNING))
+
+    assertEquals(WorkloadStatus.SUCCESS, repository.findStatus("workload-a"))
+    assertEquals(WorkloadStatus.CANCELLED, repository.findStatus("workload-b"))
+  }
+
+  @Test
+  fun `heartbeats are written in a batch and only for active workloads`() {
+    repository.create("workload-a", listOf())
+    repository.create("workload-b", listOf())
+    repository.create("workload-c", listOf())
+    repository.claim("workload-a", DATAPLANE_ID)
+    repository.claim("workload-b", DATAPLANE_ID)
+    repository.updateStatus("workload-b", WorkloadStatus.FAILURE)
+
+    // postgres stores microseconds
+    val heartbeatAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS)
+    val updated = repository.updateHeartbeats(listOf("workload-a", "workload-b", "workload-c").associateWith { heartbeatAt })
+
+    assertEquals(1, updated)
+    assertNotNull(repository.findById("workload-a")!!.lastHeartbeatAt)
+    assertNull(repository.findById("workload-b")!!.lastHeartbeatAt)
+    assertNull(repository.findById("workload-c")!!.lastHeartbeatAt)
+
+    // an older heartbeat flushed late does not move the heartbeat back
+    repository.updateHeartbeats(mapOf("workload-a" to heartbeatAt.minusMinutes(5)))
+    assertEquals(heartbeatAt.toInstant(), repository.findById("workload-a")!!.lastHeartbeatAt!!.toInstant())
+  }
+
+  @Test
+  fun `expired claims go back to pending and expired runs fail`() {
+    (1..5).forEach { repository.create("claimed-$it", listOf()) }
+    (1..5).forEach {
+      repository.create("running-$it", listOf())
+      repository.claim("running-$it", DATAPLANE_ID)
+      repository.updateStatus("running-$it", WorkloadStatus.RUNNING)
+    }
+    (1..5).forEach { repository.claim("claimed-$it", DATAPLANE_ID) }
+    repository.create("pending", listOf())
+
+    // nothing is expired yet
+    assertEquals(0, repository.releaseExpiredClaims(OffsetDateTime.now().minusMinutes(5), 10))
+    assertEquals(0, repository.failExpiredWorkloads(OffsetDateTime.now().minusMinutes(5), 10))
+
+    val cutoff = OffsetDateTime.now().plusMinutes(1)
+    // sweeps are bounded by the batch size
+    assertEquals(2, repository.releaseExpiredClaims(cutoff, 2))
+    assertEquals(3, repository.releaseExpiredClaims(cutoff, 10))
+    assertEquals(5, repository.failExpiredWorkloads(cutoff, 10))
+
+    val released = repository.list(null, listOf(WorkloadStatus.PENDING), null)
+    assertEquals(6, released.size)
+    assertTrue(released.all { it.dataplaneId == null })
+    assertEquals(5, repository.list(null, listOf(WorkloadStatus.FAILURE), null).size)
+
+    // released workloads can be claimed again
+    assertTrue(repository.claim("claimed-1", "dataplane-2"))
+  }
+
+  @Test
+  fun `a reclaimed workload is not released for the heartbeat of its previous claim`() {
+    repository.create(WORKLOAD_ID, listOf())
+    repository.claim(WORKLOAD_ID, DATAPLANE_ID)
+    repository.updateHeartbeats(mapOf(WORKLOAD_ID to OffsetDateTime.now().minusMinutes(10)))
+
+    // the first claim expires and another dataplane claims the workload
+    assertEquals(1, repository.releaseExpiredClaims(OffsetDateTime.now().minusMinutes(5), 10))
+    assertNull(repository.findById(WORKLOAD_ID)!!.lastHeartbeatAt)
+    assertTrue(repository.claim(WORKLOAD_ID, "dataplane-2"))
+
+    // the next sweep runs before the new owner heartbeats
+    assertEquals(0, repository.releaseExpiredClaims(OffsetDateTime.now().minusMinutes(5), 10))
+    val workload = repository.findById(WORKLOAD_ID)!!
+    assertEquals(WorkloadStatus.CLAIMED, workload.status)
+    assertEquals("dataplane-2", workload.dataplaneId)
+    assertNull(workload.lastHeartbeatAt)
+  }
+}
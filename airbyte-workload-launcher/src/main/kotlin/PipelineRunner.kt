@@ -1,20 +1,89 @@
 package io.airbyte.workload.launcher
 
+import io.airbyte.workload.launcher.consumer.WorkloadConsumer
 import io.airbyte.workload.launcher.mocks.LauncherInputMessage
-import io.airbyte.workload.launcher.mocks.MessageConsumer
 import io.airbyte.workload.launcher.pipeline.LaunchPipeline
 import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import io.micronaut.context.event.ShutdownEvent
+import io.micronaut.runtime.event.annotation.EventListener
 import jakarta.inject.Singleton
+import reactor.core.Disposable
+import reactor.core.publisher.Flux
+import reactor.core.scheduler.Schedulers
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
 
 private val logger = KotlinLogging.logger {}
 
+/**
+ * Feeds the workloads read by the consumer to the launch pipeline, with at most [parallelism]
+ * launches in flight. The consumer is only read when a launch slot frees up, so workloads wait in
+ * the queue rather than in memory.
+ */
 @Singleton
-class PipelineRunner(private val pipe: LaunchPipeline, private val consumer: MessageConsumer) {
+class PipelineRunner(
+  private val pipe: LaunchPipeline,
+  private val consumer: WorkloadConsumer,
+  @Value("\${airbyte.workload-launcher.parallelism:10}") private val parallelism: Int,
+  @Value("\${airbyte.workload-launcher.shutdown-timeout:5m}") private val shutdownTimeout: Duration,
+) {
+  private val running = AtomicBoolean(false)
+  private val drained = CountDownLatch(1)
+  private val inFlight = ConcurrentHashMap.newKeySet<String>()
+  private var subscription: Disposable? = null
+
   fun start() {
-    // todo: replace with something smarter / stoppable via flag
-    while (true) {
-      val msg: LauncherInputMessage = consumer.read()
-      pipe.accept(msg)
+    if (!running.compareAndSet(false, true)) {
+      return
+    }
+
+    subscription =
+      messages()
+        // a claim that expires while its workload is launching puts the workload back in pending, so it can be read again.
+        // workloads of the last batch read are dropped once stopping, they go back to pending when their claim expires.
+        .filter { running.get() && inFlight.add(it.workloadId) }
+        .flatMap({ msg -> pipe.launch(msg).doFinally { inFlight.remove(msg.workloadId) } }, parallelism, 1)
+        .doFinally { drained.countDown() }
+        .subscribe()
+  }
+
+  /**
+   * Stop reading workloads and wait for the launches in flight to finish.
+   */
+  fun stop() {
+    if (!running.compareAndSet(true, false)) {
+      return
+    }
+
+    logger.info { "Draining ${inFlight.size} launches in flight" }
+    if (!drained.await(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      logger.warn { "Launches still in flight after $shutdownTimeout, cancelling ${inFlight.size} launches" }
+      subscription?.dispose()
+    }
+  }
+
+  @EventListener
+  fun onShutdown(event: ShutdownEvent) {
+    stop()
+  }
+
+  private fun messages(): Flux<LauncherInputMessage> {
+    val consumerScheduler = Schedulers.newSingle("workload-consumer")
+    // generate only reads a batch when the launches downstream request more workloads
+    return Flux.generate<List<LauncherInputMessage>> { sink ->
+      if (running.get()) {
+        sink.next(consumer.read())
+      } else {
+        sink.complete()
+      }
     }
+      // reading blocks, keep it off the threads that run the launches
+      .subscribeOn(consumerScheduler)
+      .doFinally { consumerScheduler.dispose() }
+      .flatMapIterable({ it }, 1)
   }
 }
@@ -1,6 +1,7 @@
 package io.airbyte.workload.launcher.client
 
 import io.airbyte.workload.api.client2.model.generated.ClaimResponse
+import io.airbyte.workload.api.client2.model.generated.WorkloadClaimBatchRequest
 import io.airbyte.workload.api.client2.model.generated.WorkloadClaimRequest
 import io.airbyte.workload.api.client2.model.generated.WorkloadListRequest
 import io.airbyte.workload.api.client2.model.generated.WorkloadListResponse
@@ -15,4 +16,8 @@ class WorkloadApiClient {
   fun workloadClaim(workloadClaimRequest: WorkloadClaimRequest? = null): ClaimResponse {
     return ClaimResponse(true)
   }
+
+  fun workloadClaimBatch(workloadClaimBatchRequest: WorkloadClaimBatchRequest? = null): WorkloadListResponse {
+    return WorkloadListResponse(listOf())
+  }
 }
@@ -0,0 +1,47 @@
+package io.airbyte.workload.launcher.consumer
+
+import io.airbyte.workload.api.client2.model.generated.WorkloadClaimBatchRequest
+import io.airbyte.workload.launcher.client.WorkloadApiClient
+import io.airbyte.workload.launcher.mocks.LauncherInputMessage
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Singleton
+import java.time.Duration
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Pulls pending workloads from the workload API in batches. The workload API claims each batch for
+ * this dataplane, so a poll only reads the workloads it returns and concurrent launchers get
+ * different workloads.
+ */
+@Singleton
+class WorkloadConsumer(
+  private val apiClient: WorkloadApiClient,
+  @Value("\${airbyte.data-plane-id}") private val dataplaneId: String,
+  @Value("\${airbyte.workload-launcher.consumer.batch-size:10}") private val batchSize: Int,
+  @Value("\${airbyte.workload-launcher.consumer.poll-interval:5s}") private val pollInterval: Duration,
+) {
+  /**
+   * Claim up to [batchSize] pending workloads. Waits for [pollInterval] before returning an empty
+   * batch so that callers can poll in a loop without hammering the API.
+   */
+  fun read(): List<LauncherInputMessage> {
+    val workloads =
+      try {
+        apiClient.workloadClaimBatch(WorkloadClaimBatchRequest(dataplaneId, batchSize)).workloads
+      } catch (e: Exception) {
+        logger.warn(e) { "Failed to claim pending workloads" }
+        listOf()
+      }
+
+    if (workloads.isEmpty()) {
+      Thread.sleep(pollInterval.toMillis())
+      return listOf()
+    }
+
+    // the workload API does not carry the workload input yet, so claimed workloads get the same
+    // placeholder input as the workloads rehydrated at startup
+    return workloads.map { LauncherInputMessage(it.id, "workload-input") }
+  }
+}
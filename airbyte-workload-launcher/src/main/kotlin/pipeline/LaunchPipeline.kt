@@ -1,19 +1,33 @@
 package io.airbyte.workload.launcher.pipeline
 
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.launcher.client.StatusUpdater
 import io.airbyte.workload.launcher.mocks.LauncherInputMessage
 import io.airbyte.workload.launcher.pipeline.stages.BuildInputStage
 import io.airbyte.workload.launcher.pipeline.stages.CheckStatusStage
 import io.airbyte.workload.launcher.pipeline.stages.ClaimStage
 import io.airbyte.workload.launcher.pipeline.stages.LaunchPodStage
+import io.fabric8.kubernetes.client.KubernetesClientException
 import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
 import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
+import reactor.util.retry.Retry
+import java.io.IOException
+import java.time.Duration
+import java.util.concurrent.TimeUnit
 import java.util.function.Consumer
 
 private val logger = KotlinLogging.logger {}
 
+// kubernetes api responses that are worth retrying: timeouts, throttling and unavailable api servers
+private val TRANSIENT_KUBE_ERROR_CODES = setOf(408, 429, 500, 502, 503, 504)
+
 @Singleton
 class LaunchPipeline(
   private val claim: ClaimStage,
@@ -21,22 +35,75 @@ class LaunchPipeline(
   private val build: BuildInputStage,
   private val launch: LaunchPodStage,
   private val statusUpdater: StatusUpdater,
+  private val metricClient: MetricClient,
+  @Value("\${airbyte.workload-launcher.kube-retry.max-attempts:3}") private val kubeRetryMaxAttempts: Long,
+  @Value("\${airbyte.workload-launcher.kube-retry.min-backoff:1s}") private val kubeRetryMinBackoff: Duration,
+  @Value("\${airbyte.workload-launcher.kube-retry.max-backoff:30s}") private val kubeRetryMaxBackoff: Duration,
 ) : Consumer<LauncherInputMessage> {
-  // todo: This is for when we get to back pressure: if we want backpressure on the Mono,
-  //  we will need to create a scheduler that is used by all Monos to ensure that we have
-  //  a max concurrent capacity. See the Schedulers class for details. We can even define
-  //  an executor service via Micronaut configuration and inject that to pass to the
-  //  scheduler (see the fromExecutorService method on Schedulers).
   override fun accept(msg: LauncherInputMessage) {
-    LaunchStageIO(msg)
+    launch(msg).subscribe()
+  }
+
+  /**
+   * Build the launch of one workload. Stages block on http and kubernetes calls, so the launch runs
+   * on the bounded elastic scheduler once subscribed to. Errors are reported and swallowed, the
+   * returned mono always completes.
+   */
+  fun launch(msg: LauncherInputMessage): Mono<LaunchStageIO> {
+    return LaunchStageIO(msg)
       .toMono()
-      .flatMap(claim)
-      .flatMap(check)
-      .flatMap(build)
-      .flatMap(launch)
+      .flatMap { timed(claim, it) { claim.apply(it) } }
+      .flatMap { timed(check, it) { check.apply(it) } }
+      .flatMap { timed(build, it) { build.apply(it) } }
+      .flatMap { timed(launch, it) { applyWithRetry(launch, it) } }
       .onErrorResume(this::handleError)
       .doOnSuccess { r -> logger.info { ("Success: $r") } }
-      .subscribe()
+      .subscribeOn(Schedulers.boundedElastic())
+  }
+
+  private fun timed(
+    stage: LaunchStage,
+    input: LaunchStageIO,
+    apply: () -> Mono<LaunchStageIO>,
+  ): Mono<LaunchStageIO> {
+    if (stage.skipStage(input)) {
+      return input.toMono()
+    }
+    return Mono.defer {
+      val startedAt = System.nanoTime()
+      apply().doFinally {
+        metricClient.distribution(
+          OssMetricsRegistry.WORKLOAD_LAUNCHER_STAGE_DURATION_MILLISECS,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt).toDouble(),
+          MetricAttribute(MetricTags.STAGE_NAME, stage.getStageName().name),
+        )
+      }
+    }
+  }
+
+  /**
+   * Stages run eagerly when applied, so each retry defers to apply the stage again.
+   */
+  private fun applyWithRetry(
+    stage: LaunchStage,
+    input: LaunchStageIO,
+  ): Mono<LaunchStageIO> {
+    return Mono.defer { stage.apply(input) }
+      .retryWhen(
+        Retry.backoff(kubeRetryMaxAttempts, kubeRetryMinBackoff)
+          .maxBackoff(kubeRetryMaxBackoff)
+          .jitter(0.5)
+          .filter(::isTransientKubeError)
+          .doBeforeRetry { signal ->
+            logger.warn(signal.failure()) { "Retrying ${stage.getStageName()} of workload ${input.msg.workloadId} after a transient error" }
+            metricClient.count(
+              OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_RETRIES,
+              1,
+              MetricAttribute(MetricTags.STAGE_NAME, stage.getStageName().name),
+            )
+          }
+          .onRetryExhaustedThrow { _, signal -> signal.failure() },
+      )
   }
 
   private fun handleError(e: Throwable): Mono<LaunchStageIO> {
@@ -47,3 +114,12 @@ class LaunchPipeline(
     return Mono.empty()
   }
 }
+
+/**
+ * Whether an error is caused by a kubernetes api call that may succeed if tried again.
+ */
+fun isTransientKubeError(e: Throwable): Boolean {
+  return generateSequence(e) { it.cause }
+    .take(10)
+    .any { (it is KubernetesClientException && it.code in TRANSIENT_KUBE_ERROR_CODES) || it is IOException }
+}
@@ -0,0 +1,183 @@
+package pipeline
+
+import com.fasterxml.jackson.databind.node.POJONode
+import io.airbyte.config.secrets.hydration.SecretsHydrator
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.persistence.job.models.ReplicationInput
+import io.airbyte.workload.api.client2.generated.WorkloadApi
+import io.airbyte.workload.api.client2.model.generated.ClaimResponse
+import io.airbyte.workload.launcher.PipelineRunner
+import io.airbyte.workload.launcher.client.KubeClient
+import io.airbyte.workload.launcher.client.StatusUpdater
+import io.airbyte.workload.launcher.client.WorkloadApiClient
+import io.airbyte.workload.launcher.consumer.WorkloadConsumer
+import io.airbyte.workload.launcher.mocks.LauncherInputMessage
+import io.airbyte.workload.launcher.pipeline.LaunchPipeline
+import io.airbyte.workload.launcher.pipeline.stages.BuildInputStage
+import io.airbyte.workload.launcher.pipeline.stages.CheckStatusStage
+import io.airbyte.workload.launcher.pipeline.stages.ClaimStage
+import io.airbyte.workload.launcher.pipeline.stages.LaunchPodStage
+import io.airbyte.workload.launcher.pods.KubePodClient
+import io.airbyte.workload.launcher.serde.PayloadDeserializer
+import io.fabric8.kubernetes.client.KubernetesClientException
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+
+private const val NAMESPACE = "jobs"
+
+/**
+ * Runs the real stages against a fake [KubePodClient] that takes [launchTime] to launch a pod.
+ */
+class LaunchPipelineTest {
+  private val launchTime = Duration.ofMillis(20)
+  private val inFlight = AtomicInteger()
+  private val maxInFlight = AtomicInteger()
+  private val launched = AtomicInteger()
+
+  private val apiClient: WorkloadApiClient = mockk()
+  private val workloadApi: WorkloadApi = mockk()
+  private val kubeClient: KubeClient = mockk()
+  private val secretsHydrator: SecretsHydrator = mockk()
+  private val deserializer: PayloadDeserializer = mockk()
+  private val kubePodClient: KubePodClient = mockk()
+  private val statusUpdater: StatusUpdater = mockk()
+  private val metricClient: MetricClient = mockk(relaxed = true)
+
+  init {
+    every { apiClient.workloadClaim(any()) } returns ClaimResponse(true)
+    every { kubeClient.podsExistForWorkload(any(), NAMESPACE) } returns false
+    every { deserializer.toReplicationInput(any()) } answers {
+      ReplicationInput().withSourceConfiguration(POJONode("source")).withDestinationConfiguration(POJONode("destination"))
+    }
+    every { secretsHydrator.hydrate(any()) } answers { firstArg() }
+    every { kubePodClient.launchReplication(any(), any()) } answers {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet()) { a, b -> maxOf(a, b) }
+      Thread.sleep(launchTime.toMillis())
+      inFlight.decrementAndGet()
+      launched.incrementAndGet()
+    }
+    every { statusUpdater.reportFailure(any()) } returns Unit
+  }
+
+  @Test
+  fun `runner never launches more workloads at once than its parallelism`() {
+    val parallelism = 4
+    val runner = PipelineRunner(pipeline(), consumer(40, 10), parallelism, Duration.ofMinutes(1))
+
+    runner.start()
+    awaitLaunched(40)
+    runner.stop()
+
+    assertEquals(parallelism, maxInFlight.get())
+  }
+
+  @Test
+  fun `launch throughput scales with parallelism`() {
+    val workloadCount = 32
+    val elapsed =
+      listOf(1, 8).associateWith { parallelism ->
+        launched.set(0)
+        val runner = PipelineRunner(pipeline(), consumer(workloadCount, workloadCount), parallelism, Duration.ofMinutes(1))
+        val startedAt = System.nanoTime()
+        runner.start()
+        awaitLaunched(workloadCount)
+        val elapsedNanos = System.nanoTime() - startedAt
+        runner.stop()
+        elapsedNanos
+      }
+
+    // 8 launches in flight should take roughly an eighth of the time, leave room for a slow machine
+    assertTrue(elapsed[1]!! > 2 * elapsed[8]!!, "parallelism 1 took ${elapsed[1]}ns, parallelism 8 took ${elapsed[8]}ns")
+  }
+
+  @Test
+  fun `stopping the runner drains the launches in flight`() {
+    every { kubePodClient.launchReplication(any(), any()) } answers {
+      inFlight.incrementAndGet()
+      Thread.sleep(500)
+      launched.incrementAndGet()
+    }
+    val runner = PipelineRunner(pipeline(), consumer(4, 4), 4, Duration.ofMinutes(1))
+
+    runner.start()
+    while (inFlight.get() < 4) {
+      Thread.sleep(10)
+    }
+    runner.stop()
+
+    assertEquals(4, launched.get())
+  }
+
+  @Test
+  fun `transient kubernetes errors are retried`() {
+    val attempts = AtomicInteger()
+    every { kubePodClient.launchReplication(any(), any()) } answers {
+      if (attempts.incrementAndGet() < 3) {
+        throw KubernetesClientException("service unavailable", 503, null)
+      }
+    }
+
+    pipeline().launch(LauncherInputMessage("1", "{}")).block()
+
+    assertEquals(3, attempts.get())
+    verify(exactly = 0) { statusUpdater.reportFailure(any()) }
+  }
+
+  @Test
+  fun `other kubernetes errors fail the workload without retrying`() {
+    val attempts = AtomicInteger()
+    every { kubePodClient.launchReplication(any(), any()) } answers {
+      attempts.incrementAndGet()
+      throw KubernetesClientException("conflict", 409, null)
+    }
+
+    pipeline().launch(LauncherInputMessage("1", "{}")).block()
+
+    assertEquals(1, attempts.get())
+    verify(exactly = 1) { statusUpdater.reportFailure(any()) }
+  }
+
+  private fun pipeline(): LaunchPipeline {
+    return LaunchPipeline(
+      ClaimStage(apiClient, "US"),
+      CheckStatusStage(workloadApi, kubeClient, NAMESPACE),
+      BuildInputStage(secretsHydrator, deserializer),
+      LaunchPodStage(kubePodClient),
+      statusUpdater,
+      metricClient,
+      3,
+      Duration.ofMillis(1),
+      Duration.ofMillis(10),
+    )
+  }
+
+  /**
+   * A consumer that hands out [count] workloads in batches of [batchSize], then polls empty batches.
+   */
+  private fun consumer(
+    count: Int,
+    batchSize: Int,
+  ): WorkloadConsumer {
+    val batches = ConcurrentLinkedQueue((1..count).map { LauncherInputMessage("workload-$it", "{}") }.chunked(batchSize))
+    val consumer: WorkloadConsumer = mockk()
+    every { consumer.read() } answers {
+      batches.poll() ?: listOf<LauncherInputMessage>().also { Thread.sleep(10) }
+    }
+    return consumer
+  }
+
+  private fun awaitLaunched(count: Int) {
+    val deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos()
+    while (launched.get() < count && System.nanoTime() < deadline) {
+      Thread.sleep(5)
+    }
+    assertEquals(count, launched.get())
+  }
+}